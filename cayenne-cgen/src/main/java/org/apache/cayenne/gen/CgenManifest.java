@@ -0,0 +1,103 @@
+/*****************************************************************
+ *   Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ ****************************************************************/
+
+package org.apache.cayenne.gen;
+
+import org.apache.cayenne.CayenneRuntimeException;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Records input hashes of the artifacts generated by the previous cgen run, so that artifacts whose inputs did not
+ * change can be skipped without rendering. Keys are artifact class names.
+ *
+ * @since 5.0
+ */
+class CgenManifest {
+
+    private final Path file;
+    private final Map<String, String> hashes;
+
+    private CgenManifest(Path file, Map<String, String> hashes) {
+        this.file = file;
+        this.hashes = hashes;
+    }
+
+    /**
+     * Reads the manifest from a file. A missing or unreadable file results in an empty manifest, i.e. a full
+     * generation.
+     */
+    static CgenManifest load(Path file) {
+        Map<String, String> hashes = new ConcurrentHashMap<>();
+        if (Files.isRegularFile(file)) {
+            Properties properties = new Properties();
+            try (Reader in = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                properties.load(in);
+                for (String key : properties.stringPropertyNames()) {
+                    hashes.put(key, properties.getProperty(key));
+                }
+            } catch (IOException | IllegalArgumentException e) {
+                hashes.clear();
+            }
+        }
+
+        return new CgenManifest(file, hashes);
+    }
+
+    static String hash(String input) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(input.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new CayenneRuntimeException("SHA-256 digest is not available", e);
+        }
+    }
+
+    boolean isUpToDate(String key, String hash) {
+        return hash.equals(hashes.get(key));
+    }
+
+    void update(String key, String hash) {
+        hashes.put(key, hash);
+    }
+
+    void save() throws IOException {
+        Path dir = file.toAbsolutePath().getParent();
+        if (dir != null) {
+            Files.createDirectories(dir);
+        }
+
+        Properties properties = new Properties();
+        properties.putAll(hashes);
+        try (Writer out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            properties.store(out, "Cayenne cgen manifest");
+        }
+    }
+}
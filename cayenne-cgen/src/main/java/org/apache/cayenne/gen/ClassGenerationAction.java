@@ -20,9 +20,15 @@
 package org.apache.cayenne.gen;
 
 import org.apache.cayenne.CayenneRuntimeException;
+import org.apache.cayenne.configuration.ConfigurationNode;
+import org.apache.cayenne.configuration.EmptyConfigurationNodeVisitor;
 import org.apache.cayenne.map.DataMap;
 import org.apache.cayenne.map.Embeddable;
+import org.apache.cayenne.map.EmbeddableAttribute;
+import org.apache.cayenne.map.ObjAttribute;
 import org.apache.cayenne.map.ObjEntity;
+import org.apache.cayenne.map.ObjRelationship;
+import org.apache.cayenne.util.XMLEncoder;
 import org.apache.velocity.Template;
 import org.apache.velocity.VelocityContext;
 import org.apache.velocity.app.VelocityEngine;
@@ -34,20 +40,30 @@ import org.apache.velocity.runtime.resource.util.StringResourceRepositoryImpl;
 import org.apache.velocity.tools.ToolManager;
 import org.apache.velocity.tools.config.ConfigurationUtils;
 import org.apache.velocity.tools.config.FactoryConfiguration;
+import org.apache.velocity.util.ExtProperties;
 import org.slf4j.Logger;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Reader;
+import java.io.StringWriter;
 import java.io.Writer;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.EnumMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
 public class ClassGenerationAction {
@@ -62,9 +78,13 @@ public class ClassGenerationAction {
     private final MetadataUtils metadataUtils;
     private final VelocityEngine velocityEngine;
     private final Map<TemplateType, Template> templates;
+    private final ThreadLocal<Context> workerContext;
 
     protected Context context;
 
+    private int threads;
+    private Path manifestFile;
+
     /**
      * Optionally allows user-defined tools besides {@link ImportUtils} for working with velocity templates.<br/>
      * To use this feature, either set the java system property {@code -Dorg.apache.velocity.tools=tools.properties}
@@ -90,6 +110,8 @@ public class ClassGenerationAction {
         this.context = createContext(configuration.getExternalToolConfig());
         this.velocityEngine = createVelocityEngine(configuration);
         this.templates = new EnumMap<>(TemplateType.class);
+        this.workerContext = new ThreadLocal<>();
+        this.threads = 1;
     }
 
     private static VelocityEngine createVelocityEngine(CgenConfiguration configuration) {
@@ -155,20 +177,31 @@ public class ClassGenerationAction {
             superPackageName = packageName + ".auto";
         }
 
-        context.put(Artifact.BASE_CLASS_KEY, baseClassName);
-        context.put(Artifact.BASE_PACKAGE_KEY, basePackageName);
+        getContext().put(Artifact.BASE_CLASS_KEY, baseClassName);
+        getContext().put(Artifact.BASE_PACKAGE_KEY, basePackageName);
+
+        getContext().put(Artifact.SUB_CLASS_KEY, className);
+        getContext().put(Artifact.SUB_PACKAGE_KEY, packageName);
 
-        context.put(Artifact.SUB_CLASS_KEY, className);
-        context.put(Artifact.SUB_PACKAGE_KEY, packageName);
+        getContext().put(Artifact.SUPER_CLASS_KEY, superClassName);
+        getContext().put(Artifact.SUPER_PACKAGE_KEY, superPackageName);
 
-        context.put(Artifact.SUPER_CLASS_KEY, superClassName);
-        context.put(Artifact.SUPER_PACKAGE_KEY, superPackageName);
+        getContext().put(Artifact.OBJECT_KEY, artifact.getObject());
+        getContext().put(Artifact.STRING_UTILS_KEY, stringUtils);
 
-        context.put(Artifact.OBJECT_KEY, artifact.getObject());
-        context.put(Artifact.STRING_UTILS_KEY, stringUtils);
+        getContext().put(Artifact.CREATE_PROPERTY_NAMES, configuration.isCreatePropertyNames());
+        getContext().put(Artifact.CREATE_PK_PROPERTIES, configuration.isCreatePKProperties());
+    }
 
-        context.put(Artifact.CREATE_PROPERTY_NAMES, configuration.isCreatePropertyNames());
-        context.put(Artifact.CREATE_PK_PROPERTIES, configuration.isCreatePKProperties());
+    /**
+     * Returns the context of the artifact being generated. When generating in parallel, each worker thread renders
+     * with its own context layered on top of the shared one.
+     *
+     * @since 5.0
+     */
+    protected Context getContext() {
+        Context local = workerContext.get();
+        return local != null ? local : context;
     }
 
     /**
@@ -177,10 +210,10 @@ public class ClassGenerationAction {
      */
     void resetContextForArtifactTemplate(Artifact artifact) {
         ImportUtils importUtils = utilsFactory.createImportUtils();
-        context.put(Artifact.IMPORT_UTILS_KEY, importUtils);
-        context.put(Artifact.PROPERTY_UTILS_KEY, utilsFactory.createPropertyUtils(logger, importUtils));
-        context.put(Artifact.METADATA_UTILS_KEY, metadataUtils);
-        artifact.postInitContext(context);
+        getContext().put(Artifact.IMPORT_UTILS_KEY, importUtils);
+        getContext().put(Artifact.PROPERTY_UTILS_KEY, utilsFactory.createPropertyUtils(logger, importUtils));
+        getContext().put(Artifact.METADATA_UTILS_KEY, metadataUtils);
+        artifact.postInitContext(getContext());
     }
 
     /**
@@ -238,9 +271,68 @@ public class ClassGenerationAction {
 
         validateAttributes();
 
-        for (Artifact artifact : configuration.getArtifacts()) {
+        CgenManifest manifest = manifestFile != null ? CgenManifest.load(manifestFile) : null;
+        String inputHash = manifest != null ? inputHash() : null;
+
+        if (threads > 1 && configuration.getArtifacts().size() > 1) {
+            executeInParallel(manifest, inputHash);
+        } else {
+            for (Artifact artifact : configuration.getArtifacts()) {
+                execute(artifact, manifest, inputHash);
+            }
+        }
+
+        if (manifest != null) {
+            manifest.save();
+        }
+    }
+
+    private void executeInParallel(CgenManifest manifest, String inputHash) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>(configuration.getArtifacts().size());
+            for (Artifact artifact : configuration.getArtifacts()) {
+                futures.add(executor.submit(() -> {
+                    workerContext.set(new VelocityContext(context));
+                    try {
+                        execute(artifact, manifest, inputHash);
+                    } finally {
+                        workerContext.remove();
+                    }
+                    return null;
+                }));
+            }
+
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof Exception cause) {
+                throw cause;
+            }
+            throw new CayenneRuntimeException("Class generation failed", ex.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void execute(Artifact artifact, CgenManifest manifest, String inputHash) throws Exception {
+        if (manifest == null) {
             execute(artifact);
+            return;
         }
+
+        String key = artifact.getQualifiedClassName();
+
+        // the context is needed to locate the output files
+        resetContextForArtifact(artifact);
+        if (manifest.isUpToDate(key, inputHash) && outputExists(artifact)) {
+            logger.debug("Skipping unchanged class: {}", key);
+            return;
+        }
+
+        execute(artifact);
+        manifest.update(key, inputHash);
     }
 
     /**
@@ -250,28 +342,115 @@ public class ClassGenerationAction {
 
         resetContextForArtifact(artifact);
 
-        ArtifactGenerationMode artifactMode = configuration.isMakePairs()
-                ? ArtifactGenerationMode.GENERATION_GAP
-                : ArtifactGenerationMode.SINGLE_CLASS;
-
-        TemplateType[] templateTypes = artifact.getTemplateTypes(artifactMode);
+        TemplateType[] templateTypes = artifact.getTemplateTypes(artifactMode());
         for (TemplateType type : templateTypes) {
             try (Writer out = openWriter(type)) {
                 if (out != null) {
                     resetContextForArtifactTemplate(artifact);
-                    getTemplate(type).merge(context, out);
+                    getTemplate(type).merge(getContext(), out);
                 }
             }
         }
     }
 
+    private ArtifactGenerationMode artifactMode() {
+        return configuration.isMakePairs()
+                ? ArtifactGenerationMode.GENERATION_GAP
+                : ArtifactGenerationMode.SINGLE_CLASS;
+    }
+
+    private boolean outputExists(Artifact artifact) throws Exception {
+        for (TemplateType type : artifact.getTemplateTypes(artifactMode())) {
+            File file = type.isSuperclass() ? fileForSuperclass() : classFile();
+            if (!file.isFile()) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
     /**
      * Returns a parsed template for a given type. Templates are parsed on first use and cached, so that all the
      * artifacts processed by this action share a single parsed copy.
      */
     protected Template getTemplate(TemplateType type) {
-        return templates.computeIfAbsent(type,
-                t -> velocityEngine.getTemplate(configuration.getTemplateByType(t).getName()));
+        synchronized (templates) {
+            return templates.computeIfAbsent(type,
+                    t -> velocityEngine.getTemplate(configuration.getTemplateByType(t).getName()));
+        }
+    }
+
+    /**
+     * Calculates a hash of everything the generated code depends on: the cgen configuration, template sources,
+     * the whole DataMap with the comments attached to its objects, and the Cayenne version. Generated classes
+     * depend on related entities, inheritance hierarchies and DataMap defaults, so the hash is computed per
+     * DataMap and not per artifact.
+     */
+    private String inputHash() throws IOException {
+        StringWriter buffer = new StringWriter();
+        PrintWriter out = new PrintWriter(buffer);
+        XMLEncoder encoder = new XMLEncoder(out);
+        EmptyConfigurationNodeVisitor visitor = new EmptyConfigurationNodeVisitor();
+
+        configuration.encodeAsXML(encoder, visitor);
+        DataMap dataMap = configuration.getDataMap();
+        if (dataMap != null) {
+            dataMap.encodeAsXML(encoder, visitor);
+            appendComments(out, dataMap);
+        }
+
+        out.println(ClassGenerationAction.class.getPackage().getImplementationVersion());
+        for (TemplateType type : TemplateType.values()) {
+            CgenTemplate template = configuration.getTemplateByType(type);
+            if (template.isFile()) {
+                appendTemplateSource(out, template.getName());
+            }
+        }
+
+        out.flush();
+        return CgenManifest.hash(buffer.toString());
+    }
+
+    private void appendComments(PrintWriter out, DataMap dataMap) {
+        appendComment(out, dataMap);
+        for (ObjEntity entity : dataMap.getObjEntities()) {
+            appendComment(out, entity);
+            for (ObjAttribute attribute : entity.getDeclaredAttributes()) {
+                appendComment(out, attribute);
+            }
+            for (ObjRelationship relationship : entity.getDeclaredRelationships()) {
+                appendComment(out, relationship);
+            }
+        }
+
+        for (Embeddable embeddable : dataMap.getEmbeddables()) {
+            appendComment(out, embeddable);
+            for (EmbeddableAttribute attribute : embeddable.getAttributes()) {
+                appendComment(out, attribute);
+            }
+        }
+    }
+
+    private void appendComment(PrintWriter out, ConfigurationNode node) {
+        String comment = metadataUtils.getComment(node);
+        if (comment != null) {
+            out.println(comment);
+        }
+    }
+
+    private void appendTemplateSource(PrintWriter out, String name) throws IOException {
+        ExtProperties properties = new ExtProperties();
+        if (configuration.getRootPath() != null) {
+            properties.setProperty("root", configuration.getRootPath());
+        }
+
+        // resolve the template the same way the Velocity engine does
+        ClassGeneratorResourceLoader loader = new ClassGeneratorResourceLoader();
+        loader.init(properties);
+        try (Reader in = loader.getResourceReader(name, null)) {
+            in.transferTo(out);
+        }
     }
 
     /**
@@ -330,8 +509,8 @@ public class ClassGenerationAction {
      */
     private File fileForSuperclass() throws Exception {
 
-        String packageName = (String) context.get(Artifact.SUPER_PACKAGE_KEY);
-        String className = (String) context.get(Artifact.SUPER_CLASS_KEY);
+        String packageName = (String) getContext().get(Artifact.SUPER_PACKAGE_KEY);
+        String className = (String) getContext().get(Artifact.SUPER_CLASS_KEY);
 
         File dir = mkpath(configuration.requireOutputDirectory().toFile(), packageName);
         String fileName = StringUtils
@@ -347,12 +526,7 @@ public class ClassGenerationAction {
      */
     private File fileForClass() throws Exception {
 
-        String packageName = (String) context.get(Artifact.SUB_PACKAGE_KEY);
-        String className = (String) context.get(Artifact.SUB_CLASS_KEY);
-
-        String filename = StringUtils.getInstance().replaceWildcardInStringWithString(WILDCARD, configuration.getOutputPattern(), className);
-        File dest = new File(mkpath(configuration.requireOutputDirectory().toFile(), packageName), filename);
-
+        File dest = classFile();
         if (dest.exists()) {
             // no overwrite of subclasses
             if (configuration.isMakePairs()) {
@@ -368,6 +542,15 @@ public class ClassGenerationAction {
         return dest;
     }
 
+    private File classFile() throws Exception {
+
+        String packageName = (String) getContext().get(Artifact.SUB_PACKAGE_KEY);
+        String className = (String) getContext().get(Artifact.SUB_CLASS_KEY);
+
+        String filename = StringUtils.getInstance().replaceWildcardInStringWithString(WILDCARD, configuration.getOutputPattern(), className);
+        return new File(mkpath(configuration.requireOutputDirectory().toFile(), packageName), filename);
+    }
+
     /**
      * Returns a File object corresponding to a directory where files that
      * belong to <code>pkgName</code> package should reside. Creates any missing
@@ -381,7 +564,8 @@ public class ClassGenerationAction {
 
         String path = pkgName.replace('.', File.separatorChar);
         File fullPath = new File(dest, path);
-        if (!fullPath.isDirectory() && !fullPath.mkdirs()) {
+        // the directory may be created concurrently by another generating thread
+        if (!fullPath.mkdirs() && !fullPath.isDirectory()) {
             throw new Exception("Error making path: " + fullPath);
         }
 
@@ -395,6 +579,31 @@ public class ClassGenerationAction {
         return configuration;
     }
 
+    /**
+     * Sets the number of threads used to render artifacts. Default is 1, i.e. artifacts are rendered sequentially
+     * in the calling thread. With more than one thread, {@link #fileWritten(File, TemplateType)} may be invoked
+     * concurrently.
+     *
+     * @since 5.0
+     */
+    public void setThreads(int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Threads number must be positive: " + threads);
+        }
+        this.threads = threads;
+    }
+
+    /**
+     * Sets a file to record the inputs of generated classes in. If set, classes whose DataMap, configuration and
+     * templates are unchanged since the run that wrote the manifest, and whose files are still in place, are not
+     * rendered again.
+     *
+     * @since 5.0
+     */
+    public void setManifestFile(Path manifestFile) {
+        this.manifestFile = manifestFile;
+    }
+
     /**
      * Sets an optional shared VelocityContext. Useful with tools like VPP that
      * can set custom values in the context, not known to Cayenne.
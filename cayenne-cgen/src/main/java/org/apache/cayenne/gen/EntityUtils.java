@@ -19,13 +19,18 @@
 
 package org.apache.cayenne.gen;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 import org.apache.cayenne.CayenneRuntimeException;
 import org.apache.cayenne.ObjectId;
 import org.apache.cayenne.map.DataMap;
 import org.apache.cayenne.map.DbAttribute;
 import org.apache.cayenne.map.DbEntity;
+import org.apache.cayenne.map.EmbeddedAttribute;
 import org.apache.cayenne.map.MappingNamespace;
 import org.apache.cayenne.map.ObjAttribute;
 import org.apache.cayenne.map.ObjEntity;
@@ -51,6 +56,9 @@ public class EntityUtils {
 
     protected Collection<String> callbackNames;
 
+    // positions of the entity properties in the ClassDescriptor, compiled lazily
+    private Map<String, Integer> propertyIndexes;
+
     public EntityUtils(DataMap dataMap, ObjEntity objEntity, String fqnBaseClass, String fqnSuperClass,
             String fqnSubClass) {
 
@@ -271,6 +279,51 @@ public class EntityUtils {
         return objEntity.getAttributeForDbAttribute(pkAttribute) != null;
     }
 
+    /**
+     * Returns an index of the property for the generated index-based property access methods, or -1 if the property
+     * is not accessed by index. Indexes are positions of the properties in the order they are visited by the runtime
+     * ClassDescriptor: attributes sorted by name, followed by relationships sorted by name, including the inherited
+     * ones. An embedded attribute has no index of its own, as the ClassDescriptor visits each of the embeddable
+     * attributes instead.
+     *
+     * @since 5.0
+     */
+    public int getPropertyIndex(String propertyName) {
+        if (propertyIndexes == null) {
+            List<String> attributes = new ArrayList<>();
+            for (ObjAttribute attribute : objEntity.getAttributes()) {
+                if (attribute instanceof EmbeddedAttribute) {
+                    for (ObjAttribute embeddableAttribute : ((EmbeddedAttribute) attribute).getAttributes()) {
+                        attributes.add(embeddableAttribute.getName());
+                    }
+                } else {
+                    attributes.add(attribute.getName());
+                }
+            }
+
+            List<String> relationships = new ArrayList<>();
+            for (ObjRelationship relationship : objEntity.getRelationships()) {
+                relationships.add(relationship.getName());
+            }
+
+            attributes.sort(null);
+            relationships.sort(null);
+
+            Map<String, Integer> indexes = new HashMap<>();
+            for (String name : attributes) {
+                indexes.put(name, indexes.size());
+            }
+            for (String name : relationships) {
+                indexes.put(name, indexes.size());
+            }
+
+            this.propertyIndexes = indexes;
+        }
+
+        Integer index = propertyIndexes.get(propertyName);
+        return index != null ? index : -1;
+    }
+
     /**
      * @return the list of all callback names registered for the entity.
      * @since 3.0
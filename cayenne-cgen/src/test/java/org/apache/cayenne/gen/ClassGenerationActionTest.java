@@ -21,6 +21,7 @@ package org.apache.cayenne.gen;
 
 import java.io.*;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -225,6 +226,77 @@ public class ClassGenerationActionTest extends CgenCase {
 		}
 	}
 
+	@Test
+	public void incrementalSkipsUnchanged() throws Exception {
+
+		DataMap map = new DataMap("testmap");
+		ObjEntity testEntity1 = new ObjEntity("TE1");
+		testEntity1.setClassName("org.example.TestClass1");
+		map.addObjEntity(testEntity1);
+
+		cgenConfiguration.setRootPath(tempFolder.toPath());
+		cgenConfiguration.setOutputDir(Paths.get("."));
+		cgenConfiguration.setDataMap(map);
+		Path manifest = tempFolder.toPath().resolve("manifest.properties");
+
+		runIncremental(manifest, map);
+		File superclass = new File(tempFolder, "org/example/auto/_TestClass1.java");
+		assertTrue(superclass.isFile());
+		assertTrue(manifest.toFile().isFile());
+
+		// nothing changed, so the edited file must stay as is
+		Files.writeString(superclass.toPath(), "// edited");
+		runIncremental(manifest, map);
+		assertEquals("// edited", Files.readString(superclass.toPath()));
+
+		// a change in the DataMap invalidates the manifest
+		ObjAttribute attr = new ObjAttribute("name", "java.lang.String", testEntity1);
+		testEntity1.addAttribute(attr);
+		runIncremental(manifest, map);
+		assertTrue(Files.readString(superclass.toPath()).contains("getName()"));
+
+		// a deleted file is regenerated
+		assertTrue(superclass.delete());
+		runIncremental(manifest, map);
+		assertTrue(superclass.isFile());
+	}
+
+	private void runIncremental(Path manifest, DataMap map) throws Exception {
+		cgenConfiguration.getArtifacts().clear();
+		ClassGenerationAction action = newAction();
+		action.setManifestFile(manifest);
+		action.addEntities(map.getObjEntities());
+		action.execute();
+	}
+
+	@Test
+	public void executeInParallel() throws Exception {
+
+		DataMap map = new DataMap("testmap");
+		for (int i = 0; i < 10; i++) {
+			ObjEntity entity = new ObjEntity("TE" + i);
+			entity.setClassName("org.example.TestClass" + i);
+			map.addObjEntity(entity);
+		}
+
+		cgenConfiguration.setRootPath(tempFolder.toPath());
+		cgenConfiguration.setOutputDir(Paths.get("."));
+		cgenConfiguration.setDataMap(map);
+
+		action = newAction();
+		action.setThreads(4);
+		action.addEntities(map.getObjEntities());
+		action.execute();
+
+		for (int i = 0; i < 10; i++) {
+			String superclass = Files.readString(tempFolder.toPath().resolve("org/example/auto/_TestClass" + i + ".java"));
+			assertTrue(superclass.contains("public abstract class _TestClass" + i + " "), superclass);
+
+			String subclass = Files.readString(tempFolder.toPath().resolve("org/example/TestClass" + i + ".java"));
+			assertTrue(subclass.contains("public class TestClass" + i + " extends _TestClass" + i), subclass);
+		}
+	}
+
 	protected List<String> execute(Artifact artifact) throws Exception {
 
 		action.execute(artifact);
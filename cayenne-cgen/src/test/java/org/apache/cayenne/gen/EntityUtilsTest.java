@@ -25,6 +25,7 @@ import org.apache.cayenne.map.DbAttribute;
 import org.apache.cayenne.map.DbEntity;
 import org.apache.cayenne.map.ObjAttribute;
 import org.apache.cayenne.map.ObjEntity;
+import org.apache.cayenne.map.ObjRelationship;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -32,6 +33,7 @@ import org.junit.jupiter.api.Test;
 import java.util.LinkedHashSet;
 import java.util.Set;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -100,4 +102,34 @@ public class EntityUtilsTest {
         assertFalse(entityUtils.declaresDbAttribute(notExists));
 
     }
+
+    @Test
+    public void propertyIndex() {
+        ObjEntity root = new ObjEntity("root");
+        root.addAttribute(new ObjAttribute("b"));
+        root.addAttribute(new ObjAttribute("d"));
+        root.addRelationship(new ObjRelationship("a1"));
+        dataMap.addObjEntity(root);
+
+        objEntity.setName("leaf");
+        objEntity.setSuperEntityName("root");
+        objEntity.addAttribute(new ObjAttribute("c"));
+        objEntity.addRelationship(new ObjRelationship("a2"));
+        dataMap.addObjEntity(objEntity);
+
+        EntityUtils rootUtils = new EntityUtils(dataMap, root, "TestBaseClass", "TestSuperClass", "TestSubClass");
+        assertEquals(0, rootUtils.getPropertyIndex("b"));
+        assertEquals(1, rootUtils.getPropertyIndex("d"));
+        assertEquals(2, rootUtils.getPropertyIndex("a1"));
+        assertEquals(-1, rootUtils.getPropertyIndex("c"));
+
+        // same order as the ClassDescriptor: attributes by name first, then relationships by name
+        EntityUtils leafUtils = new EntityUtils(dataMap, objEntity, "TestBaseClass", "TestSuperClass", "TestSubClass");
+        assertEquals(0, leafUtils.getPropertyIndex("b"));
+        assertEquals(1, leafUtils.getPropertyIndex("c"));
+        assertEquals(2, leafUtils.getPropertyIndex("d"));
+        assertEquals(3, leafUtils.getPropertyIndex("a1"));
+        assertEquals(4, leafUtils.getPropertyIndex("a2"));
+        assertEquals(-1, leafUtils.getPropertyIndex("x"));
+    }
 }
@@ -22,6 +22,7 @@ package org.apache.cayenne.gen;
 import org.apache.cayenne.exp.property.EntityProperty;
 import org.apache.cayenne.exp.property.ListProperty;
 import org.apache.cayenne.exp.property.NumericProperty;
+import org.apache.cayenne.map.DataMap;
 import org.apache.cayenne.map.ObjAttribute;
 import org.apache.cayenne.map.ObjEntity;
 import org.apache.cayenne.map.ObjRelationship;
@@ -122,4 +123,73 @@ public class SuperClassGenerationTest extends ClassGenerationCase {
         assertTrue(res.contains(EntityProperty.class.getName()));
     }
 
+    @Test
+    public void containsIndexedPropertyAccess() throws Exception {
+        DataMap dataMap = new DataMap("test");
+
+        ObjEntity superEntity = new ObjEntity("SUPER");
+        ObjAttribute superAttr = new ObjAttribute("superAttr");
+        superAttr.setType("java.lang.String");
+        superEntity.addAttribute(superAttr);
+        dataMap.addObjEntity(superEntity);
+
+        ObjEntity objEntity = new ObjEntity("TEST1");
+        objEntity.setSuperEntityName("SUPER");
+        ObjAttribute attr = new ObjAttribute("attr");
+        attr.setType("java.lang.Integer");
+        objEntity.addAttribute(attr);
+        objEntity.addRelationship(new ObjRelationship("rel"));
+        dataMap.addObjEntity(objEntity);
+
+        String normalized = renderSuperclass(dataMap, objEntity).replaceAll("\\s+", " ");
+
+        // indexes follow the ClassDescriptor order: attributes by name, then relationships, inherited ones included
+        assertTrue(normalized.contains("public int propertyIndex(String propName)"));
+        assertTrue(normalized.contains("case \"attr\": return 0;"));
+        assertTrue(normalized.contains("case \"superAttr\": return 1;"));
+        assertTrue(normalized.contains("case \"rel\": return 2;"));
+        assertTrue(normalized.contains("case 0: return this.attr;"));
+        assertTrue(normalized.contains("case 1: return this.superAttr;"));
+        assertTrue(normalized.contains("case 2: this.rel = val; break;"));
+        assertFalse(normalized.contains("super.readPropertyDirectly(propIndex)"));
+        assertFalse(normalized.contains("super.propertyIndex(propName)"));
+    }
+
+    @Test
+    public void containsIndexedPropertyAccess_NoDeclaredProperties() throws Exception {
+        DataMap dataMap = new DataMap("test");
+
+        ObjEntity superEntity = new ObjEntity("SUPER");
+        ObjAttribute superAttr = new ObjAttribute("superAttr");
+        superAttr.setType("java.lang.String");
+        superEntity.addAttribute(superAttr);
+        dataMap.addObjEntity(superEntity);
+
+        ObjEntity objEntity = new ObjEntity("TEST1");
+        objEntity.setSuperEntityName("SUPER");
+        dataMap.addObjEntity(objEntity);
+
+        String normalized = renderSuperclass(dataMap, objEntity).replaceAll("\\s+", " ");
+
+        // overrides the name-based methods, so must override the index-based ones as well
+        assertTrue(normalized.contains("public Object readPropertyDirectly(String propName)"));
+        assertTrue(normalized.contains("case \"superAttr\": return 0;"));
+        assertTrue(normalized.contains("case 0: return this.superAttr;"));
+    }
+
+    private String renderSuperclass(DataMap dataMap, ObjEntity objEntity) throws Exception {
+        VelocityContext context = new VelocityContext();
+        ImportUtils importUtils = new ImportUtils();
+        context.put(Artifact.OBJECT_KEY, objEntity);
+        context.put(Artifact.IMPORT_UTILS_KEY, importUtils);
+        context.put(Artifact.STRING_UTILS_KEY, StringUtils.getInstance());
+        context.put(EntityArtifact.ENTITY_UTILS_KEY,
+                new EntityUtils(dataMap, objEntity, "test.Super", "test.auto._Test1", "test.Test1"));
+        context.put(Artifact.PROPERTY_UTILS_KEY,
+                getInjector().getInstance(ToolsUtilsFactory.class)
+                        .createPropertyUtils(logger, importUtils));
+
+        return renderTemplate(TemplateType.ENTITY_SUPERCLASS.pathFromSourceRoot(), context);
+    }
+
 }
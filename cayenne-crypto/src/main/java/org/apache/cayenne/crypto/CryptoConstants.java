@@ -70,4 +70,13 @@ public interface CryptoConstants {
      */
     String USE_HMAC = "cayenne.crypto.use_hmac";
 
+    /**
+     * A property that defines how many rows of a single entity or DataRow query result are read ahead and then
+     * decrypted in parallel. "0" (the default) disables parallel decryption. Unlike the other crypto properties,
+     * this one is a regular runtime property.
+     *
+     * @since 5.0
+     */
+    String PARALLEL_DECRYPTION_BATCH_SIZE = "cayenne.crypto.parallel_decryption.batch_size";
+
 }
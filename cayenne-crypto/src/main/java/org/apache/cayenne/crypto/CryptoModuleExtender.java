@@ -18,6 +18,7 @@
  ****************************************************************/
 package org.apache.cayenne.crypto;
 
+import org.apache.cayenne.configuration.runtime.CoreModule;
 import org.apache.cayenne.crypto.cipher.CipherFactory;
 import org.apache.cayenne.crypto.key.KeySource;
 import org.apache.cayenne.crypto.map.ColumnMapper;
@@ -190,6 +191,17 @@ public class CryptoModuleExtender {
         return this;
     }
 
+    /**
+     * Enables parallel decryption of the fetched rows. Rows are read from the ResultSet in batches of the specified
+     * size, and each batch is decrypted in the common fork-join pool.
+     *
+     * @since 5.0
+     */
+    public CryptoModuleExtender parallelDecryption(int batchSize) {
+        CoreModule.extend(binder).setProperty(CryptoConstants.PARALLEL_DECRYPTION_BATCH_SIZE, batchSize);
+        return this;
+    }
+
     private MapBuilder<String> contributeProperties(Binder binder) {
         if (properties == null) {
             properties = binder.bindMap(String.class, CryptoConstants.PROPERTIES_MAP);
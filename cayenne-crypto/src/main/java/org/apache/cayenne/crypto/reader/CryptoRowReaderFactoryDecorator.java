@@ -19,10 +19,13 @@
 package org.apache.cayenne.crypto.reader;
 
 import org.apache.cayenne.access.jdbc.RSColumn;
+import org.apache.cayenne.access.jdbc.reader.BatchRowReader;
 import org.apache.cayenne.access.jdbc.reader.DefaultRowReaderFactory;
 import org.apache.cayenne.access.jdbc.reader.RowReader;
 import org.apache.cayenne.access.types.ExtendedType;
 import org.apache.cayenne.access.types.ExtendedTypeMap;
+import org.apache.cayenne.configuration.RuntimeProperties;
+import org.apache.cayenne.crypto.CryptoConstants;
 import org.apache.cayenne.crypto.map.ColumnMapper;
 import org.apache.cayenne.crypto.transformer.MapTransformer;
 import org.apache.cayenne.crypto.transformer.TransformerFactory;
@@ -39,6 +42,7 @@ import org.apache.cayenne.query.QueryMetadata;
 import org.apache.cayenne.query.ScalarResultSegment;
 
 import java.sql.ResultSet;
+import java.util.List;
 import java.util.Map;
 
 public class CryptoRowReaderFactoryDecorator extends DefaultRowReaderFactory {
@@ -47,6 +51,7 @@ public class CryptoRowReaderFactoryDecorator extends DefaultRowReaderFactory {
     private ColumnMapper columnMapper;
     private BytesTransformerFactory bytesTransformerFactory;
     private ValueTransformerFactory valueTransformerFactory;
+    private int parallelDecryptionBatchSize;
 
     public CryptoRowReaderFactoryDecorator(@Inject TransformerFactory transformerFactory,
                                            @Inject ColumnMapper columnMapper,
@@ -58,9 +63,26 @@ public class CryptoRowReaderFactoryDecorator extends DefaultRowReaderFactory {
         this.valueTransformerFactory = valueTransformerFactory;
     }
 
+    /**
+     * @since 5.0
+     */
+    public CryptoRowReaderFactoryDecorator(@Inject TransformerFactory transformerFactory,
+                                           @Inject ColumnMapper columnMapper,
+                                           @Inject BytesTransformerFactory bytesTransformerFactory,
+                                           @Inject ValueTransformerFactory valueTransformerFactory,
+                                           @Inject RuntimeProperties properties) {
+        this(transformerFactory, columnMapper, bytesTransformerFactory, valueTransformerFactory);
+        this.parallelDecryptionBatchSize = properties.getInt(CryptoConstants.PARALLEL_DECRYPTION_BATCH_SIZE, 0);
+    }
+
     @Override
     public RowReader<?> rowReader(RSColumn[] columns, QueryMetadata metadata, DbAdapter adapter) {
-        return super.rowReader(encryptedColumns(columns, adapter.getExtendedTypes()), metadata, adapter);
+        RowReader<?> reader = super.rowReader(encryptedColumns(columns, adapter.getExtendedTypes()), metadata, adapter);
+
+        // parallel decryption is only done for single entity or DataRow results, whose rows are decrypted in place
+        return parallelDecryptionBatchSize > 0 && reader instanceof DecoratedEntityFullRowReader
+                ? new ParallelDecryptionRowReader((DecoratedEntityFullRowReader) reader, parallelDecryptionBatchSize)
+                : reader;
     }
 
     @Override
@@ -159,17 +181,56 @@ public class CryptoRowReaderFactoryDecorator extends DefaultRowReaderFactory {
 
         @Override
         public Object readRow(ResultSet resultSet) {
-            Object row = delegateReader.readRow(resultSet);
+            Object row = readEncryptedRow(resultSet);
+            decrypt(row);
+            return row;
+        }
 
+        Object readEncryptedRow(ResultSet resultSet) {
+            Object row = delegateReader.readRow(resultSet);
             ensureDecryptorCompiled(row);
+            return row;
+        }
 
+        void decrypt(Object row) {
             if (decryptor != null) {
                 @SuppressWarnings("unchecked")
                 Map<String, Object> map = (Map<String, Object>) row;
                 decryptor.transform(map);
             }
+        }
+    }
 
-            return row;
+    /**
+     * A reader that defers decryption of the rows read by the delegate until a batch of rows is read, and then
+     * decrypts the batch in parallel in the common fork-join pool. Since the rows are decrypted in place, their order
+     * is preserved.
+     */
+    private static class ParallelDecryptionRowReader implements BatchRowReader<Object> {
+
+        private final DecoratedEntityFullRowReader delegate;
+        private final int batchSize;
+
+        ParallelDecryptionRowReader(DecoratedEntityFullRowReader delegate, int batchSize) {
+            this.delegate = delegate;
+            this.batchSize = batchSize;
+        }
+
+        @Override
+        public int batchSize() {
+            return batchSize;
+        }
+
+        @Override
+        public Object readRow(ResultSet resultSet) {
+            return delegate.readEncryptedRow(resultSet);
+        }
+
+        @Override
+        public void completeRows(List<Object> rows) {
+            if (delegate.decryptor != null) {
+                rows.parallelStream().forEach(delegate::decrypt);
+            }
         }
     }
 
@@ -23,8 +23,6 @@ import java.security.SecureRandom;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
 
-import javax.crypto.Cipher;
-
 import org.apache.cayenne.crypto.cipher.CipherFactory;
 import org.apache.cayenne.crypto.key.KeySource;
 
@@ -33,7 +31,7 @@ import org.apache.cayenne.crypto.key.KeySource;
  */
 class CbcBytesTransformerFactory implements BytesTransformerFactory {
 
-    private CipherFactory cipherFactory;
+    private CipherPool ciphers;
     private Key key;
     private Header encryptionHeader;
     private int blockSize;
@@ -45,7 +43,7 @@ class CbcBytesTransformerFactory implements BytesTransformerFactory {
         this.randoms = new ConcurrentLinkedQueue<>();
         this.keySource = keySource;
 
-        this.cipherFactory = cipherFactory;
+        this.ciphers = new CipherPool(cipherFactory);
         this.blockSize = cipherFactory.blockSize();
         this.encryptionHeader = encryptionHeader;
 
@@ -87,8 +85,7 @@ class CbcBytesTransformerFactory implements BytesTransformerFactory {
 
     @Override
     public BytesEncryptor encryptor() {
-        Cipher cipher = cipherFactory.cipher();
-        BytesEncryptor delegate = new CbcEncryptor(cipher, key, generateSeedIv());
+        BytesEncryptor delegate = new CbcEncryptor(ciphers, key, generateSeedIv());
 
         if (encryptionHeader.isCompressed()) {
             delegate = new GzipEncryptor(delegate);
@@ -102,8 +99,7 @@ class CbcBytesTransformerFactory implements BytesTransformerFactory {
 
     @Override
     public BytesDecryptor decryptor() {
-        Cipher cipher = cipherFactory.cipher();
-        BytesDecryptor cbcDecryptor = new CbcDecryptor(cipher);
+        BytesDecryptor cbcDecryptor = new CbcDecryptor(ciphers);
         BytesDecryptor gzipDecryptor = new GzipDecryptor(cbcDecryptor);
         return new HeaderDecryptor(cbcDecryptor, gzipDecryptor, keySource);
     }
@@ -32,19 +32,19 @@ import org.apache.cayenne.crypto.CayenneCryptoException;
 
 /**
  * A {@link BytesDecryptor} that decrypts the provided bytes that were encrypted
- * by the complementary {@link CbcEncryptor}. The object is stateful and is not
- * thread-safe.
+ * by the complementary {@link CbcEncryptor}. Ciphers are taken from a shared
+ * {@link CipherPool} for each operation, so the object is thread-safe.
  * 
  * @since 4.0
  */
 class CbcDecryptor implements BytesDecryptor {
 
-    private Cipher cipher;
+    private CipherPool ciphers;
     private int blockSize;
 
-    CbcDecryptor(Cipher cipher) {
-        this.cipher = cipher;
-        this.blockSize = cipher.getBlockSize();
+    CbcDecryptor(CipherPool ciphers) {
+        this.ciphers = ciphers;
+        this.blockSize = ciphers.blockSize();
     }
 
     @Override
@@ -61,10 +61,15 @@ class CbcDecryptor implements BytesDecryptor {
 
         IvParameterSpec iv = iv(input, inputOffset);
 
-        cipher.init(Cipher.DECRYPT_MODE, key, iv);
-
         int offset = inputOffset + blockSize;
-        return cipher.doFinal(input, offset, input.length - offset);
+
+        Cipher cipher = ciphers.acquire();
+        try {
+            cipher.init(Cipher.DECRYPT_MODE, key, iv);
+            return cipher.doFinal(input, offset, input.length - offset);
+        } finally {
+            ciphers.release(cipher);
+        }
     }
 
     IvParameterSpec iv(byte[] input, int inputOffset) {
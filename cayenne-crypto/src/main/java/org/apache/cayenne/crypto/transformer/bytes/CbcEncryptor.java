@@ -41,15 +41,15 @@ import org.apache.cayenne.crypto.CayenneCryptoException;
  */
 class CbcEncryptor implements BytesEncryptor {
 
-    private Cipher cipher;
+    private CipherPool ciphers;
     private byte[] iv;
     private Key key;
     private int blockSize;
 
-    public CbcEncryptor(Cipher cipher, Key key, byte[] seedIv) {
+    public CbcEncryptor(CipherPool ciphers, Key key, byte[] seedIv) {
         this.key = key;
-        this.cipher = cipher;
-        this.blockSize = cipher.getBlockSize();
+        this.ciphers = ciphers;
+        this.blockSize = ciphers.blockSize();
 
         if (seedIv.length != blockSize) {
 
@@ -77,13 +77,21 @@ class CbcEncryptor implements BytesEncryptor {
     private byte[] doEncrypt(byte[] plain, int outputOffset) throws InvalidKeyException,
             InvalidAlgorithmParameterException, ShortBufferException, IllegalBlockSizeException, BadPaddingException {
 
-        cipher.init(Cipher.ENCRYPT_MODE, key, new IvParameterSpec(iv));
-        byte[] encrypted = new byte[outputOffset + blockSize + cipher.getOutputSize(plain.length)];
+        byte[] encrypted;
+        int encBytes;
 
-        // copy IV in the first block
-        System.arraycopy(iv, 0, encrypted, outputOffset, blockSize);
+        Cipher cipher = ciphers.acquire();
+        try {
+            cipher.init(Cipher.ENCRYPT_MODE, key, new IvParameterSpec(iv));
+            encrypted = new byte[outputOffset + blockSize + cipher.getOutputSize(plain.length)];
+
+            // copy IV in the first block
+            System.arraycopy(iv, 0, encrypted, outputOffset, blockSize);
 
-        int encBytes = cipher.doFinal(plain, 0, plain.length, encrypted, outputOffset + blockSize);
+            encBytes = cipher.doFinal(plain, 0, plain.length, encrypted, outputOffset + blockSize);
+        } finally {
+            ciphers.release(cipher);
+        }
 
         // store the last block of ciphertext to use as an IV for the next round
         // of encryption...
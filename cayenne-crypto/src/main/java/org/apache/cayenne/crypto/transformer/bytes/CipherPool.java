@@ -0,0 +1,61 @@
+/*****************************************************************
+ *   Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ ****************************************************************/
+package org.apache.cayenne.crypto.transformer.bytes;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import javax.crypto.Cipher;
+
+import org.apache.cayenne.crypto.cipher.CipherFactory;
+
+/**
+ * A pool of reusable {@link Cipher} instances created by a {@link CipherFactory}. Creating a Cipher involves provider
+ * lookup and is relatively expensive, while a Cipher that is fully re-initialized before each operation can be safely
+ * reused. A Cipher taken from the pool is used by a single caller until it is returned. The pool is thread-safe.
+ *
+ * @since 5.0
+ */
+class CipherPool {
+
+    private final CipherFactory cipherFactory;
+    private final Queue<Cipher> ciphers;
+
+    CipherPool(CipherFactory cipherFactory) {
+        this.cipherFactory = cipherFactory;
+        this.ciphers = new ConcurrentLinkedQueue<>();
+    }
+
+    /**
+     * Returns a Cipher from the pool, creating a new one if the pool is empty. The caller must return the Cipher back
+     * to the pool via {@link #release(Cipher)} when done with it.
+     */
+    Cipher acquire() {
+        Cipher cipher = ciphers.poll();
+        return cipher != null ? cipher : cipherFactory.cipher();
+    }
+
+    void release(Cipher cipher) {
+        ciphers.add(cipher);
+    }
+
+    int blockSize() {
+        return cipherFactory.blockSize();
+    }
+}
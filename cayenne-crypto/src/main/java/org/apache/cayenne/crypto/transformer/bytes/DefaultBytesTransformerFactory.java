@@ -54,11 +54,13 @@ public class DefaultBytesTransformerFactory implements BytesTransformerFactory {
 
         if ("CBC".equals(mode)) {
             this.delegate = new CbcBytesTransformerFactory(cipherFactory, keySource, encryptionHeader);
+        } else if ("GCM".equals(mode)) {
+            this.delegate = new GcmBytesTransformerFactory(cipherFactory, keySource, encryptionHeader);
         }
         // TODO: ECB and other modes...
         else {
             throw new CayenneCryptoException("Unsupported mode: " + mode
-                    + ". The following modes are currently supported:  CBC");
+                    + ". The following modes are currently supported:  CBC, GCM");
         }
     }
 
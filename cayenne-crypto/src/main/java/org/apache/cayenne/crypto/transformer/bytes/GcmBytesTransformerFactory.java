@@ -0,0 +1,85 @@
+/*****************************************************************
+ *   Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ ****************************************************************/
+package org.apache.cayenne.crypto.transformer.bytes;
+
+import java.security.Key;
+import java.security.SecureRandom;
+
+import org.apache.cayenne.crypto.cipher.CipherFactory;
+import org.apache.cayenne.crypto.key.KeySource;
+
+/**
+ * A {@link BytesTransformerFactory} for the authenticated GCM mode. Unlike CBC, GCM verifies the integrity of each
+ * value on decryption, so a separate HMAC is not needed, though HMAC and compression flags of the header are still
+ * honored. Ciphers should be configured with "NoPadding".
+ *
+ * @since 5.0
+ */
+class GcmBytesTransformerFactory implements BytesTransformerFactory {
+
+    /**
+     * IV length recommended for GCM by NIST SP 800-38D.
+     */
+    static final int IV_LENGTH = 12;
+
+    static final int TAG_LENGTH_BITS = 128;
+
+    private CipherPool ciphers;
+    private Key key;
+    private Header encryptionHeader;
+    private KeySource keySource;
+    private SecureRandom random;
+
+    GcmBytesTransformerFactory(CipherFactory cipherFactory, KeySource keySource, Header encryptionHeader) {
+        this.keySource = keySource;
+        this.ciphers = new CipherPool(cipherFactory);
+        this.encryptionHeader = encryptionHeader;
+        this.random = new SecureRandom();
+
+        String keyName = keySource.getDefaultKeyAlias();
+        this.key = keySource.getKey(keyName);
+    }
+
+    protected byte[] generateSeedIv() {
+        byte[] iv = new byte[IV_LENGTH];
+        random.nextBytes(iv);
+        return iv;
+    }
+
+    @Override
+    public BytesEncryptor encryptor() {
+        BytesEncryptor delegate = new GcmEncryptor(ciphers, key, generateSeedIv(), encryptionHeader);
+
+        if (encryptionHeader.isCompressed()) {
+            delegate = new GzipEncryptor(delegate);
+        }
+        if (encryptionHeader.haveHMAC()) {
+            delegate = new HmacEncryptor(delegate, encryptionHeader, key);
+        }
+
+        return new HeaderEncryptor(delegate, encryptionHeader);
+    }
+
+    @Override
+    public BytesDecryptor decryptor() {
+        BytesDecryptor gcmDecryptor = new GcmDecryptor(ciphers);
+        BytesDecryptor gzipDecryptor = new GzipDecryptor(gcmDecryptor);
+        return new HeaderDecryptor(gcmDecryptor, gzipDecryptor, keySource);
+    }
+}
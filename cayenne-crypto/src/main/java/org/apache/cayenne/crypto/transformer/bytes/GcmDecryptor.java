@@ -0,0 +1,73 @@
+/*****************************************************************
+ *   Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ ****************************************************************/
+package org.apache.cayenne.crypto.transformer.bytes;
+
+import java.security.GeneralSecurityException;
+import java.security.Key;
+
+import javax.crypto.AEADBadTagException;
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+
+import org.apache.cayenne.crypto.CayenneCryptoException;
+
+/**
+ * A {@link BytesDecryptor} that decrypts and authenticates the provided bytes that were encrypted by the
+ * complementary {@link GcmEncryptor}. The block header, that is expected at the beginning of the input, is authenticated
+ * together with the ciphertext. Ciphers are taken from a shared {@link CipherPool} for each operation, so the object is
+ * thread-safe.
+ *
+ * @since 5.0
+ */
+class GcmDecryptor implements BytesDecryptor {
+
+    private CipherPool ciphers;
+
+    GcmDecryptor(CipherPool ciphers) {
+        this.ciphers = ciphers;
+    }
+
+    @Override
+    public byte[] decrypt(byte[] input, int inputOffset, Key key) {
+        try {
+            return doDecrypt(input, inputOffset, key);
+        } catch (AEADBadTagException e) {
+            throw new CayenneCryptoException("Input is corrupted: authentication tag mismatch.", e);
+        } catch (GeneralSecurityException e) {
+            throw new CayenneCryptoException("Error on decryption", e);
+        }
+    }
+
+    private byte[] doDecrypt(byte[] input, int inputOffset, Key key) throws GeneralSecurityException {
+
+        GCMParameterSpec spec = new GCMParameterSpec(GcmBytesTransformerFactory.TAG_LENGTH_BITS, input, inputOffset,
+                GcmBytesTransformerFactory.IV_LENGTH);
+
+        int offset = inputOffset + GcmBytesTransformerFactory.IV_LENGTH;
+
+        Cipher cipher = ciphers.acquire();
+        try {
+            cipher.init(Cipher.DECRYPT_MODE, key, spec);
+            cipher.updateAAD(input, 0, Header.create(input, 0).size());
+            return cipher.doFinal(input, offset, input.length - offset);
+        } finally {
+            ciphers.release(cipher);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+/*****************************************************************
+ *   Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ ****************************************************************/
+package org.apache.cayenne.crypto.transformer.bytes;
+
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.util.Arrays;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+
+import org.apache.cayenne.crypto.CayenneCryptoException;
+
+/**
+ * A {@link BytesEncryptor} that encrypts the provided bytes using GCM mode. The first
+ * {@link GcmBytesTransformerFactory#IV_LENGTH} bytes of the encrypted value contain the IV (a.k.a. nonce) used for
+ * encryption, followed by the ciphertext with the authentication tag appended. The block header is authenticated as
+ * additional data, so it can't be altered even if the value has no HMAC. As GCM must never reuse an IV with the same
+ * key, each encrypted value gets its own IV, produced by incrementing the random seed IV as a counter. The object is
+ * stateful and is not thread-safe.
+ *
+ * @since 5.0
+ */
+class GcmEncryptor implements BytesEncryptor {
+
+    private CipherPool ciphers;
+    private byte[] iv;
+    private Key key;
+    private Header header;
+
+    GcmEncryptor(CipherPool ciphers, Key key, byte[] seedIv, Header header) {
+        this.key = key;
+        this.ciphers = ciphers;
+        this.header = header;
+
+        if (seedIv.length != GcmBytesTransformerFactory.IV_LENGTH) {
+            throw new CayenneCryptoException("IV size is expected to be " + GcmBytesTransformerFactory.IV_LENGTH
+                    + ". Was " + seedIv.length);
+        }
+
+        // making a copy - we are modifying this array, something that should
+        // not be visible outside this object.
+        this.iv = Arrays.copyOf(seedIv, seedIv.length);
+    }
+
+    @Override
+    public byte[] encrypt(byte[] input, int outputOffset, byte[] flags) {
+        try {
+            return doEncrypt(input, outputOffset, flags[0]);
+        } catch (GeneralSecurityException e) {
+            throw new CayenneCryptoException("Error on encryption", e);
+        }
+    }
+
+    private byte[] doEncrypt(byte[] plain, int outputOffset, byte flags) throws GeneralSecurityException {
+
+        int ivLength = iv.length;
+        byte[] encrypted;
+
+        // the header is written by HeaderEncryptor after encryption, but its bytes are known at this point, as the
+        // flags are final
+        byte[] rawHeader = new byte[header.size()];
+        header.store(rawHeader, 0, flags);
+
+        Cipher cipher = ciphers.acquire();
+        try {
+            cipher.init(Cipher.ENCRYPT_MODE, key, new GCMParameterSpec(GcmBytesTransformerFactory.TAG_LENGTH_BITS, iv));
+            cipher.updateAAD(rawHeader);
+            encrypted = new byte[outputOffset + ivLength + cipher.getOutputSize(plain.length)];
+
+            // copy IV in the beginning of the value
+            System.arraycopy(iv, 0, encrypted, outputOffset, ivLength);
+
+            cipher.doFinal(plain, 0, plain.length, encrypted, outputOffset + ivLength);
+        } finally {
+            ciphers.release(cipher);
+        }
+
+        nextIv();
+        return encrypted;
+    }
+
+    private void nextIv() {
+        for (int i = iv.length - 1; i >= 0; i--) {
+            if (++iv[i] != 0) {
+                break;
+            }
+        }
+    }
+}
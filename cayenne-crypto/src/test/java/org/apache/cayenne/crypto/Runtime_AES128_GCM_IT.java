@@ -0,0 +1,126 @@
+/*****************************************************************
+ *   Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ ****************************************************************/
+package org.apache.cayenne.crypto;
+
+import org.apache.cayenne.ObjectContext;
+import org.apache.cayenne.crypto.db.Table1;
+import org.apache.cayenne.crypto.db.Table2;
+import org.apache.cayenne.crypto.key.JceksKeySourceTest;
+import org.apache.cayenne.crypto.transformer.value.IntegerConverter;
+import org.apache.cayenne.crypto.unit.CryptoUnitUtils;
+import org.apache.cayenne.di.Module;
+import org.apache.cayenne.query.ObjectSelect;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.URL;
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class Runtime_AES128_GCM_IT extends Runtime_AES128_Base {
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        super.setUp(false, false);
+    }
+
+    @Override
+    protected Module createCryptoModule(boolean compress, boolean useHMAC) {
+        URL keyStoreUrl = JceksKeySourceTest.class.getResource(JceksKeySourceTest.KS1_JCEKS);
+        return b -> CryptoModule.extend(b)
+                .keyStore(keyStoreUrl, JceksKeySourceTest.TEST_KEY_PASS, "k3")
+                .cipherMode("GCM")
+                .cipherPadding("NoPadding");
+    }
+
+    @Test
+    public void insert() throws SQLException {
+
+        ObjectContext context = runtime.newContext();
+
+        Table2 t1 = context.newObject(Table2.class);
+        t1.setPlainBytes("plain_1".getBytes());
+        t1.setCryptoBytes("crypto_1".getBytes());
+
+        Table1 t2 = context.newObject(Table1.class);
+        t2.setPlainInt(59);
+        t2.setCryptoInt(61);
+
+        context.commitChanges();
+
+        Object[] data2 = table2.select();
+        assertArrayEquals("plain_1".getBytes(), (byte[]) data2[1]);
+        assertArrayEquals("crypto_1".getBytes(), CryptoUnitUtils.decrypt_AES_GCM((byte[]) data2[2], runtime));
+
+        Object[] data1 = table1.select();
+        assertEquals(61, IntegerConverter.INSTANCE.fromBytes(CryptoUnitUtils.decrypt_AES_GCM((byte[]) data1[4], runtime)));
+    }
+
+    @Test
+    public void selectQuery() {
+
+        ObjectContext context = runtime.newContext();
+
+        Table2 t1 = context.newObject(Table2.class);
+        t1.setPlainBytes("a".getBytes());
+        t1.setCryptoBytes("crypto_1".getBytes());
+
+        Table2 t2 = context.newObject(Table2.class);
+        t2.setPlainBytes("b".getBytes());
+        t2.setCryptoBytes("crypto_2".getBytes());
+
+        Table2 t3 = context.newObject(Table2.class);
+        t3.setPlainBytes("c".getBytes());
+        t3.setCryptoBytes(null);
+
+        context.commitChanges();
+
+        List<Table2> result = ObjectSelect.query(Table2.class)
+                .orderBy(Table2.PLAIN_BYTES.asc())
+                .select(runtime.newContext());
+
+        assertEquals(3, result.size());
+        assertArrayEquals("crypto_1".getBytes(), result.get(0).getCryptoBytes());
+        assertArrayEquals("crypto_2".getBytes(), result.get(1).getCryptoBytes());
+        assertNull(result.get(2).getCryptoBytes());
+    }
+
+    @Test
+    public void selectQuery_Tampered() throws SQLException {
+
+        ObjectContext context = runtime.newContext();
+
+        Table2 t1 = context.newObject(Table2.class);
+        t1.setPlainBytes("a".getBytes());
+        t1.setCryptoBytes("crypto_1".getBytes());
+        context.commitChanges();
+
+        byte[] encrypted = (byte[]) table2.select()[2];
+        encrypted[encrypted.length - 1]++;
+        table2.update().set("CRYPTO_BYTES", encrypted).execute();
+
+        assertThrows(CayenneCryptoException.class,
+                () -> ObjectSelect.query(Table2.class).select(runtime.newContext()));
+    }
+}
@@ -0,0 +1,105 @@
+/*****************************************************************
+ *   Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ ****************************************************************/
+package org.apache.cayenne.crypto;
+
+import org.apache.cayenne.DataRow;
+import org.apache.cayenne.ObjectContext;
+import org.apache.cayenne.ResultIterator;
+import org.apache.cayenne.crypto.db.Table1;
+import org.apache.cayenne.crypto.key.JceksKeySourceTest;
+import org.apache.cayenne.di.Module;
+import org.apache.cayenne.query.ObjectSelect;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class Runtime_AES128_ParallelDecryption_IT extends Runtime_AES128_Base {
+
+    private static final int ROWS = 25;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        super.setUp(false, false);
+
+        ObjectContext context = runtime.newContext();
+        for (int i = 0; i < ROWS; i++) {
+            Table1 t1 = context.newObject(Table1.class);
+            t1.setPlainInt(i);
+            t1.setCryptoInt(i * 10);
+            t1.setCryptoString("crypto_" + i);
+        }
+        context.commitChanges();
+    }
+
+    @Override
+    protected Module createCryptoModule(boolean compress, boolean useHMAC) {
+        URL keyStoreUrl = JceksKeySourceTest.class.getResource(JceksKeySourceTest.KS1_JCEKS);
+        return b -> CryptoModule.extend(b)
+                .keyStore(keyStoreUrl, JceksKeySourceTest.TEST_KEY_PASS, "k3")
+                .parallelDecryption(4);
+    }
+
+    @Test
+    public void selectQuery() {
+        List<Table1> result = ObjectSelect.query(Table1.class)
+                .orderBy(Table1.PLAIN_INT.asc())
+                .select(runtime.newContext());
+
+        assertEquals(ROWS, result.size());
+        for (int i = 0; i < ROWS; i++) {
+            assertEquals(i, result.get(i).getPlainInt());
+            assertEquals(i * 10, result.get(i).getCryptoInt());
+            assertEquals("crypto_" + i, result.get(i).getCryptoString());
+        }
+    }
+
+    @Test
+    public void selectDataRows() {
+        List<DataRow> result = ObjectSelect.dataRowQuery(Table1.class)
+                .orderBy(Table1.PLAIN_INT.asc())
+                .select(runtime.newContext());
+
+        assertEquals(ROWS, result.size());
+        for (int i = 0; i < ROWS; i++) {
+            assertEquals(i * 10, result.get(i).get("CRYPTO_INT"));
+            assertEquals("crypto_" + i, result.get(i).get("CRYPTO_STRING"));
+        }
+    }
+
+    @Test
+    public void iterator() {
+        List<Table1> result = new ArrayList<>();
+        try (ResultIterator<Table1> it = ObjectSelect.query(Table1.class)
+                .orderBy(Table1.PLAIN_INT.asc())
+                .iterator(runtime.newContext())) {
+            it.forEach(result::add);
+        }
+
+        assertEquals(ROWS, result.size());
+        for (int i = 0; i < ROWS; i++) {
+            assertEquals(i * 10, result.get(i).getCryptoInt());
+            assertEquals("crypto_" + i, result.get(i).getCryptoString());
+        }
+    }
+}
@@ -20,6 +20,8 @@ package org.apache.cayenne.crypto.transformer.bytes;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 import java.security.InvalidAlgorithmParameterException;
 import java.security.InvalidKeyException;
@@ -33,6 +35,7 @@ import javax.crypto.NoSuchPaddingException;
 import javax.crypto.spec.IvParameterSpec;
 import javax.crypto.spec.SecretKeySpec;
 
+import org.apache.cayenne.crypto.cipher.CipherFactory;
 import org.apache.cayenne.crypto.unit.CryptoUnitUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -54,7 +57,7 @@ public class CbcDecryptorTest {
     @Test
     public void iv() {
 
-        CbcDecryptor decryptor = new CbcDecryptor(cipher);
+        CbcDecryptor decryptor = new CbcDecryptor(cipherPool(cipher));
 
         byte[] input = { 21, 20, 19, 18, 17, 16, 15, 14, 13, 12, 11, 10, 9, 8, 7, 6, 5, 4, 3, 2, 1 };
         byte[] ivBytes = { 16, 15, 14, 13, 12, 11, 10, 9, 8, 7, 6, 5, 4, 3, 2, 1 };
@@ -67,7 +70,7 @@ public class CbcDecryptorTest {
     public void decrypt() throws NoSuchAlgorithmException, NoSuchPaddingException, InvalidKeyException,
             InvalidAlgorithmParameterException, IllegalBlockSizeException, BadPaddingException {
 
-        CbcDecryptor decryptor = new CbcDecryptor(cipher);
+        CbcDecryptor decryptor = new CbcDecryptor(cipherPool(cipher));
 
         byte[] plain = { 21, 20, 19, 18, 17, 16, 15, 14, 13, 12, 11, 10, 9, 8, 7, 6, 5, 4, 3, 2, 1 };
         byte[] ivBytes = CryptoUnitUtils.hexToBytes("0591849d87c93414f4405d32f4d69220");
@@ -84,4 +87,11 @@ public class CbcDecryptorTest {
         byte[] decrypted = decryptor.decrypt(encryptedWithIv, 0, key);
         assertArrayEquals(plain, decrypted);
     }
+
+    private static CipherPool cipherPool(Cipher cipher) {
+        CipherFactory factory = mock(CipherFactory.class);
+        when(factory.cipher()).thenReturn(cipher);
+        when(factory.blockSize()).thenReturn(cipher.getBlockSize());
+        return new CipherPool(factory);
+    }
 }
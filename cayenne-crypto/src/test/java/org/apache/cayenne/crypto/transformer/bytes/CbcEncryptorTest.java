@@ -22,6 +22,7 @@ import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 import java.security.InvalidAlgorithmParameterException;
 import java.security.InvalidKeyException;
@@ -37,6 +38,7 @@ import javax.crypto.spec.IvParameterSpec;
 import javax.crypto.spec.SecretKeySpec;
 
 import org.apache.cayenne.crypto.CayenneCryptoException;
+import org.apache.cayenne.crypto.cipher.CipherFactory;
 import org.apache.cayenne.crypto.unit.CryptoUnitUtils;
 import org.junit.jupiter.api.Test;
 
@@ -48,7 +50,7 @@ public class CbcEncryptorTest {
         Key key = mock(Key.class);
         Cipher cipher = Cipher.getInstance("DES/CBC/PKCS5Padding");
         assertEquals(8, cipher.getBlockSize());
-        assertThrows(CayenneCryptoException.class, () -> new CbcEncryptor(cipher, key, iv));
+        assertThrows(CayenneCryptoException.class, () -> new CbcEncryptor(cipherPool(cipher), key, iv));
     }
 
     @Test
@@ -66,7 +68,7 @@ public class CbcEncryptorTest {
         byte[] plain = { 21, 20, 19, 18, 17, 16, 15, 14, 13, 12, 11, 10, 9, 8, 7, 6, 5, 4, 3, 2, 1 };
 
         // copy ivBytes, as they are reset
-        CbcEncryptor encryptor = new CbcEncryptor(cipher, key, ivBytes);
+        CbcEncryptor encryptor = new CbcEncryptor(cipherPool(cipher), key, ivBytes);
 
         byte[] encrypted = encryptor.encrypt(plain, 0, new byte[1]);
 
@@ -79,4 +81,10 @@ public class CbcEncryptorTest {
         assertArrayEquals(plain, newPlain);
     }
 
+    private static CipherPool cipherPool(Cipher cipher) {
+        CipherFactory factory = mock(CipherFactory.class);
+        when(factory.cipher()).thenReturn(cipher);
+        when(factory.blockSize()).thenReturn(cipher.getBlockSize());
+        return new CipherPool(factory);
+    }
 }
@@ -0,0 +1,57 @@
+/*****************************************************************
+ *   Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ ****************************************************************/
+package org.apache.cayenne.crypto.transformer.bytes;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import javax.crypto.Cipher;
+
+import org.apache.cayenne.crypto.cipher.CipherFactory;
+import org.junit.jupiter.api.Test;
+
+public class CipherPoolTest {
+
+    @Test
+    public void acquireRelease() throws Exception {
+        Cipher c1 = Cipher.getInstance("AES/CBC/PKCS5Padding");
+        Cipher c2 = Cipher.getInstance("AES/CBC/PKCS5Padding");
+
+        CipherFactory factory = mock(CipherFactory.class);
+        when(factory.cipher()).thenReturn(c1, c2);
+        when(factory.blockSize()).thenReturn(16);
+
+        CipherPool pool = new CipherPool(factory);
+        assertEquals(16, pool.blockSize());
+
+        Cipher a1 = pool.acquire();
+        Cipher a2 = pool.acquire();
+        assertSame(c1, a1);
+        assertSame(c2, a2);
+
+        pool.release(a1);
+        assertSame(c1, pool.acquire());
+
+        verify(factory, times(2)).cipher();
+    }
+}
@@ -0,0 +1,101 @@
+/*****************************************************************
+ *   Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ ****************************************************************/
+package org.apache.cayenne.crypto.transformer.bytes;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.security.GeneralSecurityException;
+import java.security.Key;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.apache.cayenne.crypto.CayenneCryptoException;
+import org.apache.cayenne.crypto.cipher.CipherFactory;
+import org.apache.cayenne.crypto.unit.CryptoUnitUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class GcmDecryptorTest {
+
+    private static final byte[] PLAIN = { 21, 20, 19, 18, 17, 16, 15, 14, 13, 12, 11, 10, 9, 8, 7, 6, 5, 4, 3, 2, 1 };
+
+    private Key key;
+    private Header header;
+    private byte[] encryptedWithIv;
+
+    @BeforeEach
+    public void before() throws GeneralSecurityException {
+        this.key = new SecretKeySpec(CryptoUnitUtils.hexToBytes("a4cb499fa31a6a228e16b7e4741d4fa3"), "AES");
+
+        this.header = Header.create("k1", false, false);
+
+        byte[] rawHeader = new byte[header.size()];
+        header.store(rawHeader, 0, header.getFlags());
+
+        byte[] ivBytes = CryptoUnitUtils.hexToBytes("0591849d87c93414f4405d32");
+        Cipher encCipher = Cipher.getInstance("AES/GCM/NoPadding");
+        encCipher.init(Cipher.ENCRYPT_MODE, key, new GCMParameterSpec(128, ivBytes));
+        encCipher.updateAAD(rawHeader);
+        byte[] encrypted = encCipher.doFinal(PLAIN);
+
+        this.encryptedWithIv = new byte[rawHeader.length + ivBytes.length + encrypted.length];
+        System.arraycopy(rawHeader, 0, encryptedWithIv, 0, rawHeader.length);
+        System.arraycopy(ivBytes, 0, encryptedWithIv, rawHeader.length, ivBytes.length);
+        System.arraycopy(encrypted, 0, encryptedWithIv, rawHeader.length + ivBytes.length, encrypted.length);
+    }
+
+    @Test
+    public void decrypt() throws GeneralSecurityException {
+        GcmDecryptor decryptor = new GcmDecryptor(cipherPool(Cipher.getInstance("AES/GCM/NoPadding")));
+        assertArrayEquals(PLAIN, decryptor.decrypt(encryptedWithIv, header.size(), key));
+    }
+
+    @Test
+    public void decrypt_Corrupted() throws GeneralSecurityException {
+        GcmDecryptor decryptor = new GcmDecryptor(cipherPool(Cipher.getInstance("AES/GCM/NoPadding")));
+        encryptedWithIv[header.size() + 15]++;
+        assertThrows(CayenneCryptoException.class, () -> decryptor.decrypt(encryptedWithIv, header.size(), key));
+    }
+
+    @Test
+    public void decrypt_CorruptedHeader() throws GeneralSecurityException {
+        GcmDecryptor decryptor = new GcmDecryptor(cipherPool(Cipher.getInstance("AES/GCM/NoPadding")));
+
+        // point the value to another key name
+        encryptedWithIv[header.size() - 1]++;
+        assertThrows(CayenneCryptoException.class, () -> decryptor.decrypt(encryptedWithIv, header.size(), key));
+        encryptedWithIv[header.size() - 1]--;
+
+        // flip the compression flag
+        encryptedWithIv[4] = Header.setCompressed(encryptedWithIv[4], true);
+        assertThrows(CayenneCryptoException.class, () -> decryptor.decrypt(encryptedWithIv, header.size(), key));
+    }
+
+    private static CipherPool cipherPool(Cipher cipher) {
+        CipherFactory factory = mock(CipherFactory.class);
+        when(factory.cipher()).thenReturn(cipher);
+        when(factory.blockSize()).thenReturn(cipher.getBlockSize());
+        return new CipherPool(factory);
+    }
+}
@@ -0,0 +1,105 @@
+/*****************************************************************
+ *   Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ ****************************************************************/
+package org.apache.cayenne.crypto.transformer.bytes;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.util.Arrays;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.apache.cayenne.crypto.CayenneCryptoException;
+import org.apache.cayenne.crypto.cipher.CipherFactory;
+import org.apache.cayenne.crypto.unit.CryptoUnitUtils;
+import org.junit.jupiter.api.Test;
+
+public class GcmEncryptorTest {
+
+    private static final Header HEADER = Header.create("k1", false, false);
+
+    @Test
+    public void constructor() throws GeneralSecurityException {
+        byte[] iv = { 1, 2, 3, 4, 5, 6 };
+        Key key = mock(Key.class);
+        Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+        assertThrows(CayenneCryptoException.class, () -> new GcmEncryptor(cipherPool(cipher), key, iv, HEADER));
+    }
+
+    @Test
+    public void encrypt_AES() throws GeneralSecurityException {
+
+        byte[] ivBytes = CryptoUnitUtils.hexToBytes("0591849d87c93414f4405d32");
+        byte[] keyBytes = CryptoUnitUtils.hexToBytes("a4cb499fa31a6a228e16b7e4741d4fa3");
+        Key key = new SecretKeySpec(keyBytes, "AES");
+
+        Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+
+        byte[] plain = { 21, 20, 19, 18, 17, 16, 15, 14, 13, 12, 11, 10, 9, 8, 7, 6, 5, 4, 3, 2, 1 };
+
+        GcmEncryptor encryptor = new GcmEncryptor(cipherPool(cipher), key, ivBytes, HEADER);
+
+        byte[] encrypted = encryptor.encrypt(plain, 1, new byte[1]);
+
+        // offset + IV + ciphertext of the same size as plaintext + 16 bytes tag
+        assertEquals(1 + 12 + plain.length + 16, encrypted.length);
+        assertArrayEquals(ivBytes, Arrays.copyOfRange(encrypted, 1, 13));
+
+        Cipher decCipher = Cipher.getInstance("AES/GCM/NoPadding");
+        decCipher.init(Cipher.DECRYPT_MODE, key, new GCMParameterSpec(128, ivBytes));
+
+        // the header is authenticated as additional data
+        byte[] rawHeader = new byte[HEADER.size()];
+        HEADER.store(rawHeader, 0, HEADER.getFlags());
+        decCipher.updateAAD(rawHeader);
+        byte[] newPlain = decCipher.doFinal(encrypted, 13, encrypted.length - 13);
+        assertArrayEquals(plain, newPlain);
+    }
+
+    @Test
+    public void encrypt_NewIvForEachValue() throws GeneralSecurityException {
+
+        byte[] ivBytes = CryptoUnitUtils.hexToBytes("0591849d87c93414f44052ff");
+        Key key = new SecretKeySpec(CryptoUnitUtils.hexToBytes("a4cb499fa31a6a228e16b7e4741d4fa3"), "AES");
+
+        GcmEncryptor encryptor = new GcmEncryptor(cipherPool(Cipher.getInstance("AES/GCM/NoPadding")), key, ivBytes,
+                HEADER);
+
+        byte[] plain = { 1, 2, 3 };
+        byte[] encrypted1 = encryptor.encrypt(plain, 0, new byte[1]);
+        byte[] encrypted2 = encryptor.encrypt(plain, 0, new byte[1]);
+
+        assertArrayEquals(ivBytes, Arrays.copyOfRange(encrypted1, 0, 12));
+        assertArrayEquals(CryptoUnitUtils.hexToBytes("0591849d87c93414f4405300"), Arrays.copyOfRange(encrypted2, 0, 12));
+    }
+
+    private static CipherPool cipherPool(Cipher cipher) {
+        CipherFactory factory = mock(CipherFactory.class);
+        when(factory.cipher()).thenReturn(cipher);
+        when(factory.blockSize()).thenReturn(cipher.getBlockSize());
+        return new CipherPool(factory);
+    }
+}
@@ -23,6 +23,7 @@ import org.apache.cayenne.crypto.transformer.bytes.Header;
 import org.apache.cayenne.runtime.CayenneRuntime;
 
 import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
 import javax.crypto.spec.IvParameterSpec;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
@@ -103,6 +104,31 @@ public class CryptoUnitUtils {
         }
     }
 
+    public static byte[] decrypt_AES_GCM(byte[] source, CayenneRuntime runtime) {
+
+        try {
+
+            Cipher decCipher = Cipher.getInstance("AES/GCM/NoPadding");
+
+            Header header = Header.create(source, 0);
+
+            int offset = header.size();
+            if(header.haveHMAC()) {
+                byte hmacLength = source[offset];
+                offset += hmacLength + 1;
+            }
+
+            Key key = runtime.getInjector().getInstance(KeySource.class).getKey(header.getKeyName());
+
+            decCipher.init(Cipher.DECRYPT_MODE, key, new GCMParameterSpec(128, source, offset, 12));
+            decCipher.updateAAD(source, 0, header.size());
+
+            return decCipher.doFinal(source, offset + 12, source.length - offset - 12);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     public static byte[] toByteArray(int integer) {
 
         if (integer <= Short.MAX_VALUE) {
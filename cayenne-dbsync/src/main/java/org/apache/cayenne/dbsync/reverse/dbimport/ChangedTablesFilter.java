@@ -0,0 +1,124 @@
+/*****************************************************************
+ *   Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ ****************************************************************/
+
+package org.apache.cayenne.dbsync.reverse.dbimport;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+
+import org.apache.cayenne.map.DataMap;
+import org.apache.cayenne.map.DbAttribute;
+import org.apache.cayenne.map.DbEntity;
+import org.apache.cayenne.map.DbJoin;
+import org.apache.cayenne.map.DbRelationship;
+
+/**
+ * A {@link org.apache.cayenne.dbsync.reverse.dbload.DbLoader} keys filter that accepts only the tables whose columns
+ * have changed since the previous import. Keys of the other tables are taken from the target DataMap instead of being
+ * read from the database, which is safe as long as the DataMap and the import configuration are the same as the
+ * previous import left them. Note that a change to the keys alone, with no change to the table columns, is not
+ * detected this way; deleting the fingerprint file forces a full reload.
+ *
+ * @since 5.0
+ */
+class ChangedTablesFilter implements Predicate<DbEntity> {
+
+    private final SchemaFingerprints previous;
+    private final DataMap targetDataMap;
+    private final boolean reuseKeys;
+    private final Map<String, String> columns;
+    private final Map<String, DbEntity> unchanged;
+
+    /**
+     * @param reuseKeys whether the keys stored in the target DataMap can be used for the unchanged tables. If false,
+     *                  all tables are accepted, and the filter only collects column signatures.
+     */
+    ChangedTablesFilter(SchemaFingerprints previous, DataMap targetDataMap, boolean reuseKeys) {
+        this.previous = previous;
+        this.targetDataMap = targetDataMap;
+        this.reuseKeys = reuseKeys && targetDataMap != null;
+        this.columns = new TreeMap<>();
+        this.unchanged = new HashMap<>();
+    }
+
+    @Override
+    public boolean test(DbEntity entity) {
+        String key = SchemaFingerprints.columnsKey(entity);
+        String hash = columns.computeIfAbsent(key, k -> SchemaFingerprints.columnsHash(entity));
+
+        if (reuseKeys
+                && hash.equals(previous.columns(key))
+                && targetDataMap.getDbEntity(entity.getName()) != null) {
+            unchanged.put(entity.getName(), entity);
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns column signatures of all the tables seen by the filter.
+     */
+    Map<String, String> getColumns() {
+        return columns;
+    }
+
+    /**
+     * Copies PK columns and relationships of the unchanged tables from the target DataMap. Relationships to the
+     * changed tables are not copied, as those are loaded from the changed side.
+     */
+    void restoreKeys(boolean relationships) {
+        for (DbEntity entity : unchanged.values()) {
+            DbEntity target = targetDataMap.getDbEntity(entity.getName());
+
+            for (DbAttribute pk : target.getPrimaryKeys()) {
+                DbAttribute attribute = entity.getAttribute(pk.getName());
+                if (attribute != null) {
+                    attribute.setPrimaryKey(true);
+                }
+            }
+
+            if (!relationships) {
+                continue;
+            }
+
+            for (DbRelationship relationship : target.getRelationships()) {
+                if (unchanged.containsKey(relationship.getTargetEntityName())) {
+                    entity.addRelationship(copy(relationship, entity));
+                }
+            }
+        }
+    }
+
+    private static DbRelationship copy(DbRelationship relationship, DbEntity source) {
+        DbRelationship copy = new DbRelationship(relationship.getName());
+        copy.setSourceEntity(source);
+        copy.setTargetEntityName(relationship.getTargetEntityName());
+        copy.setToMany(relationship.isToMany());
+        copy.setToDependentPK(relationship.isToDependentPK());
+
+        for (DbJoin join : relationship.getJoins()) {
+            copy.addJoin(new DbJoin(copy, join.getSourceName(), join.getTargetName()));
+        }
+
+        return copy;
+    }
+}
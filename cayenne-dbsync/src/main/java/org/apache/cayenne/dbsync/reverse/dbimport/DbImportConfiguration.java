@@ -61,6 +61,7 @@ public class DbImportConfiguration {
     private boolean forceDataMapSchema;
     private boolean useDataMapReverseEngineering;
     private File cayenneProject;
+    private File fingerprintFile;
 
     public DbImportConfiguration() {
         this.dataSourceInfo = new DataSourceDescriptor();
@@ -94,6 +95,23 @@ public class DbImportConfiguration {
         this.targetDataMap = map;
     }
 
+    /**
+     * Returns a file where per-table schema fingerprints are stored between imports. If set, an import that finds the
+     * same schema, configuration and target DataMap as the previous run skips the merge and the save altogether.
+     *
+     * @since 5.0
+     */
+    public File getFingerprintFile() {
+        return fingerprintFile;
+    }
+
+    /**
+     * @since 5.0
+     */
+    public void setFingerprintFile(File fingerprintFile) {
+        this.fingerprintFile = fingerprintFile;
+    }
+
     /**
      * Returns a default package for ObjEntity Java classes.
      */
@@ -310,6 +328,13 @@ public class DbImportConfiguration {
         this.dbLoaderConfiguration.setSkipPrimaryKeyLoading(skipPrimaryKeyLoading);
     }
 
+    /**
+     * @since 5.0
+     */
+    public void setThreads(Integer threads) {
+        this.dbLoaderConfiguration.setThreads(threads);
+    }
+
     public void setTableTypes(String[] tableTypes) {
         dbLoaderConfiguration.setTableTypes(tableTypes);
     }
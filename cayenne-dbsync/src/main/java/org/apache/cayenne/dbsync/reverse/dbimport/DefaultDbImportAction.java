@@ -29,6 +29,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Set;
 
 import org.apache.cayenne.CayenneRuntimeException;
 import org.apache.cayenne.configuration.ConfigurationNode;
@@ -87,6 +88,8 @@ public class DefaultDbImportAction implements DbImportAction {
     private boolean hasChanges;
     private Collection<MergerToken> tokens;
     private DataMap loadedDataMap;
+    private SchemaFingerprints fingerprints;
+    private ChangedTablesFilter changedTables;
 
     public DefaultDbImportAction(@Inject Logger logger,
                                  @Inject ProjectSaver projectSaver,
@@ -162,6 +165,12 @@ public class DefaultDbImportAction implements DbImportAction {
             this.loadedDataMap = null;
             this.hasChanges = false;
         }
+
+        // saved after the DataMap, as the fingerprints record the state of its file
+        if (fingerprints != null) {
+            fingerprints.save(config.getFingerprintFile(), config.getTargetDataMap());
+            this.fingerprints = null;
+        }
     }
 
     protected DataMap loadDataMap(DbImportConfiguration config) throws Exception {
@@ -187,6 +196,12 @@ public class DefaultDbImportAction implements DbImportAction {
             logger.warn("Missing dbimport config. Database is imported completely.");
         }
 
+        if (config.getFingerprintFile() != null) {
+            SchemaFingerprints previous = SchemaFingerprints.load(config.getFingerprintFile());
+            changedTables = new ChangedTablesFilter(previous, targetDataMap,
+                    previous.sameSetup(config, config.getTargetDataMap()));
+        }
+
         try (Connection connection = dataSource.getConnection()) {
             sourceDataMap = load(config, adapter, connection);
         }
@@ -207,6 +222,19 @@ public class DefaultDbImportAction implements DbImportAction {
         // transform source DataMap before merging
         transformSourceBeforeMerge(sourceDataMap, targetDataMap, config);
 
+        if (config.getFingerprintFile() != null) {
+            changedTables.restoreKeys(!config.getDbLoaderConfig().isSkipRelationshipsLoading());
+            fingerprints = SchemaFingerprints.of(sourceDataMap, config).withColumns(changedTables.getColumns());
+            this.changedTables = null;
+
+            // a new DataMap is always merged in full
+            if (!hasChanges && !schemaChanged(config)) {
+                tokens = Collections.emptyList();
+                hasChanges = checkDataMapProperties(targetDataMap, config);
+                return sourceDataMap;
+            }
+        }
+
         MergerTokenFactory mergerTokenFactory = mergerTokenFactoryProvider.get(adapter);
 
         DbLoaderConfiguration loaderConfig = config.getDbLoaderConfig();
@@ -223,6 +251,20 @@ public class DefaultDbImportAction implements DbImportAction {
         return sourceDataMap;
     }
 
+    private boolean schemaChanged(DbImportConfiguration config) throws IOException {
+        SchemaFingerprints previous = SchemaFingerprints.load(config.getFingerprintFile());
+        Set<String> changed = fingerprints.changedSince(previous, config.getTargetDataMap());
+
+        logger.info("");
+        if (changed.isEmpty()) {
+            logger.info("Schema fingerprints are unchanged since the last import, skipping merge.");
+            return false;
+        }
+
+        logger.info("Schema fingerprints changed: {}", changed);
+        return true;
+    }
+
     private void putReverseEngineeringToConfig(ReverseEngineering reverseEngineering,
                                                DbImportConfiguration config,
                                                DataSource dataSource,
@@ -501,9 +543,14 @@ public class DefaultDbImportAction implements DbImportAction {
     }
 
     protected DbLoader createDbLoader(DbAdapter adapter, Connection connection, DbImportConfiguration config) {
-        return new DbLoader(adapter, connection,
+        // extra connections are only needed for loading in parallel
+        DataSource dataSource = config.getDbLoaderConfig().getThreads() > 1 ? config.createDataSource() : null;
+        DbLoader loader = new DbLoader(adapter, connection, dataSource,
                 config.getDbLoaderConfig(),
                 config.createLoaderDelegate(),
                 config.createNameGenerator());
+
+        // keys of the tables that have not changed since the previous import are taken from the target DataMap
+        return changedTables != null ? loader.keysFilter(changedTables) : loader;
     }
 }
\ No newline at end of file
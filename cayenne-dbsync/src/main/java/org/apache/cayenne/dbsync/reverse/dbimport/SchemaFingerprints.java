@@ -0,0 +1,283 @@
+/*****************************************************************
+ *   Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ ****************************************************************/
+
+package org.apache.cayenne.dbsync.reverse.dbimport;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import org.apache.cayenne.CayenneRuntimeException;
+import org.apache.cayenne.map.DataMap;
+import org.apache.cayenne.map.DbAttribute;
+import org.apache.cayenne.map.DbEntity;
+import org.apache.cayenne.map.DbJoin;
+import org.apache.cayenne.map.DbRelationship;
+import org.apache.cayenne.map.Procedure;
+import org.apache.cayenne.map.ProcedureParameter;
+
+/**
+ * Per-table signatures of a loaded DB schema, used to tell whether anything has changed since the previous import.
+ * Each table is reduced to a hash of its columns, PK and FK joins, each procedure to a hash of its parameters. Two
+ * extra entries record the import configuration and the state of the target DataMap file, so that changing either of
+ * them invalidates the whole set. Column-only signatures taken while loading let the next import skip reading the keys
+ * of the tables whose columns are unchanged, see {@link ChangedTablesFilter}.
+ *
+ * @since 5.0
+ */
+class SchemaFingerprints {
+
+    static final String CONFIG_KEY = "config";
+    static final String MAP_KEY = "map";
+
+    private static final String TABLE_PREFIX = "table.";
+    private static final String PROCEDURE_PREFIX = "procedure.";
+    private static final String COLUMNS_PREFIX = "columns.";
+
+    private final Map<String, String> fingerprints;
+
+    private SchemaFingerprints(Map<String, String> fingerprints) {
+        this.fingerprints = fingerprints;
+    }
+
+    static SchemaFingerprints of(DataMap schema, DbImportConfiguration config) {
+        Map<String, String> fingerprints = new TreeMap<>();
+        fingerprints.put(CONFIG_KEY, hash(configSignature(config)));
+
+        for (DbEntity entity : schema.getDbEntities()) {
+            fingerprints.put(TABLE_PREFIX + entity.getFullyQualifiedName(), hash(signature(entity)));
+        }
+
+        for (Procedure procedure : schema.getProcedures()) {
+            fingerprints.put(PROCEDURE_PREFIX + procedure.getFullyQualifiedName(), hash(signature(procedure)));
+        }
+
+        return new SchemaFingerprints(fingerprints);
+    }
+
+    /**
+     * Adds column signatures collected while loading the schema.
+     */
+    SchemaFingerprints withColumns(Map<String, String> columns) {
+        fingerprints.putAll(columns);
+        return this;
+    }
+
+    /**
+     * Reads fingerprints saved by a previous import. Returns an empty set if the file does not exist.
+     */
+    static SchemaFingerprints load(File file) throws IOException {
+        Map<String, String> fingerprints = new TreeMap<>();
+        if (file.isFile()) {
+            Properties properties = new Properties();
+            try (Reader in = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+                properties.load(in);
+            }
+
+            for (String key : properties.stringPropertyNames()) {
+                fingerprints.put(key, properties.getProperty(key));
+            }
+        }
+
+        return new SchemaFingerprints(fingerprints);
+    }
+
+    /**
+     * Saves fingerprints together with the current state of the target DataMap file.
+     */
+    void save(File file, File targetDataMap) throws IOException {
+        Properties properties = new Properties();
+        properties.putAll(fingerprints);
+        properties.put(MAP_KEY, mapStamp(targetDataMap));
+
+        File dir = file.getAbsoluteFile().getParentFile();
+        if (dir != null) {
+            Files.createDirectories(dir.toPath());
+        }
+
+        try (Writer out = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
+            properties.store(out, "Cayenne db-import schema fingerprints");
+        }
+    }
+
+    /**
+     * Returns whether these fingerprints were saved with the same configuration and for the current state of the
+     * target DataMap file, i.e. whether the DataMap still matches the schema described by them.
+     */
+    boolean sameSetup(DbImportConfiguration config, File targetDataMap) {
+        return hash(configSignature(config)).equals(fingerprints.get(CONFIG_KEY))
+                && mapStamp(targetDataMap).equals(fingerprints.get(MAP_KEY));
+    }
+
+    String columns(String columnsKey) {
+        return fingerprints.get(columnsKey);
+    }
+
+    /**
+     * Returns the names of tables and procedures that were added, removed or changed compared to the previously saved
+     * fingerprints. If the configuration or the target DataMap file has changed since, the result contains
+     * {@link #CONFIG_KEY} or {@link #MAP_KEY} respectively.
+     */
+    Set<String> changedSince(SchemaFingerprints previous, File targetDataMap) {
+        Set<String> changed = new TreeSet<>();
+
+        if (!mapStamp(targetDataMap).equals(previous.fingerprints.get(MAP_KEY))) {
+            changed.add(MAP_KEY);
+        }
+
+        for (Map.Entry<String, String> e : fingerprints.entrySet()) {
+            if (!e.getValue().equals(previous.fingerprints.get(e.getKey()))) {
+                changed.add(displayName(e.getKey()));
+            }
+        }
+
+        for (String key : previous.fingerprints.keySet()) {
+            if (!MAP_KEY.equals(key) && !fingerprints.containsKey(key)) {
+                changed.add(displayName(key));
+            }
+        }
+
+        return changed;
+    }
+
+    private static String displayName(String key) {
+        if (key.startsWith(TABLE_PREFIX)) {
+            return key.substring(TABLE_PREFIX.length());
+        }
+
+        if (key.startsWith(COLUMNS_PREFIX)) {
+            return key.substring(COLUMNS_PREFIX.length());
+        }
+
+        if (key.startsWith(PROCEDURE_PREFIX)) {
+            return key.substring(PROCEDURE_PREFIX.length());
+        }
+
+        return key;
+    }
+
+    private static String mapStamp(File targetDataMap) {
+        return targetDataMap != null && targetDataMap.isFile()
+                ? targetDataMap.length() + ":" + targetDataMap.lastModified()
+                : "";
+    }
+
+    static String configSignature(DbImportConfiguration config) {
+        return config.getDbLoaderConfig()
+                + "|" + Arrays.toString(config.getDbLoaderConfig().getTableTypes())
+                + "|" + config.getAdapter()
+                + "|" + config.getDefaultPackage()
+                + "|" + config.getMeaningfulPkTables()
+                + "|" + config.getNamingStrategy()
+                + "|" + config.getStripFromTableNames()
+                + "|" + config.isUseJava7Types()
+                + "|" + config.isForceDataMapCatalog()
+                + "|" + config.isForceDataMapSchema();
+    }
+
+    static String columnsKey(DbEntity entity) {
+        return COLUMNS_PREFIX + entity.getFullyQualifiedName();
+    }
+
+    /**
+     * Returns a hash of the table columns, that can be taken before its keys are loaded.
+     */
+    static String columnsHash(DbEntity entity) {
+        List<String> parts = new ArrayList<>();
+        for (DbAttribute a : entity.getAttributes()) {
+            parts.add(signature(a));
+        }
+
+        parts.sort(null);
+        return hash(String.join("\n", parts));
+    }
+
+    static String signature(DbEntity entity) {
+
+        // attribute and relationship order depends on the driver, so sort them to keep the signature stable
+        List<String> parts = new ArrayList<>();
+        for (DbAttribute a : entity.getAttributes()) {
+            parts.add(signature(a) + ":" + a.isPrimaryKey());
+        }
+
+        for (DbRelationship r : entity.getRelationships()) {
+            List<String> joins = new ArrayList<>();
+            for (DbJoin join : r.getJoins()) {
+                joins.add(join.getSourceName() + "=" + join.getTargetName());
+            }
+            joins.sort(null);
+
+            parts.add("r:" + r.getTargetEntityName()
+                    + ":" + r.isToMany()
+                    + ":" + r.isToDependentPK()
+                    + ":" + joins);
+        }
+
+        parts.sort(null);
+        return String.join("\n", parts);
+    }
+
+    private static String signature(DbAttribute attribute) {
+        return "a:" + attribute.getName()
+                + ":" + attribute.getType()
+                + ":" + attribute.getMaxLength()
+                + ":" + attribute.getAttributePrecision()
+                + ":" + attribute.getScale()
+                + ":" + attribute.isMandatory()
+                + ":" + attribute.isGenerated();
+    }
+
+    static String signature(Procedure procedure) {
+
+        // parameter order is significant here
+        StringBuilder signature = new StringBuilder().append(procedure.isReturningValue());
+        for (ProcedureParameter p : procedure.getCallParameters()) {
+            signature.append('\n').append(p.getName())
+                    .append(':').append(p.getType())
+                    .append(':').append(p.getDirection())
+                    .append(':').append(p.getMaxLength())
+                    .append(':').append(p.getPrecision());
+        }
+
+        return signature.toString();
+    }
+
+    private static String hash(String signature) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(signature.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new CayenneRuntimeException("SHA-256 digest is not available", e);
+        }
+    }
+}
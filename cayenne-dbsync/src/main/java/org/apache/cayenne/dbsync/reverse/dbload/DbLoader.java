@@ -24,6 +24,7 @@ import org.apache.cayenne.map.DataMap;
 import org.apache.cayenne.map.DbEntity;
 import org.apache.cayenne.map.Procedure;
 
+import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.ResultSet;
@@ -31,6 +32,7 @@ import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Predicate;
 
 /**
  * Loads DB schema into a DataMap, creating DbEntities and Procedures. Consists of a list of specialized loaders that
@@ -41,37 +43,67 @@ import java.util.Objects;
  */
 public class DbLoader {
 
-    private List<AbstractLoader> loaders = new ArrayList<>();
-
     private final Connection connection;
+    private final DataSource dataSource;
     private final DbAdapter adapter;
     private final DbLoaderConfiguration config;
     private final DbLoaderDelegate delegate;
     private final ObjectNameGenerator nameGenerator;
+    private Predicate<DbEntity> keysFilter;
 
     public DbLoader(DbAdapter adapter, Connection connection, DbLoaderConfiguration config,
                     DbLoaderDelegate delegate, ObjectNameGenerator nameGenerator) {
+        this(adapter, connection, null, config, delegate, nameGenerator);
+    }
+
+    /**
+     * Creates a loader that can open extra connections from the provided DataSource to load per-table metadata in
+     * parallel, as configured by {@link DbLoaderConfiguration#getThreads()}.
+     *
+     * @since 5.0
+     */
+    public DbLoader(DbAdapter adapter, Connection connection, DataSource dataSource, DbLoaderConfiguration config,
+                    DbLoaderDelegate delegate, ObjectNameGenerator nameGenerator) {
         this.adapter = Objects.requireNonNull(adapter);
         this.connection = Objects.requireNonNull(connection);
+        this.dataSource = dataSource;
         this.config = Objects.requireNonNull(config);
         this.nameGenerator = Objects.requireNonNull(nameGenerator);
         this.delegate = delegate == null ? new DefaultDbLoaderDelegate() : delegate;
+    }
 
-        createLoaders();
+    /**
+     * Restricts loading of primary and foreign keys to the tables accepted by the filter. The filter is called after
+     * the columns of the table are loaded. Foreign keys of the accepted tables are read from both sides, so only the
+     * keys between two rejected tables are missing from the result, and the caller is expected to restore them.
+     *
+     * @since 5.0
+     */
+    public DbLoader keysFilter(Predicate<DbEntity> keysFilter) {
+        this.keysFilter = keysFilter;
+        return this;
     }
 
     /**
      * Order of loaders is important, as loader can rely on data previously loaded
      */
-    private void createLoaders() {
+    private List<AbstractLoader> createLoaders() {
+        List<AbstractLoader> loaders = new ArrayList<>();
         loaders.add(new EntityLoader(adapter, config, delegate));
         loaders.add(new AttributeLoader(adapter, config, delegate));
         loaders.add(new FallbackAttributeLoader(adapter, config, delegate));
-        loaders.add(new PrimaryKeyLoader(config, delegate));
-        loaders.add(new ExportedKeyLoader(config, delegate));
+        if (keysFilter == null) {
+            loaders.add(new PrimaryKeyLoader(config, delegate));
+            loaders.add(new ExportedKeyLoader(config, delegate));
+        } else {
+            loaders.add(new PrimaryKeyLoader(config, delegate, keysFilter));
+            loaders.add(new ExportedKeyLoader(config, delegate, keysFilter));
+            loaders.add(new ImportedKeyLoader(config, delegate, keysFilter));
+        }
         loaders.add(new RelationshipLoader(config, delegate, nameGenerator));
         loaders.add(new ProcedureLoader(adapter, config, delegate));
         loaders.add(new ProcedureColumnLoader(adapter, config, delegate));
+        return loaders;
     }
 
     /**
@@ -81,8 +113,23 @@ public class DbLoader {
         DbLoadDataStore loadedData = new DbLoadDataStore();
         DatabaseMetaData metaData = connection.getMetaData();
 
-        for(AbstractLoader loader : loaders) {
-            loader.load(metaData, loadedData);
+        List<Connection> extraConnections = openExtraConnections();
+        try {
+            List<DatabaseMetaData> allMetaData = new ArrayList<>(extraConnections.size() + 1);
+            allMetaData.add(metaData);
+            for (Connection extraConnection : extraConnections) {
+                allMetaData.add(extraConnection.getMetaData());
+            }
+
+            for (AbstractLoader loader : createLoaders()) {
+                if (loader instanceof PerEntityLoader perEntityLoader) {
+                    perEntityLoader.load(allMetaData, loadedData);
+                } else {
+                    loader.load(metaData, loadedData);
+                }
+            }
+        } finally {
+            closeAll(extraConnections);
         }
 
         if (!adapter.supportsCatalogsOnReverseEngineering()) {
@@ -92,6 +139,34 @@ public class DbLoader {
         return loadedData;
     }
 
+    private List<Connection> openExtraConnections() throws SQLException {
+        int threads = config.getThreads();
+        if (dataSource == null || threads < 2) {
+            return List.of();
+        }
+
+        List<Connection> connections = new ArrayList<>(threads - 1);
+        try {
+            for (int i = 1; i < threads; i++) {
+                connections.add(dataSource.getConnection());
+            }
+        } catch (SQLException ex) {
+            closeAll(connections);
+            throw ex;
+        }
+        return connections;
+    }
+
+    private static void closeAll(List<Connection> connections) {
+        for (Connection c : connections) {
+            try {
+                c.close();
+            } catch (SQLException ignored) {
+                // nothing we can do here
+            }
+        }
+    }
+
     static void stripCatalogs(DataMap map) {
         for (DbEntity entity : map.getDbEntities()) {
             entity.setCatalog(null);
@@ -30,6 +30,7 @@ public class DbLoaderConfiguration {
 
     private Boolean skipRelationshipsLoading;
     private Boolean skipPrimaryKeyLoading;
+    private Integer threads;
     private String[] tableTypes;
     private FiltersConfig filtersConfig;
 
@@ -69,6 +70,23 @@ public class DbLoaderConfiguration {
         this.skipPrimaryKeyLoading = skipPrimaryKeyLoading;
     }
 
+    /**
+     * Returns the number of connections used to load per-table metadata (primary and foreign keys) in parallel.
+     * Default is 1, i.e. everything is loaded sequentially over a single connection.
+     *
+     * @since 5.0
+     */
+    public int getThreads() {
+        return threads != null && threads > 1 ? threads : 1;
+    }
+
+    /**
+     * @since 5.0
+     */
+    public void setThreads(Integer threads) {
+        this.threads = threads;
+    }
+
     @Override
     public String toString() {
         String res = "EntitiesFilters: " + getFiltersConfig();
@@ -22,6 +22,7 @@ package org.apache.cayenne.dbsync.reverse.dbload;
 import java.sql.DatabaseMetaData;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.function.Predicate;
 
 import org.apache.cayenne.map.DbEntity;
 import org.slf4j.Logger;
@@ -31,8 +32,15 @@ class ExportedKeyLoader extends PerEntityLoader {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ExportedKeyLoader.class);
 
+    private final Predicate<DbEntity> filter;
+
     ExportedKeyLoader(DbLoaderConfiguration config, DbLoaderDelegate delegate) {
+        this(config, delegate, entity -> true);
+    }
+
+    ExportedKeyLoader(DbLoaderConfiguration config, DbLoaderDelegate delegate, Predicate<DbEntity> filter) {
         super(null, config, delegate);
+        this.filter = filter;
     }
 
     @Override
@@ -40,7 +48,7 @@ class ExportedKeyLoader extends PerEntityLoader {
         if (config.isSkipRelationshipsLoading()) {
             return false;
         }
-        return delegate.dbRelationship(entity);
+        return filter.test(entity) && delegate.dbRelationship(entity);
     }
 
     @Override
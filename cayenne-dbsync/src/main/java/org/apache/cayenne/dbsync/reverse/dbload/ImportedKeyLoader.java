@@ -0,0 +1,45 @@
+/*****************************************************************
+ *   Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ ****************************************************************/
+package org.apache.cayenne.dbsync.reverse.dbload;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.function.Predicate;
+
+import org.apache.cayenne.map.DbEntity;
+
+/**
+ * Loads foreign keys from the FK side of the relationship. Used together with the {@link ExportedKeyLoader} when
+ * only some of the tables are loaded, so that the keys pointing from the loaded tables to the skipped ones are not
+ * lost. Keys found from both sides are the same {@link ExportedKey} and are stored only once.
+ *
+ * @since 5.0
+ */
+class ImportedKeyLoader extends ExportedKeyLoader {
+
+    ImportedKeyLoader(DbLoaderConfiguration config, DbLoaderDelegate delegate, Predicate<DbEntity> filter) {
+        super(config, delegate, filter);
+    }
+
+    @Override
+    ResultSet getResultSet(DbEntity dbEntity, DatabaseMetaData metaData) throws SQLException {
+        return metaData.getImportedKeys(dbEntity.getCatalog(), dbEntity.getSchema(), dbEntity.getName());
+    }
+}
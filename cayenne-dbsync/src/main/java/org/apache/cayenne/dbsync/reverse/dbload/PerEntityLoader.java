@@ -22,6 +22,14 @@ package org.apache.cayenne.dbsync.reverse.dbload;
 import java.sql.DatabaseMetaData;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.apache.cayenne.dba.DbAdapter;
 import org.apache.cayenne.map.DbEntity;
@@ -38,14 +46,79 @@ public abstract class PerEntityLoader extends AbstractLoader {
             if(!shouldLoad(dbEntity)) {
                 continue;
             }
-            try(ResultSet rs = getResultSet(dbEntity, metaData)) {
-                while(rs.next()) {
+            load(dbEntity, metaData, map);
+        }
+    }
+
+    /**
+     * Loads entities in parallel, with one thread per provided DatabaseMetaData. Each metadata object must come from
+     * its own connection.
+     *
+     * @since 5.0
+     */
+    public void load(List<DatabaseMetaData> metaData, DbLoadDataStore map) throws SQLException {
+        if(metaData.size() < 2) {
+            load(metaData.getFirst(), map);
+            return;
+        }
+
+        // filtering may call the delegate, so it is done on the calling thread
+        Queue<DbEntity> entities = new ConcurrentLinkedQueue<>();
+        for(DbEntity dbEntity : map.getDbEntities()) {
+            if(shouldLoad(dbEntity)) {
+                entities.add(dbEntity);
+            }
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(metaData.size());
+        try {
+            List<Future<?>> futures = new ArrayList<>(metaData.size());
+            for(DatabaseMetaData threadMetaData : metaData) {
+                futures.add(executor.submit(() -> {
+                    DbEntity dbEntity;
+                    while((dbEntity = entities.poll()) != null) {
+                        try {
+                            load(dbEntity, threadMetaData, map);
+                        } catch (SQLException ex) {
+                            // stop the other threads
+                            entities.clear();
+                            throw ex;
+                        }
+                    }
+                    return null;
+                }));
+            }
+
+            for(Future<?> future : futures) {
+                future.get();
+            }
+        } catch (ExecutionException ex) {
+            if(ex.getCause() instanceof SQLException sqlException) {
+                throw sqlException;
+            }
+            if(ex.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new SQLException("Error loading metadata", ex.getCause());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while loading metadata", ex);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void load(DbEntity dbEntity, DatabaseMetaData metaData, DbLoadDataStore map) throws SQLException {
+        try(ResultSet rs = getResultSet(dbEntity, metaData)) {
+            while(rs.next()) {
+                // the map is shared when loading in parallel
+                synchronized (map) {
                     processResultSet(dbEntity, map, rs);
                 }
-            } catch (SQLException ex) {
-                if(!catchException(dbEntity, ex)) {
-                    throw ex;
-                }
+            }
+        } catch (SQLException ex) {
+            if(!catchException(dbEntity, ex)) {
+                throw ex;
             }
         }
     }
@@ -22,6 +22,7 @@ package org.apache.cayenne.dbsync.reverse.dbload;
 import java.sql.DatabaseMetaData;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.function.Predicate;
 
 import org.apache.cayenne.map.DbAttribute;
 import org.apache.cayenne.map.DbEntity;
@@ -33,8 +34,20 @@ class PrimaryKeyLoader extends PerEntityLoader {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(DbLoader.class);
 
+    private final Predicate<DbEntity> filter;
+
     PrimaryKeyLoader(DbLoaderConfiguration config, DbLoaderDelegate delegate) {
+        this(config, delegate, entity -> true);
+    }
+
+    PrimaryKeyLoader(DbLoaderConfiguration config, DbLoaderDelegate delegate, Predicate<DbEntity> filter) {
         super(null, config, delegate);
+        this.filter = filter;
+    }
+
+    @Override
+    boolean shouldLoad(DbEntity entity) {
+        return filter.test(entity);
     }
 
     @Override
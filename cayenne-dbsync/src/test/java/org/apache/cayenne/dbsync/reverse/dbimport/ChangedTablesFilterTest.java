@@ -0,0 +1,168 @@
+/*****************************************************************
+ *   Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ ****************************************************************/
+package org.apache.cayenne.dbsync.reverse.dbimport;
+
+import org.apache.cayenne.map.DataMap;
+import org.apache.cayenne.map.DbAttribute;
+import org.apache.cayenne.map.DbEntity;
+import org.apache.cayenne.map.DbJoin;
+import org.apache.cayenne.map.DbRelationship;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Types;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ChangedTablesFilterTest {
+
+    @TempDir
+    Path tempDir;
+
+    private File fingerprintFile;
+    private File mapFile;
+    private DbImportConfiguration config;
+    private DataMap targetDataMap;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        fingerprintFile = tempDir.resolve("fingerprints.properties").toFile();
+        mapFile = tempDir.resolve("test.map.xml").toFile();
+        Files.writeString(mapFile.toPath(), "<data-map/>");
+        config = new DbImportConfiguration();
+
+        // imitate the first import, that loads everything
+        DataMap loaded = columnsOnly();
+        ChangedTablesFilter filter = new ChangedTablesFilter(SchemaFingerprints.load(fingerprintFile), null, false);
+        for (DbEntity entity : loaded.getDbEntities()) {
+            assertTrue(filter.test(entity));
+        }
+
+        targetDataMap = withKeys(loaded);
+        SchemaFingerprints.of(targetDataMap, config).withColumns(filter.getColumns()).save(fingerprintFile, mapFile);
+    }
+
+    @Test
+    public void unchanged() throws Exception {
+        DataMap loaded = columnsOnly();
+        ChangedTablesFilter filter = filter();
+
+        assertFalse(filter.test(loaded.getDbEntity("ARTIST")));
+        assertFalse(filter.test(loaded.getDbEntity("PAINTING")));
+
+        filter.restoreKeys(true);
+
+        assertTrue(loaded.getDbEntity("ARTIST").getAttribute("ARTIST_ID").isPrimaryKey());
+        assertTrue(loaded.getDbEntity("PAINTING").getAttribute("PAINTING_ID").isPrimaryKey());
+        assertFalse(loaded.getDbEntity("PAINTING").getAttribute("ARTIST_ID").isPrimaryKey());
+
+        DbRelationship toArtist = loaded.getDbEntity("PAINTING").getRelationship("toArtist");
+        assertNotNull(toArtist);
+        assertEquals("ARTIST", toArtist.getTargetEntityName());
+        assertEquals(1, toArtist.getJoins().size());
+        assertEquals("ARTIST_ID", toArtist.getJoins().get(0).getSourceName());
+        assertNotNull(loaded.getDbEntity("ARTIST").getRelationship("paintings"));
+
+        assertEquals(
+                SchemaFingerprints.signature(targetDataMap.getDbEntity("PAINTING")),
+                SchemaFingerprints.signature(loaded.getDbEntity("PAINTING")));
+    }
+
+    @Test
+    public void columnChanged() throws Exception {
+        DataMap loaded = columnsOnly();
+        loaded.getDbEntity("PAINTING").getAttribute("TITLE").setMaxLength(500);
+        ChangedTablesFilter filter = filter();
+
+        assertFalse(filter.test(loaded.getDbEntity("ARTIST")));
+        assertTrue(filter.test(loaded.getDbEntity("PAINTING")));
+
+        filter.restoreKeys(true);
+
+        // keys of the changed table and the relationships to it are loaded from the DB
+        assertTrue(loaded.getDbEntity("ARTIST").getAttribute("ARTIST_ID").isPrimaryKey());
+        assertFalse(loaded.getDbEntity("PAINTING").getAttribute("PAINTING_ID").isPrimaryKey());
+        assertTrue(loaded.getDbEntity("ARTIST").getRelationships().isEmpty());
+        assertTrue(loaded.getDbEntity("PAINTING").getRelationships().isEmpty());
+    }
+
+    @Test
+    public void mapChanged() throws Exception {
+        Files.writeString(mapFile.toPath(), "<data-map project-version=\"11\"/>");
+
+        DataMap loaded = columnsOnly();
+        ChangedTablesFilter filter = filter();
+
+        assertTrue(filter.test(loaded.getDbEntity("ARTIST")));
+        assertTrue(filter.test(loaded.getDbEntity("PAINTING")));
+        assertEquals(2, filter.getColumns().size());
+    }
+
+    private ChangedTablesFilter filter() throws Exception {
+        SchemaFingerprints previous = SchemaFingerprints.load(fingerprintFile);
+        return new ChangedTablesFilter(previous, targetDataMap, previous.sameSetup(config, mapFile));
+    }
+
+    private static DataMap columnsOnly() {
+        DataMap map = new DataMap("test");
+
+        DbEntity artist = new DbEntity("ARTIST");
+        artist.addAttribute(new DbAttribute("ARTIST_ID", Types.BIGINT, artist));
+        DbAttribute name = new DbAttribute("ARTIST_NAME", Types.VARCHAR, artist);
+        name.setMaxLength(254);
+        artist.addAttribute(name);
+        map.addDbEntity(artist);
+
+        DbEntity painting = new DbEntity("PAINTING");
+        painting.addAttribute(new DbAttribute("PAINTING_ID", Types.BIGINT, painting));
+        painting.addAttribute(new DbAttribute("ARTIST_ID", Types.BIGINT, painting));
+        DbAttribute title = new DbAttribute("TITLE", Types.VARCHAR, painting);
+        title.setMaxLength(255);
+        painting.addAttribute(title);
+        map.addDbEntity(painting);
+
+        return map;
+    }
+
+    private static DataMap withKeys(DataMap map) {
+        DbEntity artist = map.getDbEntity("ARTIST");
+        DbEntity painting = map.getDbEntity("PAINTING");
+        artist.getAttribute("ARTIST_ID").setPrimaryKey(true);
+        painting.getAttribute("PAINTING_ID").setPrimaryKey(true);
+
+        DbRelationship toArtist = new DbRelationship("toArtist");
+        toArtist.setSourceEntity(painting);
+        toArtist.setTargetEntityName(artist);
+        toArtist.addJoin(new DbJoin(toArtist, "ARTIST_ID", "ARTIST_ID"));
+        painting.addRelationship(toArtist);
+
+        DbRelationship paintings = new DbRelationship("paintings");
+        paintings.setSourceEntity(artist);
+        paintings.setTargetEntityName(painting);
+        paintings.setToMany(true);
+        paintings.addJoin(new DbJoin(paintings, "ARTIST_ID", "ARTIST_ID"));
+        artist.addRelationship(paintings);
+
+        return map;
+    }
+}
@@ -0,0 +1,191 @@
+/*****************************************************************
+ *   Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ ****************************************************************/
+
+package org.apache.cayenne.dbsync.reverse.dbimport;
+
+import org.apache.cayenne.map.DataMap;
+import org.apache.cayenne.map.DbAttribute;
+import org.apache.cayenne.map.DbEntity;
+import org.apache.cayenne.map.DbJoin;
+import org.apache.cayenne.map.DbRelationship;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Types;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SchemaFingerprintsTest {
+
+    @TempDir
+    Path tempDir;
+
+    private File fingerprintFile;
+    private File mapFile;
+    private DbImportConfiguration config;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        fingerprintFile = tempDir.resolve("fingerprints.properties").toFile();
+        mapFile = tempDir.resolve("test.map.xml").toFile();
+        Files.writeString(mapFile.toPath(), "<data-map/>");
+        config = new DbImportConfiguration();
+    }
+
+    @Test
+    public void unchanged() throws Exception {
+        SchemaFingerprints.of(schema(), config).save(fingerprintFile, mapFile);
+
+        Set<String> changed = SchemaFingerprints.of(schema(), config)
+                .changedSince(SchemaFingerprints.load(fingerprintFile), mapFile);
+        assertTrue(changed.isEmpty(), changed.toString());
+    }
+
+    @Test
+    public void firstRun() throws Exception {
+        Set<String> changed = SchemaFingerprints.of(schema(), config)
+                .changedSince(SchemaFingerprints.load(fingerprintFile), mapFile);
+        assertTrue(changed.contains(SchemaFingerprints.MAP_KEY));
+        assertTrue(changed.contains("ARTIST"));
+        assertTrue(changed.contains("PAINTING"));
+    }
+
+    @Test
+    public void columnChanged() throws Exception {
+        SchemaFingerprints.of(schema(), config).save(fingerprintFile, mapFile);
+
+        DataMap schema = schema();
+        schema.getDbEntity("PAINTING").getAttribute("TITLE").setMaxLength(500);
+
+        Set<String> changed = SchemaFingerprints.of(schema, config)
+                .changedSince(SchemaFingerprints.load(fingerprintFile), mapFile);
+        assertEquals(Set.of("PAINTING"), changed);
+    }
+
+    @Test
+    public void precisionChanged() throws Exception {
+        SchemaFingerprints.of(schema(), config).save(fingerprintFile, mapFile);
+
+        DataMap schema = schema();
+        schema.getDbEntity("PAINTING").getAttribute("TITLE").setAttributePrecision(10);
+
+        Set<String> changed = SchemaFingerprints.of(schema, config)
+                .changedSince(SchemaFingerprints.load(fingerprintFile), mapFile);
+        assertEquals(Set.of("PAINTING"), changed);
+    }
+
+    @Test
+    public void sameSetup() throws Exception {
+        SchemaFingerprints.of(schema(), config).save(fingerprintFile, mapFile);
+        assertTrue(SchemaFingerprints.load(fingerprintFile).sameSetup(config, mapFile));
+
+        Files.writeString(mapFile.toPath(), "<data-map project-version=\"11\"/>");
+        assertFalse(SchemaFingerprints.load(fingerprintFile).sameSetup(config, mapFile));
+    }
+
+    @Test
+    public void tableAddedAndRemoved() throws Exception {
+        SchemaFingerprints.of(schema(), config).save(fingerprintFile, mapFile);
+
+        DataMap schema = schema();
+        schema.removeDbEntity("PAINTING", true);
+        DbEntity gallery = new DbEntity("GALLERY");
+        gallery.addAttribute(pk("GALLERY_ID"));
+        schema.addDbEntity(gallery);
+
+        Set<String> changed = SchemaFingerprints.of(schema, config)
+                .changedSince(SchemaFingerprints.load(fingerprintFile), mapFile);
+        assertEquals(Set.of("GALLERY", "PAINTING"), changed);
+    }
+
+    @Test
+    public void attributeOrderIgnored() throws Exception {
+        DbEntity e1 = new DbEntity("E");
+        e1.addAttribute(pk("ID"));
+        e1.addAttribute(new DbAttribute("NAME", Types.VARCHAR, e1));
+
+        DbEntity e2 = new DbEntity("E");
+        e2.addAttribute(new DbAttribute("NAME", Types.VARCHAR, e2));
+        e2.addAttribute(pk("ID"));
+
+        assertEquals(SchemaFingerprints.signature(e1), SchemaFingerprints.signature(e2));
+    }
+
+    @Test
+    public void configChanged() throws Exception {
+        SchemaFingerprints.of(schema(), config).save(fingerprintFile, mapFile);
+
+        config.setDefaultPackage("com.example");
+
+        Set<String> changed = SchemaFingerprints.of(schema(), config)
+                .changedSince(SchemaFingerprints.load(fingerprintFile), mapFile);
+        assertEquals(Set.of(SchemaFingerprints.CONFIG_KEY), changed);
+    }
+
+    @Test
+    public void mapChanged() throws Exception {
+        SchemaFingerprints.of(schema(), config).save(fingerprintFile, mapFile);
+
+        Files.writeString(mapFile.toPath(), "<data-map project-version=\"11\"/>");
+
+        Set<String> changed = SchemaFingerprints.of(schema(), config)
+                .changedSince(SchemaFingerprints.load(fingerprintFile), mapFile);
+        assertEquals(Set.of(SchemaFingerprints.MAP_KEY), changed);
+    }
+
+    private DataMap schema() {
+        DataMap map = new DataMap("test");
+
+        DbEntity artist = new DbEntity("ARTIST");
+        artist.addAttribute(pk("ARTIST_ID"));
+        DbAttribute name = new DbAttribute("ARTIST_NAME", Types.VARCHAR, artist);
+        name.setMaxLength(254);
+        name.setMandatory(true);
+        artist.addAttribute(name);
+        map.addDbEntity(artist);
+
+        DbEntity painting = new DbEntity("PAINTING");
+        painting.addAttribute(pk("PAINTING_ID"));
+        painting.addAttribute(new DbAttribute("ARTIST_ID", Types.BIGINT, painting));
+        DbAttribute title = new DbAttribute("TITLE", Types.VARCHAR, painting);
+        title.setMaxLength(255);
+        painting.addAttribute(title);
+        map.addDbEntity(painting);
+
+        DbRelationship toArtist = new DbRelationship("toArtist");
+        toArtist.setSourceEntity(painting);
+        toArtist.setTargetEntityName(artist);
+        toArtist.addJoin(new DbJoin(toArtist, "ARTIST_ID", "ARTIST_ID"));
+        painting.addRelationship(toArtist);
+
+        return map;
+    }
+
+    private static DbAttribute pk(String name) {
+        DbAttribute pk = new DbAttribute(name, Types.BIGINT, null);
+        pk.setPrimaryKey(true);
+        pk.setMandatory(true);
+        return pk;
+    }
+}
@@ -21,6 +21,7 @@ package org.apache.cayenne.dbsync.reverse.dbload;
 
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Predicate;
 
 import org.apache.cayenne.map.DbAttribute;
 import org.apache.cayenne.map.DbEntity;
@@ -38,6 +39,53 @@ public class ExportedKeyLoaderIT extends BaseLoaderIT {
             return;
         }
 
+        createEntities();
+
+        ExportedKeyLoader loader = new ExportedKeyLoader(EMPTY_CONFIG, new DefaultDbLoaderDelegate());
+        loader.load(connection.getMetaData(), store);
+
+        assertEquals(2, store.getExportedKeysEntrySet().size());
+
+        ExportedKey artistIdFk = findArtistExportedKey();
+        assertNotNull(artistIdFk);
+
+        assertEquals("ARTIST", artistIdFk.pk().table().toUpperCase());
+        assertEquals("ARTIST_ID", artistIdFk.pk().column().toUpperCase());
+
+        assertEquals("PAINTING", artistIdFk.fk().table().toUpperCase());
+        assertEquals("ARTIST_ID", artistIdFk.fk().column().toUpperCase());
+    }
+
+    @Test
+    public void importedKeyLoad() throws Exception {
+        boolean supportsFK = accessStackAdapter.supportsFKConstraints();
+        if(!supportsFK) {
+            return;
+        }
+
+        createEntities();
+
+        // only PAINTING is loaded, its keys can only be found from the FK side
+        Predicate<DbEntity> filter = e -> "PAINTING".equalsIgnoreCase(e.getName());
+        new ExportedKeyLoader(EMPTY_CONFIG, new DefaultDbLoaderDelegate(), filter).load(connection.getMetaData(), store);
+        assertEquals(0, store.getExportedKeysEntrySet().size());
+
+        new ImportedKeyLoader(EMPTY_CONFIG, new DefaultDbLoaderDelegate(), filter).load(connection.getMetaData(), store);
+        assertEquals(2, store.getExportedKeysEntrySet().size());
+
+        // the same keys loaded from the PK side are not duplicated
+        new ExportedKeyLoader(EMPTY_CONFIG, new DefaultDbLoaderDelegate()).load(connection.getMetaData(), store);
+        assertEquals(2, store.getExportedKeysEntrySet().size());
+        for(Map.Entry<String, Set<ExportedKey>> entry : store.getExportedKeysEntrySet()) {
+            assertEquals(1, entry.getValue().size());
+        }
+
+        ExportedKey artistIdFk = findArtistExportedKey();
+        assertNotNull(artistIdFk);
+        assertEquals("ARTIST", artistIdFk.pk().table().toUpperCase());
+    }
+
+    private void createEntities() throws Exception {
         createEntity(nameForDb("ARTIST"));
         createEntity(nameForDb("GALLERY"));
         createEntity(nameForDb("PAINTING"));
@@ -66,20 +114,6 @@ public class ExportedKeyLoaderIT extends BaseLoaderIT {
         painting.addAttribute(paintingId);
         painting.addAttribute(paintingArtistId);
         painting.addAttribute(paintingGalleryId);
-
-        ExportedKeyLoader loader = new ExportedKeyLoader(EMPTY_CONFIG, new DefaultDbLoaderDelegate());
-        loader.load(connection.getMetaData(), store);
-
-        assertEquals(2, store.getExportedKeysEntrySet().size());
-
-        ExportedKey artistIdFk = findArtistExportedKey();
-        assertNotNull(artistIdFk);
-
-        assertEquals("ARTIST", artistIdFk.pk().table().toUpperCase());
-        assertEquals("ARTIST_ID", artistIdFk.pk().column().toUpperCase());
-
-        assertEquals("PAINTING", artistIdFk.fk().table().toUpperCase());
-        assertEquals("ARTIST_ID", artistIdFk.fk().column().toUpperCase());
     }
 
     private ExportedKey findArtistExportedKey() {
@@ -19,10 +19,14 @@
 
 package org.apache.cayenne.dbsync.reverse.dbload;
 
+import java.sql.Connection;
 import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 
 import org.apache.cayenne.map.DbAttribute;
 import org.apache.cayenne.map.DbEntity;
+import org.apache.cayenne.unit.CayenneTestsEnv;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -57,4 +61,26 @@ public class PrimaryKeyLoaderIT extends BaseLoaderIT {
         assertEquals(artistId, pk.iterator().next());
     }
 
+    @Test
+    public void primaryKeyLoad_Parallel() throws Exception {
+        createDbEntities();
+        Map<String, String> pkNames = Map.of(
+                "ARTIST", "ARTIST_ID",
+                "BLOB_TEST", "BLOB_TEST_ID",
+                "CLOB_TEST", "CLOB_TEST_ID",
+                "GENERATED_COLUMN_TEST", "GENERATED_COLUMN");
+        pkNames.forEach((table, pk) -> getDbEntity(nameForDb(table)).addAttribute(new DbAttribute(nameForDb(pk))));
+
+        try (Connection second = CayenneTestsEnv.COMMON_SCHEMA.dataSource().getConnection()) {
+            PrimaryKeyLoader loader = new PrimaryKeyLoader(EMPTY_CONFIG, new DefaultDbLoaderDelegate());
+            loader.load(List.of(connection.getMetaData(), second.getMetaData()), store);
+        }
+
+        pkNames.forEach((table, pk) -> {
+            DbEntity entity = getDbEntity(nameForDb(table));
+            assertTrue(entity.getAttribute(nameForDb(pk)).isPrimaryKey(), table);
+            assertEquals(1, entity.getPrimaryKeys().size(), table);
+        });
+    }
+
 }
@@ -0,0 +1,375 @@
+/*****************************************************************
+ *   Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ ****************************************************************/
+package org.apache.cayenne.di.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+
+import org.apache.cayenne.di.Inject;
+import org.apache.cayenne.di.spi.ConstructorInjectionFactory;
+import org.apache.cayenne.di.spi.FieldInjectionFactory;
+import org.apache.cayenne.di.spi.InjectionFactory;
+
+/**
+ * An annotation processor that generates an {@link InjectionFactory} for each class with {@link Inject}-annotated
+ * fields or constructor parameters. The factories allow the DI container to create and inject objects without
+ * reflection. Parts of a class that can't be accessed from the generated code (private constructors and fields, final
+ * fields, private classes) are left to the reflection-based injection.
+ * <p>
+ * The processor is not registered as a service, so it only runs when explicitly enabled, e.g. via the
+ * "annotationProcessors" configuration of "maven-compiler-plugin" or the "-processor" option of javac.
+ *
+ * @since 5.0
+ */
+@SupportedAnnotationTypes("org.apache.cayenne.di.Inject")
+public class InjectionFactoryProcessor extends AbstractProcessor {
+
+    private static final String INJECTION_POINT = "org.apache.cayenne.di.spi.InjectionPoint";
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+
+        // collect the classes declaring annotated fields and constructor parameters
+        Set<TypeElement> types = new LinkedHashSet<>();
+        for (Element element : roundEnv.getElementsAnnotatedWith(Inject.class)) {
+            Element owner = element.getKind() == ElementKind.PARAMETER
+                    ? element.getEnclosingElement().getEnclosingElement()
+                    : element.getEnclosingElement();
+
+            if (owner instanceof TypeElement type && type.getKind() == ElementKind.CLASS) {
+                types.add(type);
+            }
+        }
+
+        for (TypeElement type : types) {
+            processClass(type);
+        }
+
+        // don't claim the annotation, other processors may be interested in it
+        return false;
+    }
+
+    private void processClass(TypeElement type) {
+
+        List<VariableElement> fields = new ArrayList<>();
+        for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            if (field.getAnnotation(Inject.class) != null) {
+                fields.add(field);
+            }
+        }
+
+        ExecutableElement constructor = injectionConstructor(type);
+        boolean constructorInjection = constructor != null && !constructor.getParameters().isEmpty();
+
+        // classes without injection annotations are left to reflection
+        if (fields.isEmpty() && !constructorInjection) {
+            return;
+        }
+
+        PackageElement pkg = processingEnv.getElementUtils().getPackageOf(type);
+        if (!isAccessible(type, pkg)) {
+            return;
+        }
+
+        List<String> constructorParameters = constructorParameters(type, constructor, pkg);
+        List<String> fieldPoints = fieldPoints(type, fields, pkg);
+        if (constructorParameters == null && fieldPoints == null) {
+            return;
+        }
+
+        String className = processingEnv.getElementUtils().getBinaryName(type).toString();
+        String factoryName = InjectionFactory.factoryName(className);
+        String typeName = type.getQualifiedName().toString();
+
+        StringBuilder out = new StringBuilder();
+        if (!pkg.isUnnamed()) {
+            out.append("package ").append(pkg.getQualifiedName()).append(";\n\n");
+        }
+
+        out.append("@javax.annotation.processing.Generated(\"").append(getClass().getName()).append("\")\n");
+        // injected members may be deprecated
+        out.append("@SuppressWarnings({\"rawtypes\", \"unchecked\", \"deprecation\", \"removal\"})\n");
+        out.append("public final class ").append(factoryName.substring(factoryName.lastIndexOf('.') + 1))
+                .append(" implements ");
+
+        // the parts the factory can't handle are left to reflection
+        if (constructorParameters != null) {
+            out.append(ConstructorInjectionFactory.class.getName()).append('<').append(typeName).append('>');
+        }
+        if (fieldPoints != null) {
+            out.append(constructorParameters != null ? ", " : "")
+                    .append(FieldInjectionFactory.class.getName()).append('<').append(typeName).append('>');
+        }
+        out.append(" {\n\n");
+
+        if (constructorParameters != null) {
+            appendInjectionPoints(out, "CONSTRUCTOR_PARAMETERS", constructorParameters);
+
+            out.append("    @Override\n");
+            out.append("    public ").append(INJECTION_POINT).append("[] getConstructorParameters() {\n");
+            out.append("        return CONSTRUCTOR_PARAMETERS;\n");
+            out.append("    }\n\n");
+
+            out.append("    @Override\n");
+            out.append("    public ").append(typeName).append(" newInstance(Object[] args) throws Exception {\n");
+            out.append("        return new ").append(typeName).append('(');
+            List<? extends VariableElement> parameters = constructor.getParameters();
+            for (int i = 0; i < parameters.size(); i++) {
+                if (i > 0) {
+                    out.append(", ");
+                }
+                out.append('(').append(typeName(parameters.get(i).asType())).append(") args[").append(i).append(']');
+            }
+            out.append(");\n");
+            out.append("    }\n\n");
+        }
+
+        if (fieldPoints != null) {
+            appendInjectionPoints(out, "FIELDS", fieldPoints);
+
+            out.append("    @Override\n");
+            out.append("    public ").append(INJECTION_POINT).append("[] getFields() {\n");
+            out.append("        return FIELDS;\n");
+            out.append("    }\n\n");
+
+            out.append("    @Override\n");
+            out.append("    public void injectField(").append(typeName).append(" object, int index, Object value) {\n");
+            out.append("        switch (index) {\n");
+            for (int i = 0; i < fields.size(); i++) {
+                VariableElement field = fields.get(i);
+                out.append("            case ").append(i).append(":\n");
+                out.append("                object.").append(field.getSimpleName())
+                        .append(" = (").append(typeName(field.asType())).append(") value;\n");
+                out.append("                break;\n");
+            }
+            out.append("            default:\n");
+            out.append("                throw new IndexOutOfBoundsException(\"Invalid field index: \" + index);\n");
+            out.append("        }\n");
+            out.append("    }\n\n");
+        }
+
+        // drop the empty line after the last member
+        out.setLength(out.length() - 1);
+        out.append("}\n");
+
+        try (Writer writer = processingEnv.getFiler().createSourceFile(factoryName, type).openWriter()) {
+            writer.write(out.toString());
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Error generating injection factory: " + e.getMessage(), type);
+        }
+    }
+
+    /**
+     * Picks a constructor the same way as the reflection-based injection does: the longest constructor with all the
+     * parameters annotated with {@link Inject}, or the default constructor.
+     */
+    private ExecutableElement injectionConstructor(TypeElement type) {
+        ExecutableElement lastMatch = null;
+        int lastSize = -1;
+
+        for (ExecutableElement constructor : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+            List<? extends VariableElement> parameters = constructor.getParameters();
+            if (parameters.size() <= lastSize) {
+                continue;
+            }
+
+            boolean injectable = true;
+            for (VariableElement parameter : parameters) {
+                if (parameter.getAnnotation(Inject.class) == null) {
+                    injectable = false;
+                    break;
+                }
+            }
+
+            if (injectable) {
+                lastSize = parameters.size();
+                lastMatch = constructor;
+            }
+        }
+
+        return lastMatch;
+    }
+
+    private List<String> constructorParameters(TypeElement type, ExecutableElement constructor, PackageElement pkg) {
+        if (constructor == null
+                || constructor.getModifiers().contains(Modifier.PRIVATE)
+                || type.getModifiers().contains(Modifier.ABSTRACT)
+                || (type.getNestingKind().isNested() && !type.getModifiers().contains(Modifier.STATIC))) {
+            return null;
+        }
+
+        List<String> points = new ArrayList<>();
+        for (VariableElement parameter : constructor.getParameters()) {
+            String point = injectionPoint(type, parameter, pkg);
+            if (point == null) {
+                return null;
+            }
+            points.add(point);
+        }
+
+        return points;
+    }
+
+    private List<String> fieldPoints(TypeElement type, List<VariableElement> fields, PackageElement pkg) {
+        List<String> points = new ArrayList<>();
+        for (VariableElement field : fields) {
+            Set<Modifier> modifiers = field.getModifiers();
+            if (modifiers.contains(Modifier.PRIVATE) || modifiers.contains(Modifier.FINAL)) {
+                return null;
+            }
+
+            String point = injectionPoint(type, field, pkg);
+            if (point == null) {
+                return null;
+            }
+            points.add(point);
+        }
+
+        return points;
+    }
+
+    /**
+     * Returns a Java expression creating an InjectionPoint for the variable, or null if the variable type can't be
+     * referenced from the generated code.
+     */
+    private String injectionPoint(TypeElement type, VariableElement variable, PackageElement pkg) {
+        TypeMirror variableType = variable.asType();
+        if (!isAccessible(variableType, pkg)) {
+            return null;
+        }
+
+        String typeArguments = "null";
+        if (variableType instanceof DeclaredType declaredType && !declaredType.getTypeArguments().isEmpty()) {
+            StringBuilder arguments = new StringBuilder("new Class<?>[] {");
+            boolean first = true;
+            for (TypeMirror argument : declaredType.getTypeArguments()) {
+                String argumentClass;
+                switch (argument.getKind()) {
+                    case DECLARED:
+                        if (!isAccessible(argument, pkg)) {
+                            return null;
+                        }
+                        argumentClass = typeName(argument);
+                        break;
+                    case WILDCARD:
+                    case TYPEVAR:
+                        argumentClass = "Object";
+                        break;
+                    default:
+                        return null;
+                }
+
+                if (!first) {
+                    arguments.append(", ");
+                }
+                arguments.append(argumentClass).append(".class");
+                first = false;
+            }
+            typeArguments = arguments.append('}').toString();
+        }
+
+        Inject inject = variable.getAnnotation(Inject.class);
+        return "new " + INJECTION_POINT + "("
+                + type.getQualifiedName() + ".class, "
+                + processingEnv.getElementUtils().getConstantExpression(variable.getSimpleName().toString()) + ", "
+                + typeName(variableType) + ".class, "
+                + typeArguments + ", "
+                + processingEnv.getElementUtils().getConstantExpression(inject.value()) + ")";
+    }
+
+    private void appendInjectionPoints(StringBuilder out, String name, List<String> points) {
+        out.append("    private static final ").append(INJECTION_POINT).append("[] ").append(name).append(" = {\n");
+        for (String point : points) {
+            out.append("            ").append(point).append(",\n");
+        }
+        out.append("    };\n\n");
+    }
+
+    /**
+     * Returns a source name of the type erasure.
+     */
+    private String typeName(TypeMirror type) {
+        TypeMirror erasure = processingEnv.getTypeUtils().erasure(type);
+        switch (erasure.getKind()) {
+            case DECLARED:
+                return ((TypeElement) ((DeclaredType) erasure).asElement()).getQualifiedName().toString();
+            case ARRAY:
+                return typeName(((ArrayType) erasure).getComponentType()) + "[]";
+            default:
+                // primitives
+                return erasure.toString();
+        }
+    }
+
+    private boolean isAccessible(TypeMirror type, PackageElement pkg) {
+        TypeMirror erasure = processingEnv.getTypeUtils().erasure(type);
+        switch (erasure.getKind()) {
+            case DECLARED:
+                return isAccessible((TypeElement) ((DeclaredType) erasure).asElement(), pkg);
+            case ARRAY:
+                return isAccessible(((ArrayType) erasure).getComponentType(), pkg);
+            default:
+                return erasure.getKind().isPrimitive();
+        }
+    }
+
+    private boolean isAccessible(TypeElement type, PackageElement pkg) {
+        for (Element e = type; e instanceof TypeElement; e = e.getEnclosingElement()) {
+            Set<Modifier> modifiers = e.getModifiers();
+            if (modifiers.contains(Modifier.PRIVATE)) {
+                return false;
+            }
+
+            if (!modifiers.contains(Modifier.PUBLIC)
+                    && !processingEnv.getElementUtils().getPackageOf(e).equals(pkg)) {
+                return false;
+            }
+        }
+
+        return type.getNestingKind() == NestingKind.TOP_LEVEL || type.getNestingKind() == NestingKind.MEMBER;
+    }
+}
@@ -20,6 +20,7 @@ package org.apache.cayenne.di.spi;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Constructor;
+import java.lang.reflect.Parameter;
 import java.lang.reflect.Type;
 
 import org.apache.cayenne.di.DIRuntimeException;
@@ -32,13 +33,25 @@ import org.apache.cayenne.di.Provider;
  */
 class ConstructorInjectingProvider<T> implements Provider<T> {
 
+    private Class<? extends T> implementation;
     private Constructor<? extends T> constructor;
+    private ConstructorInjectionFactory<? extends T> factory;
     private DefaultInjector injector;
-    private String[] bindingNames;
+    private InjectionPoint[] parameters;
 
     ConstructorInjectingProvider(Class<? extends T> implementation,
             DefaultInjector injector) {
 
+        this.implementation = implementation;
+        this.injector = injector;
+
+        // prefer a generated factory over reflection
+        if (DIUtil.<T>injectionFactory(implementation) instanceof ConstructorInjectionFactory<? extends T> factory) {
+            this.factory = factory;
+            this.parameters = factory.getConstructorParameters();
+            return;
+        }
+
         initConstructor(implementation);
 
         if (constructor == null) {
@@ -48,7 +61,6 @@ class ConstructorInjectingProvider<T> implements Provider<T> {
         }
 
         this.constructor.setAccessible(true);
-        this.injector = injector;
     }
 
     @SuppressWarnings("unchecked")
@@ -107,60 +119,72 @@ class ConstructorInjectingProvider<T> implements Provider<T> {
         // generics in Java 5 and using <?> in Java 6, creating compilation problems.
         this.constructor = (Constructor<? extends T>) lastMatch;
 
+        Parameter[] constructorParameters = lastMatch.getParameters();
+        Class<?>[] types = lastMatch.getParameterTypes();
+        Type[] genericTypes = lastMatch.getGenericParameterTypes();
         Annotation[][] annotations = lastMatch.getParameterAnnotations();
-        this.bindingNames = new String[annotations.length];
+        this.parameters = new InjectionPoint[annotations.length];
         for (int i = 0; i < annotations.length; i++) {
 
+            String bindingName = null;
             Annotation[] parameterAnnotations = annotations[i];
             for (int j = 0; j < parameterAnnotations.length; j++) {
                 Annotation annotation = parameterAnnotations[j];
                 if (annotation.annotationType().equals(Inject.class)) {
                     Inject inject = (Inject) annotation;
-                    bindingNames[i] = inject.value();
+                    bindingName = inject.value();
                     break;
                 }
             }
+
+            parameters[i] = new InjectionPoint(
+                    implementation,
+                    constructorParameters[i].getName(),
+                    types[i],
+                    DIUtil.allParametersClass(genericTypes[i]),
+                    bindingName);
         }
     }
 
     @Override
     public T get() {
 
-        Class<?>[] constructorParameters = constructor.getParameterTypes();
-        Type[] genericTypes = constructor.getGenericParameterTypes();
-        Object[] args = new Object[constructorParameters.length];
+        Object[] args = new Object[parameters.length];
         InjectionStack stack = injector.getInjectionStack();
 
-        for (int i = 0; i < constructorParameters.length; i++) {
-            args[i] = value(constructorParameters[i], genericTypes[i], bindingNames[i], stack);
+        for (int i = 0; i < parameters.length; i++) {
+            args[i] = value(parameters[i], stack);
         }
 
         try {
-            return constructor.newInstance(args);
+            return factory != null ? factory.newInstance(args) : constructor.newInstance(args);
         }
         catch (Exception e) {
             throw new DIRuntimeException(
                     "Error instantiating class '%s'",
                     e,
-                    constructor.getDeclaringClass().getName());
+                    implementation.getName());
         }
     }
-    
-    protected Object value(Class<?> parameter, Type genericType, String bindingName, InjectionStack stack) {
 
-        if (Provider.class.equals(parameter)) {
+    /**
+     * @since 5.0
+     */
+    protected Object value(InjectionPoint parameter, InjectionStack stack) {
+
+        if (Provider.class.equals(parameter.getType())) {
 
-            Class<?> objectClass = DIUtil.parameterClass(genericType);
+            Class<?> objectClass = DIUtil.parameterClass(parameter);
 
             if (objectClass == null) {
                 throw new DIRuntimeException("Constructor provider parameter %s must be "
-                        + "parameterized to be usable for injection", parameter.getName());
+                        + "parameterized to be usable for injection", parameter.getType().getName());
             }
 
-            return injector.getProvider(Key.get(objectClass, bindingName));
+            return injector.getProvider(Key.get(objectClass, parameter.getBindingName()));
         } else {
 
-            Key<?> key = DIUtil.getKeyForTypeAndGenericType(parameter, genericType, bindingName);
+            Key<?> key = DIUtil.getKeyForInjectionPoint(parameter);
             stack.push(key);
             try {
                 return injector.getInstance(key);
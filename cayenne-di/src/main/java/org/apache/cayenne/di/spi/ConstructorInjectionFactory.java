@@ -0,0 +1,38 @@
+/*****************************************************************
+ *   Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ ****************************************************************/
+package org.apache.cayenne.di.spi;
+
+/**
+ * An {@link InjectionFactory} that creates instances of a class.
+ *
+ * @since 5.0
+ */
+public interface ConstructorInjectionFactory<T> extends InjectionFactory<T> {
+
+    /**
+     * Returns parameters of the constructor used for instance creation.
+     */
+    InjectionPoint[] getConstructorParameters();
+
+    /**
+     * Creates an instance, passing the provided arguments matching {@link #getConstructorParameters()} to the
+     * constructor.
+     */
+    T newInstance(Object[] args) throws Exception;
+}
@@ -18,10 +18,12 @@
  ****************************************************************/
 package org.apache.cayenne.di.spi;
 
+import java.lang.reflect.Field;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import org.apache.cayenne.di.Key;
 
@@ -32,6 +34,13 @@ import org.apache.cayenne.di.Key;
  */
 class DIUtil {
 
+    private static final ClassValue<Optional<InjectionFactory<?>>> INJECTION_FACTORIES = new ClassValue<>() {
+        @Override
+        protected Optional<InjectionFactory<?>> computeValue(Class<?> type) {
+            return Optional.ofNullable(loadInjectionFactory(type));
+        }
+    };
+
     static Class<?> parameterClass(Type type) {
 
         if (type instanceof ParameterizedType) {
@@ -63,14 +72,25 @@ class DIUtil {
     }
 
     static Key<?> getKeyForTypeAndGenericType(Class<?> type, Type genericType, String bindingName) {
+        return getKey(type, allParametersClass(genericType), bindingName);
+    }
+
+    /**
+     * @since 5.0
+     */
+    static Key<?> getKeyForInjectionPoint(InjectionPoint point) {
+        return getKey(point.getType(), point.getTypeArguments(), point.getBindingName());
+    }
+
+    private static Key<?> getKey(Class<?> type, Class<?>[] typeArguments, String bindingName) {
         if(List.class.isAssignableFrom(type)) {
-            Class<?> objectClass = parameterClass(genericType);
+            Class<?> objectClass = typeArguments != null && typeArguments.length == 1 ? typeArguments[0] : null;
             if(objectClass == null) {
                 objectClass = Object.class;
             }
             return Key.getListOf(objectClass, bindingName);
         } else if(Map.class.isAssignableFrom(type)) {
-            Class<?>[] classes = DIUtil.allParametersClass(genericType);
+            Class<?>[] classes = typeArguments;
             if(classes == null) {
                 classes = new Class[]{Object.class, Object.class};
             }
@@ -81,6 +101,59 @@ class DIUtil {
         return Key.get(type, bindingName);
     }
 
+    /**
+     * Returns a class of the single type argument of the injection point, or null if there's no single argument.
+     *
+     * @since 5.0
+     */
+    static Class<?> parameterClass(InjectionPoint point) {
+        Class<?>[] typeArguments = point.getTypeArguments();
+        return typeArguments != null && typeArguments.length == 1 ? typeArguments[0] : null;
+    }
+
+    /**
+     * @since 5.0
+     */
+    static InjectionPoint injectionPoint(Field field, String bindingName) {
+        return new InjectionPoint(
+                field.getDeclaringClass(),
+                field.getName(),
+                field.getType(),
+                allParametersClass(field.getGenericType()),
+                bindingName);
+    }
+
+    /**
+     * Returns an injection factory generated for the class, or null if the class has no generated factory.
+     *
+     * @since 5.0
+     */
+    @SuppressWarnings("unchecked")
+    static <T> InjectionFactory<T> injectionFactory(Class<?> type) {
+        return (InjectionFactory<T>) INJECTION_FACTORIES.get(type).orElse(null);
+    }
+
+    private static InjectionFactory<?> loadInjectionFactory(Class<?> type) {
+
+        // skip JDK classes, arrays and primitives
+        ClassLoader classLoader = type.getClassLoader();
+        if (classLoader == null || type.isArray()) {
+            return null;
+        }
+
+        try {
+            Class<?> factoryClass = Class.forName(InjectionFactory.factoryName(type.getName()), true, classLoader);
+            if (!InjectionFactory.class.isAssignableFrom(factoryClass)) {
+                return null;
+            }
+
+            return (InjectionFactory<?>) factoryClass.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            // no factory was generated or it is incompatible, reflection will be used instead
+            return null;
+        }
+    }
+
     static Class<?> typeToClass(Type type) {
         if(type instanceof Class) {
             return  (Class<?>) type;
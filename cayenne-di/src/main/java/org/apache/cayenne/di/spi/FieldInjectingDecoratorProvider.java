@@ -21,8 +21,6 @@ package org.apache.cayenne.di.spi;
 import org.apache.cayenne.di.DIRuntimeException;
 import org.apache.cayenne.di.Provider;
 
-import java.lang.reflect.Field;
-
 /**
  * @since 4.0
  */
@@ -44,13 +42,13 @@ class FieldInjectingDecoratorProvider<T> implements DecoratorProvider<T> {
         return new FieldInjectingProvider<T>(delegate.get(undecorated), injector) {
 
             @Override
-            protected Object value(Field field, String bindingName) {
+            protected Object value(InjectionPoint field) {
                 Class<?> fieldType = field.getType();
 
                 // delegate (possibly) injected as Provider
                 if (Provider.class.equals(fieldType)) {
 
-                    Class<?> objectClass = DIUtil.parameterClass(field.getGenericType());
+                    Class<?> objectClass = DIUtil.parameterClass(field);
 
                     if (objectClass == null) {
                         throw new DIRuntimeException("Provider field %s.%s of type %s must be "
@@ -66,7 +64,7 @@ class FieldInjectingDecoratorProvider<T> implements DecoratorProvider<T> {
                     return undecorated.get();
                 }
 
-                return super.value(field, bindingName);
+                return super.value(field);
             }
         };
     }
@@ -52,11 +52,25 @@ class FieldInjectingProvider<T> implements Provider<T> {
             return;
         }
 
-        for (Field field : type.getDeclaredFields()) {
+        if (DIUtil.<Object>injectionFactory(type) instanceof FieldInjectionFactory<Object> factory) {
+            InjectionPoint[] fields = factory.getFields();
+            for (int i = 0; i < fields.length; i++) {
+                Object value = value(fields[i]);
+                try {
+                    factory.injectField(object, i, value);
+                } catch (RuntimeException e) {
+                    String message = String.format("Error injecting into field %s.%s of type %s", type.getName(),
+                            fields[i].getName(), fields[i].getType().getName());
+                    throw new DIRuntimeException(message, e);
+                }
+            }
+        } else {
+            for (Field field : type.getDeclaredFields()) {
 
-            Inject inject = field.getAnnotation(Inject.class);
-            if (inject != null) {
-                injectMember(object, field, inject.value());
+                Inject inject = field.getAnnotation(Inject.class);
+                if (inject != null) {
+                    injectMember(object, field, inject.value());
+                }
             }
         }
 
@@ -65,7 +79,7 @@ class FieldInjectingProvider<T> implements Provider<T> {
 
     private void injectMember(Object object, Field field, String bindingName) {
 
-        Object value = value(field, bindingName);
+        Object value = value(DIUtil.injectionPoint(field, bindingName));
 
         field.setAccessible(true);
         try {
@@ -78,16 +92,16 @@ class FieldInjectingProvider<T> implements Provider<T> {
     }
     
     /**
-     * @since 4.0
+     * @since 5.0
      */
-    protected Object value(Field field, String bindingName) {
+    protected Object value(InjectionPoint field) {
 
         Class<?> fieldType = field.getType();
         InjectionStack stack = injector.getInjectionStack();
 
         if (Provider.class.equals(fieldType)) {
 
-            Class<?> objectClass = DIUtil.parameterClass(field.getGenericType());
+            Class<?> objectClass = DIUtil.parameterClass(field);
 
             if (objectClass == null) {
                 throw new DIRuntimeException("Provider field %s.%s of type %s must be "
@@ -95,9 +109,9 @@ class FieldInjectingProvider<T> implements Provider<T> {
                         field.getName(), fieldType.getName());
             }
 
-            return injector.getProvider(Key.get(objectClass, bindingName));
+            return injector.getProvider(Key.get(objectClass, field.getBindingName()));
         } else {
-            Key<?> key = DIUtil.getKeyForTypeAndGenericType(fieldType, field.getGenericType(), bindingName);
+            Key<?> key = DIUtil.getKeyForInjectionPoint(field);
             stack.push(key);
             try {
                 return injector.getInstance(key);
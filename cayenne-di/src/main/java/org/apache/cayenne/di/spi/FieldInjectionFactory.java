@@ -0,0 +1,37 @@
+/*****************************************************************
+ *   Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ ****************************************************************/
+package org.apache.cayenne.di.spi;
+
+/**
+ * An {@link InjectionFactory} that injects fields declared in a class.
+ *
+ * @since 5.0
+ */
+public interface FieldInjectionFactory<T> extends InjectionFactory<T> {
+
+    /**
+     * Returns injectable fields declared in the class itself, excluding the superclass fields.
+     */
+    InjectionPoint[] getFields();
+
+    /**
+     * Assigns a value to a field with a given index in the {@link #getFields()} array.
+     */
+    void injectField(T object, int index, Object value);
+}
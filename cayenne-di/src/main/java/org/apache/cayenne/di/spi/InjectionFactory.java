@@ -0,0 +1,39 @@
+/*****************************************************************
+ *   Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ ****************************************************************/
+package org.apache.cayenne.di.spi;
+
+/**
+ * A factory that creates or injects instances of a single class without reflection. Implementations are generated at
+ * build time by {@link org.apache.cayenne.di.processor.InjectionFactoryProcessor} as a class named
+ * {@code <ClassName>_InjectionFactory} in the package of the injected class. When such class is present,
+ * {@link DefaultInjector} uses it instead of reflection, which shortens the container startup. A factory implements
+ * {@link ConstructorInjectionFactory}, {@link FieldInjectionFactory} or both. The part it doesn't implement, e.g.
+ * because the injected class has a private constructor or fields, is left to reflection.
+ *
+ * @since 5.0
+ */
+public interface InjectionFactory<T> {
+
+    /**
+     * Returns a name of the factory class generated for a given class.
+     */
+    static String factoryName(String className) {
+        return className + "_InjectionFactory";
+    }
+}
@@ -0,0 +1,72 @@
+/*****************************************************************
+ *   Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ ****************************************************************/
+package org.apache.cayenne.di.spi;
+
+/**
+ * Describes a constructor parameter or a field that receives an injected value. Generic type arguments are reduced
+ * to their raw classes, which is all the information the container needs to build an injection key.
+ *
+ * @see InjectionFactory
+ * @since 5.0
+ */
+public final class InjectionPoint {
+
+    private final Class<?> declaringClass;
+    private final String name;
+    private final Class<?> type;
+    private final Class<?>[] typeArguments;
+    private final String bindingName;
+
+    /**
+     * @param declaringClass a class declaring the field or the constructor
+     * @param name           field name or constructor parameter name
+     * @param type           raw type of the field or the parameter
+     * @param typeArguments  raw classes of the type arguments, with Object used for wildcards and type variables;
+     *                       null if the type is not parameterized
+     * @param bindingName    a name from the {@link org.apache.cayenne.di.Inject} annotation
+     */
+    public InjectionPoint(Class<?> declaringClass, String name, Class<?> type, Class<?>[] typeArguments,
+                          String bindingName) {
+        this.declaringClass = declaringClass;
+        this.name = name;
+        this.type = type;
+        this.typeArguments = typeArguments;
+        this.bindingName = bindingName;
+    }
+
+    public Class<?> getDeclaringClass() {
+        return declaringClass;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Class<?> getType() {
+        return type;
+    }
+
+    public Class<?>[] getTypeArguments() {
+        return typeArguments;
+    }
+
+    public String getBindingName() {
+        return bindingName;
+    }
+}
@@ -0,0 +1,216 @@
+/*****************************************************************
+ *   Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ ****************************************************************/
+package org.apache.cayenne.di.processor;
+
+import org.apache.cayenne.di.Key;
+import org.apache.cayenne.di.Module;
+import org.apache.cayenne.di.mock.MockImplementation1;
+import org.apache.cayenne.di.mock.MockInterface1;
+import org.apache.cayenne.di.mock.MockInterface2;
+import org.apache.cayenne.di.spi.DefaultInjector;
+import org.apache.cayenne.di.spi.ConstructorInjectionFactory;
+import org.apache.cayenne.di.spi.FieldInjectionFactory;
+import org.apache.cayenne.di.spi.InjectionPoint;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class InjectionFactoryProcessorTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    public void generateFactory() throws Exception {
+        ClassLoader loader = compile("test.Service", """
+                package test;
+
+                import java.util.List;
+                import org.apache.cayenne.di.Inject;
+                import org.apache.cayenne.di.Provider;
+                import org.apache.cayenne.di.mock.MockInterface1;
+                import org.apache.cayenne.di.mock.MockInterface2;
+
+                public class Service implements MockInterface2 {
+
+                    @Inject
+                    protected Provider<MockInterface1> serviceProvider;
+
+                    @Inject("list")
+                    List<String> list;
+
+                    private final String name;
+
+                    public Service() {
+                        this.name = "default";
+                    }
+
+                    public Service(@Inject("name") String name) {
+                        this.name = name;
+                    }
+
+                    public String getAlteredName() {
+                        return serviceProvider.get().getName() + list;
+                    }
+
+                    public String getName() {
+                        return name;
+                    }
+                }
+                """);
+
+        Object factory = loader.loadClass("test.Service_InjectionFactory")
+                .getDeclaredConstructor()
+                .newInstance();
+
+        InjectionPoint[] parameters = ((ConstructorInjectionFactory<?>) factory).getConstructorParameters();
+        assertEquals(1, parameters.length);
+        assertEquals(String.class, parameters[0].getType());
+        assertEquals("name", parameters[0].getBindingName());
+
+        InjectionPoint[] fields = ((FieldInjectionFactory<?>) factory).getFields();
+        assertEquals(2, fields.length);
+        assertEquals("serviceProvider", fields[0].getName());
+        assertArrayEquals(new Class<?>[]{MockInterface1.class}, fields[0].getTypeArguments());
+        assertEquals("list", fields[1].getBindingName());
+
+        @SuppressWarnings("unchecked")
+        Class<? extends MockInterface2> type = (Class<? extends MockInterface2>) loader.loadClass("test.Service");
+        Module module = binder -> {
+            binder.bind(MockInterface1.class).to(MockImplementation1.class);
+            binder.bind(MockInterface2.class).to(type);
+            binder.bind(Key.get(String.class, "name")).toInstance("xyz");
+            binder.bindList(String.class, "list").add("a");
+        };
+
+        MockInterface2 service = new DefaultInjector(module).getInstance(MockInterface2.class);
+        assertEquals("xyz", service.getName());
+        assertEquals("MyName[a]", service.getAlteredName());
+    }
+
+    @Test
+    public void privateMembers() throws Exception {
+        ClassLoader loader = compile("test.PrivateService", """
+                package test;
+
+                import org.apache.cayenne.di.Inject;
+                import org.apache.cayenne.di.mock.MockInterface1;
+
+                public class PrivateService {
+
+                    @Inject
+                    private MockInterface1 service;
+
+                    public PrivateService(@Inject("x") MockInterface1 service) {
+                    }
+                }
+                """);
+
+        // factory is generated for the constructor, private fields are left to reflection
+        Object factory = loader.loadClass("test.PrivateService_InjectionFactory")
+                .getDeclaredConstructor()
+                .newInstance();
+        assertFalse(factory instanceof FieldInjectionFactory);
+        InjectionPoint[] parameters = ((ConstructorInjectionFactory<?>) factory).getConstructorParameters();
+        assertEquals(1, parameters.length);
+        assertEquals("x", parameters[0].getBindingName());
+    }
+
+    @Test
+    public void fieldsOnly() throws Exception {
+        ClassLoader loader = compile("test.FieldService", """
+                package test;
+
+                import org.apache.cayenne.di.Inject;
+                import org.apache.cayenne.di.mock.MockInterface1;
+
+                public class FieldService {
+
+                    @Deprecated
+                    @Inject
+                    protected MockInterface1 service;
+
+                    private FieldService() {
+                    }
+
+                    public static class Nested {
+
+                        @Inject
+                        MockInterface1 service;
+                    }
+                }
+                """, "-Xlint:deprecation,removal,rawtypes,unchecked", "-Werror");
+
+        // no constructor support is generated, deprecated members don't cause warnings
+        Object factory = loader.loadClass("test.FieldService_InjectionFactory")
+                .getDeclaredConstructor()
+                .newInstance();
+        assertFalse(factory instanceof ConstructorInjectionFactory);
+        assertEquals(1, ((FieldInjectionFactory<?>) factory).getFields().length);
+
+        // nested classes are processed too
+        assertNotNull(loader.loadClass("test.FieldService$Nested_InjectionFactory"));
+    }
+
+    @Test
+    public void noInjection() throws Exception {
+        ClassLoader loader = compile("test.PlainService", """
+                package test;
+
+                public class PlainService {
+                }
+                """);
+
+        assertThrows(ClassNotFoundException.class, () -> loader.loadClass("test.PlainService_InjectionFactory"));
+    }
+
+    private ClassLoader compile(String className, String source, String... options) throws IOException {
+        Path sources = dir.resolve("src");
+        Path classes = dir.resolve("classes");
+        Path file = sources.resolve(className.replace('.', '/') + ".java");
+        Files.createDirectories(file.getParent());
+        Files.createDirectories(classes);
+        Files.writeString(file, source);
+
+        List<String> args = new ArrayList<>(List.of(options));
+        args.addAll(List.of(
+                "-classpath", System.getProperty("java.class.path"),
+                "-processor", InjectionFactoryProcessor.class.getName(),
+                "-d", classes.toString(),
+                "-s", classes.toString(),
+                file.toString()));
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        int result = compiler.run(null, null, null, args.toArray(new String[0]));
+        assertEquals(0, result);
+
+        return new URLClassLoader(new URL[]{classes.toUri().toURL()}, getClass().getClassLoader());
+    }
+}
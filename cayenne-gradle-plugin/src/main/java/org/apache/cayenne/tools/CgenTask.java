@@ -249,6 +249,25 @@ public class CgenTask extends BaseCayenneTask {
     @Optional
     private String externalToolConfig;
 
+    /**
+     * Number of threads used to render classes. Default is 1.
+     *
+     * @since 5.0
+     */
+    @Input
+    @Optional
+    private Integer threads;
+
+    /**
+     * If set to <code>true</code>, classes are not rendered again when the DataMap, cgen configuration and templates
+     * are unchanged since the previous run. Inputs of the previous run are tracked in a manifest file under
+     * <code>build/cayenne-cgen</code>. Default is <code>false</code>.
+     *
+     * @since 5.0
+     */
+    @Input
+    private boolean incremental;
+
 
     private String destDirName;
 
@@ -323,8 +342,17 @@ public class CgenTask extends BaseCayenneTask {
     List<ClassGenerationAction> createGenerators(DataMap dataMap) {
         List<ClassGenerationAction> generators = new ArrayList<>();
         for (CgenConfiguration configuration : buildConfigurations(dataMap)) {
-            generators.add(injector.getInstance(ClassGenerationActionFactory.class)
-                    .createAction(configuration, getLogger()));
+            ClassGenerationAction generator = injector.getInstance(ClassGenerationActionFactory.class)
+                    .createAction(configuration, getLogger());
+            if (threads != null && threads > 1) {
+                generator.setThreads(threads);
+            }
+            if (incremental) {
+                File manifestDir = getProject().getLayout().getBuildDirectory().dir("cayenne-cgen").get().getAsFile();
+                generator.setManifestFile(manifestDir.toPath()
+                        .resolve(dataMap.getName() + "-" + configuration.getName() + ".properties"));
+            }
+            generators.add(generator);
         }
         return generators;
     }
@@ -763,4 +791,28 @@ public class CgenTask extends BaseCayenneTask {
     public void externalToolConfig(String externalToolConfig) {
         setExternalToolConfig(externalToolConfig);
     }
+
+    public Integer getThreads() {
+        return threads;
+    }
+
+    public void setThreads(Integer threads) {
+        this.threads = threads;
+    }
+
+    public void threads(Integer threads) {
+        setThreads(threads);
+    }
+
+    public boolean isIncremental() {
+        return incremental;
+    }
+
+    public void setIncremental(boolean incremental) {
+        this.incremental = incremental;
+    }
+
+    public void incremental(boolean incremental) {
+        setIncremental(incremental);
+    }
 }
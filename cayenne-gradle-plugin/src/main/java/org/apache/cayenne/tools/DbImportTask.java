@@ -81,6 +81,22 @@ public class DbImportTask extends BaseCayenneTask {
 
     private File cayenneProject;
 
+    /**
+     * Number of DB connections used to load table primary and foreign keys in parallel.
+     *
+     * @since 5.0
+     */
+    @Input
+    @Optional
+    private Integer threads;
+
+    /**
+     * File to keep per-table schema fingerprints in between runs, so that an import with no schema changes is skipped.
+     *
+     * @since 5.0
+     */
+    private File fingerprintFile;
+
     public DbImportTask() {
         // this task should be executed every invocation, so it is never up to date.
         getOutputs().upToDateWhen(task -> false);
@@ -150,6 +166,8 @@ public class DbImportTask extends BaseCayenneTask {
         config.setSkipPrimaryKeyLoading(reverseEngineering.getSkipPrimaryKeyLoading());
         config.setStripFromTableNames(reverseEngineering.getStripFromTableNames());
         config.setTableTypes(reverseEngineering.getTableTypes());
+        config.setThreads(threads);
+        config.setFingerprintFile(fingerprintFile);
         config.setMeaningfulPkTables(reverseEngineering.getMeaningfulPkTables());
         config.setNamingStrategy(reverseEngineering.getNamingStrategy());
         config.setForceDataMapCatalog(reverseEngineering.isForceDataMapCatalog());
@@ -199,6 +217,35 @@ public class DbImportTask extends BaseCayenneTask {
         setAdapter(adapter);
     }
 
+    public Integer getThreads() {
+        return threads;
+    }
+
+    public void setThreads(Integer threads) {
+        this.threads = threads;
+    }
+
+    public void threads(Integer threads) {
+        setThreads(threads);
+    }
+
+    @Internal
+    public File getFingerprintFile() {
+        return fingerprintFile;
+    }
+
+    public void setFingerprintFile(File fingerprintFile) {
+        this.fingerprintFile = fingerprintFile;
+    }
+
+    public void fingerprintFile(File fingerprintFile) {
+        setFingerprintFile(fingerprintFile);
+    }
+
+    public void fingerprintFile(String fingerprintFileName) {
+        setFingerprintFile(getProject().file(fingerprintFileName));
+    }
+
     public ReverseEngineering getReverseEngineering() {
         return reverseEngineering;
     }
@@ -77,6 +77,19 @@ public class GradleCayenneExtension {
      */
     private final Class<DbGenerateTask> cdbgen = DbGenerateTask.class;
 
+    /**
+     * Shortcut for the cprojectSnapshot task.
+     * Can be used in defining additional tasks like:
+     * <pre>{@code
+     * task customSnapshot(type: cayenne.cprojectSnapshot) {
+     *     //...
+     * }
+     * }</pre>
+     *
+     * @since 5.0
+     */
+    private final Class<ProjectSnapshotTask> cprojectSnapshot = ProjectSnapshotTask.class;
+
     /**
      * Default data map that will be used in all tasks.
      * Can be overridden per task.
@@ -125,6 +138,10 @@ public class GradleCayenneExtension {
         return cdbgen;
     }
 
+    public Class<ProjectSnapshotTask> getCprojectSnapshot() {
+        return cprojectSnapshot;
+    }
+
     public String getVersion() {
         return version;
     }
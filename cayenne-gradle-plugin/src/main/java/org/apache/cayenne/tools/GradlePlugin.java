@@ -31,5 +31,6 @@ public class GradlePlugin implements Plugin<Project> {
         project.getTasks().register("cgen", CgenTask.class);
         project.getTasks().register("cdbimport", DbImportTask.class);
         project.getTasks().register("cdbgen", DbGenerateTask.class);
+        project.getTasks().register("cprojectSnapshot", ProjectSnapshotTask.class);
     }
 }
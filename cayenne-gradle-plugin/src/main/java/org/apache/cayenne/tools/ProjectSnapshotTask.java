@@ -0,0 +1,159 @@
+/*****************************************************************
+ *   Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ ****************************************************************/
+package org.apache.cayenne.tools;
+
+import org.apache.cayenne.configuration.ConfigurationNameMapper;
+import org.apache.cayenne.configuration.DataChannelDescriptor;
+import org.apache.cayenne.configuration.DataChannelDescriptorLoader;
+import org.apache.cayenne.configuration.DefaultConfigurationNameMapper;
+import org.apache.cayenne.configuration.snapshot.ProjectSnapshot;
+import org.apache.cayenne.dbsync.DbSyncModule;
+import org.apache.cayenne.dbsync.reverse.configuration.ToolsModule;
+import org.apache.cayenne.di.ClassLoaderManager;
+import org.apache.cayenne.di.DIBootstrap;
+import org.apache.cayenne.di.Injector;
+import org.apache.cayenne.di.spi.DefaultClassLoaderManager;
+import org.apache.cayenne.resource.URLResource;
+import org.apache.cayenne.util.Util;
+import org.gradle.api.DefaultTask;
+import org.gradle.api.GradleException;
+import org.gradle.api.InvalidUserDataException;
+import org.gradle.api.tasks.InputFile;
+import org.gradle.api.tasks.Internal;
+import org.gradle.api.tasks.OutputFile;
+import org.gradle.api.tasks.TaskAction;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+
+/**
+ * Gradle task that creates a binary snapshot of a Cayenne project that can be loaded by the runtime instead of the
+ * project XML files. To make the runtime use the snapshot, it should be configured with
+ * {@code CoreModule.extend(binder).useProjectSnapshots()}.
+ *
+ * @since 5.0
+ */
+public class ProjectSnapshotTask extends DefaultTask {
+
+    /**
+     * Project XML file (e.g. "cayenne-project.xml") to create a snapshot for.
+     */
+    @Internal
+    private File cayenneProject;
+
+    /**
+     * A directory where the snapshot file is created. The snapshot must end up in the same runtime location as the
+     * project XML file. Default is "build/resources/main".
+     */
+    @Internal
+    private File destDir;
+
+    @TaskAction
+    public void createSnapshot() {
+        File snapshotFile = getSnapshotFile();
+        getLogger().info("Creating project snapshot {}", snapshotFile);
+
+        Injector injector = DIBootstrap.createInjector(new DbSyncModule(), new ToolsModule(getLogger()),
+                binder -> {
+                    binder.bind(ClassLoaderManager.class).toInstance(new DefaultClassLoaderManager());
+                    binder.bind(ConfigurationNameMapper.class).to(DefaultConfigurationNameMapper.class);
+                });
+
+        try {
+            DataChannelDescriptor descriptor = injector.getInstance(DataChannelDescriptorLoader.class)
+                    .load(new URLResource(getCayenneProject().toURI().toURL()))
+                    .getRootNode();
+
+            File dir = snapshotFile.getParentFile();
+            if (!dir.isDirectory() && !dir.mkdirs()) {
+                throw new GradleException("Can't create directory " + dir);
+            }
+
+            try (OutputStream out = new FileOutputStream(snapshotFile)) {
+                ProjectSnapshot.write(descriptor, out);
+            }
+        } catch (GradleException ex) {
+            throw ex;
+        } catch (Exception ex) {
+            Throwable th = Util.unwindException(ex);
+            String message = "Error creating project snapshot";
+            if (th.getLocalizedMessage() != null) {
+                message += ": " + th.getLocalizedMessage();
+            }
+
+            getLogger().error(message);
+            throw new GradleException(message, th);
+        }
+    }
+
+    @InputFile
+    public File getCayenneProject() {
+        if (cayenneProject == null) {
+            throw new InvalidUserDataException("No Cayenne project file configured in the task.");
+        }
+        return cayenneProject;
+    }
+
+    @OutputFile
+    public File getSnapshotFile() {
+        File dir = destDir != null
+                ? destDir
+                : getProject().getLayout().getBuildDirectory().dir("resources/main").get().getAsFile();
+        return new File(dir, ProjectSnapshot.snapshotLocation(getCayenneProject().getName()));
+    }
+
+    // setters and getters that will be used by .gradle scripts
+
+    public void setCayenneProject(File cayenneProject) {
+        this.cayenneProject = cayenneProject;
+    }
+
+    public void setCayenneProject(String cayenneProject) {
+        setCayenneProject(getProject().file(cayenneProject));
+    }
+
+    public void cayenneProject(File cayenneProject) {
+        setCayenneProject(cayenneProject);
+    }
+
+    public void cayenneProject(String cayenneProject) {
+        setCayenneProject(cayenneProject);
+    }
+
+    public File getDestDir() {
+        return destDir;
+    }
+
+    public void setDestDir(File destDir) {
+        this.destDir = destDir;
+    }
+
+    public void setDestDir(String destDir) {
+        setDestDir(getProject().file(destDir));
+    }
+
+    public void destDir(File destDir) {
+        setDestDir(destDir);
+    }
+
+    public void destDir(String destDir) {
+        setDestDir(destDir);
+    }
+}
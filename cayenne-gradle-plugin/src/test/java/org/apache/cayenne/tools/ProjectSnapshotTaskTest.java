@@ -0,0 +1,94 @@
+/*****************************************************************
+ *   Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ ****************************************************************/
+package org.apache.cayenne.tools;
+
+import org.apache.cayenne.configuration.DataChannelDescriptor;
+import org.apache.cayenne.configuration.snapshot.ProjectSnapshot;
+import org.apache.cayenne.resource.URLResource;
+import org.gradle.api.InvalidUserDataException;
+import org.gradle.api.Project;
+import org.gradle.testfixtures.ProjectBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ProjectSnapshotTaskTest {
+
+    @TempDir
+    File temp;
+
+    private ProjectSnapshotTask task;
+
+    @BeforeEach
+    public void createTask() {
+        Project project = ProjectBuilder.builder().withProjectDir(temp).build();
+
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("type", ProjectSnapshotTask.class);
+        task = (ProjectSnapshotTask) project.task(parameters, "cprojectSnapshotTask");
+    }
+
+    @Test
+    public void runWithNoConfig() {
+        assertThrows(InvalidUserDataException.class, () -> task.createSnapshot());
+    }
+
+    @Test
+    public void createSnapshot() throws Exception {
+        File projectFile = new File(temp, "cayenne-test.xml");
+        Files.writeString(projectFile.toPath(), """
+                <?xml version="1.0" encoding="utf-8"?>
+                <domain xmlns="http://cayenne.apache.org/schema/13/domain" project-version="13">
+                    <map name="test_datamap"/>
+                </domain>
+                """);
+        try (InputStream in = getClass().getResourceAsStream("test_datamap.map.xml")) {
+            Files.copy(in, new File(temp, "test_datamap.map.xml").toPath());
+        }
+
+        File destDir = new File(temp, "out");
+        task.setCayenneProject(projectFile);
+        task.setDestDir(destDir);
+        task.createSnapshot();
+
+        File snapshotFile = new File(destDir, "cayenne-test.xml.snapshot");
+        assertEquals(snapshotFile, task.getSnapshotFile());
+        assertTrue(snapshotFile.isFile());
+
+        ProjectSnapshot snapshot;
+        try (InputStream in = new FileInputStream(snapshotFile)) {
+            snapshot = ProjectSnapshot.read(in);
+        }
+
+        URLResource projectResource = new URLResource(projectFile.toURI().toURL());
+        assertTrue(snapshot.isUpToDate(projectResource));
+
+        DataChannelDescriptor descriptor = snapshot.getDescriptor(projectResource);
+        assertNotNull(descriptor.getDataMap("test_datamap"));
+    }
+}
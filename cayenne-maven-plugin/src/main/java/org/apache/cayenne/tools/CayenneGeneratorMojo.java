@@ -249,6 +249,32 @@ public class CayenneGeneratorMojo extends AbstractMojo {
     @Parameter
     private String externalToolConfig;
 
+    /**
+     * Number of threads used to render classes. Default is 1.
+     *
+     * @since 5.0
+     */
+    @Parameter(property = "cgen.threads", defaultValue = "1")
+    private int threads;
+
+    /**
+     * If set to <code>true</code>, classes are not rendered again when the DataMap, cgen configuration and templates
+     * are unchanged since the previous run. Inputs of the previous run are tracked in a manifest file under
+     * <code>manifestDir</code>. Default is <code>false</code>.
+     *
+     * @since 5.0
+     */
+    @Parameter(property = "cgen.incremental", defaultValue = "false")
+    private boolean incremental;
+
+    /**
+     * Directory for the manifest files of the incremental generation.
+     *
+     * @since 5.0
+     */
+    @Parameter(defaultValue = "${project.build.directory}/cayenne-cgen")
+    private File manifestDir;
+
     private transient Injector injector;
 
     private static final Logger LOGGER = LoggerFactory.getLogger(CayenneGeneratorMojo.class);
@@ -325,7 +351,16 @@ public class CayenneGeneratorMojo extends AbstractMojo {
     private List<ClassGenerationAction> createActions(DataMap dataMap, Logger logger) {
         List<ClassGenerationAction> actions = new ArrayList<>();
         for (CgenConfiguration configuration : buildConfigurations(dataMap)) {
-            actions.add(injector.getInstance(ClassGenerationActionFactory.class).createAction(configuration, logger));
+            ClassGenerationAction action = injector.getInstance(ClassGenerationActionFactory.class)
+                    .createAction(configuration, logger);
+            if (threads > 1) {
+                action.setThreads(threads);
+            }
+            if (incremental && manifestDir != null) {
+                action.setManifestFile(manifestDir.toPath()
+                        .resolve(dataMap.getName() + "-" + configuration.getName() + ".properties"));
+            }
+            actions.add(action);
         }
         return actions;
     }
@@ -90,6 +90,22 @@ public class DbImporterMojo extends AbstractMojo {
     @Parameter(name = "dbimport", property = "dbimport", alias = "dbImport")
     private ReverseEngineering dbImportConfig = new ReverseEngineering();
 
+    /**
+     * Number of DB connections used to load table primary and foreign keys in parallel. Default is 1.
+     * @since 5.0
+     */
+    @Parameter(property = "cdbimport.threads", defaultValue = "1")
+    private int threads;
+
+    /**
+     * File to keep per-table schema fingerprints in between runs. If set, an import that finds no changes in the
+     * schema, the import configuration or the DataMap since the previous run skips the merge and leaves the project
+     * files untouched. This is optional parameter.
+     * @since 5.0
+     */
+    @Parameter(property = "cdbimport.fingerprintFile")
+    private File fingerprintFile;
+
     @Parameter(defaultValue = "${project}" )
     private MavenProject project;
 
@@ -168,6 +184,8 @@ public class DbImporterMojo extends AbstractMojo {
         config.setSkipPrimaryKeyLoading(dbImportConfig.getSkipPrimaryKeyLoading());
         config.setStripFromTableNames(dbImportConfig.getStripFromTableNames());
         config.setTableTypes(dbImportConfig.getTableTypes());
+        config.setThreads(threads);
+        config.setFingerprintFile(fingerprintFile);
         config.setTargetDataMap(map);
         config.setCayenneProject(cayenneProject);
         config.setUrl(dataSource.getUrl());
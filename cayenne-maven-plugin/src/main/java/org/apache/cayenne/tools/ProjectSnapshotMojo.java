@@ -0,0 +1,108 @@
+/*****************************************************************
+ *   Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ ****************************************************************/
+package org.apache.cayenne.tools;
+
+import org.apache.cayenne.configuration.ConfigurationNameMapper;
+import org.apache.cayenne.configuration.DataChannelDescriptor;
+import org.apache.cayenne.configuration.DataChannelDescriptorLoader;
+import org.apache.cayenne.configuration.DefaultConfigurationNameMapper;
+import org.apache.cayenne.configuration.snapshot.ProjectSnapshot;
+import org.apache.cayenne.dbsync.DbSyncModule;
+import org.apache.cayenne.dbsync.reverse.configuration.ToolsModule;
+import org.apache.cayenne.di.ClassLoaderManager;
+import org.apache.cayenne.di.DIBootstrap;
+import org.apache.cayenne.di.Injector;
+import org.apache.cayenne.resource.URLResource;
+import org.apache.cayenne.util.Util;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.project.MavenProject;
+import org.slf4j.Logger;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+
+/**
+ * Maven mojo that creates a binary snapshot of a Cayenne project that can be loaded by the runtime instead of the
+ * project XML files. To make the runtime use the snapshot, it should be configured with
+ * {@code CoreModule.extend(binder).useProjectSnapshots()}.
+ *
+ * @since 5.0
+ */
+@Mojo(name = "cproject-snapshot", defaultPhase = LifecyclePhase.PROCESS_RESOURCES)
+public class ProjectSnapshotMojo extends AbstractMojo {
+
+    /**
+     * Project XML file (e.g. "cayenne-project.xml") to create a snapshot for.
+     */
+    @Parameter(required = true)
+    private File cayenneProject;
+
+    /**
+     * A directory where the snapshot file is created. The snapshot must end up in the same runtime location as the
+     * project XML file. Default is "${project.build.outputDirectory}".
+     */
+    @Parameter(defaultValue = "${project.build.outputDirectory}")
+    private File destDir;
+
+    @Parameter(defaultValue = "${project}")
+    private MavenProject project;
+
+    public void execute() throws MojoExecutionException {
+
+        Logger logger = new MavenLogger(this);
+
+        Injector injector = DIBootstrap.createInjector(new DbSyncModule(), new ToolsModule(logger),
+                binder -> {
+                    binder.bind(ClassLoaderManager.class).toInstance(new MavenPluginClassLoaderManager(project));
+                    binder.bind(ConfigurationNameMapper.class).to(DefaultConfigurationNameMapper.class);
+                });
+
+        File snapshotFile = new File(destDir, ProjectSnapshot.snapshotLocation(cayenneProject.getName()));
+        logger.info("Creating project snapshot {}", snapshotFile);
+
+        try {
+            DataChannelDescriptor descriptor = injector.getInstance(DataChannelDescriptorLoader.class)
+                    .load(new URLResource(cayenneProject.toURI().toURL()))
+                    .getRootNode();
+
+            if (!destDir.isDirectory() && !destDir.mkdirs()) {
+                throw new MojoExecutionException("Can't create directory " + destDir);
+            }
+
+            try (OutputStream out = new FileOutputStream(snapshotFile)) {
+                ProjectSnapshot.write(descriptor, out);
+            }
+        } catch (MojoExecutionException ex) {
+            throw ex;
+        } catch (Exception ex) {
+            Throwable th = Util.unwindException(ex);
+            String message = "Error creating project snapshot";
+            if (th.getLocalizedMessage() != null) {
+                message += ": " + th.getLocalizedMessage();
+            }
+            logger.error(message);
+            throw new MojoExecutionException(message, th);
+        }
+    }
+}
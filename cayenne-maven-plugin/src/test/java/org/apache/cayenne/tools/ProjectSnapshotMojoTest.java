@@ -0,0 +1,62 @@
+/*****************************************************************
+ *   Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ ****************************************************************/
+package org.apache.cayenne.tools;
+
+import org.apache.cayenne.configuration.DataChannelDescriptor;
+import org.apache.cayenne.configuration.snapshot.ProjectSnapshot;
+import org.apache.cayenne.resource.URLResource;
+import org.apache.maven.api.plugin.testing.InjectMojo;
+import org.apache.maven.api.plugin.testing.MojoTest;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@MojoTest
+public class ProjectSnapshotMojoTest {
+
+    @Test
+    public void snapshotExecution(@InjectMojo(goal = "cproject-snapshot", pom = "src/test/resources/snapshot/pom.xml")
+                                  ProjectSnapshotMojo mojo) throws Exception {
+        assertNotNull(mojo);
+        mojo.execute();
+
+        File snapshotFile = new File("target/cayenneProjectSnapshot/cayenne-testDomain.xml.snapshot");
+        assertTrue(snapshotFile.isFile());
+
+        URLResource projectResource = new URLResource(new File("src/test/resources/cgen/cayenne-testDomain.xml").toURI().toURL());
+
+        ProjectSnapshot snapshot;
+        try (InputStream in = new FileInputStream(snapshotFile)) {
+            snapshot = ProjectSnapshot.read(in);
+        }
+
+        assertTrue(snapshot.isUpToDate(projectResource));
+
+        DataChannelDescriptor descriptor = snapshot.getDescriptor(projectResource);
+        assertEquals(2, descriptor.getDataMaps().size());
+        assertNotNull(descriptor.getDataMap("testDomainMap"));
+        assertNotNull(descriptor.getDataMap("testAdditionalMap"));
+    }
+}
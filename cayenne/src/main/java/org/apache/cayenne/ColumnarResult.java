@@ -0,0 +1,110 @@
+/*****************************************************************
+ *   Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ ****************************************************************/
+
+package org.apache.cayenne;
+
+import java.util.BitSet;
+
+/**
+ * A result of a column query stored by column rather than by row. Integer, Short and Byte columns are stored as
+ * {@code int[]}, Long columns as {@code long[]}, Double and Float columns as {@code double[]}, and columns of any
+ * other type as {@code Object[]}. Primitive columns store NULL values as 0, so the null bitmap of a column should be
+ * consulted if the column is nullable. Arrays returned by this object are not copied and must not be modified.
+ *
+ * @see org.apache.cayenne.query.ColumnSelect#selectColumnar(ObjectContext)
+ * @since 5.0
+ */
+public class ColumnarResult {
+
+    private final int size;
+    private final Object[] columns;
+    private final BitSet[] nulls;
+
+    /**
+     * Creates a result from column arrays and their null bitmaps. Each column array must contain exactly "size"
+     * elements. Normally this constructor is invoked by Cayenne when reading a ResultSet.
+     */
+    public ColumnarResult(int size, Object[] columns, BitSet[] nulls) {
+        if (columns.length != nulls.length) {
+            throw new IllegalArgumentException("Columns and null bitmaps count mismatch");
+        }
+
+        this.size = size;
+        this.columns = columns;
+        this.nulls = nulls;
+    }
+
+    /**
+     * Returns the number of rows in the result.
+     */
+    public int size() {
+        return size;
+    }
+
+    public int getColumnCount() {
+        return columns.length;
+    }
+
+    /**
+     * Returns a Java type of the column array elements, i.e. {@code int.class}, {@code long.class},
+     * {@code double.class} or {@code Object.class}.
+     */
+    public Class<?> getColumnType(int column) {
+        return columns[column].getClass().getComponentType();
+    }
+
+    public int[] getInts(int column) {
+        return column(column, int[].class);
+    }
+
+    public long[] getLongs(int column) {
+        return column(column, long[].class);
+    }
+
+    public double[] getDoubles(int column) {
+        return column(column, double[].class);
+    }
+
+    public Object[] getObjects(int column) {
+        return column(column, Object[].class);
+    }
+
+    /**
+     * Returns a bitmap with bits set for the rows that have NULL in a given column.
+     */
+    public BitSet getNulls(int column) {
+        return nulls[column];
+    }
+
+    public boolean isNull(int column, int row) {
+        return nulls[column].get(row);
+    }
+
+    private <A> A column(int column, Class<A> arrayType) {
+        Object array = columns[column];
+        if (!arrayType.isInstance(array)) {
+            throw new CayenneRuntimeException("Column %d is stored as %s[], not as %s",
+                    column,
+                    getColumnType(column).getSimpleName(),
+                    arrayType.getSimpleName());
+        }
+
+        return arrayType.cast(array);
+    }
+}
@@ -151,6 +151,41 @@ public abstract class PersistentObject implements Persistent, Validating {
         throw new IllegalArgumentException("Unknown property: " + propName);
     }
 
+    /**
+     * Returns an index of a property that can be passed to {@link #readPropertyDirectly(int)} and
+     * {@link #writePropertyDirectly(int, Object)}, or -1 if the property can't be accessed by index. Indexes are
+     * assigned by the generated classes and are the same for all instances of a class, so the callers can look up
+     * an index once and reuse it, avoiding a property name lookup on each access.
+     * <p>
+     * Cayenne doesn't use indexes with a subclass that overrides {@link #readPropertyDirectly(String)} or
+     * {@link #writePropertyDirectly(String, Object)}, so that such overrides are still called.
+     *
+     * @since 5.0
+     */
+    public int propertyIndex(String propName) {
+        return -1;
+    }
+
+    /**
+     * Reads a property by its index as returned from {@link #propertyIndex(String)}. Same as
+     * {@link #readPropertyDirectly(String)}, no fault resolving occurs here.
+     *
+     * @since 5.0
+     */
+    public Object readPropertyDirectly(int propIndex) {
+        throw new IllegalArgumentException("Unknown property index: " + propIndex);
+    }
+
+    /**
+     * Writes a property by its index as returned from {@link #propertyIndex(String)}. Same as
+     * {@link #writePropertyDirectly(String, Object)}, no change tracking occurs here.
+     *
+     * @since 5.0
+     */
+    public void writePropertyDirectly(int propIndex, Object val) {
+        throw new IllegalArgumentException("Unknown property index: " + propIndex);
+    }
+
     protected void beforePropertyRead(String propName) {
         if (objectContext != null) {
             // will resolve faults ourselves below as checking class descriptors
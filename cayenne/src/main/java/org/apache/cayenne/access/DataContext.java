@@ -36,6 +36,8 @@ import org.apache.cayenne.cache.NestedQueryCache;
 import org.apache.cayenne.cache.QueryCache;
 import org.apache.cayenne.di.Injector;
 import org.apache.cayenne.event.EventManager;
+import org.apache.cayenne.exp.Expression;
+import org.apache.cayenne.exp.ExpressionFactory;
 import org.apache.cayenne.exp.ValueInjector;
 import org.apache.cayenne.graph.ArcId;
 import org.apache.cayenne.graph.ChildDiffLoader;
@@ -43,6 +45,8 @@ import org.apache.cayenne.graph.CompoundDiff;
 import org.apache.cayenne.graph.GraphDiff;
 import org.apache.cayenne.graph.GraphEvent;
 import org.apache.cayenne.graph.GraphManager;
+import org.apache.cayenne.map.DbAttribute;
+import org.apache.cayenne.map.DbEntity;
 import org.apache.cayenne.map.EntityResolver;
 import org.apache.cayenne.map.LifecycleEvent;
 import org.apache.cayenne.map.ObjEntity;
@@ -50,6 +54,7 @@ import org.apache.cayenne.query.IteratedQueryDecorator;
 import org.apache.cayenne.query.MappedExec;
 import org.apache.cayenne.query.MappedSelect;
 import org.apache.cayenne.query.ObjectIdQuery;
+import org.apache.cayenne.query.ObjectSelect;
 import org.apache.cayenne.query.Query;
 import org.apache.cayenne.query.QueryMetadata;
 import org.apache.cayenne.query.RefreshQuery;
@@ -153,6 +158,11 @@ public class DataContext implements ObjectContext {
 
     protected boolean validatingObjectsOnCommit = true;
 
+    /**
+     * @since 5.0
+     */
+    protected boolean batchFaulting;
+
     /**
      * Creates a new DataContext that is not attached to the Cayenne stack.
      */
@@ -380,6 +390,36 @@ public class DataContext implements ObjectContext {
         return getObjectStore().objectsInState(PersistenceState.DELETED);
     }
 
+    /**
+     * Marks a new object registered in this context to be "upserted" on commit. Instead of a plain INSERT, its row is
+     * written with an adapter-native MERGE or "INSERT ... ON CONFLICT" statement that updates an existing row with
+     * the same primary key. The object must have its primary key set explicitly, so entities with a database-generated
+     * primary key can't be upserted. All rows of the object (e.g. of flattened attributes or vertical inheritance
+     * tables) are upserted. The DbAdapter of the target node must support upserts
+     * (see {@link org.apache.cayenne.dba.DbAdapter#getUpsertTranslator}).
+     *
+     * @since 5.0
+     */
+    public void markForUpsert(Persistent object) {
+        if (object.getObjectContext() != this) {
+            throw new CayenneRuntimeException("Object is not registered in this context: %s", object);
+        }
+        if (object.getPersistenceState() != PersistenceState.NEW) {
+            throw new CayenneRuntimeException("Only NEW objects can be upserted, object %s is in state %s",
+                    object, PersistenceState.persistenceStateName(object.getPersistenceState()));
+        }
+
+        DbEntity entity = getEntityResolver().getObjEntity(object).getDbEntity();
+        for (DbAttribute pk : entity.getPrimaryKeys()) {
+            if (pk.isGenerated()) {
+                throw new CayenneRuntimeException("Can't upsert %s, its PK '%s' is generated by the database",
+                        object, pk.getName());
+            }
+        }
+
+        getObjectStore().markForUpsert(object.getObjectId());
+    }
+
     @Override
     public void deleteObject(Object object) throws DeleteDenyException {
         deleteObjects(object);
@@ -557,6 +597,10 @@ public class DataContext implements ObjectContext {
 
     @Override
     public void prepareForAccess(Persistent object, String property, boolean lazyFaulting) {
+        if (batchFaulting && object.getPersistenceState() == PersistenceState.HOLLOW) {
+            resolveFaultBatch(object);
+        }
+
         if (object.getPersistenceState() == PersistenceState.HOLLOW) {
             ObjectId oid = object.getObjectId();
             List<?> objects = performQuery(new ObjectIdQuery(oid, false, ObjectIdQuery.CACHE));
@@ -592,6 +636,53 @@ public class DataContext implements ObjectContext {
         }
     }
 
+    /**
+     * Resolves a HOLLOW object together with other HOLLOW objects of the same entity registered in this context,
+     * using a single query. The candidates come from the ObjectStore per-entity index of HOLLOW objects, so there is
+     * no scan of the whole ObjectStore. The number of objects resolved at once is bounded by the DataDomain
+     * "maxIdQualifierSize". Objects not found in the DB are left HOLLOW.
+     */
+    private void resolveFaultBatch(Persistent object) {
+        ObjectId oid = object.getObjectId();
+
+        // a cached snapshot resolves the object without a query, so there is nothing to save
+        if (oid.isTemporary() || objectStore.getCachedSnapshot(oid) != null) {
+            return;
+        }
+
+        DataDomain domain = getParentDataDomain();
+        int maxSize = domain != null ? domain.getMaxIdQualifierSize() : 0;
+
+        List<ObjectId> ids = new ArrayList<>();
+        ids.add(oid);
+        ids.addAll(objectStore.hollowObjectIds(oid.getEntityName(), oid, maxSize > 0 ? maxSize - 1 : 0));
+
+        // a single object is resolved by the regular ObjectIdQuery
+        if (ids.size() > 1) {
+            performQuery(ObjectSelect.query(Persistent.class)
+                    .entityName(oid.getEntityName())
+                    .where(idQualifier(ids)));
+        }
+    }
+
+    private static Expression idQualifier(List<ObjectId> ids) {
+        Map<String, Object> firstId = ids.getFirst().getIdSnapshot();
+        if (firstId.size() == 1) {
+            String pk = firstId.keySet().iterator().next();
+            List<Object> values = new ArrayList<>(ids.size());
+            for (ObjectId id : ids) {
+                values.add(id.getIdSnapshot().get(pk));
+            }
+            return ExpressionFactory.inDbExp(pk, values);
+        }
+
+        List<Expression> qualifiers = new ArrayList<>(ids.size());
+        for (ObjectId id : ids) {
+            qualifiers.add(ExpressionFactory.matchAllDbExp(id.getIdSnapshot(), Expression.EQUAL_TO));
+        }
+        return ExpressionFactory.joinExp(Expression.OR, qualifiers);
+    }
+
     /**
      * Converts a list of DataRows to a List of Persistent registered with this
      * DataContext.
@@ -1375,8 +1466,8 @@ public class DataContext implements ObjectContext {
             localObject.setObjectContext(this);
             localObject.setObjectId(id);
 
-            getGraphManager().registerNode(id, localObject);
             localObject.setPersistenceState(PersistenceState.HOLLOW);
+            getGraphManager().registerNode(id, localObject);
 
             return localObject;
         }
@@ -1420,6 +1511,31 @@ public class DataContext implements ObjectContext {
         this.validatingObjectsOnCommit = flag;
     }
 
+    /**
+     * Returns whether resolving a HOLLOW object also resolves other HOLLOW objects of the same entity registered in
+     * this context.
+     *
+     * @since 5.0
+     */
+    public boolean isBatchFaulting() {
+        return batchFaulting;
+    }
+
+    /**
+     * Sets whether resolving a HOLLOW object should also resolve other HOLLOW objects of the same entity registered
+     * in this context, using a single query instead of a query per object. This saves queries when iterating over
+     * invalidated objects or to-many relationships made of HOLLOW objects, at the cost of fetching objects that may
+     * never be accessed. Only objects that become HOLLOW while the flag is on are batched. Default is false, or the
+     * value of
+     * {@link org.apache.cayenne.configuration.Constants#CONTEXT_BATCH_FAULTING_PROPERTY} for contexts created by the
+     * runtime.
+     *
+     * @since 5.0
+     */
+    public void setBatchFaulting(boolean flag) {
+        this.batchFaulting = flag;
+    }
+
     /**
      * Returns a map of user-defined properties associated with this
      * DataContext.
@@ -28,6 +28,7 @@ import org.apache.cayenne.cache.QueryCache;
 import org.apache.cayenne.cache.QueryCacheEntryFactory;
 import org.apache.cayenne.map.DbEntity;
 import org.apache.cayenne.map.EntityInheritanceTree;
+import org.apache.cayenne.query.ColumnarQueryDecorator;
 import org.apache.cayenne.query.EntityResultSegment;
 import org.apache.cayenne.query.IteratedQueryDecorator;
 import org.apache.cayenne.query.ObjectIdQuery;
@@ -103,7 +104,7 @@ class DataContextQueryAction {
     }
 
     private boolean interceptIteratedQuery() {
-        if (query instanceof IteratedQueryDecorator) {
+        if (query instanceof IteratedQueryDecorator || query instanceof ColumnarQueryDecorator) {
             runQuery();
             return DONE;
         }
@@ -474,6 +475,7 @@ class DataContextQueryAction {
             }
 
             object.setPersistenceState(PersistenceState.HOLLOW);
+            objectStore.trackHollow(object);
         }
     }
 
@@ -37,6 +37,7 @@ import org.apache.cayenne.event.EventManager;
 import org.apache.cayenne.graph.CompoundDiff;
 import org.apache.cayenne.graph.GraphDiff;
 import org.apache.cayenne.map.DataMap;
+import org.apache.cayenne.map.DbEntity;
 import org.apache.cayenne.map.EntityResolver;
 import org.apache.cayenne.map.EntitySorter;
 import org.apache.cayenne.query.Query;
@@ -48,10 +49,12 @@ import org.apache.cayenne.util.ToStringBuilder;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
 
 /**
  * DataDomain performs query routing functions in Cayenne. It creates single "ORM data source" abstraction over multiple
@@ -414,6 +417,57 @@ public class DataDomain implements DataChannel {
         return action.flush((DataContext) originatingContext, childChanges);
     }
 
+    /**
+     * Inserts a stream of rows into the table of the given DbEntity without going through an ObjectContext. Rows are
+     * keyed by DbAttribute names (e.g. {@link org.apache.cayenne.DataRow}s). Missing single-column primary keys are
+     * generated via the node {@link org.apache.cayenne.dba.PkGenerator} or by the database. The rows are inserted in
+     * chunks of "chunkSize" in a single transaction, so that the stream is never fully loaded in memory. Neither the
+     * snapshot cache nor the query cache is updated.
+     *
+     * @return the number of inserted rows.
+     * @since 5.0
+     */
+    public long bulkInsert(DbEntity entity, Stream<? extends Map<String, ?>> rows, int chunkSize) {
+        checkStopped();
+        return new DataDomainBulkInsertAction(this, entity, chunkSize).insert(rows);
+    }
+
+    /**
+     * Inserts a stream of rows into the table of the given DbEntity without going through an ObjectContext. Each row
+     * is an array of values of the specified DbAttributes in the same order.
+     *
+     * @return the number of inserted rows.
+     * @see #bulkInsert(DbEntity, Stream, int)
+     * @since 5.0
+     */
+    public long bulkInsert(DbEntity entity, List<String> columns, Stream<Object[]> rows, int chunkSize) {
+        return bulkInsert(entity, rows.map(values -> {
+            if (values.length != columns.size()) {
+                throw new CayenneRuntimeException("Expected %d values per row, got %d", columns.size(), values.length);
+            }
+
+            Map<String, Object> row = new HashMap<>((int) Math.ceil(values.length / 0.75));
+            for (int i = 0; i < values.length; i++) {
+                row.put(columns.get(i), values[i]);
+            }
+            return row;
+        }), chunkSize);
+    }
+
+    /**
+     * Inserts a stream of rows into the table of the given DbEntity, updating the rows that already exist instead of
+     * inserting them. Rows are matched by primary key, so each row must contain values for all PK columns. Requires
+     * the node adapter to support upserts (see {@link org.apache.cayenne.dba.DbAdapter#getUpsertTranslator}).
+     * Otherwise works the same way as {@link #bulkInsert(DbEntity, Stream, int)}.
+     *
+     * @return the number of upserted rows.
+     * @since 5.0
+     */
+    public long bulkUpsert(DbEntity entity, Stream<? extends Map<String, ?>> rows, int chunkSize) {
+        checkStopped();
+        return new DataDomainBulkInsertAction(this, entity, chunkSize, true).insert(rows);
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this).append("name", name).toString();
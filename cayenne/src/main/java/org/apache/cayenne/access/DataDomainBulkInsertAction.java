@@ -0,0 +1,197 @@
+/*****************************************************************
+ *   Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ ****************************************************************/
+
+package org.apache.cayenne.access;
+
+import org.apache.cayenne.CayenneRuntimeException;
+import org.apache.cayenne.CayenneSqlException;
+import org.apache.cayenne.ObjectId;
+import org.apache.cayenne.access.translator.TranslatedStatement;
+import org.apache.cayenne.dba.PkGenerator;
+import org.apache.cayenne.map.DbAttribute;
+import org.apache.cayenne.map.DbEntity;
+import org.apache.cayenne.query.InsertBatchQuery;
+import org.apache.cayenne.query.Query;
+import org.apache.cayenne.query.UpsertBatchQuery;
+import org.apache.cayenne.util.Util;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Inserts (or upserts) a stream of rows into a single DbEntity, bypassing ObjectContext and the snapshot cache. Rows
+ * are collected into InsertBatchQueries (or UpsertBatchQueries) of up to a fixed size that are executed one after
+ * another in a single transaction, so only one chunk of rows is held in memory at any time. A chunk only contains rows
+ * with the same set of columns, and the columns missing from a row are left out of the statement.
+ *
+ * @since 5.0
+ */
+class DataDomainBulkInsertAction {
+
+    private final DataDomain domain;
+    private final DbEntity entity;
+    private final int chunkSize;
+    private final boolean upsert;
+
+    private final DataNode node;
+    private final DbAttribute generatedPk;
+    private final boolean dbGeneratedPk;
+
+    DataDomainBulkInsertAction(DataDomain domain, DbEntity entity, int chunkSize) {
+        this(domain, entity, chunkSize, false);
+    }
+
+    DataDomainBulkInsertAction(DataDomain domain, DbEntity entity, int chunkSize, boolean upsert) {
+
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be positive: " + chunkSize);
+        }
+
+        this.domain = domain;
+        this.entity = entity;
+        this.chunkSize = chunkSize;
+        this.upsert = upsert;
+        this.node = domain.lookupDataNode(entity.getDataMap());
+
+        // only a single PK column can be generated, same as when committing objects
+        List<DbAttribute> pks = entity.getPrimaryKeys();
+        this.generatedPk = pks.size() == 1 ? pks.getFirst() : null;
+        this.dbGeneratedPk = generatedPk != null
+                && generatedPk.isGenerated()
+                && node.getAdapter().supportsGeneratedKeys();
+
+        if (upsert) {
+            for (DbAttribute pk : pks) {
+                if (pk.isGenerated()) {
+                    throw new CayenneRuntimeException("Can't upsert into %s, its PK '%s' is generated by the database",
+                            entity.getName(), pk.getName());
+                }
+            }
+        }
+    }
+
+    long insert(Stream<? extends Map<String, ?>> rows) {
+        return domain.getTransactionManager().performInTransaction(() -> {
+            try (rows) {
+                return insert(rows.iterator());
+            }
+        });
+    }
+
+    private long insert(Iterator<? extends Map<String, ?>> rows) {
+        long count = 0;
+        InsertBatchQuery chunk = null;
+        BulkInsertObserver observer = new BulkInsertObserver();
+
+        while (rows.hasNext()) {
+            Map<String, ?> row = rows.next();
+            Map<String, Object> snapshot = new HashMap<>(row);
+            ObjectId id = prepareRow(snapshot, row);
+
+            // columns missing from a row are not bound at all, so only rows with the same columns can share a chunk
+            List<DbAttribute> columns = InsertBatchQuery.snapshotAttributes(entity, snapshot);
+            if (chunk != null && (chunk.getRows().size() >= chunkSize || !chunk.getDbAttributes().equals(columns))) {
+                count += execute(chunk, observer);
+                chunk = null;
+            }
+
+            if (chunk == null) {
+                chunk = upsert
+                        ? new UpsertBatchQuery(entity, columns, chunkSize)
+                        : new InsertBatchQuery(entity, columns, chunkSize);
+            }
+            chunk.add(snapshot, id);
+        }
+
+        if (chunk != null) {
+            count += execute(chunk, observer);
+        }
+
+        return count;
+    }
+
+    private int execute(InsertBatchQuery chunk, BulkInsertObserver observer) {
+        node.performQueries(Collections.singletonList(chunk), observer);
+        return chunk.getRows().size();
+    }
+
+    /**
+     * Checks or generates the PK of the row snapshot, returning an id to read back a PK generated by the database, or
+     * null if the PK is in the snapshot.
+     */
+    private ObjectId prepareRow(Map<String, Object> snapshot, Map<String, ?> row) {
+        if (upsert) {
+            // an upsert is matched by PK, so a row without one can't be merged with an existing row
+            for (DbAttribute pk : entity.getPrimaryKeys()) {
+                if (snapshot.get(pk.getName()) == null) {
+                    throw new CayenneRuntimeException("Can't upsert a row without PK value '%s': %s",
+                            pk.getName(), row);
+                }
+            }
+        } else if (generatedPk != null && snapshot.get(generatedPk.getName()) == null) {
+            if (dbGeneratedPk) {
+                // the key is generated on insert, the id is only there to let BatchAction read it back
+                return ObjectId.of(entity.getName());
+            }
+
+            snapshot.put(generatedPk.getName(), generatePk());
+        }
+
+        return null;
+    }
+
+    private Object generatePk() {
+        PkGenerator pkGenerator = node.getPkGenerator();
+        try {
+            return pkGenerator.generatePk(node, generatedPk, null);
+        } catch (Exception ex) {
+            throw new CayenneRuntimeException("Error generating PK: %s", ex, ex.getMessage());
+        }
+    }
+
+    private static class BulkInsertObserver implements OperationObserver {
+
+        // the latest statement reported via nextStatement, used to correlate a failure with a specific SQL statement
+        private TranslatedStatement statement;
+
+        @Override
+        public void nextStatement(Query query, TranslatedStatement statement) {
+            this.statement = statement;
+        }
+
+        @Override
+        public void nextQueryException(Query query, Exception ex) {
+            Throwable unwound = Util.unwindException(ex, CayenneRuntimeException.class);
+
+            if (unwound instanceof CayenneRuntimeException cayenneException) {
+                throw cayenneException;
+            }
+            throw new CayenneSqlException("Bulk insert exception.", query, statement, unwound);
+        }
+
+        @Override
+        public void nextGlobalException(Exception ex) {
+            throw new CayenneRuntimeException("Bulk insert exception.", Util.unwindException(ex));
+        }
+    }
+}
@@ -40,6 +40,7 @@ import org.apache.cayenne.map.Embeddable;
 import org.apache.cayenne.map.EntityInheritanceTree;
 import org.apache.cayenne.map.LifecycleEvent;
 import org.apache.cayenne.map.ObjRelationship;
+import org.apache.cayenne.query.ColumnarQueryDecorator;
 import org.apache.cayenne.query.EmbeddableResultSegment;
 import org.apache.cayenne.query.EntityResultSegment;
 import org.apache.cayenne.query.IteratedQueryDecorator;
@@ -136,7 +137,7 @@ class DataDomainQueryAction implements QueryRouter, OperationObserver {
     QueryResponse execute() {
 
         // run chain...
-        if (interceptIteratedQuery() != DONE) {
+        if (interceptIteratedQuery() != DONE && interceptColumnarQuery() != DONE) {
             if (interceptOIDQuery() != DONE) {
                 if (interceptRelationshipQuery() != DONE) {
                     if (interceptRefreshQuery() != DONE) {
@@ -163,6 +164,15 @@ class DataDomainQueryAction implements QueryRouter, OperationObserver {
         return !DONE;
     }
 
+    private boolean interceptColumnarQuery() {
+        if (query instanceof ColumnarQueryDecorator) {
+            noObjectConversion = true;
+            runQueryInTransaction();
+            return DONE;
+        }
+        return !DONE;
+    }
+
     private void validateIteratedQuery() {
         if (metadata.getPageSize() > 0) {
             throw new CayenneRuntimeException("Pagination is not supported with iterator");
@@ -721,6 +731,11 @@ class DataDomainQueryAction implements QueryRouter, OperationObserver {
         return (query instanceof IteratedQueryDecorator);
     }
 
+    @Override
+    public boolean isColumnarResult() {
+        return (query instanceof ColumnarQueryDecorator);
+    }
+
     protected <T, R> void updateResponse(List<T> sourceObjects, List<? extends R> targetObjects) {
         if (response instanceof GenericResponse genericResponse) {
             genericResponse.replaceResult(sourceObjects, targetObjects);
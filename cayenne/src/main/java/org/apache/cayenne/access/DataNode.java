@@ -27,6 +27,7 @@ import org.apache.cayenne.access.translator.EJBQLTranslator;
 import org.apache.cayenne.access.translator.ProcedureTranslator;
 import org.apache.cayenne.access.translator.SQLTemplateTranslator;
 import org.apache.cayenne.access.translator.SelectTranslator;
+import org.apache.cayenne.access.translator.ejbql.EJBQLTranslationCache;
 import org.apache.cayenne.dba.DbAdapter;
 import org.apache.cayenne.dba.PkGenerator;
 import org.apache.cayenne.log.NoopSQLLogger;
@@ -80,7 +81,9 @@ public class DataNode {
     private SelectTranslator selectTranslator;
     private ProcedureTranslator procedureTranslator;
     private EJBQLTranslator ejbqlTranslator;
+    private EJBQLTranslationCache ejbqlTranslationCache;
     private SQLTemplateTranslator sqlTemplateTranslator;
+    private int maxIdQualifierSize;
 
     /**
      * Creates a new unnamed DataNode.
@@ -353,6 +356,23 @@ public class DataNode {
         return new ToStringBuilder(this).append("name", getName()).toString();
     }
 
+    /**
+     * Returns the maximum number of rows matched by primary key in a single statement generated by this node, e.g.
+     * when verifying optimistically locked batches. Zero or negative value means no limit.
+     *
+     * @since 5.0
+     */
+    public int getMaxIdQualifierSize() {
+        return maxIdQualifierSize;
+    }
+
+    /**
+     * @since 5.0
+     */
+    public void setMaxIdQualifierSize(int maxIdQualifierSize) {
+        this.maxIdQualifierSize = maxIdQualifierSize;
+    }
+
     /**
      * @since 4.0
      */
@@ -465,6 +485,22 @@ public class DataNode {
         this.ejbqlTranslator = ejbqlTranslator;
     }
 
+    /**
+     * Returns a cache of translated EJBQL statements, or null if the translations are not cached.
+     *
+     * @since 5.0
+     */
+    public EJBQLTranslationCache getEjbqlTranslationCache() {
+        return ejbqlTranslationCache;
+    }
+
+    /**
+     * @since 5.0
+     */
+    public void setEjbqlTranslationCache(EJBQLTranslationCache ejbqlTranslationCache) {
+        this.ejbqlTranslationCache = ejbqlTranslationCache;
+    }
+
     // a read-through DataSource that ensures returning the same connection
     // within transaction.
     static class TransactionDataSource implements DataSource {
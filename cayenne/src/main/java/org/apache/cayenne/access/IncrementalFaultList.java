@@ -20,6 +20,7 @@
 package org.apache.cayenne.access;
 
 import org.apache.cayenne.CayenneRuntimeException;
+import org.apache.cayenne.DataRow;
 import org.apache.cayenne.Persistent;
 import org.apache.cayenne.exp.Expression;
 import org.apache.cayenne.exp.ExpressionFactory;
@@ -38,6 +39,9 @@ import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 /**
  * A synchronized list that serves as a container of Persistent objects. It is returned
@@ -78,6 +82,8 @@ public class IncrementalFaultList<E> implements List<E>, Serializable {
 
 	IncrementalListHelper helper;
 
+	private transient volatile PageReadAhead readAhead;
+
 	// Don't confuse this with the JDBC ResultSet fetch size setting -
 	// this controls the where clause generation that is necessary to fetch specific records a
 	// page at a time. Some JDBC Drivers/Databases may have limits on statement
@@ -113,10 +119,21 @@ public class IncrementalFaultList<E> implements List<E>, Serializable {
 		this.idWidth = metadata.getDbEntity().getPrimaryKeys().size();
 		this.maxFetchSize = maxFetchSize;
 		// make a copy of data, as we need to modify content of this list later
-		this.elements = Collections.synchronizedList(new ArrayList<>(data));
+		this.elements = createElements(data);
 		this.unfetchedObjects = elements.size();
 	}
 
+	/**
+	 * Creates a synchronized copy of the initial list data that stores the
+	 * elements of this list. Invoked from the constructor, so must not rely on
+	 * the subclass state.
+	 * 
+	 * @since 5.0
+	 */
+	List<Object> createElements(List<?> data) {
+		return Collections.synchronizedList(new ArrayList<>(data));
+	}
+
 	/**
 	 * @since 3.0
 	 */
@@ -213,33 +230,14 @@ public class IncrementalFaultList<E> implements List<E>, Serializable {
 				toIndex = elements.size();
 			}
 
-			List<Expression> quals = new ArrayList<>(pageSize);
-			List<Object> ids = new ArrayList<>(pageSize);
-			for (int i = fromIndex; i < toIndex; i++) {
-				Object object = elements.get(i);
-				if (getHelper().unresolvedSuspect(object)) {
-					quals.add(buildIdQualifier(object));
-					ids.add(object);
-				}
-			}
-
-			int qualsSize = quals.size();
-			if (qualsSize == 0) {
+			List<Object> ids = unresolvedIds(fromIndex, toIndex);
+			if (ids.isEmpty()) {
 				return;
 			}
 
-			// fetch the range of objects in fetchSize chunks
-			List<Object> objects = new ArrayList<>(qualsSize);
-
-			int fetchSize = maxFetchSize > 0 ? maxFetchSize : Integer.MAX_VALUE;
-
-			int fetchEnd = Math.min(qualsSize, fetchSize);
-			int fetchBegin = 0;
-			while (fetchBegin < qualsSize) {
-				ObjectSelect<Persistent> query = createSelectQuery(quals.subList(fetchBegin, fetchEnd));
+			List<Object> objects = new ArrayList<>(ids.size());
+			for (ObjectSelect<Persistent> query : createSelectQueries(ids)) {
 				objects.addAll(dataContext.performQuery(query));
-				fetchBegin = fetchEnd;
-				fetchEnd += Math.min(fetchSize, qualsSize - fetchEnd);
 			}
 
 			// sanity check - database data may have changed
@@ -250,7 +248,149 @@ public class IncrementalFaultList<E> implements List<E>, Serializable {
 		}
 	}
 
-	void updatePageWithResults(List<Object> objects, int fromIndex, int toIndex) {
+	private List<Object> unresolvedIds(int fromIndex, int toIndex) {
+		List<Object> ids = new ArrayList<>(pageSize);
+		for (int i = fromIndex; i < toIndex; i++) {
+			Object object = elements.get(i);
+			if (getHelper().unresolvedSuspect(object)) {
+				ids.add(object);
+			}
+		}
+
+		return ids;
+	}
+
+	/**
+	 * Creates queries to fetch objects for the ids, each matching at most "maxFetchSize" ids.
+	 */
+	private List<ObjectSelect<Persistent>> createSelectQueries(List<Object> ids) {
+		List<Expression> quals = new ArrayList<>(ids.size());
+		for (Object id : ids) {
+			quals.add(buildIdQualifier(id));
+		}
+
+		int qualsSize = quals.size();
+		int fetchSize = maxFetchSize > 0 ? maxFetchSize : Integer.MAX_VALUE;
+		List<ObjectSelect<Persistent>> queries = new ArrayList<>();
+
+		// fetch the range of objects in fetchSize chunks
+		int fetchEnd = Math.min(qualsSize, fetchSize);
+		int fetchBegin = 0;
+		while (fetchBegin < qualsSize) {
+			queries.add(createSelectQuery(quals.subList(fetchBegin, fetchEnd)));
+			fetchBegin = fetchEnd;
+			fetchEnd += Math.min(fetchSize, qualsSize - fetchEnd);
+		}
+
+		return queries;
+	}
+
+	/**
+	 * Enables background resolution of the pages following the page being accessed. When an element at a page
+	 * boundary or an unresolved element is read, up to "pages" subsequent pages start resolving in the provided
+	 * executor, so that the database latency overlaps with the processing of the current page. Resolved objects are
+	 * put in the list when their page is accessed. If the list content changes in between, a page is resolved again
+	 * synchronously. Pending pages outside the read-ahead window of the accessed page are cancelled, as well as all
+	 * pending pages when the read-ahead is disabled. So at most "pages" pages are held until the list is accessed
+	 * again, e.g. when the list is stored in the query cache.
+	 * <p>
+	 * The background queries fetch DataRows directly from the DataDomain, without using the DataContext of this list,
+	 * and the rows are converted to objects by the thread accessing the page. So read-ahead is not done for lists of
+	 * nested contexts, or for queries with prefetches. The executor determines how many page queries can run at
+	 * once, so normally it should have a bounded number of threads.
+	 *
+	 * @param pages    a number of pages to resolve ahead. Zero or negative value disables read-ahead.
+	 * @param executor an executor to run page queries
+	 * @since 5.0
+	 */
+	public synchronized void setReadAhead(int pages, Executor executor) {
+		cancelReadAhead();
+
+		if (pages > 0) {
+			this.readAhead = new PageReadAhead(pages, Objects.requireNonNull(executor));
+		}
+	}
+
+	/**
+	 * Disables read-ahead, cancelling pages that are not resolved yet.
+	 *
+	 * @since 5.0
+	 */
+	public synchronized void cancelReadAhead() {
+		if (readAhead != null) {
+			readAhead.cancelAll();
+			readAhead = null;
+		}
+	}
+
+	/**
+	 * Puts the objects fetched in background for a page in the list. Returns false if there were no such objects, or
+	 * they can't be used.
+	 */
+	private boolean resolvePageFromReadAhead(PageReadAhead readAhead, int pageIndex) {
+		PageReadAhead.PendingPage page = readAhead.take(pageIndex);
+		if (page == null) {
+			return false;
+		}
+
+		List<DataRow> rows;
+		try {
+			rows = page.rows().join();
+		} catch (CancellationException | CompletionException e) {
+			// a failed page is resolved again synchronously, reporting the failure to the caller if it persists
+			return false;
+		}
+
+		int fromIndex = pageIndex * pageSize;
+		int toIndex = Math.min(fromIndex + pageSize, elements.size());
+
+		// the list may have been modified since the page was scheduled
+		List<Object> ids = unresolvedIds(fromIndex, toIndex);
+		if (!ids.equals(page.ids())) {
+			return false;
+		}
+
+		List<?> objects = metadata.isFetchingDataRows()
+				? rows
+				: dataContext.objectsFromDataRows(
+						dataContext.getEntityResolver().getClassDescriptor(rootEntity.getName()), rows);
+
+		checkPageResultConsistency(objects, ids);
+		updatePageWithResults(objects, fromIndex, toIndex);
+		return true;
+	}
+
+	private void scheduleReadAhead(PageReadAhead readAhead, int pageIndex) {
+		readAhead.retainWindow(pageIndex);
+
+		// rows are fetched bypassing the DataContext, which is only possible with the DataDomain as a parent channel,
+		// and without prefetches that need to be resolved in the context
+		if (!(dataContext.getParent() instanceof DataDomain domain)
+				|| (!metadata.isFetchingDataRows() && metadata.getPrefetchTree() != null)) {
+			return;
+		}
+
+		int lastPage = (elements.size() - 1) / pageSize;
+		int toPage = Math.min(pageIndex + readAhead.getPages(), lastPage);
+
+		for (int i = pageIndex + 1; i <= toPage; i++) {
+			if (readAhead.isPending(i)) {
+				continue;
+			}
+
+			int fromIndex = i * pageSize;
+			List<Object> ids = unresolvedIds(fromIndex, Math.min(fromIndex + pageSize, elements.size()));
+			if (!ids.isEmpty()) {
+				List<ObjectSelect<DataRow>> queries = new ArrayList<>();
+				for (ObjectSelect<Persistent> query : createSelectQueries(ids)) {
+					queries.add(query.fetchDataRows());
+				}
+				readAhead.schedule(i, ids, domain, queries);
+			}
+		}
+	}
+
+	void updatePageWithResults(List<?> objects, int fromIndex, int toIndex) {
 		for (Object object : objects) {
 			getHelper().updateWithResolvedObjectInRange(object, fromIndex, toIndex);
 		}
@@ -533,14 +673,26 @@ public class IncrementalFaultList<E> implements List<E>, Serializable {
 
 		synchronized (elements) {
 			Object o = elements.get(index);
+			PageReadAhead readAhead = this.readAhead;
 
 			if (getHelper().unresolvedSuspect(o)) {
 				// read this page
-				int pageStart = pageIndex(index) * pageSize;
-				resolveInterval(pageStart, pageStart + pageSize);
+				int pageIndex = pageIndex(index);
+				if (readAhead == null || !resolvePageFromReadAhead(readAhead, pageIndex)) {
+					int pageStart = pageIndex * pageSize;
+					resolveInterval(pageStart, pageStart + pageSize);
+				}
+
+				if (readAhead != null) {
+					scheduleReadAhead(readAhead, pageIndex);
+				}
 
 				return (E) elements.get(index);
 			} else {
+				if (readAhead != null && index % pageSize == 0) {
+					scheduleReadAhead(readAhead, pageIndex(index));
+				}
+
 				return (E) o;
 			}
 		}
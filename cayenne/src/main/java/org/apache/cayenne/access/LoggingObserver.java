@@ -19,6 +19,7 @@
 
 package org.apache.cayenne.access;
 
+import org.apache.cayenne.ColumnarResult;
 import org.apache.cayenne.DataRow;
 import org.apache.cayenne.ObjectId;
 import org.apache.cayenne.ResultIterator;
@@ -151,7 +152,9 @@ class LoggingObserver implements OperationObserver {
     @Override
     public void nextRows(Query query, List<?> dataRows) {
         if (current != null) {
-            reportSelect(dataRows.size());
+            reportSelect(dataRows.size() == 1 && dataRows.getFirst() instanceof ColumnarResult columnar
+                    ? columnar.size()
+                    : dataRows.size());
         }
         delegate.nextRows(query, dataRows);
     }
@@ -199,6 +202,11 @@ class LoggingObserver implements OperationObserver {
         return delegate.isIteratedResult();
     }
 
+    @Override
+    public boolean isColumnarResult() {
+        return delegate.isColumnarResult();
+    }
+
     /**
      * Wraps a user-facing {@link ResultIterator}, counting rows as they are read and logging the compact select line
      * once the iterator is closed.
@@ -24,6 +24,7 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
 
 import org.apache.cayenne.Persistent;
 import org.apache.cayenne.ResultIterator;
@@ -97,6 +98,16 @@ class MixedResultIncrementalFaultList<E> extends IncrementalFaultList<E> {
         }
     }
 
+    /**
+     * Does nothing, as read-ahead is not supported for mixed results, which are resolved per entity column.
+     *
+     * @since 5.0
+     */
+    @Override
+    public void setReadAhead(int pages, Executor executor) {
+        // no read-ahead for column queries, pages are resolved on access
+    }
+
     @Override
     protected void resolveInterval(int fromIndex, int toIndex) {
         if (fromIndex >= toIndex || scalarResult) {
@@ -43,6 +43,7 @@ import org.apache.cayenne.reflect.ToOneProperty;
 import java.util.Objects;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
@@ -59,8 +60,13 @@ public class ObjectDiff extends NodeDiff {
 
     private Collection<NodeDiff> otherDiffs;
 
-    private Map<String, Object> snapshot;
-    private Map<String, Object> arcSnapshot;
+    // attribute values and to-one arc targets at diff creation time, stored by ClassDescriptor property index
+    private Object[] snapshot;
+    private BitSet snapshotted;
+
+    // true if the object existed in the DB when the diff was created, so there is a baseline to compare with
+    private boolean baseline;
+
     private Map<String, Object> currentArcSnapshot;
     private Map<ArcOperation, ArcOperation> flatIds;
     private Map<ArcOperation, ArcOperation> phantomFks;
@@ -92,19 +98,23 @@ public class ObjectDiff extends NodeDiff {
             final ObjEntity entity = entityResolver.getObjEntity(entityName);
             final boolean lock = entity.getLockType() == ObjEntity.LOCK_TYPE_OPTIMISTIC;
 
-            this.snapshot = new HashMap<>();
-            this.arcSnapshot = new HashMap<>();
+            this.baseline = true;
+            initSnapshot();
 
+            // properties are indexed in the visiting order, so a running index saves a name lookup per property
             classDescriptor.visitProperties(new PropertyVisitor() {
 
+                int index;
+
                 @Override
                 public boolean visitAttribute(AttributeProperty property) {
-                    snapshot.put(property.getName(), property.readProperty(object));
+                    putSnapshotValue(index++, property.readProperty(object));
                     return true;
                 }
 
                 @Override
                 public boolean visitToMany(ToManyProperty property) {
+                    index++;
                     return true;
                 }
 
@@ -122,7 +132,7 @@ public class ObjectDiff extends NodeDiff {
                     }
                     // else - null || Fault
 
-                    arcSnapshot.put(property.getName(), target);
+                    putSnapshotValue(index++, target);
                     return true;
                 }
             });
@@ -145,17 +155,27 @@ public class ObjectDiff extends NodeDiff {
     }
 
     public Object getSnapshotValue(String propertyName) {
-        return snapshot != null ? snapshot.get(propertyName) : null;
+        if (!baseline) {
+            return null;
+        }
+
+        int index = getClassDescriptor().getPropertyIndex(propertyName);
+        if (index < 0) {
+            return null;
+        }
+
+        return snapshot[index];
     }
 
     public ObjectId getArcSnapshotValue(String propertyName) {
-        Object value = arcSnapshot != null ? arcSnapshot.get(propertyName) : null;
+        int index = snapshot != null ? getClassDescriptor().getPropertyIndex(propertyName) : -1;
+        Object value = index >= 0 ? snapshot[index] : null;
 
         if (value instanceof Fault fault) {
             Persistent target = (Persistent) fault.resolveFault(object, propertyName);
 
             value = target != null ? target.getObjectId() : null;
-            arcSnapshot.put(propertyName, value);
+            snapshot[index] = value;
         }
 
         return (ObjectId) value;
@@ -176,7 +196,23 @@ public class ObjectDiff extends NodeDiff {
     }
 
     boolean containsArcSnapshot(String propertyName) {
-        return arcSnapshot != null && arcSnapshot.containsKey(propertyName);
+        if (snapshot == null) {
+            return false;
+        }
+
+        int index = getClassDescriptor().getPropertyIndex(propertyName);
+        return index >= 0 && snapshotted.get(index);
+    }
+
+    private void initSnapshot() {
+        int size = getClassDescriptor().getPropertyCount();
+        this.snapshot = new Object[size];
+        this.snapshotted = new BitSet(size);
+    }
+
+    private void putSnapshotValue(int index, Object value) {
+        snapshot[index] = value;
+        snapshotted.set(index);
     }
 
     /**
@@ -314,7 +350,7 @@ public class ObjectDiff extends NodeDiff {
     public boolean isNoop() {
 
         // if we have no baseline to compare with, assume that there are changes
-        if (snapshot == null) {
+        if (!baseline) {
             return false;
         }
 
@@ -336,10 +372,12 @@ public class ObjectDiff extends NodeDiff {
         final boolean[] modFound = new boolean[1];
         getClassDescriptor().visitProperties(new PropertyVisitor() {
 
+            int index;
+
             @Override
             public boolean visitAttribute(AttributeProperty property) {
 
-                Object oldValue = snapshot.get(property.getName());
+                Object oldValue = snapshot[index++];
                 Object newValue = property.readProperty(object);
 
                 if (!property.equals(oldValue, newValue)) {
@@ -352,12 +390,14 @@ public class ObjectDiff extends NodeDiff {
             @Override
             public boolean visitToMany(ToManyProperty property) {
                 // flattened changes
+                index++;
                 return true;
             }
 
             @Override
             public boolean visitToOne(ToOneProperty property) {
-                if (arcSnapshot == null) {
+                int i = index++;
+                if (!snapshotted.get(i)) {
                     return true;
                 }
 
@@ -366,7 +406,7 @@ public class ObjectDiff extends NodeDiff {
                     return true;
                 }
 
-                Object oldValue = arcSnapshot.get(property.getName());
+                Object oldValue = snapshot[i];
                 if (!property.equals(oldValue, newValue != null ? ((Persistent) newValue).getObjectId() : null)) {
                     modFound[0] = true;
                 }
@@ -406,13 +446,16 @@ public class ObjectDiff extends NodeDiff {
 
         getClassDescriptor().visitProperties(new PropertyVisitor() {
 
+            int index;
+
             @Override
             public boolean visitAttribute(AttributeProperty property) {
 
+                int i = index++;
                 Object newValue = property.readProperty(object);
 
                 // no baseline to compare
-                if (snapshot == null) {
+                if (!baseline) {
 
                     if (newValue != null) {
                         handler.nodePropertyChanged(nodeId, property.getName(), null, newValue);
@@ -420,7 +463,7 @@ public class ObjectDiff extends NodeDiff {
                 }
                 // have baseline to compare
                 else {
-                    Object oldValue = snapshot.get(property.getName());
+                    Object oldValue = snapshot[i];
 
                     if (!property.equals(oldValue, newValue)) {
                         handler.nodePropertyChanged(nodeId, property.getName(), oldValue, newValue);
@@ -432,11 +475,13 @@ public class ObjectDiff extends NodeDiff {
 
             @Override
             public boolean visitToMany(ToManyProperty property) {
+                index++;
                 return true;
             }
 
             @Override
             public boolean visitToOne(ToOneProperty property) {
+                index++;
                 return true;
             }
         });
@@ -446,11 +491,14 @@ public class ObjectDiff extends NodeDiff {
      * This is used to update faults.
      */
     void updateArcSnapshot(String propertyName, Persistent object) {
-        if (arcSnapshot == null) {
-            arcSnapshot = new HashMap<>();
+        if (snapshot == null) {
+            initSnapshot();
         }
 
-        arcSnapshot.put(propertyName, object != null ? object.getObjectId() : null);
+        int index = getClassDescriptor().getPropertyIndex(propertyName);
+        if (index >= 0) {
+            putSnapshotValue(index, object != null ? object.getObjectId() : null);
+        }
     }
 
     static final class ArcOperation extends NodeDiff {
@@ -53,8 +53,10 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
@@ -77,6 +79,22 @@ public class ObjectStore implements Serializable, SnapshotEventListener, GraphMa
      */
     protected Map<Object, Map<CayennePath, ObjectId>> trackedFlattenedPaths;
 
+    /**
+     * Ids of new objects that should be upserted instead of inserted on commit.
+     * @since 5.0
+     */
+    protected Set<ObjectId> upsertIds;
+
+    /**
+     * Ids of objects that became HOLLOW, grouped by entity name. Only tracked when the owning context does batch
+     * faulting. Ids of objects that got resolved or unregistered since are pruned lazily when the index is read.
+     * @since 5.0
+     */
+    protected Map<String, Set<ObjectId>> hollowIds;
+
+    // set while "hollowIds" is iterated, as reading the object map may clean up keys of collected objects
+    private transient boolean readingHollowIds;
+
     // a sequential id used to tag GraphDiffs so that they can later be sorted in the
     // original creation order
     int currentDiffId;
@@ -353,8 +371,10 @@ public class ObjectStore implements Serializable, SnapshotEventListener, GraphMa
                     object.setPersistenceState(PersistenceState.TRANSIENT);
                 }
                 // deleted is only a persistence state, so rolling back sets state to committed
-                case PersistenceState.DELETED, PersistenceState.MODIFIED ->
-                        object.setPersistenceState(PersistenceState.HOLLOW);
+                case PersistenceState.DELETED, PersistenceState.MODIFIED -> {
+                    object.setPersistenceState(PersistenceState.HOLLOW);
+                    trackHollow(object);
+                }
                 default -> { /* Transient, committed and hollow need no handling */ }
             }
         }
@@ -362,6 +382,7 @@ public class ObjectStore implements Serializable, SnapshotEventListener, GraphMa
         // reset changes ... using new HashMap to allow event listeners to analyze the
         // original changes map after the rollback
         this.changes = new HashMap<>();
+        this.upsertIds = null;
     }
 
     /**
@@ -438,6 +459,7 @@ public class ObjectStore implements Serializable, SnapshotEventListener, GraphMa
         // create new instance of changes map so that event listeners who stored the
         // original diff don't get affected
         this.changes = new HashMap<>();
+        this.upsertIds = null;
     }
 
     /**
@@ -639,8 +661,10 @@ public class ObjectStore implements Serializable, SnapshotEventListener, GraphMa
                 }
 
                 switch (object.getPersistenceState()) {
-                    case PersistenceState.COMMITTED ->
-                            object.setPersistenceState(PersistenceState.HOLLOW);
+                    case PersistenceState.COMMITTED -> {
+                        object.setPersistenceState(PersistenceState.HOLLOW);
+                        trackHollow(object);
+                    }
                     case PersistenceState.MODIFIED -> {
                         DataContext context = (DataContext) object.getObjectContext();
                         DataRow diff = getSnapshot(oid);
@@ -825,6 +849,7 @@ public class ObjectStore implements Serializable, SnapshotEventListener, GraphMa
     @Override
     public synchronized void registerNode(Object nodeId, Object nodeObject) {
         objectMap.put(nodeId, (Persistent) nodeObject);
+        trackHollow((Persistent) nodeObject);
     }
 
     /**
@@ -991,6 +1016,78 @@ public class ObjectStore implements Serializable, SnapshotEventListener, GraphMa
                 .put(path, id);
     }
 
+    /**
+     * Marks a new object to be upserted on commit, i.e. to update an existing row with the same primary key instead of
+     * failing on insert.
+     * @since 5.0
+     */
+    public void markForUpsert(ObjectId objectId) {
+        if(upsertIds == null) {
+            upsertIds = ConcurrentHashMap.newKeySet();
+        }
+        upsertIds.add(objectId);
+    }
+
+    /**
+     * @since 5.0
+     */
+    public boolean isMarkedForUpsert(ObjectId objectId) {
+        return upsertIds != null && upsertIds.contains(objectId);
+    }
+
+    /**
+     * Records a HOLLOW object in the index used by batch faulting. Does nothing if the owning context doesn't do
+     * batch faulting or if the object is not HOLLOW.
+     * @since 5.0
+     */
+    synchronized void trackHollow(Persistent object) {
+        if (context == null || !context.isBatchFaulting() || object.getPersistenceState() != PersistenceState.HOLLOW) {
+            return;
+        }
+
+        ObjectId id = object.getObjectId();
+        if (id != null && !id.isTemporary()) {
+            if (hollowIds == null) {
+                hollowIds = new HashMap<>();
+            }
+            hollowIds.computeIfAbsent(id.getEntityName(), e -> new LinkedHashSet<>()).add(id);
+        }
+    }
+
+    /**
+     * Returns up to "limit" ids of registered HOLLOW objects of a given entity, skipping the excluded id. Index
+     * entries for objects that are no longer HOLLOW or registered are removed along the way.
+     * @since 5.0
+     */
+    synchronized List<ObjectId> hollowObjectIds(String entityName, ObjectId exclude, int limit) {
+        Set<ObjectId> ids = hollowIds != null ? hollowIds.get(entityName) : null;
+        if (ids == null) {
+            return Collections.emptyList();
+        }
+
+        List<ObjectId> result = new ArrayList<>();
+        readingHollowIds = true;
+        try {
+            Iterator<ObjectId> it = ids.iterator();
+            while (it.hasNext() && (limit <= 0 || result.size() < limit)) {
+                ObjectId id = it.next();
+                Persistent object = objectMap.get(id);
+                if (object == null || object.getPersistenceState() != PersistenceState.HOLLOW) {
+                    it.remove();
+                } else if (!id.equals(exclude)) {
+                    result.add(id);
+                }
+            }
+        } finally {
+            readingHollowIds = false;
+        }
+
+        if (ids.isEmpty()) {
+            hollowIds.remove(entityName);
+        }
+        return result;
+    }
+
     /**
      * @param key object id that was removed from the {@link #objectMap}
      * @since 4.2.2
@@ -999,6 +1096,12 @@ public class ObjectStore implements Serializable, SnapshotEventListener, GraphMa
         if(trackedFlattenedPaths != null) {
             trackedFlattenedPaths.remove(key);
         }
+        if(hollowIds != null && !readingHollowIds && key instanceof ObjectId id) {
+            Set<ObjectId> ids = hollowIds.get(id.getEntityName());
+            if(ids != null) {
+                ids.remove(id);
+            }
+        }
     }
 
     // an ObjectIdQuery optimized for retrieval of multiple snapshots - it can be reset
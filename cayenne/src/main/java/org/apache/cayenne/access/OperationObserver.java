@@ -64,6 +64,16 @@ public interface OperationObserver extends OperationHints {
         return false;
     }
 
+    /**
+     * Returns whether select results should be read into a single {@link org.apache.cayenne.ColumnarResult} instead of
+     * a list of rows. Defaults to false.
+     *
+     * @since 5.0
+     */
+    default boolean isColumnarResult() {
+        return false;
+    }
+
     /**
      * Callback method invoked after an updating query is executed.
      */
@@ -0,0 +1,119 @@
+/*****************************************************************
+ *   Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ ****************************************************************/
+
+package org.apache.cayenne.access;
+
+import org.apache.cayenne.DataChannel;
+import org.apache.cayenne.DataRow;
+import org.apache.cayenne.query.ObjectSelect;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Tracks pages of an {@link IncrementalFaultList} that are being fetched in background. The background tasks only fetch
+ * DataRows via a thread-safe channel, never touching the DataContext of the list. The rows are converted to objects
+ * and put into the list by the thread that accesses the page. Only the pages within the read-ahead window of the last
+ * accessed page are kept, so the memory held by the pending pages is bounded even if the list is cached and never
+ * accessed again.
+ *
+ * @since 5.0
+ */
+class PageReadAhead {
+
+    record PendingPage(List<Object> ids, CompletableFuture<List<DataRow>> rows) {
+    }
+
+    private final int pages;
+    private final Executor executor;
+    private final Map<Integer, PendingPage> pending;
+
+    PageReadAhead(int pages, Executor executor) {
+        this.pages = pages;
+        this.executor = executor;
+        this.pending = new ConcurrentHashMap<>();
+    }
+
+    int getPages() {
+        return pages;
+    }
+
+    boolean isPending(int pageIndex) {
+        return pending.containsKey(pageIndex);
+    }
+
+    /**
+     * Starts fetching rows of a page with the provided queries. Does nothing if the executor rejects the task, leaving
+     * the page to be resolved synchronously on access.
+     */
+    void schedule(int pageIndex, List<Object> ids, DataChannel channel, List<ObjectSelect<DataRow>> queries) {
+        try {
+            CompletableFuture<List<DataRow>> rows = CompletableFuture.supplyAsync(() -> {
+                List<DataRow> result = new ArrayList<>(ids.size());
+                for (ObjectSelect<DataRow> query : queries) {
+                    // no originating context, as it is not thread-safe
+                    @SuppressWarnings("unchecked")
+                    List<DataRow> queryRows = (List<DataRow>) channel.onQuery(null, query).firstList();
+                    result.addAll(queryRows);
+                }
+                return result;
+            }, executor);
+
+            pending.put(pageIndex, new PendingPage(ids, rows));
+        } catch (RejectedExecutionException e) {
+            // the executor is saturated, so the page will be read on demand
+        }
+    }
+
+    PendingPage take(int pageIndex) {
+        return pending.remove(pageIndex);
+    }
+
+    /**
+     * Cancels and drops the pages outside the read-ahead window of the accessed page, i.e. the pages that were skipped
+     * or left behind.
+     */
+    void retainWindow(int pageIndex) {
+        Iterator<Map.Entry<Integer, PendingPage>> it = pending.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<Integer, PendingPage> e = it.next();
+            int i = e.getKey();
+            if (i <= pageIndex || i > pageIndex + pages) {
+                e.getValue().rows().cancel(false);
+                it.remove();
+            }
+        }
+    }
+
+    /**
+     * Cancels all the pages that are not fetched yet.
+     */
+    void cancelAll() {
+        for (PendingPage page : pending.values()) {
+            page.rows().cancel(false);
+        }
+        pending.clear();
+    }
+}
@@ -0,0 +1,259 @@
+/*****************************************************************
+ *   Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ ****************************************************************/
+
+package org.apache.cayenne.access;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Element storage of a {@link SimpleIdIncrementalFaultList} with Integer or Long ids. Unresolved ids are kept in a
+ * primitive array, and resolved objects in a separate array, so a large list of unresolved ids takes a fraction of the
+ * memory of a list of boxed ids. Unresolved ids are returned boxed to the same type as was provided on creation.
+ * <p>
+ * All modifications and the {@link List} methods are synchronized on the list itself, which is the same lock the owning
+ * list takes for its compound operations. Resolved objects can also be read without locking via
+ * {@link #getResolved(int)}.
+ *
+ * @since 5.0
+ */
+class PrimitiveIdList extends AbstractList<Object> implements RandomAccess, Serializable {
+
+    // stands for a null element, as null in the resolved array means an unresolved id
+    private enum Marker {
+        NULL
+    }
+
+    // one of the two is null, depending on the id type
+    private int[] intIds;
+    private long[] longIds;
+
+    private volatile AtomicReferenceArray<Object> resolved;
+    private int size;
+
+    // odd while the elements are being moved by add, remove or clear, and changed by each of them, so that a lock-free
+    // read can tell if it may have seen an element of another index
+    private volatile int structureVersion;
+
+    private PrimitiveIdList(int[] intIds, long[] longIds, int size) {
+        this.intIds = intIds;
+        this.longIds = longIds;
+        this.resolved = new AtomicReferenceArray<>(size);
+        this.size = size;
+    }
+
+    /**
+     * Creates a list from the ids if they are all Integers or all Longs, otherwise returns null.
+     */
+    static PrimitiveIdList of(List<?> ids) {
+        int size = ids.size();
+        if (size == 0) {
+            return null;
+        }
+
+        Object first = ids.getFirst();
+        if (first instanceof Integer) {
+            int[] values = new int[size];
+            for (int i = 0; i < size; i++) {
+                if (!(ids.get(i) instanceof Integer value)) {
+                    return null;
+                }
+                values[i] = value;
+            }
+            return new PrimitiveIdList(values, null, size);
+        }
+
+        if (first instanceof Long) {
+            long[] values = new long[size];
+            for (int i = 0; i < size; i++) {
+                if (!(ids.get(i) instanceof Long value)) {
+                    return null;
+                }
+                values[i] = value;
+            }
+            return new PrimitiveIdList(null, values, size);
+        }
+
+        return null;
+    }
+
+    @Override
+    public synchronized int size() {
+        return size;
+    }
+
+    @Override
+    public synchronized Object get(int index) {
+        checkIndex(index);
+
+        Object object = resolved.get(index);
+        if (object != null) {
+            return object != Marker.NULL ? object : null;
+        }
+
+        return intIds != null ? (Object) intIds[index] : (Object) longIds[index];
+    }
+
+    /**
+     * Returns a resolved object at index without locking. Returns null if the object is not resolved, is null, the
+     * index is out of bounds, or the list is being structurally modified by another thread.
+     */
+    Object getResolved(int index) {
+        int version = structureVersion;
+        AtomicReferenceArray<Object> objects = resolved;
+        Object object = index >= 0 && index < objects.length() ? objects.get(index) : null;
+
+        if ((version & 1) != 0 || version != structureVersion || object == Marker.NULL) {
+            return null;
+        }
+        return object;
+    }
+
+    @Override
+    public synchronized Object set(int index, Object element) {
+        Object old = get(index);
+        store(index, element);
+        return old;
+    }
+
+    @Override
+    public synchronized void add(int index, Object element) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+
+        structureVersion++;
+        int capacity = resolved.length();
+        if (size == capacity) {
+            resize(index, 1, Math.max(capacity + (capacity >> 1), capacity + 1));
+        } else {
+            shift(index, 1);
+        }
+
+        store(index, element);
+        modCount++;
+        size++;
+        structureVersion++;
+    }
+
+    @Override
+    public synchronized Object remove(int index) {
+        Object old = get(index);
+
+        structureVersion++;
+        shift(index + 1, -1);
+        resolved.set(size - 1, null);
+
+        modCount++;
+        size--;
+        structureVersion++;
+        return old;
+    }
+
+    @Override
+    public synchronized void clear() {
+        structureVersion++;
+        resize(0, 0, 0);
+
+        modCount++;
+        size = 0;
+        structureVersion++;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    private void store(int index, Object element) {
+        if (isId(element)) {
+            if (intIds != null) {
+                intIds[index] = (Integer) element;
+            } else {
+                longIds[index] = (Long) element;
+            }
+            resolved.set(index, null);
+        } else {
+            resolved.set(index, element != null ? element : Marker.NULL);
+        }
+    }
+
+    private boolean isId(Object element) {
+        return intIds != null ? element instanceof Integer : element instanceof Long;
+    }
+
+    /**
+     * Moves elements starting at "from" by "distance" positions within the current arrays.
+     */
+    private void shift(int from, int distance) {
+        if (intIds != null) {
+            System.arraycopy(intIds, from, intIds, from + distance, size - from);
+        } else {
+            System.arraycopy(longIds, from, longIds, from + distance, size - from);
+        }
+
+        AtomicReferenceArray<Object> objects = resolved;
+        if (distance > 0) {
+            for (int i = size - 1; i >= from; i--) {
+                objects.set(i + distance, objects.get(i));
+            }
+        } else {
+            for (int i = from; i < size; i++) {
+                objects.set(i + distance, objects.get(i));
+            }
+        }
+    }
+
+    /**
+     * Reallocates the arrays with a new capacity, leaving a gap of "gap" elements at "at".
+     */
+    private void resize(int at, int gap, int capacity) {
+        int head = Math.min(at, capacity);
+        int tail = Math.min(size - at, capacity - at - gap);
+
+        if (intIds != null) {
+            int[] ints = new int[capacity];
+            System.arraycopy(intIds, 0, ints, 0, head);
+            if (tail > 0) {
+                System.arraycopy(intIds, at, ints, at + gap, tail);
+            }
+            intIds = ints;
+        } else {
+            long[] longs = new long[capacity];
+            System.arraycopy(longIds, 0, longs, 0, head);
+            if (tail > 0) {
+                System.arraycopy(longIds, at, longs, at + gap, tail);
+            }
+            longIds = longs;
+        }
+
+        AtomicReferenceArray<Object> objects = new AtomicReferenceArray<>(capacity);
+        for (int i = 0; i < head; i++) {
+            objects.set(i, resolved.get(i));
+        }
+        for (int i = 0; i < tail; i++) {
+            objects.set(at + gap + i, resolved.get(at + i));
+        }
+        resolved = objects;
+    }
+}
@@ -0,0 +1,130 @@
+/*****************************************************************
+ *   Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ ****************************************************************/
+
+package org.apache.cayenne.access;
+
+import org.apache.cayenne.CayenneRuntimeException;
+import org.apache.cayenne.DataChannel;
+import org.apache.cayenne.DeleteDenyException;
+import org.apache.cayenne.ObjectContext;
+import org.apache.cayenne.Persistent;
+import org.apache.cayenne.cache.NestedQueryCache;
+import org.apache.cayenne.cache.QueryCache;
+import org.apache.cayenne.graph.GraphDiff;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * A DataContext for code paths that only read data. It fetches, caches and resolves faults the same way as a regular
+ * DataContext, but rejects any changes to its objects, so it never accumulates changes to commit. It also does not
+ * listen to the events of its parent channel or the snapshot cache, so objects fetched by it are not refreshed when
+ * other contexts commit changes, and it skips the bookkeeping needed for commits. This makes it cheap to create, and
+ * best suited for short-lived contexts, e.g. one per request.
+ *
+ * @see org.apache.cayenne.configuration.ObjectContextFactory#createReadOnlyContext()
+ * @since 5.0
+ */
+public class ReadOnlyDataContext extends DataContext {
+
+    private transient QueryCache sharedQueryCache;
+
+    /**
+     * Creates a new read-only context with its own ObjectStore that is backed by a provided object map and is not
+     * synchronized with the snapshot cache events. A context-local query cache on top of the shared one is created on
+     * first use.
+     */
+    public ReadOnlyDataContext(
+            DataChannel channel,
+            DataRowStore snapshotCache,
+            Map<Object, Persistent> objectMap,
+            QueryCache sharedQueryCache) {
+        super(channel, new ReadOnlyObjectStore(snapshotCache, objectMap));
+        this.sharedQueryCache = sharedQueryCache;
+    }
+
+    /**
+     * Attaches to a provided DataChannel without registering for its events.
+     */
+    @Override
+    protected void attachToChannel(DataChannel channel) {
+        if (channel == null) {
+            throw new NullPointerException("Null channel");
+        }
+
+        setChannel(channel);
+        setEntityResolver(channel.getEntityResolver());
+    }
+
+    @Override
+    public QueryCache getQueryCache() {
+        QueryCache cache = super.getQueryCache();
+        if (cache == null && sharedQueryCache != null) {
+            cache = new NestedQueryCache(sharedQueryCache);
+            setQueryCache(cache);
+        }
+
+        return cache;
+    }
+
+    @Override
+    public Persistent newObject(String entityName) {
+        throw readOnly("create objects");
+    }
+
+    @Override
+    public void registerNewObject(Object object) {
+        throw readOnly("register new objects");
+    }
+
+    @SafeVarargs
+    @Override
+    public final <T> void deleteObjects(T... objects) throws DeleteDenyException {
+        throw readOnly("delete objects");
+    }
+
+    @Override
+    public void deleteObjects(Collection<?> objects) throws DeleteDenyException {
+        throw readOnly("delete objects");
+    }
+
+    @Override
+    public void propertyChanged(Persistent object, String property, Object oldValue, Object newValue) {
+        throw readOnly("modify objects");
+    }
+
+    @Override
+    public void commitChangesToParent() {
+        throw readOnly("commit changes");
+    }
+
+    @Override
+    public void commitChanges() throws CayenneRuntimeException {
+        throw readOnly("commit changes");
+    }
+
+    @Override
+    protected GraphDiff onContextFlush(ObjectContext originatingContext, GraphDiff changes, boolean cascade) {
+        throw readOnly("accept changes from child contexts");
+    }
+
+    private static CayenneRuntimeException readOnly(String operation) {
+        return new CayenneRuntimeException("Can't %s in a read-only context", operation);
+    }
+}
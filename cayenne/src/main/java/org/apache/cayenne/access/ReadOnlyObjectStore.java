@@ -0,0 +1,55 @@
+/*****************************************************************
+ *   Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ ****************************************************************/
+package org.apache.cayenne.access;
+
+import java.util.Map;
+
+import org.apache.cayenne.CayenneRuntimeException;
+import org.apache.cayenne.ObjectId;
+import org.apache.cayenne.Persistent;
+import org.apache.cayenne.exp.path.CayennePath;
+import org.apache.cayenne.graph.NodeDiff;
+
+/**
+ * An {@link ObjectStore} of a {@link ReadOnlyDataContext}. It doesn't receive notifications on parent's
+ * {@link DataRowStore} events, and skips the bookkeeping only needed to commit changes.
+ *
+ * @since 5.0
+ */
+class ReadOnlyObjectStore extends NoSyncObjectStore {
+
+    ReadOnlyObjectStore(DataRowStore dataRowCache, Map<Object, Persistent> objectMap) {
+        super(dataRowCache, objectMap);
+    }
+
+    @Override
+    synchronized ObjectDiff registerDiff(Object nodeId, NodeDiff diff) {
+        throw new CayenneRuntimeException("Can't modify objects in a read-only context");
+    }
+
+    @Override
+    public void markFlattenedPath(ObjectId objectId, CayennePath path, ObjectId id) {
+        // flattened paths are only tracked to commit changes to flattened relationships
+    }
+
+    @Override
+    public void markForUpsert(ObjectId objectId) {
+        throw new CayenneRuntimeException("Can't upsert objects in a read-only context");
+    }
+}
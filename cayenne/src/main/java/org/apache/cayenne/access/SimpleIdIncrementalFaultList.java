@@ -31,7 +31,9 @@ import org.apache.cayenne.query.QueryMetadata;
 
 /**
  * A paginated list that implements a strategy for retrieval of entities with a single PK
- * column. It is much more memory-efficient compared to the superclass.
+ * column. It is much more memory-efficient compared to the superclass. Integer and Long PKs
+ * of unresolved objects are stored in a primitive array, and resolved objects are read
+ * without locking.
  * 
  * @since 3.0
  */
@@ -54,6 +56,30 @@ class SimpleIdIncrementalFaultList<E> extends IncrementalFaultList<E> {
         pk = pks.iterator().next();
     }
 
+    /**
+     * @since 5.0
+     */
+    @Override
+    List<Object> createElements(List<?> data) {
+        PrimitiveIdList ids = PrimitiveIdList.of(data);
+        return ids != null ? ids : super.createElements(data);
+    }
+
+    @Override
+    public E get(int index) {
+        // resolved objects are returned without locking, except for the page boundaries that may trigger read-ahead
+        if (elements instanceof PrimitiveIdList ids && index % pageSize != 0) {
+            Object object = ids.getResolved(index);
+            if (object != null && !getHelper().unresolvedSuspect(object)) {
+                @SuppressWarnings("unchecked")
+                E resolved = (E) object;
+                return resolved;
+            }
+        }
+
+        return super.get(index);
+    }
+
     @Override
     IncrementalFaultList<E>.IncrementalListHelper createHelper(QueryMetadata metadata) {
         if (metadata.isFetchingDataRows()) {
@@ -29,6 +29,7 @@ import org.apache.cayenne.access.flush.operation.DbRowOpType;
 import org.apache.cayenne.access.flush.operation.DeleteDbRowOpFactory;
 import org.apache.cayenne.access.flush.operation.InsertDbRowOp;
 import org.apache.cayenne.access.flush.operation.UpdateDbRowOp;
+import org.apache.cayenne.access.flush.operation.UpsertDbRowOp;
 import org.apache.cayenne.map.DbEntity;
 import org.apache.cayenne.map.EntityResolver;
 import org.apache.cayenne.reflect.ClassDescriptor;
@@ -104,7 +105,10 @@ class DbRowOpFactory {
         }
         switch (type) {
             case INSERT:
-                return new InsertDbRowOp(object, entity, id);
+                // all rows of an upserted object are upserted, not only the root one
+                return store.isMarkedForUpsert(object.getObjectId())
+                        ? new UpsertDbRowOp(object, entity, id)
+                        : new InsertDbRowOp(object, entity, id);
             case UPDATE:
                 return new UpdateDbRowOp(object, entity, id);
             case DELETE:
@@ -25,13 +25,17 @@ import org.apache.cayenne.access.flush.operation.DeleteDbRowOp;
 import org.apache.cayenne.access.flush.operation.InsertDbRowOp;
 import org.apache.cayenne.access.flush.operation.SoftDeleteDbRowOp;
 import org.apache.cayenne.access.flush.operation.UpdateDbRowOp;
+import org.apache.cayenne.access.flush.operation.UpsertDbRowOp;
+import org.apache.cayenne.map.DbAttribute;
 import org.apache.cayenne.query.BatchQuery;
 import org.apache.cayenne.query.DeleteBatchQuery;
 import org.apache.cayenne.query.InsertBatchQuery;
 import org.apache.cayenne.query.UpdateBatchQuery;
+import org.apache.cayenne.query.UpsertBatchQuery;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Visitor that creates batch queries.
@@ -72,6 +76,25 @@ class QueryCreatorVisitor implements DbRowOpVisitor<Void> {
         return null;
     }
 
+    @Override
+    public Void visitUpsert(UpsertDbRowOp dbRow) {
+        // only the columns with values are upserted, so that an existing row keeps the values of the others
+        Map<String, Object> snapshot = dbRow.getValues().getSnapshot();
+        List<DbAttribute> columns = InsertBatchQuery.snapshotAttributes(dbRow.getEntity(), snapshot);
+
+        UpsertBatchQuery query;
+        if (lastRow == null || !lastRow.isSameBatch(dbRow) || !lastBatch.getDbAttributes().equals(columns)) {
+            query = new UpsertBatchQuery(dbRow.getEntity(), columns, batchSize);
+            queryList.add(query);
+            lastBatch = query;
+        } else {
+            query = (UpsertBatchQuery) lastBatch;
+        }
+        query.add(snapshot, dbRow.getChangeId());
+        lastRow = dbRow;
+        return null;
+    }
+
     @Override
     public Void visitUpdate(UpdateDbRowOp dbRow) {
         // skip empty update..
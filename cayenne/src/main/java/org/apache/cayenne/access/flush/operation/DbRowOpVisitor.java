@@ -45,4 +45,14 @@ public interface DbRowOpVisitor<T> {
     default T visitSoftDelete(SoftDeleteDbRowOp dbRow) {
         return visitDelete(dbRow);
     }
+
+    /**
+     * Visits an upsert op. The default implementation delegates to {@link #visitInsert(InsertDbRowOp)}, so visitors
+     * that don't care about upserts treat them as regular inserts.
+     *
+     * @since 5.0
+     */
+    default T visitUpsert(UpsertDbRowOp dbRow) {
+        return visitInsert(dbRow);
+    }
 }
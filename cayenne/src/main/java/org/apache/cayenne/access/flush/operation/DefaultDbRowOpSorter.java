@@ -19,12 +19,18 @@
 
 package org.apache.cayenne.access.flush.operation;
 
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.apache.cayenne.access.DataDomain;
 import org.apache.cayenne.di.Inject;
 import org.apache.cayenne.di.Provider;
+import org.apache.cayenne.map.DbAttribute;
 import org.apache.cayenne.map.DbEntity;
 import org.apache.cayenne.map.EntityResolver;
 import org.apache.cayenne.map.EntitySorter;
@@ -48,10 +54,79 @@ public class DefaultDbRowOpSorter implements DbRowOpSorter {
         dbRows.sort(getComparator());
         // sort reflexively dependent objects
         sortReflexive(dbRows);
+        // group updates that can go in the same batch
+        groupUpdates(dbRows);
 
         return dbRows;
     }
 
+    /**
+     * Reorders consecutive updates of the same entity, so that the updates that can be executed as a single batch
+     * (see {@link DbRowOp#isSameBatch(DbRowOp)}) are next to each other. Groups are placed in the order of their first
+     * row. Updates don't depend on each other, so their relative order can be changed freely.
+     *
+     * @since 5.0
+     */
+    protected void groupUpdates(List<DbRowOp> sortedDbRows) {
+        int size = sortedDbRows.size();
+        int start = 0;
+        while (start < size) {
+            DbRowOp row = sortedDbRows.get(start);
+            int end = start + 1;
+            if (row instanceof UpdateDbRowOp) {
+                while (end < size
+                        && sortedDbRows.get(end) instanceof UpdateDbRowOp
+                        && sortedDbRows.get(end).getEntity() == row.getEntity()) {
+                    end++;
+                }
+
+                // need at least 3 rows for the reordering to make any difference
+                if (end - start > 2) {
+                    groupEntityUpdates(sortedDbRows.subList(start, end));
+                }
+            }
+            start = end;
+        }
+    }
+
+    private void groupEntityUpdates(List<DbRowOp> entityUpdates) {
+
+        // bucket by the set of updated columns first to avoid comparing each row with each group
+        Map<Set<DbAttribute>, List<List<DbRowOp>>> buckets = new HashMap<>();
+        List<List<DbRowOp>> groups = new ArrayList<>();
+
+        for (DbRowOp row : entityUpdates) {
+            UpdateDbRowOp update = (UpdateDbRowOp) row;
+            List<List<DbRowOp>> bucket = buckets.computeIfAbsent(
+                    new HashSet<>(update.getValues().getUpdatedAttributes()), k -> new ArrayList<>(1));
+
+            List<DbRowOp> group = null;
+            for (List<DbRowOp> candidate : bucket) {
+                if (candidate.get(0).isSameBatch(row)) {
+                    group = candidate;
+                    break;
+                }
+            }
+
+            if (group == null) {
+                group = new ArrayList<>();
+                bucket.add(group);
+                groups.add(group);
+            }
+
+            group.add(row);
+        }
+
+        if (groups.size() > 1) {
+            int i = 0;
+            for (List<DbRowOp> group : groups) {
+                for (DbRowOp row : group) {
+                    entityUpdates.set(i++, row);
+                }
+            }
+        }
+    }
+
     protected void sortReflexive(List<DbRowOp> sortedDbRows) {
         DataDomain dataDomain = dataDomainProvider.get();
         EntitySorter sorter = dataDomain.getEntitySorter();
@@ -124,8 +199,7 @@ public class DefaultDbRowOpSorter implements DbRowOpSorter {
                 return leftType == DbRowOpType.DELETE ? -result : result;
             }
 
-            // TODO: 3. sort updates by changed and null attributes to batch it better,
-            //  need to check cost vs benefit though
+            // 3. updates are grouped by batch after sorting, see groupUpdates()
             return result;
         }
     }
@@ -25,7 +25,6 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.apache.cayenne.map.DbAttribute;
@@ -141,7 +140,9 @@ public class Qualifier {
         if(!additionalQualifier.keySet().equals(other.additionalQualifier.keySet())) {
             return false;
         }
-        return Objects.equals(nullNames, other.nullNames);
+        Collection<String> nulls = getNullQualifierNames();
+        Collection<String> otherNulls = other.getNullQualifierNames();
+        return nulls.size() == otherNulls.size() && nulls.containsAll(otherNulls);
     }
 
 }
@@ -195,6 +195,8 @@ public class Values {
         if(other.updatedAttributes == null) {
             return false;
         }
-        return updatedAttributes.equals(other.updatedAttributes);
+        // the order of attributes doesn't matter, as the values are bound by name
+        return updatedAttributes.size() == other.updatedAttributes.size()
+                && updatedAttributes.containsAll(other.updatedAttributes);
     }
 }
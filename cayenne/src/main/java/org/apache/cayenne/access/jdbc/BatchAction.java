@@ -29,6 +29,7 @@ import org.apache.cayenne.access.OptimisticLockException;
 import org.apache.cayenne.access.jdbc.reader.RowReader;
 import org.apache.cayenne.access.types.ExtendedType;
 import org.apache.cayenne.access.types.ExtendedTypeMap;
+import org.apache.cayenne.access.translator.BatchTranslator;
 import org.apache.cayenne.access.translator.TranslatedBatch;
 import org.apache.cayenne.dba.DbAdapter;
 import org.apache.cayenne.map.DbAttribute;
@@ -39,6 +40,7 @@ import org.apache.cayenne.query.BatchQueryRow;
 import org.apache.cayenne.query.DeleteBatchQuery;
 import org.apache.cayenne.query.InsertBatchQuery;
 import org.apache.cayenne.query.UpdateBatchQuery;
+import org.apache.cayenne.query.UpsertBatchQuery;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
@@ -79,7 +81,18 @@ public class BatchAction extends BaseSQLAction {
     @Override
     public void performAction(Connection connection, OperationObserver observer) throws Exception {
         DbAdapter adapter = dataNode.getAdapter();
+
+        List<TranslatedBatch> multiRow = translateMultiRow(adapter);
+        if (!multiRow.isEmpty()) {
+            for (TranslatedBatch translated : multiRow) {
+                observer.nextStatement(query, translated);
+                runMultiRow(connection, translated, observer);
+            }
+            return;
+        }
+
         TranslatedBatch translated = switch (query) {
+            case UpsertBatchQuery upsert -> upsertTranslator(adapter).translate(upsert, adapter);
             case InsertBatchQuery insert -> dataNode.getInsertBatchTranslator().translate(insert, adapter);
             case UpdateBatchQuery update -> dataNode.getUpdateBatchTranslator().translate(update, adapter);
             case DeleteBatchQuery delete -> dataNode.getDeleteBatchTranslator().translate(delete, adapter);
@@ -98,6 +111,77 @@ public class BatchAction extends BaseSQLAction {
         }
     }
 
+    private BatchTranslator<UpsertBatchQuery> upsertTranslator(DbAdapter adapter) {
+        BatchTranslator<UpsertBatchQuery> translator = adapter.getUpsertTranslator((UpsertBatchQuery) query);
+        if (translator == null) {
+            throw new CayenneRuntimeException("Adapter %s does not support upsert of %s",
+                    adapter.getClass().getName(), query.getDbEntity().getName());
+        }
+        return translator;
+    }
+
+    /**
+     * Translates the query into multi-row statements if the adapter allows it, returning an empty list otherwise.
+     * Queries generating keys and queries of reflexive entities are always executed row by row.
+     *
+     * @since 5.0
+     */
+    protected List<TranslatedBatch> translateMultiRow(DbAdapter adapter) {
+        int maxRows = adapter.maxRowsPerStatement();
+        if (maxRows < 2
+                || query.getRows().size() <= 1
+                || query.isUsingOptimisticLocking()
+                || hasGeneratedKeys()
+                || dataNode.getEntitySorter().isReflexive(query.getDbEntity())) {
+            return Collections.emptyList();
+        }
+
+        return switch (query) {
+            // upserts are executed as a JDBC batch of single row statements
+            case UpsertBatchQuery upsert -> Collections.emptyList();
+            case InsertBatchQuery insert -> dataNode.getInsertBatchTranslator().translateMultiRow(insert, adapter, maxRows);
+            case DeleteBatchQuery delete -> dataNode.getDeleteBatchTranslator().translateMultiRow(delete, adapter, maxRows);
+            default -> Collections.emptyList();
+        };
+    }
+
+    /**
+     * Executes statements of a multi-row translated batch. The statements share the same SQL, so if there's more than
+     * one of them and the adapter supports batch updates, they are executed as a JDBC batch.
+     *
+     * @since 5.0
+     */
+    protected void runMultiRow(Connection connection, TranslatedBatch translated, OperationObserver delegate)
+            throws Exception {
+
+        DbAdapter adapter = dataNode.getAdapter();
+        int statements = translated.bindings()[0].values().length;
+        boolean isBatch = runningAsBatch && statements > 1;
+
+        int maxBatchSize = adapter.maxBatchSize();
+        int flushSize = maxBatchSize > 0 ? maxBatchSize : statements;
+
+        try (PreparedStatement statement = prepareStatement(connection, translated.sql(), adapter, false)) {
+            PSParameter<?>[] bindings = new PSParameter[translated.bindings().length];
+            for (int i = 0; i < statements; i++) {
+                rowBindings(translated, i, adapter.getExtendedTypes(), bindings);
+                for (PSParameter<?> b : bindings) {
+                    adapter.bindParameter(statement, b);
+                }
+
+                if (!isBatch) {
+                    delegate.nextCount(query, statement.executeUpdate());
+                    continue;
+                }
+
+                statement.addBatch();
+                if ((i + 1) % flushSize == 0 || i + 1 == statements) {
+                    delegate.nextBatchCount(query, statement.executeBatch());
+                }
+            }
+        }
+    }
+
     protected boolean canRunAsBatch() {
         if (!runningAsBatch || query.getRows().size() <= 1) {
             return false;
@@ -120,24 +204,41 @@ public class BatchAction extends BaseSQLAction {
 
         String sql = translated.sql();
         DbAdapter adapter = dataNode.getAdapter();
+        List<BatchQueryRow> rows = query.getRows();
+
+        // flush the statement every "maxBatchSize" rows, so that the driver doesn't buffer the whole batch
+        int maxBatchSize = adapter.maxBatchSize();
+        int flushSize = maxBatchSize > 0 ? maxBatchSize : rows.size();
+
+        // optimistically locked batches are only run here if the adapter allows to verify them after the fact
+        OptimisticLockBatchVerifier lockVerifier = query.isUsingOptimisticLocking()
+                ? new OptimisticLockBatchVerifier(query, adapter, translated, dataNode.getMaxIdQualifierSize())
+                : null;
 
         try (PreparedStatement statement = prepareStatement(con, sql, adapter, generatesKeys)) {
-            for (int row = 0; row < query.getRows().size(); row++) {
+            PSParameter<?>[] bindings = new PSParameter[translated.bindings().length];
+            int flushed = 0;
+            for (int row = 0; row < rows.size(); row++) {
 
-                PSParameter<?>[] bindings = rowBindings(translated, row, adapter.getExtendedTypes());
+                rowBindings(translated, row, adapter.getExtendedTypes(), bindings);
                 for (PSParameter<?> b : bindings) {
                     adapter.bindParameter(statement, b);
                 }
 
                 statement.addBatch();
-            }
 
-            // execute the whole batch
-            int[] results = statement.executeBatch();
-            delegate.nextBatchCount(query, results);
+                if ((row + 1) % flushSize == 0 || row + 1 == rows.size()) {
+                    int[] results = statement.executeBatch();
+                    if (lockVerifier != null) {
+                        lockVerifier.verify(con, rows.subList(flushed, row + 1), results);
+                    }
+                    delegate.nextBatchCount(query, results);
 
-            if (generatesKeys) {
-                processGeneratedKeys(statement, delegate, query.getRows());
+                    if (generatesKeys) {
+                        processGeneratedKeys(statement, delegate, rows.subList(flushed, row + 1));
+                    }
+                    flushed = row + 1;
+                }
             }
         }
     }
@@ -162,10 +263,11 @@ public class BatchAction extends BaseSQLAction {
 
         try (PreparedStatement statement = prepareStatement(connection, queryStr, adapter, generatesKeys)) {
             List<BatchQueryRow> rows = query.getRows();
+            PSParameter<?>[] bindings = new PSParameter[translated.bindings().length];
             for (int i = 0; i < rows.size(); i++) {
                 BatchQueryRow row = rows.get(i);
 
-                PSParameter<?>[] bindings = rowBindings(translated, i, adapter.getExtendedTypes());
+                rowBindings(translated, i, adapter.getExtendedTypes(), bindings);
                 for (PSParameter<?> b : bindings) {
                     adapter.bindParameter(statement, b);
                 }
@@ -188,12 +290,23 @@ public class BatchAction extends BaseSQLAction {
      * Resolves the given batch row against the translated batch parameters, returning per-row bindings.
      */
     protected PSParameter<?>[] rowBindings(TranslatedBatch translated, int row, ExtendedTypeMap extendedTypes) {
+        PSParameter<?>[] bindings = new PSParameter[translated.bindings().length];
+        rowBindings(translated, row, extendedTypes, bindings);
+        return bindings;
+    }
+
+    /**
+     * Resolves the given batch row against the translated batch parameters, storing per-row bindings in the provided
+     * array. Allows to reuse the same array for all rows of the batch.
+     *
+     * @since 5.0
+     */
+    protected void rowBindings(TranslatedBatch translated, int row, ExtendedTypeMap extendedTypes,
+                               PSParameter<?>[] bindings) {
         PSBatchParameter[] template = translated.bindings();
-        PSParameter<?>[] bindings = new PSParameter[template.length];
         for (int j = 0; j < template.length; j++) {
             bindings[j] = bind(template[j], row, extendedTypes);
         }
-        return bindings;
     }
 
     @SuppressWarnings("unchecked")
@@ -232,8 +345,8 @@ public class BatchAction extends BaseSQLAction {
      * Returns whether BatchQuery generates any keys.
      */
     protected boolean hasGeneratedKeys() {
-        // see if the query needs them
-        if (query instanceof InsertBatchQuery) {
+        // see if the query needs them, upserted rows must come with their keys
+        if (query instanceof InsertBatchQuery && !(query instanceof UpsertBatchQuery)) {
 
             // see if any of the generated attributes is PK
             for (final DbAttribute attr : query.getDbEntity().getGeneratedAttributes()) {
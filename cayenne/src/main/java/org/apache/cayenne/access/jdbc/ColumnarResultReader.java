@@ -0,0 +1,188 @@
+/*****************************************************************
+ *   Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ ****************************************************************/
+
+package org.apache.cayenne.access.jdbc;
+
+import org.apache.cayenne.CayenneRuntimeException;
+import org.apache.cayenne.ColumnarResult;
+import org.apache.cayenne.access.types.ExtendedType;
+import org.apache.cayenne.query.QueryMetadata;
+import org.apache.cayenne.query.ScalarResultSegment;
+import org.apache.cayenne.util.Util;
+
+import java.sql.ResultSet;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Reads scalar columns of a ResultSet into a {@link ColumnarResult}, using primitive-specialized ExtendedType methods
+ * for numeric columns.
+ *
+ * @since 5.0
+ */
+class ColumnarResultReader {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private static final int INT = 0;
+    private static final int LONG = 1;
+    private static final int DOUBLE = 2;
+    private static final int OBJECT = 3;
+
+    private final ExtendedType<?>[] readers;
+    private final int[] indexes;
+    private final int[] types;
+    private final int[] kinds;
+
+    ColumnarResultReader(RSColumn[] columns, QueryMetadata metadata) {
+        List<Object> segments = metadata.getResultSetMapping();
+        int width = segments != null && !segments.isEmpty() ? segments.size() : columns.length;
+
+        this.readers = new ExtendedType[width];
+        this.indexes = new int[width];
+        this.types = new int[width];
+        this.kinds = new int[width];
+
+        for (int i = 0; i < width; i++) {
+            int offset;
+            if (segments != null && !segments.isEmpty()) {
+                if (!(segments.get(i) instanceof ScalarResultSegment scalar)) {
+                    throw new CayenneRuntimeException("Columnar result supports only scalar columns, got: %s",
+                            segments.get(i));
+                }
+                offset = scalar.getColumnOffset();
+            } else {
+                offset = i;
+            }
+
+            RSColumn column = columns[offset];
+            readers[i] = column.reader();
+            // jdbc column indexes start from 1
+            indexes[i] = offset + 1;
+            types[i] = column.rsType();
+            kinds[i] = kind(column.reader());
+        }
+    }
+
+    private static int kind(ExtendedType<?> reader) {
+        return switch (reader.getClassName()) {
+            case "java.lang.Integer", "java.lang.Short", "java.lang.Byte" -> INT;
+            case "java.lang.Long" -> LONG;
+            case "java.lang.Double", "java.lang.Float" -> DOUBLE;
+            default -> OBJECT;
+        };
+    }
+
+    /**
+     * Reads the ResultSet to the end, skipping "offset" rows and stopping after "limit" rows if the limit is positive.
+     */
+    ColumnarResult read(ResultSet rs, int offset, int limit) throws Exception {
+        int width = kinds.length;
+        int capacity = limit > 0 ? Math.min(limit, INITIAL_CAPACITY) : INITIAL_CAPACITY;
+
+        Object[] columns = new Object[width];
+        BitSet[] nulls = new BitSet[width];
+        for (int i = 0; i < width; i++) {
+            columns[i] = newColumn(kinds[i], capacity);
+            nulls[i] = new BitSet();
+        }
+
+        int skipped = 0;
+        while (skipped < offset && rs.next()) {
+            skipped++;
+        }
+
+        int size = 0;
+        while ((limit <= 0 || size < limit) && rs.next()) {
+            if (size == capacity) {
+                capacity *= 2;
+                for (int i = 0; i < width; i++) {
+                    columns[i] = resize(columns[i], capacity);
+                }
+            }
+
+            for (int i = 0; i < width; i++) {
+                readValue(rs, i, columns[i], nulls[i], size);
+            }
+
+            size++;
+        }
+
+        for (int i = 0; i < width; i++) {
+            columns[i] = resize(columns[i], size);
+        }
+
+        return new ColumnarResult(size, columns, nulls);
+    }
+
+    private void readValue(ResultSet rs, int i, Object column, BitSet nulls, int row) {
+        try {
+            boolean isNull = switch (kinds[i]) {
+                case INT -> {
+                    ((int[]) column)[row] = readers[i].materializeInt(rs, indexes[i], types[i]);
+                    yield rs.wasNull();
+                }
+                case LONG -> {
+                    ((long[]) column)[row] = readers[i].materializeLong(rs, indexes[i], types[i]);
+                    yield rs.wasNull();
+                }
+                case DOUBLE -> {
+                    ((double[]) column)[row] = readers[i].materializeDouble(rs, indexes[i], types[i]);
+                    yield rs.wasNull();
+                }
+                default -> {
+                    Object value = readers[i].materializeObject(rs, indexes[i], types[i]);
+                    ((Object[]) column)[row] = value;
+                    yield value == null;
+                }
+            };
+
+            if (isNull) {
+                nulls.set(row);
+            }
+        } catch (CayenneRuntimeException cex) {
+            // rethrow unmodified
+            throw cex;
+        } catch (Exception otherex) {
+            throw new CayenneRuntimeException("Exception materializing column.", Util.unwindException(otherex));
+        }
+    }
+
+    private static Object newColumn(int kind, int capacity) {
+        return switch (kind) {
+            case INT -> new int[capacity];
+            case LONG -> new long[capacity];
+            case DOUBLE -> new double[capacity];
+            default -> new Object[capacity];
+        };
+    }
+
+    private static Object resize(Object column, int length) {
+        return switch (column) {
+            case int[] ints -> ints.length == length ? ints : Arrays.copyOf(ints, length);
+            case long[] longs -> longs.length == length ? longs : Arrays.copyOf(longs, length);
+            case double[] doubles -> doubles.length == length ? doubles : Arrays.copyOf(doubles, length);
+            default -> {
+                Object[] objects = (Object[]) column;
+                yield objects.length == length ? objects : Arrays.copyOf(objects, length);
+            }
+        };
+    }
+}
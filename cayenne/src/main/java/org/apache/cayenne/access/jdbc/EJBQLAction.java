@@ -23,6 +23,7 @@ import org.apache.cayenne.ObjectId;
 import org.apache.cayenne.ResultIterator;
 import org.apache.cayenne.access.DataNode;
 import org.apache.cayenne.access.OperationObserver;
+import org.apache.cayenne.access.translator.ejbql.EJBQLTranslationCache;
 import org.apache.cayenne.access.translator.ejbql.EJBQLTranslationContext;
 import org.apache.cayenne.access.translator.EJBQLTranslator;
 import org.apache.cayenne.access.translator.TranslatedStatement;
@@ -74,6 +75,41 @@ public class EJBQLAction extends BaseSQLAction {
                 dataNode.getAdapter(),
                 quotingStrategy);
 
+        EJBQLTranslationCache translationCache = dataNode.getEjbqlTranslationCache();
+        SQLTemplate sqlQuery = translationCache != null ? translationCache.get(context) : null;
+        if (sqlQuery == null) {
+            sqlQuery = translate(compiledExpression, translator, context);
+            if (translationCache != null) {
+                translationCache.put(context, sqlQuery);
+            }
+        }
+
+        // update with metadata
+        QueryMetadata md = query.getMetaData(dataNode.getEntityResolver());
+        sqlQuery.setFetchLimit(md.getFetchLimit());
+        sqlQuery.setFetchOffset(md.getFetchOffset());
+        sqlQuery.setResult(compiledExpression.getResult());
+        sqlQuery.setPageSize(md.getPageSize());
+
+        if (md.getStatementFetchSize() != 0) {
+            sqlQuery.setStatementFetchSize(md.getStatementFetchSize());
+        }
+
+        int queryTimeout = md.getQueryTimeout();
+        if (queryTimeout != QueryMetadata.QUERY_TIMEOUT_DEFAULT) {
+            sqlQuery.setQueryTimeout(queryTimeout);
+        }
+
+        // the SQLTemplate is a substitute for the original EJBQLQuery; wrap the observer so that results are reported
+        // against the EJBQLQuery the caller submitted rather than the internally compiled SQLTemplate
+        actionFactory.sqlAction(sqlQuery).performAction(connection, new OriginalQueryObserver(observer, query));
+    }
+
+    private SQLTemplate translate(
+            EJBQLCompiledExpression compiledExpression,
+            EJBQLTranslator translator,
+            EJBQLTranslationContext context) {
+
         compiledExpression.getExpression().visit(new EJBQLBaseVisitor(false) {
 
             @Override
@@ -98,29 +134,9 @@ public class EJBQLAction extends BaseSQLAction {
             }
         });
 
-        SQLTemplate sqlQuery = context.getQuery();
-
-        // update with metadata
-        QueryMetadata md = query.getMetaData(dataNode.getEntityResolver());
-        sqlQuery.setFetchLimit(md.getFetchLimit());
-        sqlQuery.setFetchOffset(md.getFetchOffset());
-        sqlQuery.setResult(compiledExpression.getResult());
-        sqlQuery.setPageSize(md.getPageSize());
-
-        if (md.getStatementFetchSize() != 0) {
-            sqlQuery.setStatementFetchSize(md.getStatementFetchSize());
-        }
-
-        int queryTimeout = md.getQueryTimeout();
-        if (queryTimeout != QueryMetadata.QUERY_TIMEOUT_DEFAULT) {
-            sqlQuery.setQueryTimeout(queryTimeout);
-        }
-
-        // the SQLTemplate is a substitute for the original EJBQLQuery; wrap the observer so that results are reported
-        // against the EJBQLQuery the caller submitted rather than the internally compiled SQLTemplate
-        actionFactory.sqlAction(sqlQuery).performAction(connection, new OriginalQueryObserver(observer, query));
+        return context.getQuery();
     }
-    
+
     static class OriginalQueryObserver implements OperationObserver {
 
         private final OperationObserver delegate;
@@ -0,0 +1,245 @@
+/*****************************************************************
+ *   Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ ****************************************************************/
+
+package org.apache.cayenne.access.jdbc;
+
+import org.apache.cayenne.access.OptimisticLockException;
+import org.apache.cayenne.access.sqlbuilder.DefaultSQLAppendable;
+import org.apache.cayenne.access.sqlbuilder.ExpressionNodeBuilder;
+import org.apache.cayenne.access.sqlbuilder.NodeBuilder;
+import org.apache.cayenne.access.sqlbuilder.SQLBuilder;
+import org.apache.cayenne.access.sqlbuilder.SQLGenerationContext;
+import org.apache.cayenne.access.sqlbuilder.SQLGenerationVisitor;
+import org.apache.cayenne.access.sqlbuilder.SelectBuilder;
+import org.apache.cayenne.access.sqlbuilder.sqltree.Node;
+import org.apache.cayenne.access.translator.TranslatedBatch;
+import org.apache.cayenne.dba.DbAdapter;
+import org.apache.cayenne.map.DbAttribute;
+import org.apache.cayenne.map.DbEntity;
+import org.apache.cayenne.query.BatchQuery;
+import org.apache.cayenne.query.BatchQueryRow;
+import org.apache.cayenne.query.UpdateBatchQuery;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Verifies update counts of an optimistically locked UPDATE or DELETE batch executed as a JDBC batch. Each row must
+ * have been updated exactly once. Rows with counts not reported by the driver ({@link Statement#SUCCESS_NO_INFO}) are
+ * verified with SELECTs of up to "maxIdQualifierSize" rows each: updated rows must be found by their primary key and
+ * new values of the locking columns, deleted rows must be gone.
+ *
+ * @since 5.0
+ */
+class OptimisticLockBatchVerifier {
+
+    private final BatchQuery query;
+    private final DbAdapter adapter;
+    private final TranslatedBatch translated;
+    private final int maxIdQualifierSize;
+
+    OptimisticLockBatchVerifier(
+            BatchQuery query,
+            DbAdapter adapter,
+            TranslatedBatch translated,
+            int maxIdQualifierSize) {
+        this.query = query;
+        this.adapter = adapter;
+        this.translated = translated;
+        this.maxIdQualifierSize = maxIdQualifierSize;
+    }
+
+    /**
+     * Checks update counts of the rows executed in a single "executeBatch" call, throwing an
+     * {@link OptimisticLockException} for the first row that wasn't updated.
+     */
+    void verify(Connection connection, List<BatchQueryRow> rows, int[] counts) throws Exception {
+
+        // some drivers don't return per-statement counts at all
+        boolean countsAvailable = counts != null && counts.length == rows.size();
+
+        List<BatchQueryRow> unverified = new ArrayList<>();
+        for (int i = 0; i < rows.size(); i++) {
+            int count = countsAvailable ? counts[i] : Statement.SUCCESS_NO_INFO;
+            if (count == Statement.SUCCESS_NO_INFO) {
+                unverified.add(rows.get(i));
+            } else if (count != 1) {
+                throw lockFailure(rows.get(i));
+            }
+        }
+
+        if (!unverified.isEmpty()) {
+            verifyWithSelect(connection, unverified);
+        }
+    }
+
+    private void verifyWithSelect(Connection connection, List<BatchQueryRow> rows) throws Exception {
+        // don't let the qualifier grow beyond the size the database can handle
+        int chunkSize = maxIdQualifierSize > 0 ? maxIdQualifierSize : rows.size();
+        for (int i = 0; i < rows.size(); i += chunkSize) {
+            verifyChunk(connection, rows.subList(i, Math.min(i + chunkSize, rows.size())));
+        }
+    }
+
+    private void verifyChunk(Connection connection, List<BatchQueryRow> rows) throws Exception {
+        DbEntity entity = query.getDbEntity();
+        List<DbAttribute> pks = entity.getPrimaryKeys();
+        List<DbAttribute> updated = query instanceof UpdateBatchQuery update
+                ? update.getUpdatedAttributes()
+                : List.of();
+
+        // Updated rows are matched by their PK together with the locking (version) columns, so a row that was
+        // concurrently changed to the same values is not mistaken for a row updated by this batch. Deleted rows are
+        // matched by PK only, as they must be gone regardless of their current values.
+        List<DbAttribute> matched = updated.isEmpty() ? pks : qualifierAttributes();
+
+        ExpressionNodeBuilder where = null;
+        for (BatchQueryRow row : rows) {
+            ExpressionNodeBuilder rowQualifier = null;
+            for (DbAttribute attribute : matched) {
+                ExpressionNodeBuilder next = SQLBuilder.column(attribute.getName()).attribute(attribute)
+                        .eq(SQLBuilder.value(expectedValue(row, attribute, updated)).attribute(attribute));
+                rowQualifier = rowQualifier == null ? next : rowQualifier.and(next);
+            }
+            where = where == null ? rowQualifier : where.or(rowQualifier);
+        }
+
+        NodeBuilder[] columns = new NodeBuilder[pks.size()];
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = SQLBuilder.column(pks.get(i).getName()).attribute(pks.get(i));
+        }
+
+        SelectBuilder select = SQLBuilder.select(columns).from(SQLBuilder.table(entity)).where(where);
+        VerifierContext context = new VerifierContext(adapter, entity);
+        String sql = translate(context, select);
+
+        Set<List<Object>> found = new HashSet<>();
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (PSParameter<?> binding : context.getBindings()) {
+                adapter.bindParameter(statement, binding);
+            }
+
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    List<Object> key = new ArrayList<>(pks.size());
+                    for (int i = 0; i < pks.size(); i++) {
+                        key.add(normalize(rs.getObject(i + 1)));
+                    }
+                    found.add(key);
+                }
+            }
+        }
+
+        // note that a row deleted by another transaction can't be told apart from a row deleted by this batch
+        boolean mustExist = !updated.isEmpty();
+        for (BatchQueryRow row : rows) {
+            List<Object> key = new ArrayList<>(pks.size());
+            for (DbAttribute pk : pks) {
+                key.add(normalize(expectedValue(row, pk, updated)));
+            }
+
+            if (found.contains(key) != mustExist) {
+                throw lockFailure(row);
+            }
+        }
+    }
+
+    private List<DbAttribute> qualifierAttributes() {
+        return query instanceof UpdateBatchQuery update
+                ? update.getQualifierAttributes()
+                : query.getDbEntity().getPrimaryKeys();
+    }
+
+    // the value of the column after the row was processed by the batch: either the updated one or the one the row
+    // was matched against
+    private static Object expectedValue(BatchQueryRow row, DbAttribute attribute, List<DbAttribute> updated) {
+        int updatedIndex = updated.indexOf(attribute);
+        return updatedIndex >= 0 ? row.getValue(updatedIndex) : row.getQualifier().get(attribute.getName());
+    }
+
+    private static String translate(SQLGenerationContext context, NodeBuilder nodeBuilder) {
+        Node node = context.getAdapter().getSqlTreeProcessor().process(nodeBuilder.build());
+
+        DefaultSQLAppendable buffer = new DefaultSQLAppendable(
+                context.getAdapter().getQuotingStrategy(context.getRootDbEntity()));
+        SQLGenerationVisitor visitor = new SQLGenerationVisitor(buffer, context);
+        node.visit(visitor);
+
+        return visitor.getSQLString();
+    }
+
+    private OptimisticLockException lockFailure(BatchQueryRow row) {
+        return new OptimisticLockException(row.getObjectId(), query.getDbEntity(), row.getQualifier(), translated);
+    }
+
+    // JDBC drivers may return key values of a type different from the one in the snapshot, e.g. Long vs Integer
+    private static Object normalize(Object value) {
+        if (value instanceof BigDecimal decimal) {
+            return decimal.stripTrailingZeros();
+        }
+        if (value instanceof Number number) {
+            return new BigDecimal(number.toString()).stripTrailingZeros();
+        }
+        if (value instanceof byte[] bytes) {
+            return ByteBuffer.wrap(bytes);
+        }
+        return value;
+    }
+
+    private static class VerifierContext implements SQLGenerationContext {
+
+        private final DbAdapter adapter;
+        private final DbEntity entity;
+        private final List<PSParameter<?>> bindings;
+
+        VerifierContext(DbAdapter adapter, DbEntity entity) {
+            this.adapter = adapter;
+            this.entity = entity;
+            this.bindings = new ArrayList<>();
+        }
+
+        @Override
+        public DbAdapter getAdapter() {
+            return adapter;
+        }
+
+        @Override
+        public List<PSParameter<?>> getBindings() {
+            return bindings;
+        }
+
+        @Override
+        public DbEntity getRootDbEntity() {
+            return entity;
+        }
+
+        @Override
+        public boolean isSingleTableSQL() {
+            return true;
+        }
+    }
+}
@@ -21,6 +21,7 @@ package org.apache.cayenne.access.jdbc;
 
 import org.apache.cayenne.CayenneRuntimeException;
 import org.apache.cayenne.ResultIterator;
+import org.apache.cayenne.access.jdbc.reader.BatchRowReader;
 import org.apache.cayenne.access.jdbc.reader.RowReader;
 import org.apache.cayenne.util.ResultIteratorIterator;
 
@@ -43,6 +44,11 @@ public class RSIterator<T> implements ResultIterator<T> {
     private final Statement statement;
     private final ResultSet resultSet;
 
+    // read-ahead buffer for BatchRowReader
+    private final BatchRowReader<T> batchReader;
+    private final List<T> buffer;
+    private int bufferPosition;
+
     protected boolean closed;
     protected boolean nextRow;
 
@@ -52,12 +58,21 @@ public class RSIterator<T> implements ResultIterator<T> {
      *
      * @since 4.0
      */
+    @SuppressWarnings("unchecked")
     public RSIterator(Statement statement, ResultSet resultSet, RowReader<T> rowReader) {
 
         this.statement = statement;
         this.resultSet = resultSet;
         this.rowReader = rowReader;
 
+        if (rowReader instanceof BatchRowReader) {
+            this.batchReader = (BatchRowReader<T>) rowReader;
+            this.buffer = new ArrayList<>(batchReader.batchSize());
+        } else {
+            this.batchReader = null;
+            this.buffer = null;
+        }
+
         checkNextRow();
     }
 
@@ -89,7 +104,7 @@ public class RSIterator<T> implements ResultIterator<T> {
      */
     @Override
     public boolean hasNextRow() {
-        return nextRow;
+        return nextRow || hasBufferedRow();
     }
 
     /**
@@ -101,6 +116,16 @@ public class RSIterator<T> implements ResultIterator<T> {
             throw new NoSuchElementException("An attempt to read uninitialized row or past the end of the iterator.");
         }
 
+        if (batchReader != null) {
+            if (!hasBufferedRow()) {
+                readBatch();
+            }
+
+            T row = buffer.get(bufferPosition);
+            buffer.set(bufferPosition++, null);
+            return row;
+        }
+
         T row = rowReader.readRow(resultSet);
         checkNextRow();
         return row;
@@ -114,7 +139,12 @@ public class RSIterator<T> implements ResultIterator<T> {
         if (!hasNextRow()) {
             throw new NoSuchElementException("An attempt to read uninitialized row or past the end of the iterator.");
         }
-        checkNextRow();
+
+        if (hasBufferedRow()) {
+            buffer.set(bufferPosition++, null);
+        } else {
+            checkNextRow();
+        }
     }
 
     /**
@@ -127,6 +157,11 @@ public class RSIterator<T> implements ResultIterator<T> {
         if (!closed) {
             nextRow = false;
 
+            if (buffer != null) {
+                buffer.clear();
+                bufferPosition = 0;
+            }
+
             StringBuilder errors = new StringBuilder();
 
             try {
@@ -151,6 +186,26 @@ public class RSIterator<T> implements ResultIterator<T> {
         }
     }
 
+    private boolean hasBufferedRow() {
+        return buffer != null && bufferPosition < buffer.size();
+    }
+
+    /**
+     * Reads up to "batchSize" rows into the buffer, and lets the BatchRowReader finish their processing.
+     */
+    private void readBatch() {
+        buffer.clear();
+        bufferPosition = 0;
+
+        int batchSize = batchReader.batchSize();
+        while (nextRow && buffer.size() < batchSize) {
+            buffer.add(rowReader.readRow(resultSet));
+            checkNextRow();
+        }
+
+        batchReader.completeRows(buffer);
+    }
+
     /**
      * Moves internal ResultSet cursor position down one row. Checks if the next
      * row is available.
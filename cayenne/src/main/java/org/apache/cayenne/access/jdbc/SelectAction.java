@@ -19,6 +19,8 @@
 
 package org.apache.cayenne.access.jdbc;
 
+import org.apache.cayenne.CayenneRuntimeException;
+import org.apache.cayenne.ColumnarResult;
 import org.apache.cayenne.ResultIterator;
 import org.apache.cayenne.access.DataNode;
 import org.apache.cayenne.access.OperationObserver;
@@ -33,6 +35,7 @@ import org.apache.cayenne.query.Select;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -92,6 +95,11 @@ public class SelectAction extends BaseSQLAction {
             throw ex;
         }
 
+        if (observer.isColumnarResult()) {
+            performColumnarRead(statement, rs, observer, translated);
+            return;
+        }
+
         RowReader<?> rowReader = dataNode.getRowReaderFactory().rowReader(translated.resultColumns(), queryMetadata, dataNode.getAdapter());
 
         ResultIterator<?> it = new RSIterator<>(statement, rs, rowReader);
@@ -122,6 +130,32 @@ public class SelectAction extends BaseSQLAction {
         }
     }
 
+    /**
+     * Reads the whole ResultSet into a single {@link ColumnarResult}, bypassing RowReaders.
+     */
+    private void performColumnarRead(PreparedStatement statement, ResultSet rs, OperationObserver observer,
+                                     TranslatedSelect translated) throws Exception {
+
+        ColumnarResult result;
+        try {
+            if (translated.suppressingDistinct() && !queryMetadata.isSuppressingDistinct()) {
+                throw new CayenneRuntimeException("Columnar result can't be combined with in-memory DISTINCT");
+            }
+
+            int offset = getInMemoryOffset(queryMetadata.getFetchOffset());
+            result = new ColumnarResultReader(translated.resultColumns(), queryMetadata)
+                    .read(rs, offset, queryMetadata.getFetchLimit());
+        } finally {
+            try {
+                rs.close();
+            } finally {
+                statement.close();
+            }
+        }
+
+        observer.nextRows(query, Collections.singletonList(result));
+    }
+
     private <T> ResultIterator<T> forIteratedResult(ResultIterator<T> iterator, OperationObserver observer,
                                                     Connection connection) {
         if (!observer.isIteratedResult()) {
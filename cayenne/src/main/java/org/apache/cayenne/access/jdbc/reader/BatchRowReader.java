@@ -0,0 +1,42 @@
+/*****************************************************************
+ *   Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ ****************************************************************/
+package org.apache.cayenne.access.jdbc.reader;
+
+import java.util.List;
+
+/**
+ * A {@link RowReader} that finishes processing of the rows it reads in batches, e.g. to process multiple rows in
+ * parallel. {@link org.apache.cayenne.access.jdbc.RSIterator} reads up to {@link #batchSize()} rows ahead and passes
+ * them to {@link #completeRows(List)} before returning them to the caller.
+ *
+ * @since 5.0
+ */
+public interface BatchRowReader<T> extends RowReader<T> {
+
+    /**
+     * Returns the max number of rows to read ahead before calling {@link #completeRows(List)}.
+     */
+    int batchSize();
+
+    /**
+     * Finishes processing of the rows previously returned from {@link #readRow(java.sql.ResultSet)}. Implementations
+     * may replace the list elements, but must preserve their order.
+     */
+    void completeRows(List<T> rows);
+}
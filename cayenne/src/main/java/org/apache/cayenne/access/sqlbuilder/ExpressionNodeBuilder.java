@@ -20,6 +20,7 @@
 package org.apache.cayenne.access.sqlbuilder;
 
 import org.apache.cayenne.access.sqlbuilder.sqltree.EqualNode;
+import org.apache.cayenne.access.sqlbuilder.sqltree.InNode;
 import org.apache.cayenne.access.sqlbuilder.sqltree.Node;
 import org.apache.cayenne.access.sqlbuilder.sqltree.NotNode;
 import org.apache.cayenne.access.sqlbuilder.sqltree.OpExpressionNode;
@@ -68,6 +69,14 @@ public class ExpressionNodeBuilder implements ExpressionTrait {
         return new ExpressionNodeBuilder(new ExpNodeBuilder(operand, "="));
     }
 
+    /**
+     * @since 5.0
+     */
+    @Override
+    public ExpressionNodeBuilder in(NodeBuilder values) {
+        return new ExpressionNodeBuilder(new ExpNodeBuilder(values, "IN"));
+    }
+
     @Override
     public ExpressionNodeBuilder lt(NodeBuilder operand) {
         return new ExpressionNodeBuilder(new ExpNodeBuilder(operand, "<"));
@@ -117,6 +126,8 @@ public class ExpressionNodeBuilder implements ExpressionTrait {
             Node node;
             if(operation.equals("=")) {
                 node = new EqualNode();
+            } else if(operation.equals("IN")) {
+                node = new InNode(false);
             } else {
                 node = new OpExpressionNode(operation);
             }
@@ -44,6 +44,13 @@ interface ExpressionTrait extends NodeBuilder {
         return new ExpressionNodeBuilder(this).eq(nodeBuilder);
     }
 
+    /**
+     * @since 5.0
+     */
+    default ExpressionNodeBuilder in(NodeBuilder values) {
+        return new ExpressionNodeBuilder(this).in(values);
+    }
+
     default ExpressionNodeBuilder plus(NodeBuilder nodeBuilder) {
         return new ExpressionNodeBuilder(this).plus(nodeBuilder);
     }
@@ -21,6 +21,9 @@ package org.apache.cayenne.access.sqlbuilder;
 
 import org.apache.cayenne.access.sqlbuilder.sqltree.InsertColumnsNode;
 import org.apache.cayenne.access.sqlbuilder.sqltree.InsertNode;
+import org.apache.cayenne.access.sqlbuilder.sqltree.InsertRowValuesNode;
+import org.apache.cayenne.access.sqlbuilder.sqltree.InsertValuesRowsNode;
+import org.apache.cayenne.access.sqlbuilder.sqltree.Node;
 import org.apache.cayenne.access.sqlbuilder.sqltree.TableNode;
 import org.apache.cayenne.access.sqlbuilder.sqltree.InsertValuesNode;
 import org.apache.cayenne.map.DbEntity;
@@ -38,6 +41,8 @@ public class InsertBuilder extends BaseBuilder {
     private static final int COLUMNS_NODE = 1;
     private static final int VALUES_NODE  = 2;
 
+    private Node currentRow;
+
     public InsertBuilder(String table) {
         super(new InsertNode(), VALUES_NODE + 1);
         node(TABLE_NODE, () -> new TableNode(table, null));
@@ -54,7 +59,20 @@ public class InsertBuilder extends BaseBuilder {
     }
 
     public InsertBuilder value(ValueNodeBuilder valueNode) {
-        node(VALUES_NODE, InsertValuesNode::new).addChild(valueNode.build());
+        Node values = currentRow != null ? currentRow : node(VALUES_NODE, InsertValuesNode::new);
+        values.addChild(valueNode.build());
+        return this;
+    }
+
+    /**
+     * Starts a new row of values, producing a multi-row "INSERT ... VALUES (...), (...)". If used, it must be called
+     * before adding the values of each row, including the first one.
+     *
+     * @since 5.0
+     */
+    public InsertBuilder row() {
+        currentRow = new InsertRowValuesNode();
+        node(VALUES_NODE, InsertValuesRowsNode::new).addChild(currentRow);
         return this;
     }
 }
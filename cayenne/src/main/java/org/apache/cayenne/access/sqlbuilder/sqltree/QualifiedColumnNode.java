@@ -0,0 +1,74 @@
+/*****************************************************************
+ *   Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ ****************************************************************/
+
+package org.apache.cayenne.access.sqlbuilder.sqltree;
+
+import java.util.Objects;
+
+import org.apache.cayenne.access.sqlbuilder.SQLAppendable;
+import org.apache.cayenne.access.sqlbuilder.SQLGenerationContext;
+
+/**
+ * A column prefixed with a table alias or a pseudo-table name, like "EXCLUDED" in PostgreSQL upserts. Unlike
+ * {@link ColumnNode}, the prefix is kept in single-table statements, and is appended as is, without quoting.
+ *
+ * @since 5.0
+ */
+public class QualifiedColumnNode extends Node {
+
+    private final String qualifier;
+    private final String column;
+
+    public QualifiedColumnNode(String qualifier, String column) {
+        this.qualifier = Objects.requireNonNull(qualifier);
+        this.column = Objects.requireNonNull(column);
+    }
+
+    @Override
+    public SQLAppendable append(SQLAppendable buffer, SQLGenerationContext context) {
+        return buffer.appendTokenSeparator().append(qualifier).append('.').appendQuoted(column);
+    }
+
+    @Override
+    public Node copy() {
+        return new QualifiedColumnNode(qualifier, column);
+    }
+
+    public String getQualifier() {
+        return qualifier;
+    }
+
+    public String getColumn() {
+        return column;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        if (!super.equals(o)) return false;
+        QualifiedColumnNode that = (QualifiedColumnNode) o;
+        return Objects.equals(qualifier, that.qualifier) && Objects.equals(column, that.column);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), qualifier, column);
+    }
+}
@@ -22,6 +22,8 @@ package org.apache.cayenne.access.translator;
 import org.apache.cayenne.dba.DbAdapter;
 import org.apache.cayenne.query.BatchQuery;
 
+import java.util.List;
+
 /**
  * A stateless service that translates a batch query of type {@code T} into an immutable
  * {@link TranslatedBatch}. Each batch query flavor (insert, update, delete) is handled by its own
@@ -60,4 +62,17 @@ public interface BatchTranslator<T extends BatchQuery> {
      * @since 5.0
      */
     TranslatedBatch translate(T query, DbAdapter adapter);
+
+    /**
+     * Translates the provided batch query into statements that each cover up to {@code rowsPerStatement} rows of the
+     * query (e.g. a multi-row "INSERT ... VALUES (...), (...)"). Every returned {@link TranslatedBatch} holds
+     * statements with the same SQL, so its bindings carry one value per statement rather than per query row.
+     * Returns an empty list if the query can't be translated this way, in which case the caller should fall back
+     * to {@link #translate(BatchQuery, DbAdapter)}.
+     *
+     * @since 5.0
+     */
+    default List<TranslatedBatch> translateMultiRow(T query, DbAdapter adapter, int rowsPerStatement) {
+        return List.of();
+    }
 }
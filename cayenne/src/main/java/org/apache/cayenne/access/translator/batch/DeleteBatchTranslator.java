@@ -29,7 +29,7 @@ import org.apache.cayenne.query.DeleteBatchQuery;
 /**
  * @since 4.2
  */
-public class DeleteBatchTranslator extends BaseBatchTranslator<DeleteBatchQuery> {
+public class DeleteBatchTranslator extends MultiRowBatchTranslator<DeleteBatchQuery> {
 
     @Override
     protected String createSql(BatchTranslatorContext<DeleteBatchQuery> context) {
@@ -39,6 +39,33 @@ public class DeleteBatchTranslator extends BaseBatchTranslator<DeleteBatchQuery>
         return doTranslate(context, deleteBuilder);
     }
 
+    /**
+     * Multiple rows can be deleted with a single "WHERE key IN (...)" statement only when rows are matched by a single
+     * non-null column, i.e. there's no optimistic locking qualifier.
+     */
+    @Override
+    protected boolean supportsMultiRow(BatchTranslatorContext<DeleteBatchQuery> context) {
+        DeleteBatchQuery query = context.getQuery();
+        return !query.isUsingOptimisticLocking()
+                && query.getDbAttributes().size() == 1
+                && !query.isNull(query.getDbAttributes().get(0));
+    }
+
+    @Override
+    protected String createMultiRowSql(BatchTranslatorContext<DeleteBatchQuery> context, int rows) {
+        DbAttribute attribute = context.getQuery().getDbAttributes().get(0);
+
+        // any non-null values would do, actual values are resolved when binding each statement
+        Object[] values = new Object[rows];
+        Arrays.fill(values, 1);
+
+        DeleteBuilder deleteBuilder = SQLBuilder
+                .delete(context.getRootDbEntity())
+                .where(SQLBuilder.column(attribute.getName()).attribute(attribute)
+                        .in(SQLBuilder.value(values).attribute(attribute).array(true)));
+        return doTranslate(context, deleteBuilder);
+    }
+
     @Override
     protected boolean isNullAttribute(BatchTranslatorContext<DeleteBatchQuery> context, DbAttribute attribute) {
         return context.getQuery().isNull(attribute);
@@ -29,7 +29,7 @@ import org.apache.cayenne.query.InsertBatchQuery;
 /**
  * @since 4.2
  */
-public class InsertBatchTranslator extends BaseBatchTranslator<InsertBatchQuery> {
+public class InsertBatchTranslator extends MultiRowBatchTranslator<InsertBatchQuery> {
 
     @Override
     protected String createSql(BatchTranslatorContext<InsertBatchQuery> context) {
@@ -51,6 +51,29 @@ public class InsertBatchTranslator extends BaseBatchTranslator<InsertBatchQuery>
         return doTranslate(context, insertBuilder);
     }
 
+    @Override
+    protected String createMultiRowSql(BatchTranslatorContext<InsertBatchQuery> context, int rows) {
+        InsertBatchQuery query = context.getQuery();
+        InsertBuilder insertBuilder = SQLBuilder.insert(context.getRootDbEntity());
+
+        for (DbAttribute attribute : query.getDbAttributes()) {
+            if (!excludeInBatch(context, attribute)) {
+                insertBuilder.column(SQLBuilder.column(attribute.getName()).attribute(attribute));
+            }
+        }
+
+        for (int r = 0; r < rows; r++) {
+            insertBuilder.row();
+            for (DbAttribute attribute : query.getDbAttributes()) {
+                if (!excludeInBatch(context, attribute)) {
+                    insertBuilder.value(SQLBuilder.value(1).attribute(attribute));
+                }
+            }
+        }
+
+        return doTranslate(context, insertBuilder);
+    }
+
     @Override
     protected int[] createRowValueIndexes(BatchTranslatorContext<InsertBatchQuery> context) {
         InsertBatchQuery query = context.getQuery();
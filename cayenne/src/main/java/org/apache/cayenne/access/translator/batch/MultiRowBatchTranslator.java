@@ -0,0 +1,112 @@
+/*****************************************************************
+ *   Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ ****************************************************************/
+package org.apache.cayenne.access.translator.batch;
+
+import org.apache.cayenne.access.jdbc.PSBatchParameter;
+import org.apache.cayenne.access.jdbc.PSParameter;
+import org.apache.cayenne.access.translator.TranslatedBatch;
+import org.apache.cayenne.dba.DbAdapter;
+import org.apache.cayenne.query.BatchQuery;
+import org.apache.cayenne.query.BatchQueryRow;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A batch translator that can combine several rows of a batch in one statement, e.g. a multi-row
+ * "INSERT ... VALUES (...), (...)".
+ *
+ * @param <T> type of the batch query to translate
+ * @since 5.0
+ */
+public abstract class MultiRowBatchTranslator<T extends BatchQuery> extends BaseBatchTranslator<T> {
+
+    @Override
+    public List<TranslatedBatch> translateMultiRow(T query, DbAdapter adapter, int rowsPerStatement) {
+        int rowCount = query.getRows().size();
+        if (rowsPerStatement < 2 || rowCount < 2) {
+            return List.of();
+        }
+
+        BatchTranslatorContext<T> context = new BatchTranslatorContext<>(query, adapter);
+        if (!supportsMultiRow(context)) {
+            return List.of();
+        }
+
+        int[] rowValueIndexes = createRowValueIndexes(context);
+        if (rowValueIndexes.length == 0) {
+            return List.of();
+        }
+
+        // full statements share one SQL, the remaining rows (if any) go into a single shorter statement
+        int perStatement = Math.min(rowsPerStatement, rowCount);
+        int fullStatements = rowCount / perStatement;
+        int remainder = rowCount % perStatement;
+
+        List<TranslatedBatch> batches = new ArrayList<>(2);
+        batches.add(translateMultiRow(query, adapter, rowValueIndexes, 0, fullStatements, perStatement));
+        if (remainder > 0) {
+            batches.add(translateMultiRow(query, adapter, rowValueIndexes, fullStatements * perStatement, 1, remainder));
+        }
+        return batches;
+    }
+
+    private TranslatedBatch translateMultiRow(
+            T query,
+            DbAdapter adapter,
+            int[] rowValueIndexes,
+            int offset,
+            int statements,
+            int rowsPerStatement) {
+
+        BatchTranslatorContext<T> context = new BatchTranslatorContext<>(query, adapter);
+        String sql = createMultiRowSql(context, rowsPerStatement);
+        List<BatchQueryRow> rows = query.getRows();
+
+        // placeholders go row by row, each row repeating the placeholders of the single-row SQL
+        int perRow = rowValueIndexes.length;
+        PSBatchParameter[] bindings = new PSBatchParameter[context.getBindings().size()];
+        int j = 0;
+        for (PSParameter<?> b : context.getBindings()) {
+            int r = j / perRow;
+            int valueIndex = rowValueIndexes[j % perRow];
+            Object[] values = new Object[statements];
+            for (int s = 0; s < statements; s++) {
+                values[s] = rows.get(offset + s * rowsPerStatement + r).getValue(valueIndex);
+            }
+            bindings[j] = new PSBatchParameter(values, j + 1, b.psType(), b.psScale(), b.attribute());
+            j++;
+        }
+        return new TranslatedBatch(sql, bindings);
+    }
+
+    /**
+     * Returns whether the query can be translated into statements covering multiple rows each. Returns true by
+     * default.
+     */
+    protected boolean supportsMultiRow(BatchTranslatorContext<T> context) {
+        return true;
+    }
+
+    /**
+     * Creates SQL covering the given number of query rows, with each row's placeholders following the order of
+     * {@link #createRowValueIndexes(BatchTranslatorContext)}.
+     */
+    protected abstract String createMultiRowSql(BatchTranslatorContext<T> context, int rows);
+}
@@ -0,0 +1,123 @@
+/*****************************************************************
+ *   Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ ****************************************************************/
+
+package org.apache.cayenne.access.translator.batch;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.cayenne.access.sqlbuilder.InsertBuilder;
+import org.apache.cayenne.access.sqlbuilder.SQLBuilder;
+import org.apache.cayenne.access.sqlbuilder.SQLGenerationContext;
+import org.apache.cayenne.access.sqlbuilder.sqltree.InsertColumnsNode;
+import org.apache.cayenne.access.sqlbuilder.sqltree.Node;
+import org.apache.cayenne.map.DbAttribute;
+import org.apache.cayenne.query.UpsertBatchQuery;
+
+/**
+ * A base translator of {@link UpsertBatchQuery}. Subclasses provide the database-specific upsert syntax on top of the
+ * SQL tree of a single-row INSERT of the same columns, while this class takes care of the bindings, which are the
+ * same as of that INSERT.
+ *
+ * @since 5.0
+ */
+public abstract class UpsertBatchTranslator extends BaseBatchTranslator<UpsertBatchQuery> {
+
+    @Override
+    protected String createSql(BatchTranslatorContext<UpsertBatchQuery> context) {
+        UpsertBatchQuery query = context.getQuery();
+        InsertBuilder insertBuilder = SQLBuilder.insert(context.getRootDbEntity());
+        List<DbAttribute> columns = new ArrayList<>(query.getDbAttributes().size());
+
+        for (DbAttribute attribute : query.getDbAttributes()) {
+            if (excludeInBatch(context, attribute)) {
+                continue;
+            }
+            columns.add(attribute);
+            insertBuilder
+                    .column(SQLBuilder.column(attribute.getName()).attribute(attribute))
+                    .value(SQLBuilder.value(1).attribute(attribute));
+        }
+
+        Node upsert = createUpsertNode(context, insertBuilder.build(), columns);
+        return doTranslate(context, SQLBuilder.node(upsert));
+    }
+
+    /**
+     * Creates an upsert statement tree for the given columns out of the tree of a single-row INSERT of these columns.
+     * The upsert must contain the value nodes of the INSERT in the same order and no other value nodes, so that it
+     * has the same bindings.
+     */
+    protected abstract Node createUpsertNode(
+            SQLGenerationContext context,
+            Node insert,
+            List<DbAttribute> columns);
+
+    @Override
+    protected int[] createRowValueIndexes(BatchTranslatorContext<UpsertBatchQuery> context) {
+        UpsertBatchQuery query = context.getQuery();
+        int[] indexes = new int[query.getDbAttributes().size()];
+        int i = 0;
+        int j = 0;
+        for (DbAttribute attribute : query.getDbAttributes()) {
+            if (!excludeInBatch(context, attribute)) {
+                indexes[j++] = i;
+            }
+            i++;
+        }
+        return Arrays.copyOf(indexes, j);
+    }
+
+    protected boolean excludeInBatch(BatchTranslatorContext<UpsertBatchQuery> context, DbAttribute attribute) {
+        // the PK is always bound, as it is what the existing row is matched against
+        return attribute.isGenerated() && !attribute.isPrimaryKey();
+    }
+
+    @Override
+    protected boolean isNullAttribute(BatchTranslatorContext<UpsertBatchQuery> context, DbAttribute attribute) {
+        return false;
+    }
+
+    /**
+     * Returns a parenthesized list of the given column names, the same as the column list of an INSERT.
+     */
+    protected Node columnList(List<DbAttribute> columns) {
+        Node list = new InsertColumnsNode();
+        for (DbAttribute column : columns) {
+            // plain names, without attributes that would let the dialect processors transform them
+            list.addChild(SQLBuilder.column(column.getName()).build());
+        }
+        return list;
+    }
+
+    /**
+     * Returns the subset of the columns that are not part of the primary key, i.e. the ones to update if the row
+     * already exists.
+     */
+    protected List<DbAttribute> updatedColumns(List<DbAttribute> columns) {
+        List<DbAttribute> updated = new ArrayList<>(columns.size());
+        for (DbAttribute column : columns) {
+            if (!column.isPrimaryKey()) {
+                updated.add(column);
+            }
+        }
+        return updated;
+    }
+}
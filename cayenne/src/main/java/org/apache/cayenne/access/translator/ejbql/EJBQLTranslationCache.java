@@ -0,0 +1,180 @@
+/*****************************************************************
+ *   Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ ****************************************************************/
+package org.apache.cayenne.access.translator.ejbql;
+
+import org.apache.cayenne.ObjectId;
+import org.apache.cayenne.Persistent;
+import org.apache.cayenne.access.translator.EJBQLTranslator;
+import org.apache.cayenne.dba.DbAdapter;
+import org.apache.cayenne.ejbql.EJBQLCompiledExpression;
+import org.apache.cayenne.query.SQLTemplate;
+import org.apache.cayenne.util.concurrentlinkedhashmap.ConcurrentLinkedHashMap;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A bounded cache of SQL produced by the EJBQL translation, that allows to skip translation of the repeatedly executed
+ * statements. The translated SQL depends on the values of the query parameters when they are null, collections,
+ * objects or ids, so translations are only cached and reused when all the query parameters are simple non-null
+ * values. The cache is keyed by the {@link EJBQLCompiledExpression} instance, so it relies on the compiled expressions
+ * being shared between the queries with the same statement, as done by
+ * {@link org.apache.cayenne.map.EntityResolver#getEjbqlExpression(String)}. As the expressions are recompiled after
+ * the mapping is refreshed, stale translations are never reused and are eventually evicted.
+ * <p>
+ * A single instance is created per runtime and is shared by its DataNodes.
+ *
+ * @since 5.0
+ */
+public class EJBQLTranslationCache {
+
+    static final int DEFAULT_CAPACITY = 500;
+
+    private final ConcurrentLinkedHashMap<TranslationKey, Translation> translations;
+
+    public EJBQLTranslationCache() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public EJBQLTranslationCache(int capacity) {
+        this.translations = new ConcurrentLinkedHashMap.Builder<TranslationKey, Translation>()
+                .maximumWeightedCapacity(capacity)
+                .build();
+    }
+
+    /**
+     * Returns true if the SQL translated with this parameter value can be reused for any other such value.
+     */
+    static boolean isReusableValue(Object value) {
+        return value != null
+                && !(value instanceof Collection)
+                && !(value instanceof Map)
+                && !(value instanceof Persistent)
+                && !(value instanceof ObjectId);
+    }
+
+    /**
+     * Returns a SQLTemplate built from a cached translation of the context query, with the parameters of the
+     * context query bound to it. Returns null if the query was not translated before or its translation can't be
+     * reused.
+     */
+    public SQLTemplate get(EJBQLTranslationContext context) {
+        if (!hasReusableParameters(context)) {
+            return null;
+        }
+
+        Translation translation = translations.get(key(context));
+        if (translation == null) {
+            return null;
+        }
+
+        Map<String, Object> params = translation.boundParameters() != null
+                ? new HashMap<>(translation.boundParameters())
+                : null;
+
+        for (Map.Entry<String, Object> e : translation.inputParameterVars().entrySet()) {
+            Object value = e.getValue() instanceof Integer
+                    ? context.positionalParameters.get(e.getValue())
+                    : context.namedParameters.get(e.getValue());
+
+            // a parameter used in the statement is missing
+            if (value == null) {
+                return null;
+            }
+
+            params.put(e.getKey(), value);
+        }
+
+        SQLTemplate query = new SQLTemplate(context.getCompiledExpression().getRootDescriptor().getObjectClass(),
+                translation.sql());
+        query.setParams(params);
+        return query;
+    }
+
+    /**
+     * Caches the SQL of a query produced by the translation context, if it is reusable.
+     */
+    public void put(EJBQLTranslationContext context, SQLTemplate query) {
+        if (!context.isReusable() || !hasReusableParameters(context)) {
+            return;
+        }
+
+        // store only the values of the literals, values of the input parameters are taken from each executed query
+        Map<String, Object> boundParameters = context.getBoundParameters();
+        Map<String, Object> inputParameterVars = context.getInputParameterVars();
+        if (boundParameters != null) {
+            boundParameters = new HashMap<>(boundParameters);
+            boundParameters.keySet().removeAll(inputParameterVars.keySet());
+        }
+
+        translations.put(key(context), new Translation(
+                query.getDefaultTemplate(),
+                boundParameters,
+                new HashMap<>(inputParameterVars)));
+    }
+
+    /**
+     * Removes all cached translations.
+     */
+    public void clear() {
+        translations.clear();
+    }
+
+    // a null parameter is translated as "IS NULL" condition even if it is not bound, so all the query parameters
+    // must be checked, and not only the ones used during translation
+    private static boolean hasReusableParameters(EJBQLTranslationContext context) {
+        for (Object value : context.namedParameters.values()) {
+            if (!isReusableValue(value)) {
+                return false;
+            }
+        }
+
+        for (Object value : context.positionalParameters.values()) {
+            if (!isReusableValue(value)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static TranslationKey key(EJBQLTranslationContext context) {
+        return new TranslationKey(
+                context.getCompiledExpression(),
+                context.getTranslator(),
+                context.getAdapter(),
+                context.getMetadata().getPageSize() > 0);
+    }
+
+    // none of the components override equals(), so they are compared by identity; "paginated" flag is included,
+    // as paginated queries only select the id columns
+    private record TranslationKey(
+            EJBQLCompiledExpression expression,
+            EJBQLTranslator translator,
+            DbAdapter adapter,
+            boolean paginated) {
+    }
+
+    private record Translation(
+            String sql,
+            Map<String, Object> boundParameters,
+            Map<String, Object> inputParameterVars) {
+    }
+}
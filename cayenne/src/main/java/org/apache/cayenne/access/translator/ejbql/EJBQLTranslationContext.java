@@ -59,6 +59,8 @@ public class EJBQLTranslationContext {
 
     private Map<String, String> tableAliases;
     private Map<String, Object> boundParameters;
+    private Map<String, Object> inputParameterVars;
+    private boolean reusable;
     private Map<String, Object> attributes;
     private Map<String, String> idAliases;
     private int resultDescriptorPosition;
@@ -92,6 +94,7 @@ public class EJBQLTranslationContext {
         this.adapter = adapter;
         this.usingAliases = true;
         this.caseInsensitive = false;
+        this.reusable = true;
         this.queryMetadata = query.getMetaData(entityResolver);
         this.quotingStrategy = quotingStrategy;
 
@@ -327,7 +330,7 @@ public class EJBQLTranslationContext {
     }
 
     String bindPositionalParameter(int position) {
-        return bindParameter(positionalParameters.get(position));
+        return bindInputParameter(position, positionalParameters.get(position));
     }
 
     /**
@@ -337,11 +340,11 @@ public class EJBQLTranslationContext {
      */
 
     List<String> bindPositionalParameterFlatteningCollection(int position) {
-        return bindParameters(positionalParameters.get(position));
+        return bindInputParameters(position, positionalParameters.get(position));
     }
 
     String bindNamedParameter(String name) {
-        return bindParameter(namedParameters.get(name));
+        return bindInputParameter(name, namedParameters.get(name));
     }
 
     /**
@@ -351,7 +354,37 @@ public class EJBQLTranslationContext {
      */
 
     List<String> bindNamedParameterFlatteningCollection(String name) {
-        return bindParameters(namedParameters.get(name));
+        return bindInputParameters(name, namedParameters.get(name));
+    }
+
+    private List<String> bindInputParameters(Object key, Object value) {
+        if (value instanceof Collection) {
+            // the number of bound variables depends on the collection size
+            reusable = false;
+            return bindParameters(value);
+        }
+
+        return Collections.singletonList(bindInputParameter(key, value));
+    }
+
+    /**
+     * Binds a value of a query input parameter, remembering the parameter key (a name or a position) for the
+     * created variable, so that the translated SQL can be reused with other values of the same parameters.
+     */
+    private String bindInputParameter(Object key, Object value) {
+        String var = bindParameter(value);
+
+        if (EJBQLTranslationCache.isReusableValue(value)) {
+            if (inputParameterVars == null) {
+                inputParameterVars = new HashMap<>();
+            }
+            inputParameterVars.put(var, key);
+        } else {
+            // null, ids and objects may change the shape of the SQL
+            reusable = false;
+        }
+
+        return var;
     }
 
     /**
@@ -386,6 +419,7 @@ public class EJBQLTranslationContext {
     }
 
     void rebindParameter(String boundName, Object newValue) {
+        reusable = false;
         boundParameters.put(boundName, newValue);
     }
 
@@ -407,6 +441,25 @@ public class EJBQLTranslationContext {
         return boundParameters != null ? boundParameters.get(name) : null;
     }
 
+    Map<String, Object> getBoundParameters() {
+        return boundParameters;
+    }
+
+    /**
+     * Returns a map of bound variable names to the keys of the query parameters they were bound from.
+     */
+    Map<String, Object> getInputParameterVars() {
+        return inputParameterVars != null ? inputParameterVars : Collections.emptyMap();
+    }
+
+    /**
+     * Returns true if the translated SQL doesn't depend on the values of the query parameters, and can be reused
+     * for the other executions of the same query.
+     */
+    boolean isReusable() {
+        return reusable;
+    }
+
     /**
      * Retrieves a SQL alias for the combination of EJBQL id variable and a table name. If
      * such alias hasn't been used, it is created on the fly.
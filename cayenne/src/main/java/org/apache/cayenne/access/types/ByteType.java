@@ -52,6 +52,14 @@ public class ByteType implements ExtendedType<Byte> {
         return (rs.wasNull()) ? null : b;
     }
 
+    /**
+     * @since 5.0
+     */
+    @Override
+    public int materializeInt(ResultSet rs, int index, int type) throws Exception {
+        return rs.getByte(index);
+    }
+
     @Override
     public Byte materializeObject(CallableStatement st, int index, int type) throws Exception {
         byte b = st.getByte(index);
@@ -38,6 +38,14 @@ public class DoubleType implements ExtendedType<Double> {
         return rs.wasNull() ? null : d;
     }
 
+    /**
+     * @since 5.0
+     */
+    @Override
+    public double materializeDouble(ResultSet rs, int index, int type) throws Exception {
+        return rs.getDouble(index);
+    }
+
     @Override
     public Double materializeObject(CallableStatement rs, int index, int type) throws Exception {
         double d = rs.getDouble(index);
@@ -69,6 +69,40 @@ public interface ExtendedType<T> {
      */
     T materializeObject(CallableStatement rs, int index, int type) throws Exception;
 
+    /**
+     * Reads a ResultSet column as a primitive int, bypassing boxing for types that can do it. SQL NULL is returned as
+     * 0, and the caller is expected to check {@link ResultSet#wasNull()} right after this call. The default
+     * implementation delegates to {@link #materializeObject(ResultSet, int, int)} and unboxes the result.
+     *
+     * @since 5.0
+     */
+    default int materializeInt(ResultSet rs, int index, int type) throws Exception {
+        T value = materializeObject(rs, index, type);
+        return value != null ? ((Number) value).intValue() : 0;
+    }
+
+    /**
+     * Reads a ResultSet column as a primitive long. Follows the same NULL contract as
+     * {@link #materializeInt(ResultSet, int, int)}.
+     *
+     * @since 5.0
+     */
+    default long materializeLong(ResultSet rs, int index, int type) throws Exception {
+        T value = materializeObject(rs, index, type);
+        return value != null ? ((Number) value).longValue() : 0L;
+    }
+
+    /**
+     * Reads a ResultSet column as a primitive double. Follows the same NULL contract as
+     * {@link #materializeInt(ResultSet, int, int)}.
+     *
+     * @since 5.0
+     */
+    default double materializeDouble(ResultSet rs, int index, int type) throws Exception {
+        T value = materializeObject(rs, index, type);
+        return value != null ? ((Number) value).doubleValue() : 0d;
+    }
+
     /**
      * Converts value of the supported type to a human-readable String representation.
      *
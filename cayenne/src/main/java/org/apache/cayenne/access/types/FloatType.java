@@ -38,6 +38,14 @@ public class FloatType implements ExtendedType<Float> {
         return rs.wasNull() ? null : f;
     }
 
+    /**
+     * @since 5.0
+     */
+    @Override
+    public double materializeDouble(ResultSet rs, int index, int type) throws Exception {
+        return rs.getFloat(index);
+    }
+
     @Override
     public Float materializeObject(CallableStatement rs, int index, int type) throws Exception {
         float f = rs.getFloat(index);
@@ -38,6 +38,14 @@ public class IntegerType implements ExtendedType<Integer> {
         return (rs.wasNull()) ? null : value;
     }
 
+    /**
+     * @since 5.0
+     */
+    @Override
+    public int materializeInt(ResultSet rs, int index, int type) throws Exception {
+        return rs.getInt(index);
+    }
+
     @Override
     public Integer materializeObject(CallableStatement rs, int index, int type) throws Exception {
         int value = rs.getInt(index);
@@ -38,6 +38,14 @@ public class LongType implements ExtendedType<Long> {
         return (rs.wasNull()) ? null : value;
     }
 
+    /**
+     * @since 5.0
+     */
+    @Override
+    public long materializeLong(ResultSet rs, int index, int type) throws Exception {
+        return rs.getLong(index);
+    }
+
     @Override
     public Long materializeObject(CallableStatement rs, int index, int type) throws Exception {
         long value = rs.getLong(index);
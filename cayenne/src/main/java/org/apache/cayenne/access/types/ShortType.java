@@ -50,6 +50,14 @@ public class ShortType implements ExtendedType<Short> {
         return (rs.wasNull()) ? null : s;
     }
 
+    /**
+     * @since 5.0
+     */
+    @Override
+    public int materializeInt(ResultSet rs, int index, int type) throws Exception {
+        return rs.getShort(index);
+    }
+
     @Override
     public Short materializeObject(CallableStatement st, int index, int type) throws Exception {
         short s = st.getShort(index);
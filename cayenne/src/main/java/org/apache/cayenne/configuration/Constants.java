@@ -204,6 +204,15 @@ public interface Constants {
     @Deprecated(since = "5.0", forRemoval = true)
     String SERVER_OBJECT_RETAIN_STRATEGY_PROPERTY = OBJECT_RETAIN_STRATEGY_PROPERTY;
 
+    /**
+     * A boolean property that makes DataContexts resolve a HOLLOW object together with other HOLLOW objects of the
+     * same entity registered in the context, using a single query. Default is false.
+     *
+     * @see org.apache.cayenne.access.DataContext#setBatchFaulting(boolean)
+     * @since 5.0
+     */
+    String CONTEXT_BATCH_FAULTING_PROPERTY = "cayenne.context.batch_faulting";
+
     /**
      * A boolean property that defines whether runtime should use external
      * transactions. Possible values are "true" or "false".
@@ -254,6 +263,33 @@ public interface Constants {
      */
     String JDBC_LOG_BATCH_ROW_THRESHOLD_PROPERTY = "cayenne.jdbc.log.batch.threshold";
 
+    /**
+     * An integer property defining the maximum number of batch rows combined in a single multi-row INSERT or DELETE
+     * statement. Values less than 2 disable multi-row statements. Default is 1.
+     *
+     * @see org.apache.cayenne.dba.DbAdapter#maxRowsPerStatement()
+     * @since 5.0
+     */
+    String JDBC_BATCH_MAX_ROWS_PER_STATEMENT_PROPERTY = "cayenne.jdbc.batch.max_rows_per_statement";
+
+    /**
+     * An integer property defining the maximum number of rows added to a JDBC batch before it is executed. Values
+     * less than 1 mean no limit. Default is 0.
+     *
+     * @see org.apache.cayenne.dba.DbAdapter#maxBatchSize()
+     * @since 5.0
+     */
+    String JDBC_BATCH_MAX_SIZE_PROPERTY = "cayenne.jdbc.batch.max_size";
+
+    /**
+     * A boolean property that allows to run optimistically locked UPDATE and DELETE batches as JDBC batches, verifying
+     * per-row update counts returned by the driver. Default is false.
+     *
+     * @see org.apache.cayenne.dba.DbAdapter#supportsBatchedOptimisticLocking()
+     * @since 5.0
+     */
+    String JDBC_BATCH_OPTIMISTIC_LOCKING_PROPERTY = "cayenne.jdbc.batch.optimistic_locking";
+
     /**
      * Snapshot cache max size
      *
@@ -20,6 +20,9 @@ package org.apache.cayenne.configuration;
 
 import org.apache.cayenne.DataChannel;
 import org.apache.cayenne.ObjectContext;
+import org.apache.cayenne.access.ReadOnlyDataContext;
+
+import java.util.HashMap;
 
 /**
  * A factory for regular and nested contexts.
@@ -38,4 +41,16 @@ public interface ObjectContextFactory {
      * nested context creation.
      */
     ObjectContext createContext(DataChannel parent);
+
+    /**
+     * Creates an ObjectContext attached to a default DataChannel that can only be used to read data. Such context
+     * throws on any attempt to modify, create or delete objects, and may skip the bookkeeping needed to track changes.
+     * The default implementation creates a {@link ReadOnlyDataContext} nested in a context returned by
+     * {@link #createContext()}.
+     *
+     * @since 5.0
+     */
+    default ObjectContext createReadOnlyContext() {
+        return new ReadOnlyDataContext(createContext(), null, new HashMap<>(), null);
+    }
 }
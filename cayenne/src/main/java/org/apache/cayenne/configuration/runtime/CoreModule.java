@@ -42,6 +42,7 @@ import org.apache.cayenne.access.translator.batch.DeleteBatchTranslator;
 import org.apache.cayenne.access.translator.batch.InsertBatchTranslator;
 import org.apache.cayenne.access.translator.batch.UpdateBatchTranslator;
 import org.apache.cayenne.access.translator.ejbql.DbAdapterDelegatedEJBQLTranslator;
+import org.apache.cayenne.access.translator.ejbql.EJBQLTranslationCache;
 import org.apache.cayenne.access.translator.procedure.DbAdapterDelegatedProcedureTranslator;
 import org.apache.cayenne.access.translator.select.DbAdapterDelegatedSelectTranslator;
 import org.apache.cayenne.access.translator.sqltemplate.DefaultSQLTemplateTranslator;
@@ -409,6 +410,7 @@ public class CoreModule implements Module {
         binder.bind(SelectTranslator.class).to(DbAdapterDelegatedSelectTranslator.class);
         binder.bind(ProcedureTranslator.class).to(DbAdapterDelegatedProcedureTranslator.class);
         binder.bind(EJBQLTranslator.class).to(DbAdapterDelegatedEJBQLTranslator.class);
+        binder.bind(EJBQLTranslationCache.class).to(EJBQLTranslationCache.class);
 
         // a default ObjectMapRetainStrategy used to create objects map for
         // ObjectStore
@@ -31,6 +31,8 @@ import org.apache.cayenne.commitlog.CommitLogListener;
 import org.apache.cayenne.commitlog.meta.AnnotationCommitLogEntityFactory;
 import org.apache.cayenne.commitlog.meta.CommitLogEntityFactory;
 import org.apache.cayenne.configuration.Constants;
+import org.apache.cayenne.configuration.DataChannelDescriptorLoader;
+import org.apache.cayenne.configuration.snapshot.SnapshotDataChannelDescriptorLoader;
 import org.apache.cayenne.di.Binder;
 import org.apache.cayenne.di.ListBuilder;
 import org.apache.cayenne.di.MapBuilder;
@@ -151,6 +153,18 @@ public class CoreModuleExtender {
         return this;
     }
 
+    /**
+     * Configures the runtime to load projects from binary snapshots produced at build time (e.g. by the
+     * "cproject-snapshot" Maven goal), when such a snapshot is found next to the project XML and is up-to-date with
+     * it. Projects with no snapshot or with a stale snapshot are loaded from XML as usual.
+     *
+     * @since 5.0
+     */
+    public CoreModuleExtender useProjectSnapshots() {
+        binder.bind(DataChannelDescriptorLoader.class).to(SnapshotDataChannelDescriptorLoader.class);
+        return this;
+    }
+
     /**
      * Adds a custom query filter to the end of the existing filter list
      */
@@ -24,11 +24,15 @@ import org.apache.cayenne.access.DataContext;
 import org.apache.cayenne.access.DataDomain;
 import org.apache.cayenne.access.DataRowStore;
 import org.apache.cayenne.access.DataRowStoreFactory;
+import org.apache.cayenne.access.ObjectMapRetainStrategy;
 import org.apache.cayenne.access.ObjectStore;
+import org.apache.cayenne.access.ReadOnlyDataContext;
 import org.apache.cayenne.cache.NestedQueryCache;
 import org.apache.cayenne.cache.QueryCache;
+import org.apache.cayenne.configuration.Constants;
 import org.apache.cayenne.configuration.ObjectContextFactory;
 import org.apache.cayenne.configuration.ObjectStoreFactory;
+import org.apache.cayenne.configuration.RuntimeProperties;
 import org.apache.cayenne.di.Inject;
 import org.apache.cayenne.event.EventManager;
 
@@ -52,6 +56,18 @@ public class DataContextFactory implements ObjectContextFactory {
     @Inject
     protected QueryCache queryCache;
 
+    /**
+     * @since 5.0
+     */
+    @Inject
+    protected RuntimeProperties runtimeProperties;
+
+    /**
+     * @since 5.0
+     */
+    @Inject
+    protected ObjectMapRetainStrategy retainStrategy;
+
     @Override
     public ObjectContext createContext() {
         return createdFromDataDomain(dataDomain);
@@ -72,6 +88,23 @@ public class DataContextFactory implements ObjectContextFactory {
         }
     }
 
+    /**
+     * @since 5.0
+     */
+    @Override
+    public ObjectContext createReadOnlyContext() {
+
+        DataRowStore snapshotCache = (dataDomain.isSharedCacheEnabled())
+                ? dataDomain.getSharedSnapshotCache()
+                : dataRowStoreFactory.createDataRowStore(dataDomain.getName());
+
+        // ObjectStoreFactory is bypassed, as a read-only context never commits or merges changes from its peers
+        DataContext context = new ReadOnlyDataContext(
+                dataDomain, snapshotCache, retainStrategy.createObjectMap(), queryCache);
+        context.setBatchFaulting(isBatchFaulting());
+        return context;
+    }
+
     protected ObjectContext createFromGenericChannel(DataChannel parent) {
 
         // for new dataRowStores use the same name for all stores
@@ -83,6 +116,7 @@ public class DataContextFactory implements ObjectContextFactory {
         DataContext context = newInstance(
                 parent, objectStoreFactory.createObjectStore(snapshotCache));
         context.setValidatingObjectsOnCommit(dataDomain.isValidatingObjectsOnCommit());
+        context.setBatchFaulting(isBatchFaulting());
         context.setQueryCache(new NestedQueryCache(queryCache));
         return context;
     }
@@ -96,6 +130,7 @@ public class DataContextFactory implements ObjectContextFactory {
 
         context.setValidatingObjectsOnCommit(parent.isValidatingObjectsOnCommit());
         context.setUsingSharedSnapshotCache(parent.isUsingSharedSnapshotCache());
+        context.setBatchFaulting(parent.isBatchFaulting());
         context.setQueryCache(new NestedQueryCache(queryCache));
 
         return context;
@@ -112,10 +147,18 @@ public class DataContextFactory implements ObjectContextFactory {
         DataContext context = newInstance(
                 parent, objectStoreFactory.createObjectStore(snapshotCache));
         context.setValidatingObjectsOnCommit(parent.isValidatingObjectsOnCommit());
+        context.setBatchFaulting(isBatchFaulting());
         context.setQueryCache(new NestedQueryCache(queryCache));
         return context;
     }
 
+    /**
+     * @since 5.0
+     */
+    protected boolean isBatchFaulting() {
+        return runtimeProperties.getBoolean(Constants.CONTEXT_BATCH_FAULTING_PROPERTY, false);
+    }
+
     protected DataContext newInstance(DataChannel parent, ObjectStore objectStore) {
         return new DataContext(parent, objectStore);
     }
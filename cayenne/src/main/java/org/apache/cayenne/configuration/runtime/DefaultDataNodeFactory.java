@@ -27,6 +27,7 @@ import org.apache.cayenne.access.translator.EJBQLTranslator;
 import org.apache.cayenne.access.translator.ProcedureTranslator;
 import org.apache.cayenne.access.translator.SQLTemplateTranslator;
 import org.apache.cayenne.access.translator.SelectTranslator;
+import org.apache.cayenne.access.translator.ejbql.EJBQLTranslationCache;
 import org.apache.cayenne.configuration.Constants;
 import org.apache.cayenne.configuration.DataNodeDescriptor;
 import org.apache.cayenne.configuration.RuntimeProperties;
@@ -72,6 +73,12 @@ public class DefaultDataNodeFactory implements DataNodeFactory {
     @Inject
     protected EJBQLTranslator ejbqlTranslator;
 
+    /**
+     * @since 5.0
+     */
+    @Inject
+    protected EJBQLTranslationCache ejbqlTranslationCache;
+
     @Inject
     protected AdhocObjectFactory objectFactory;
 
@@ -99,7 +106,9 @@ public class DefaultDataNodeFactory implements DataNodeFactory {
         dataNode.setSelectTranslator(selectTranslator);
         dataNode.setProcedureTranslator(procedureTranslator);
         dataNode.setEjbqlTranslator(ejbqlTranslator);
+        dataNode.setEjbqlTranslationCache(ejbqlTranslationCache);
         dataNode.setSqlTemplateTranslator(sqlTemplateTranslator);
+        dataNode.setMaxIdQualifierSize(properties.getInt(Constants.MAX_ID_QUALIFIER_SIZE_PROPERTY, -1));
 
         dataNode.setDataSource(dataSource);
         dataNode.setSchemaUpdateStrategy(createSchemaUpdateStrategy(descriptor.schemaUpdateStrategyType()));
@@ -0,0 +1,185 @@
+/*****************************************************************
+ *   Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ ****************************************************************/
+package org.apache.cayenne.configuration.snapshot;
+
+import org.apache.cayenne.CayenneRuntimeException;
+import org.apache.cayenne.configuration.DataChannelDescriptor;
+import org.apache.cayenne.map.DataMap;
+import org.apache.cayenne.resource.Resource;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * A compact binary form of a fully loaded {@link DataChannelDescriptor} that can be read at runtime instead of parsing
+ * the project XML. A snapshot is produced at build time and stored next to the project XML file (see
+ * {@link #snapshotLocation(String)}). Besides the serialized descriptor, it contains checksums of the XML files it was
+ * built from, so that a snapshot that got out of sync with the XML can be detected and ignored.
+ *
+ * @since 5.0
+ */
+public class ProjectSnapshot {
+
+    /**
+     * A suffix appended to the project XML file name to get the name of the snapshot file.
+     */
+    public static final String SNAPSHOT_SUFFIX = ".snapshot";
+
+    static final int MAGIC = 0xCA7E5A95;
+    static final int FORMAT_VERSION = 1;
+
+    private final Map<String, Long> sourceChecksums;
+    private final DataChannelDescriptor descriptor;
+
+    ProjectSnapshot(Map<String, Long> sourceChecksums, DataChannelDescriptor descriptor) {
+        this.sourceChecksums = sourceChecksums;
+        this.descriptor = descriptor;
+    }
+
+    /**
+     * Returns a location of the snapshot file for a given project file location.
+     */
+    public static String snapshotLocation(String projectLocation) {
+        return projectLocation + SNAPSHOT_SUFFIX;
+    }
+
+    /**
+     * Writes a snapshot of the descriptor to the output stream. Descriptor and all its DataMaps must have their
+     * configuration sources set, as those are used to calculate the checksums of the source XML.
+     */
+    public static void write(DataChannelDescriptor descriptor, OutputStream out) throws IOException {
+
+        Map<String, Long> checksums = new LinkedHashMap<>();
+        checksums.put("", checksum(descriptor.getConfigurationSource()));
+        for (DataMap map : descriptor.getDataMaps()) {
+            if (map.getLocation() != null && map.getConfigurationSource() != null) {
+                checksums.put(map.getLocation(), checksum(map.getConfigurationSource()));
+            }
+        }
+
+        DataOutputStream dataOut = new DataOutputStream(new BufferedOutputStream(out));
+        dataOut.writeInt(MAGIC);
+        dataOut.writeInt(FORMAT_VERSION);
+        dataOut.writeInt(checksums.size());
+        for (Map.Entry<String, Long> e : checksums.entrySet()) {
+            dataOut.writeUTF(e.getKey());
+            dataOut.writeLong(e.getValue());
+        }
+
+        ObjectOutputStream objectOut = new ObjectOutputStream(dataOut);
+        objectOut.writeObject(descriptor);
+        objectOut.flush();
+    }
+
+    /**
+     * Reads the snapshot header and the descriptor from the input stream.
+     */
+    public static ProjectSnapshot read(InputStream in) throws IOException, ClassNotFoundException {
+
+        DataInputStream dataIn = new DataInputStream(new BufferedInputStream(in));
+        if (dataIn.readInt() != MAGIC) {
+            throw new IOException("Not a Cayenne project snapshot");
+        }
+
+        int version = dataIn.readInt();
+        if (version != FORMAT_VERSION) {
+            throw new IOException("Unsupported project snapshot version: " + version);
+        }
+
+        int size = dataIn.readInt();
+        Map<String, Long> checksums = new LinkedHashMap<>((int) (size / 0.75f) + 1);
+        for (int i = 0; i < size; i++) {
+            checksums.put(dataIn.readUTF(), dataIn.readLong());
+        }
+
+        ObjectInputStream objectIn = new ObjectInputStream(dataIn);
+        DataChannelDescriptor descriptor = (DataChannelDescriptor) objectIn.readObject();
+        return new ProjectSnapshot(checksums, descriptor);
+    }
+
+    /**
+     * Calculates a checksum of the resource contents.
+     */
+    static long checksum(Resource resource) throws IOException {
+        if (resource == null) {
+            throw new CayenneRuntimeException("Can't calculate checksum of a null resource");
+        }
+
+        URL url = resource.getURL();
+        CRC32 crc = new CRC32();
+        byte[] buffer = new byte[8192];
+        try (InputStream in = url.openStream()) {
+            int read;
+            while ((read = in.read(buffer)) > 0) {
+                crc.update(buffer, 0, read);
+            }
+        }
+
+        return crc.getValue();
+    }
+
+    /**
+     * Checks whether the project XML files this snapshot was built from are unchanged.
+     *
+     * @param projectResource location of the project XML file.
+     */
+    public boolean isUpToDate(Resource projectResource) {
+        try {
+            for (Map.Entry<String, Long> e : sourceChecksums.entrySet()) {
+                Resource source = e.getKey().isEmpty()
+                        ? projectResource
+                        : projectResource.getRelativeResource(e.getKey());
+                if (checksum(source) != e.getValue()) {
+                    return false;
+                }
+            }
+        } catch (IOException e) {
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns the descriptor stored in the snapshot, with configuration sources of the descriptor and its DataMaps
+     * restored relative to the provided project resource.
+     */
+    public DataChannelDescriptor getDescriptor(Resource projectResource) {
+        descriptor.setConfigurationSource(projectResource);
+        for (DataMap map : descriptor.getDataMaps()) {
+            map.setDataChannelDescriptor(descriptor);
+            if (map.getLocation() != null) {
+                map.setConfigurationSource(projectResource.getRelativeResource(map.getLocation()));
+            }
+        }
+
+        return descriptor;
+    }
+}
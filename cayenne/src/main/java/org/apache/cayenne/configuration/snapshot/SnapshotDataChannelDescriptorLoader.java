@@ -0,0 +1,95 @@
+/*****************************************************************
+ *   Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ ****************************************************************/
+package org.apache.cayenne.configuration.snapshot;
+
+import org.apache.cayenne.ConfigurationException;
+import org.apache.cayenne.configuration.ConfigurationTree;
+import org.apache.cayenne.configuration.DataChannelDescriptor;
+import org.apache.cayenne.configuration.xml.XMLDataChannelDescriptorLoader;
+import org.apache.cayenne.resource.Resource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.net.URL;
+
+/**
+ * A {@link org.apache.cayenne.configuration.DataChannelDescriptorLoader} that loads the project from a
+ * {@link ProjectSnapshot} created at build time, if one is found next to the project XML and is up-to-date with it.
+ * Otherwise falls back to parsing the XML.
+ *
+ * @since 5.0
+ */
+public class SnapshotDataChannelDescriptorLoader extends XMLDataChannelDescriptorLoader {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SnapshotDataChannelDescriptorLoader.class);
+
+    @Override
+    public ConfigurationTree<DataChannelDescriptor> load(Resource configurationResource) throws ConfigurationException {
+
+        if (configurationResource == null) {
+            throw new NullPointerException("Null configurationResource");
+        }
+
+        DataChannelDescriptor descriptor = loadSnapshot(configurationResource);
+        return descriptor != null
+                ? new ConfigurationTree<>(descriptor, null)
+                : super.load(configurationResource);
+    }
+
+    protected DataChannelDescriptor loadSnapshot(Resource configurationResource) {
+
+        Resource snapshotResource = snapshotResource(configurationResource);
+        if (snapshotResource == null) {
+            return null;
+        }
+
+        URL snapshotURL = snapshotResource.getURL();
+
+        ProjectSnapshot snapshot;
+        try (InputStream in = snapshotURL.openStream()) {
+            snapshot = ProjectSnapshot.read(in);
+        } catch (FileNotFoundException e) {
+            LOGGER.debug("No project snapshot found at {}", snapshotURL);
+            return null;
+        } catch (Exception e) {
+            LOGGER.warn("Error reading project snapshot from {}, will load XML", snapshotURL, e);
+            return null;
+        }
+
+        if (!snapshot.isUpToDate(configurationResource)) {
+            LOGGER.info("Project snapshot {} is stale, will load XML", snapshotURL);
+            return null;
+        }
+
+        LOGGER.info("Loading project snapshot from {}", snapshotURL);
+        return snapshot.getDescriptor(configurationResource);
+    }
+
+    protected Resource snapshotResource(Resource configurationResource) {
+        String path = configurationResource.getURL().getPath();
+        if (path == null || path.isEmpty() || path.endsWith("/")) {
+            return null;
+        }
+
+        String name = path.substring(path.lastIndexOf('/') + 1);
+        return configurationResource.getRelativeResource(ProjectSnapshot.snapshotLocation(name));
+    }
+}
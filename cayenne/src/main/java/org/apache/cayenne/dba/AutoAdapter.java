@@ -24,6 +24,7 @@ import org.apache.cayenne.access.DataNode;
 import org.apache.cayenne.access.jdbc.CSParameter;
 import org.apache.cayenne.access.jdbc.PSParameter;
 import org.apache.cayenne.access.sqlbuilder.sqltree.SQLTreeProcessor;
+import org.apache.cayenne.access.translator.BatchTranslator;
 import org.apache.cayenne.access.translator.EJBQLTranslator;
 import org.apache.cayenne.access.translator.ProcedureTranslator;
 import org.apache.cayenne.access.translator.SelectTranslator;
@@ -38,6 +39,7 @@ import org.apache.cayenne.query.ProcedureQuery;
 import org.apache.cayenne.query.Query;
 import org.apache.cayenne.query.SQLAction;
 import org.apache.cayenne.query.Select;
+import org.apache.cayenne.query.UpsertBatchQuery;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -119,6 +121,14 @@ public class AutoAdapter implements DbAdapter {
         return getAdapter().getProcedureTranslator(query, entityResolver);
     }
 
+    /**
+     * @since 5.0
+     */
+    @Override
+    public BatchTranslator<UpsertBatchQuery> getUpsertTranslator(UpsertBatchQuery query) {
+        return getAdapter().getUpsertTranslator(query);
+    }
+
     @Override
     public String getBatchTerminator() {
         return getAdapter().getBatchTerminator();
@@ -163,6 +173,30 @@ public class AutoAdapter implements DbAdapter {
         return getAdapter().supportsBatchUpdates();
     }
 
+    /**
+     * @since 5.0
+     */
+    @Override
+    public int maxRowsPerStatement() {
+        return getAdapter().maxRowsPerStatement();
+    }
+
+    /**
+     * @since 5.0
+     */
+    @Override
+    public int maxBatchSize() {
+        return getAdapter().maxBatchSize();
+    }
+
+    /**
+     * @since 5.0
+     */
+    @Override
+    public boolean supportsBatchedOptimisticLocking() {
+        return getAdapter().supportsBatchedOptimisticLocking();
+    }
+
     @Override
     public boolean typeSupportsLength(int type) {
         return getAdapter().typeSupportsLength(type);
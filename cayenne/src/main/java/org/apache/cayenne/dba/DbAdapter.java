@@ -23,6 +23,7 @@ import org.apache.cayenne.access.DataNode;
 import org.apache.cayenne.access.sqlbuilder.sqltree.SQLTreeProcessor;
 import org.apache.cayenne.access.jdbc.CSParameter;
 import org.apache.cayenne.access.jdbc.PSParameter;
+import org.apache.cayenne.access.translator.BatchTranslator;
 import org.apache.cayenne.access.translator.EJBQLTranslator;
 import org.apache.cayenne.access.translator.ProcedureTranslator;
 import org.apache.cayenne.access.translator.SelectTranslator;
@@ -35,6 +36,7 @@ import org.apache.cayenne.query.ProcedureQuery;
 import org.apache.cayenne.query.Query;
 import org.apache.cayenne.query.SQLAction;
 import org.apache.cayenne.query.Select;
+import org.apache.cayenne.query.UpsertBatchQuery;
 
 import java.sql.CallableStatement;
 import java.sql.PreparedStatement;
@@ -73,6 +75,16 @@ public interface DbAdapter {
      */
     ProcedureTranslator getProcedureTranslator(ProcedureQuery query, EntityResolver entityResolver);
 
+    /**
+     * Returns the translator of the given upsert query, or null if the database has no native upsert statement.
+     * The default implementation returns null.
+     *
+     * @since 5.0
+     */
+    default BatchTranslator<UpsertBatchQuery> getUpsertTranslator(UpsertBatchQuery query) {
+        return null;
+    }
+
     /**
      * @return {@link SQLTreeProcessor} that can adjust SQL tree to specific database flavour
      * @since 4.2
@@ -124,6 +136,39 @@ public interface DbAdapter {
      */
     boolean supportsBatchUpdates();
 
+    /**
+     * Returns the max number of batch rows that can be combined in a single multi-row statement, i.e. an
+     * "INSERT ... VALUES (...), (...)" or a "DELETE ... WHERE pk IN (...)". A value less than 2 (the default)
+     * disables multi-row statements, and batches are executed as a JDBC batch of single-row statements.
+     *
+     * @since 5.0
+     */
+    default int maxRowsPerStatement() {
+        return 1;
+    }
+
+    /**
+     * Returns the max number of rows (or statements) added to a JDBC batch before it is executed. Large batches are
+     * flushed to the database every so many rows instead of being buffered by the driver in full. A value less than
+     * 1 (the default) means no limit.
+     *
+     * @since 5.0
+     */
+    default int maxBatchSize() {
+        return 0;
+    }
+
+    /**
+     * Returns true if optimistically locked UPDATE and DELETE batches should be executed as JDBC batches instead of
+     * one statement per row. Update counts of such batches are verified after each "executeBatch", and if the driver
+     * doesn't report them, with a single SELECT for the whole batch. Default is false.
+     *
+     * @since 5.0
+     */
+    default boolean supportsBatchedOptimisticLocking() {
+        return false;
+    }
+
     boolean typeSupportsLength(int type);
 
     /**
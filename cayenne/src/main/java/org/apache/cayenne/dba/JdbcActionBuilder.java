@@ -54,8 +54,10 @@ public class JdbcActionBuilder implements SQLActionVisitor {
     public SQLAction batchAction(BatchQuery query) {
         // check run strategy...
 
-        // optimistic locking is not supported in batches due to JDBC driver limitations
-        boolean useOptimisticLock = query.isUsingOptimisticLocking();
+        // optimistic locking is not supported in batches due to JDBC driver limitations, unless the adapter is
+        // configured to verify batch update counts
+        boolean useOptimisticLock = query.isUsingOptimisticLocking()
+                && !dataNode.getAdapter().supportsBatchedOptimisticLocking();
 
         boolean runningAsBatch = !useOptimisticLock && dataNode.getAdapter().supportsBatchUpdates();
         return new BatchAction(query, dataNode, runningAsBatch);
@@ -75,6 +75,9 @@ public class JdbcAdapter implements DbAdapter {
     protected Map<Integer, NativeColumnType[]> nativeColumnTypes;
     protected ExtendedTypeMap extendedTypes;
     protected boolean supportsBatchUpdates;
+    protected int maxRowsPerStatement;
+    protected int maxBatchSize;
+    protected boolean supportsBatchedOptimisticLocking;
     protected boolean supportsUniqueConstraints;
     protected boolean supportsGeneratedKeys;
     protected EJBQLTranslator ejbqlTranslator;
@@ -97,6 +100,10 @@ public class JdbcAdapter implements DbAdapter {
         // init defaults
         this.defaultCharColumnLength = 255;
         this.setSupportsBatchUpdates(false);
+        this.setMaxRowsPerStatement(runtimeProperties.getInt(Constants.JDBC_BATCH_MAX_ROWS_PER_STATEMENT_PROPERTY, 1));
+        this.setMaxBatchSize(runtimeProperties.getInt(Constants.JDBC_BATCH_MAX_SIZE_PROPERTY, 0));
+        this.setSupportsBatchedOptimisticLocking(
+                runtimeProperties.getBoolean(Constants.JDBC_BATCH_OPTIMISTIC_LOCKING_PROPERTY, false));
         this.setSupportsUniqueConstraints(true);
         this.caseInsensitiveCollations = runtimeProperties.getBoolean(Constants.CI_PROPERTY, false);
 
@@ -653,6 +660,58 @@ public class JdbcAdapter implements DbAdapter {
         this.supportsBatchUpdates = flag;
     }
 
+    /**
+     * @since 5.0
+     */
+    @Override
+    public int maxRowsPerStatement() {
+        return maxRowsPerStatement;
+    }
+
+    /**
+     * Sets the max number of batch rows combined in a single multi-row statement. A value less than 2 disables
+     * multi-row statements.
+     *
+     * @since 5.0
+     */
+    public void setMaxRowsPerStatement(int maxRowsPerStatement) {
+        this.maxRowsPerStatement = maxRowsPerStatement;
+    }
+
+    /**
+     * @since 5.0
+     */
+    @Override
+    public int maxBatchSize() {
+        return maxBatchSize;
+    }
+
+    /**
+     * Sets the max number of rows added to a JDBC batch before it is executed. A value less than 1 means no limit.
+     *
+     * @since 5.0
+     */
+    public void setMaxBatchSize(int maxBatchSize) {
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * @since 5.0
+     */
+    @Override
+    public boolean supportsBatchedOptimisticLocking() {
+        return supportsBatchedOptimisticLocking;
+    }
+
+    /**
+     * Sets whether optimistically locked UPDATE and DELETE batches are executed as JDBC batches.
+     *
+     * @since 5.0
+     */
+    public void setSupportsBatchedOptimisticLocking(boolean supportsBatchedOptimisticLocking) {
+        this.supportsBatchedOptimisticLocking = supportsBatchedOptimisticLocking;
+    }
+
     /**
      * @since 1.2
      */
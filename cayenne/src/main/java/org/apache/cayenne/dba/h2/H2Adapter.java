@@ -22,6 +22,7 @@ package org.apache.cayenne.dba.h2;
 import org.apache.cayenne.dba.NativeColumnType;
 import org.apache.cayenne.access.DataNode;
 import org.apache.cayenne.access.sqlbuilder.sqltree.SQLTreeProcessor;
+import org.apache.cayenne.access.translator.BatchTranslator;
 import org.apache.cayenne.access.translator.EJBQLTranslator;
 import org.apache.cayenne.access.translator.ejbql.JdbcEJBQLTranslator;
 import org.apache.cayenne.access.types.ExtendedType;
@@ -37,6 +38,7 @@ import org.apache.cayenne.di.Inject;
 import org.apache.cayenne.map.DbAttribute;
 import org.apache.cayenne.query.Query;
 import org.apache.cayenne.query.SQLAction;
+import org.apache.cayenne.query.UpsertBatchQuery;
 
 import java.sql.Types;
 import java.util.List;
@@ -136,6 +138,14 @@ public class H2Adapter extends JdbcAdapter {
         return query.createSQLAction(new H2ActionBuilder(node));
     }
 
+    /**
+     * @since 5.0
+     */
+    @Override
+    public BatchTranslator<UpsertBatchQuery> getUpsertTranslator(UpsertBatchQuery query) {
+        return new H2UpsertBatchTranslator();
+    }
+
     /**
      * Installs appropriate ExtendedTypes as converters for passing values
      * between JDBC and Java layers.
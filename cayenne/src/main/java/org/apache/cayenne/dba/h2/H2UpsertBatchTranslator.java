@@ -0,0 +1,52 @@
+/*****************************************************************
+ *   Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ ****************************************************************/
+
+package org.apache.cayenne.dba.h2;
+
+import java.util.List;
+
+import org.apache.cayenne.access.sqlbuilder.SQLGenerationContext;
+import org.apache.cayenne.access.sqlbuilder.sqltree.Node;
+import org.apache.cayenne.access.sqlbuilder.sqltree.TextNode;
+import org.apache.cayenne.access.translator.batch.UpsertBatchTranslator;
+import org.apache.cayenne.map.DbAttribute;
+
+/**
+ * Translates upserts to H2 "MERGE INTO ... KEY (pk) VALUES (...)".
+ *
+ * @since 5.0
+ */
+public class H2UpsertBatchTranslator extends UpsertBatchTranslator {
+
+    @Override
+    protected Node createUpsertNode(
+            SQLGenerationContext context,
+            Node insert,
+            List<DbAttribute> columns) {
+
+        // the table, the column list and the values of the INSERT, with the key columns in between
+        Node merge = new TextNode("MERGE INTO");
+        for (int i = 0; i < insert.getChildrenCount(); i++) {
+            merge.addChild(insert.getChild(i));
+        }
+        merge.addChild(2, new TextNode(" KEY"));
+        merge.addChild(3, columnList(context.getRootDbEntity().getPrimaryKeys()));
+        return merge;
+    }
+}
@@ -25,6 +25,7 @@ import org.apache.cayenne.access.DataNode;
 import org.apache.cayenne.access.sqlbuilder.sqltree.SQLTreeProcessor;
 import org.apache.cayenne.access.translator.EJBQLTranslator;
 import org.apache.cayenne.access.translator.ejbql.JdbcEJBQLTranslator;
+import org.apache.cayenne.access.translator.BatchTranslator;
 import org.apache.cayenne.access.translator.ProcedureTranslator;
 import org.apache.cayenne.access.types.CharType;
 import org.apache.cayenne.access.types.ExtendedType;
@@ -45,6 +46,7 @@ import org.apache.cayenne.map.EntityResolver;
 import org.apache.cayenne.query.ProcedureQuery;
 import org.apache.cayenne.query.Query;
 import org.apache.cayenne.query.SQLAction;
+import org.apache.cayenne.query.UpsertBatchQuery;
 
 import java.sql.Types;
 import java.util.Collection;
@@ -136,6 +138,14 @@ public class HSQLDBAdapter extends JdbcAdapter {
         return new HSQLDBProcedureTranslator();
     }
 
+    /**
+     * @since 5.0
+     */
+    @Override
+    public BatchTranslator<UpsertBatchQuery> getUpsertTranslator(UpsertBatchQuery query) {
+        return new HSQLDBUpsertBatchTranslator();
+    }
+
     /**
      * @since 4.0
      */
@@ -0,0 +1,102 @@
+/*****************************************************************
+ *   Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ ****************************************************************/
+
+package org.apache.cayenne.dba.hsqldb;
+
+import java.util.List;
+
+import org.apache.cayenne.access.sqlbuilder.ExpressionNodeBuilder;
+import org.apache.cayenne.access.sqlbuilder.SQLBuilder;
+import org.apache.cayenne.access.sqlbuilder.SQLGenerationContext;
+import org.apache.cayenne.access.sqlbuilder.sqltree.InsertRowValuesNode;
+import org.apache.cayenne.access.sqlbuilder.sqltree.Node;
+import org.apache.cayenne.access.sqlbuilder.sqltree.QualifiedColumnNode;
+import org.apache.cayenne.access.sqlbuilder.sqltree.TextNode;
+import org.apache.cayenne.access.sqlbuilder.sqltree.UpdateSetNode;
+import org.apache.cayenne.access.translator.batch.UpsertBatchTranslator;
+import org.apache.cayenne.dba.DbAdapter;
+import org.apache.cayenne.dba.JdbcAdapter;
+import org.apache.cayenne.dba.hsqldb.sqltree.CastNode;
+import org.apache.cayenne.map.DbAttribute;
+
+/**
+ * Translates upserts to a standard "MERGE INTO ... USING (VALUES (...)) ... WHEN MATCHED ... WHEN NOT MATCHED ...".
+ *
+ * @since 5.0
+ */
+public class HSQLDBUpsertBatchTranslator extends UpsertBatchTranslator {
+
+    @Override
+    protected Node createUpsertNode(
+            SQLGenerationContext context,
+            Node insert,
+            List<DbAttribute> columns) {
+
+        Node table = insert.getChild(0);
+        Node columnNames = insert.getChild(1);
+        Node values = insert.getChild(2);
+
+        // HSQLDB can't infer parameter types in a VALUES table, so each one is cast to the column type
+        DbAdapter adapter = context.getAdapter();
+        for (int i = 0; i < values.getChildrenCount(); i++) {
+            DbAttribute column = columns.get(i);
+            Node value = values.getChild(i);
+            Node cast = new CastNode(adapter.preferredNativeColumnType(column).nativeType()
+                    + JdbcAdapter.sizeAndScale(adapter, column));
+            values.replaceChild(i, cast);
+            cast.addChild(value);
+        }
+
+        Node merge = new TextNode("MERGE INTO")
+                .addChild(table)
+                .addChild(new TextNode(" t USING ("))
+                .addChild(values)
+                .addChild(new TextNode(") AS v"))
+                .addChild(columnNames)
+                .addChild(new TextNode(" ON"));
+
+        ExpressionNodeBuilder on = null;
+        for (DbAttribute pk : context.getRootDbEntity().getPrimaryKeys()) {
+            ExpressionNodeBuilder pkMatch = SQLBuilder.exp(SQLBuilder.node(new QualifiedColumnNode("t", pk.getName())))
+                    .eq(SQLBuilder.node(new QualifiedColumnNode("v", pk.getName())));
+            on = on == null ? pkMatch : on.and(pkMatch);
+        }
+        merge.addChild(on.build());
+
+        List<DbAttribute> updated = updatedColumns(columns);
+        if (!updated.isEmpty()) {
+            Node set = new UpdateSetNode();
+            for (DbAttribute column : updated) {
+                set.addChild(SQLBuilder.column(column.getName())
+                        .eq(SQLBuilder.node(new QualifiedColumnNode("v", column.getName())))
+                        .build());
+            }
+            merge.addChild(new TextNode(" WHEN MATCHED THEN UPDATE")).addChild(set);
+        }
+
+        Node insertValues = new InsertRowValuesNode();
+        for (DbAttribute column : columns) {
+            insertValues.addChild(new QualifiedColumnNode("v", column.getName()));
+        }
+        return merge.addChild(new TextNode(" WHEN NOT MATCHED THEN INSERT"))
+                .addChild(columnList(columns))
+                .addChild(new TextNode(" VALUES"))
+                .addChild(insertValues);
+    }
+}
@@ -0,0 +1,60 @@
+/*****************************************************************
+ *   Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ ****************************************************************/
+
+package org.apache.cayenne.dba.hsqldb.sqltree;
+
+import org.apache.cayenne.access.sqlbuilder.SQLAppendable;
+import org.apache.cayenne.access.sqlbuilder.SQLGenerationContext;
+import org.apache.cayenne.access.sqlbuilder.sqltree.Node;
+
+/**
+ * @since 5.0
+ */
+public class CastNode extends Node {
+
+    private final String targetType;
+
+    public CastNode(String targetType) {
+        this.targetType = targetType;
+    }
+
+    @Override
+    public Node copy() {
+        return new CastNode(targetType);
+    }
+
+    @Override
+    public SQLAppendable append(SQLAppendable buffer, SQLGenerationContext context) {
+        return buffer.appendTokenSeparator().append("CAST(");
+    }
+
+    @Override
+    public void appendChildrenStart(SQLAppendable buffer) {
+        buffer.suppressNextTokenSeparator();
+    }
+
+    @Override
+    public void appendChildrenEnd(SQLAppendable buffer) {
+        buffer.append(" AS ").append(targetType).append(')');
+    }
+
+    public String getTargetType() {
+        return targetType;
+    }
+}
@@ -24,6 +24,7 @@ import org.apache.cayenne.access.DataNode;
 import org.apache.cayenne.access.sqlbuilder.sqltree.SQLTreeProcessor;
 import org.apache.cayenne.access.translator.EJBQLTranslator;
 import org.apache.cayenne.access.translator.ejbql.JdbcEJBQLTranslator;
+import org.apache.cayenne.access.translator.BatchTranslator;
 import org.apache.cayenne.access.translator.ProcedureTranslator;
 import org.apache.cayenne.access.types.ByteArrayType;
 import org.apache.cayenne.access.types.CharType;
@@ -50,6 +51,7 @@ import org.apache.cayenne.map.EntityResolver;
 import org.apache.cayenne.query.ProcedureQuery;
 import org.apache.cayenne.query.Query;
 import org.apache.cayenne.query.SQLAction;
+import org.apache.cayenne.query.UpsertBatchQuery;
 
 import java.sql.Types;
 import java.util.ArrayList;
@@ -159,6 +161,14 @@ public class MySQLAdapter extends JdbcAdapter {
         return new MySQLProcedureTranslator();
     }
 
+    /**
+     * @since 5.0
+     */
+    @Override
+    public BatchTranslator<UpsertBatchQuery> getUpsertTranslator(UpsertBatchQuery query) {
+        return new MySQLUpsertBatchTranslator();
+    }
+
     /**
      * @since 3.0
      */
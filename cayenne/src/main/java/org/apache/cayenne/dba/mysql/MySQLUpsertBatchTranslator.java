@@ -0,0 +1,58 @@
+/*****************************************************************
+ *   Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ ****************************************************************/
+
+package org.apache.cayenne.dba.mysql;
+
+import java.util.List;
+
+import org.apache.cayenne.access.sqlbuilder.SQLBuilder;
+import org.apache.cayenne.access.sqlbuilder.SQLGenerationContext;
+import org.apache.cayenne.access.sqlbuilder.sqltree.Node;
+import org.apache.cayenne.access.translator.batch.UpsertBatchTranslator;
+import org.apache.cayenne.dba.mysql.sqltree.OnDuplicateKeyUpdateNode;
+import org.apache.cayenne.map.DbAttribute;
+
+/**
+ * Translates upserts to "INSERT ... ON DUPLICATE KEY UPDATE ...".
+ *
+ * @since 5.0
+ */
+public class MySQLUpsertBatchTranslator extends UpsertBatchTranslator {
+
+    @Override
+    protected Node createUpsertNode(
+            SQLGenerationContext context,
+            Node insert,
+            List<DbAttribute> columns) {
+
+        // with nothing to update, an assignment of the PK to itself turns the statement into a no-op for existing rows
+        List<DbAttribute> updated = updatedColumns(columns);
+        if (updated.isEmpty()) {
+            updated = context.getRootDbEntity().getPrimaryKeys();
+        }
+
+        Node update = new OnDuplicateKeyUpdateNode();
+        for (DbAttribute column : updated) {
+            update.addChild(SQLBuilder.column(column.getName())
+                    .eq(SQLBuilder.function("VALUES", SQLBuilder.column(column.getName())))
+                    .build());
+        }
+        return insert.addChild(update);
+    }
+}
@@ -39,8 +39,10 @@ class PostgresActionBuilder extends JdbcActionBuilder {
     public SQLAction batchAction(BatchQuery query) {
         // check run strategy...
 
-        // optimistic locking is not supported in batches due to JDBC driver limitations
-        boolean useOptimisticLock = query.isUsingOptimisticLocking();
+        // optimistic locking is not supported in batches due to JDBC driver limitations, unless the adapter is
+        // configured to verify batch update counts
+        boolean useOptimisticLock = query.isUsingOptimisticLocking()
+                && !dataNode.getAdapter().supportsBatchedOptimisticLocking();
 
         boolean runningAsBatch = !useOptimisticLock && dataNode.getAdapter().supportsBatchUpdates();
         return new PostgresBatchAction(query, dataNode, runningAsBatch);
@@ -23,6 +23,7 @@ import org.apache.cayenne.dba.NativeColumnType;
 import org.apache.cayenne.CayenneRuntimeException;
 import org.apache.cayenne.access.DataNode;
 import org.apache.cayenne.access.sqlbuilder.sqltree.SQLTreeProcessor;
+import org.apache.cayenne.access.translator.BatchTranslator;
 import org.apache.cayenne.access.translator.ProcedureTranslator;
 import org.apache.cayenne.access.types.CharType;
 import org.apache.cayenne.access.types.ExtendedType;
@@ -43,6 +44,7 @@ import org.apache.cayenne.map.EntityResolver;
 import org.apache.cayenne.query.ProcedureQuery;
 import org.apache.cayenne.query.Query;
 import org.apache.cayenne.query.SQLAction;
+import org.apache.cayenne.query.UpsertBatchQuery;
 
 import java.sql.Types;
 import java.util.Collection;
@@ -144,6 +146,14 @@ public class PostgresAdapter extends JdbcAdapter {
         return new PostgresProcedureTranslator();
     }
 
+    /**
+     * @since 5.0
+     */
+    @Override
+    public BatchTranslator<UpsertBatchQuery> getUpsertTranslator(UpsertBatchQuery query) {
+        return new PostgresUpsertBatchTranslator();
+    }
+
     /**
      * Installs appropriate ExtendedTypes as converters for passing values
      * between JDBC and Java layers.
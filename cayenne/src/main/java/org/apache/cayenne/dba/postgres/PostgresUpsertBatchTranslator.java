@@ -0,0 +1,62 @@
+/*****************************************************************
+ *   Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ ****************************************************************/
+
+package org.apache.cayenne.dba.postgres;
+
+import java.util.List;
+
+import org.apache.cayenne.access.sqlbuilder.SQLBuilder;
+import org.apache.cayenne.access.sqlbuilder.SQLGenerationContext;
+import org.apache.cayenne.access.sqlbuilder.sqltree.Node;
+import org.apache.cayenne.access.sqlbuilder.sqltree.QualifiedColumnNode;
+import org.apache.cayenne.access.sqlbuilder.sqltree.TextNode;
+import org.apache.cayenne.access.sqlbuilder.sqltree.UpdateSetNode;
+import org.apache.cayenne.access.translator.batch.UpsertBatchTranslator;
+import org.apache.cayenne.map.DbAttribute;
+
+/**
+ * Translates upserts to "INSERT ... ON CONFLICT (pk) DO UPDATE SET ...".
+ *
+ * @since 5.0
+ */
+public class PostgresUpsertBatchTranslator extends UpsertBatchTranslator {
+
+    @Override
+    protected Node createUpsertNode(
+            SQLGenerationContext context,
+            Node insert,
+            List<DbAttribute> columns) {
+
+        insert.addChild(new TextNode(" ON CONFLICT "));
+        insert.addChild(columnList(context.getRootDbEntity().getPrimaryKeys()));
+
+        List<DbAttribute> updated = updatedColumns(columns);
+        if (updated.isEmpty()) {
+            return insert.addChild(new TextNode(" DO NOTHING"));
+        }
+
+        Node set = new UpdateSetNode();
+        for (DbAttribute column : updated) {
+            set.addChild(SQLBuilder.column(column.getName())
+                    .eq(SQLBuilder.node(new QualifiedColumnNode("EXCLUDED", column.getName())))
+                    .build());
+        }
+        return insert.addChild(new TextNode(" DO UPDATE")).addChild(set);
+    }
+}
@@ -60,8 +60,10 @@ public class SQLServerActionBuilder extends JdbcActionBuilder {
 	public SQLAction batchAction(BatchQuery query) {
 		// check run strategy...
 
-		// optimistic locking is not supported in batches due to JDBC driver limitations
-		boolean useOptimisticLock = query.isUsingOptimisticLocking();
+		// optimistic locking is not supported in batches due to JDBC driver limitations, unless the adapter is
+		// configured to verify batch update counts
+		boolean useOptimisticLock = query.isUsingOptimisticLocking()
+				&& !dataNode.getAdapter().supportsBatchedOptimisticLocking();
 		boolean runningAsBatch = !useOptimisticLock && dataNode.getAdapter().supportsBatchUpdates();
 		return new SQLServerBatchAction(query, dataNode, runningAsBatch);
 	}
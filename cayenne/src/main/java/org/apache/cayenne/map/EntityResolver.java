@@ -30,14 +30,19 @@ import org.apache.cayenne.annotation.PrePersist;
 import org.apache.cayenne.annotation.PreRemove;
 import org.apache.cayenne.annotation.PreUpdate;
 import org.apache.cayenne.di.AdhocObjectFactory;
+import org.apache.cayenne.ejbql.EJBQLCompiledExpression;
+import org.apache.cayenne.ejbql.EJBQLException;
+import org.apache.cayenne.ejbql.EJBQLParserFactory;
 import org.apache.cayenne.reflect.ClassDescriptor;
 import org.apache.cayenne.reflect.ClassDescriptorMap;
 import org.apache.cayenne.reflect.FaultFactory;
+import org.apache.cayenne.reflect.LazyClassDescriptorDecorator;
 import org.apache.cayenne.reflect.LifecycleCallbackRegistry;
 import org.apache.cayenne.reflect.SingletonFaultFactory;
 import org.apache.cayenne.reflect.generic.PersistentObjectDescriptorFactory;
 import org.apache.cayenne.reflect.generic.ValueComparisonStrategyFactory;
 import org.apache.cayenne.reflect.valueholder.ValueHolderDescriptorFactory;
+import org.apache.cayenne.util.concurrentlinkedhashmap.ConcurrentLinkedHashMap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -50,7 +55,9 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.EnumMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.atomic.AtomicLong;
 
 /**
@@ -66,6 +73,7 @@ import java.util.concurrent.atomic.AtomicLong;
 public class EntityResolver implements MappingNamespace, Serializable {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(EntityResolver.class);
+    private static final int EJBQL_EXPRESSION_CACHE_SIZE = 500;
     protected static AtomicLong incrementer = new AtomicLong();
 
     protected static final Map<LifecycleEvent, Class<? extends Annotation>> LIFECYCLE_EVENT_MAP;
@@ -100,6 +108,13 @@ public class EntityResolver implements MappingNamespace, Serializable {
      */
     protected transient AdhocObjectFactory objectFactory;
 
+    /**
+     * Compiled EJBQL statements. Compilation depends on the mapping, so the cache is recreated together with the
+     * mapping cache.
+     *
+     * @since 5.0
+     */
+    protected transient volatile Map<String, EJBQLCompiledExpression> ejbqlExpressions;
 
     /**
      * Creates new empty EntityResolver.
@@ -393,6 +408,35 @@ public class EntityResolver implements MappingNamespace, Serializable {
                 return new MappingCache(maps);
             }
         };
+
+        ejbqlExpressions = null;
+    }
+
+    /**
+     * Returns a compiled expression for the EJBQL statement, reusing the result of a previous compilation of the same
+     * statement if it is still in the cache. Compiled expressions are immutable, so the returned instance can be
+     * shared between queries and threads. Cached expressions are discarded by {@link #refreshMappingCache()}.
+     *
+     * @since 5.0
+     */
+    public EJBQLCompiledExpression getEjbqlExpression(String ejbqlStatement) throws EJBQLException {
+        Map<String, EJBQLCompiledExpression> expressions = ejbqlExpressions;
+        if (expressions == null) {
+            expressions = new ConcurrentLinkedHashMap.Builder<String, EJBQLCompiledExpression>()
+                    .maximumWeightedCapacity(EJBQL_EXPRESSION_CACHE_SIZE)
+                    .build();
+            ejbqlExpressions = expressions;
+        }
+
+        EJBQLCompiledExpression expression = expressions.get(ejbqlStatement);
+        if (expression == null) {
+            expression = EJBQLParserFactory.getParser().compile(ejbqlStatement, this);
+
+            // if the mapping cache was refreshed during compilation, this puts the expression to the discarded cache
+            expressions.put(ejbqlStatement, expression);
+        }
+
+        return expression;
     }
 
     /**
@@ -514,6 +558,49 @@ public class EntityResolver implements MappingNamespace, Serializable {
         return classDescriptorMap;
     }
 
+    /**
+     * Eagerly compiles all lazily-initialized runtime metadata: the mapping cache, {@link ClassDescriptor}s of all
+     * entities (with their property accessors) and the lifecycle callback registry. Descriptors are compiled in
+     * parallel on the provided pool, superclass entities before their subclasses. Calling this method at startup
+     * moves the cost of metadata compilation from the first queries to the application bootstrap.
+     *
+     * @since 5.0
+     */
+    public void warmUp(ForkJoinPool pool) {
+
+        long t0 = System.currentTimeMillis();
+
+        // ClassDescriptorMap is not synchronized, so descriptor proxies must be obtained on the calling thread. Group
+        // them by inheritance depth, as subclass descriptors are built on top of compiled superclass ones
+        ClassDescriptorMap descriptorMap = getClassDescriptorMap();
+        List<List<ClassDescriptor>> descriptorsByDepth = new ArrayList<>();
+        for (ObjEntity entity : getObjEntities()) {
+            int depth = 0;
+            for (ObjEntity e = entity.getSuperEntity(); e != null; e = e.getSuperEntity()) {
+                depth++;
+            }
+
+            while (descriptorsByDepth.size() <= depth) {
+                descriptorsByDepth.add(new ArrayList<>());
+            }
+            descriptorsByDepth.get(depth).add(descriptorMap.getDescriptor(entity.getName()));
+        }
+
+        for (List<ClassDescriptor> descriptors : descriptorsByDepth) {
+            pool.submit(() -> descriptors.parallelStream().forEach(descriptor -> {
+                if (descriptor instanceof LazyClassDescriptorDecorator) {
+                    ((LazyClassDescriptorDecorator) descriptor).getDescriptor();
+                }
+            })).join();
+        }
+
+        getCallbackRegistry();
+
+        LOGGER.info("warmed up mapping metadata for {} entities in {} ms",
+                getObjEntities().size(),
+                System.currentTimeMillis() - t0);
+    }
+
     /**
      * Java default deserialization seems not to invoke constructor by default -
      * invoking it manually
@@ -0,0 +1,150 @@
+/*****************************************************************
+ *   Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ ****************************************************************/
+package org.apache.cayenne.query;
+
+/**
+ * Accumulates a cache key of a query. A hashed builder digests the key parts into a 128-bit value as they come,
+ * without building the key String, so the resulting key is a short fixed length String regardless of the query
+ * complexity. A readable builder appends the parts to a StringBuilder and is intended for debugging.
+ *
+ * @since 5.0
+ */
+final class CacheKeyBuilder {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private static final long C1 = 0x87c37b91114253d5L;
+    private static final long C2 = 0x4cf5ad432745937fL;
+
+    private final StringBuilder out;
+    private final boolean hashed;
+
+    private long h1;
+    private long h2;
+    private long length;
+
+    private CacheKeyBuilder(StringBuilder out) {
+        this.out = out;
+        this.hashed = out == null;
+        this.h1 = 0xcbf29ce484222325L;
+        this.h2 = 0x9e3779b97f4a7c15L;
+    }
+
+    /**
+     * Creates a builder producing a compact hashed key.
+     */
+    static CacheKeyBuilder hashed() {
+        return new CacheKeyBuilder(null);
+    }
+
+    /**
+     * Creates a builder producing a readable key in the provided StringBuilder.
+     */
+    static CacheKeyBuilder readable(StringBuilder out) {
+        return new CacheKeyBuilder(out);
+    }
+
+    CacheKeyBuilder append(char c) {
+        if (hashed) {
+            mix(c);
+        } else {
+            out.append(c);
+        }
+        return this;
+    }
+
+    CacheKeyBuilder append(CharSequence s) {
+        if (s == null) {
+            return append("null");
+        }
+
+        if (hashed) {
+            int len = s.length();
+            for (int i = 0; i < len; i++) {
+                mix(s.charAt(i));
+            }
+        } else {
+            out.append(s);
+        }
+        return this;
+    }
+
+    CacheKeyBuilder append(long l) {
+        if (hashed) {
+            // tag numbers, so that they are not confused with the same digits in a String
+            mix(0xffff);
+            mix(l);
+        } else {
+            out.append(l);
+        }
+        return this;
+    }
+
+    CacheKeyBuilder append(Object o) {
+        return append(String.valueOf(o));
+    }
+
+    /**
+     * Returns the key accumulated so far.
+     */
+    String build() {
+        if (!hashed) {
+            return out.toString();
+        }
+
+        long k1 = h1 ^ length;
+        long k2 = h2 ^ length;
+        k1 += k2;
+        k2 += k1;
+        k1 = fmix(k1);
+        k2 = fmix(k2);
+        k1 += k2;
+        k2 += k1;
+
+        char[] chars = new char[32];
+        toHex(k1, chars, 0);
+        toHex(k2, chars, 16);
+        return new String(chars);
+    }
+
+    private void mix(long value) {
+        length++;
+
+        // two independent lanes give a 128-bit key
+        h1 = (h1 ^ value) * 0x100000001b3L;
+        h2 = Long.rotateLeft(h2 ^ (value * C1), 31) * C2;
+    }
+
+    // MurmurHash3 finalization step
+    private static long fmix(long k) {
+        k ^= k >>> 33;
+        k *= 0xff51afd7ed558ccdL;
+        k ^= k >>> 33;
+        k *= 0xc4ceb9fe1a85ec53L;
+        k ^= k >>> 33;
+        return k;
+    }
+
+    private static void toHex(long value, char[] chars, int offset) {
+        for (int i = 15; i >= 0; i--) {
+            chars[offset + i] = HEX[(int) (value & 0xf)];
+            value >>>= 4;
+        }
+    }
+}
@@ -22,8 +22,10 @@ package org.apache.cayenne.query;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.function.Function;
 
+import org.apache.cayenne.ColumnarResult;
 import org.apache.cayenne.ObjectContext;
 import org.apache.cayenne.exp.property.BaseProperty;
 import org.apache.cayenne.exp.Expression;
@@ -113,6 +115,7 @@ public class ColumnSelect<T> extends FluentSelect<T, ColumnSelect<T>> {
         }
         Collections.addAll(columns, properties);
         singleColumn = false;
+        resetCacheKey();
         return castSelf();
     }
 
@@ -138,6 +141,7 @@ public class ColumnSelect<T> extends FluentSelect<T, ColumnSelect<T>> {
 
         columns.addAll(properties);
         singleColumn = false;
+        resetCacheKey();
         return castSelf();
     }
 
@@ -148,6 +152,7 @@ public class ColumnSelect<T> extends FluentSelect<T, ColumnSelect<T>> {
             this.columns.clear(); // if we don't clear then return type will be incorrect
         }
         this.columns.add(property);
+        resetCacheKey();
         return castSelf();
     }
 
@@ -260,6 +265,19 @@ public class ColumnSelect<T> extends FluentSelect<T, ColumnSelect<T>> {
         return context.selectFirst(limit(1));
     }
 
+    /**
+     * Selects all rows of this query into a single {@link ColumnarResult} that stores numeric columns in primitive
+     * arrays. Compared to {@link #select(ObjectContext)} this avoids boxing of the numeric values and allocation of
+     * an array per row, so it is suited for queries returning large amounts of numbers, e.g. for further aggregation
+     * in memory. Only scalar columns are supported, result mappers are not applied, and the result is never cached.
+     *
+     * @since 5.0
+     */
+    public ColumnarResult selectColumnar(ObjectContext context) {
+        List<?> result = context.performQuery(new ColumnarQueryDecorator(this));
+        return (ColumnarResult) result.getFirst();
+    }
+
     boolean isSingleColumn() {
         return singleColumn;
     }
@@ -50,17 +50,15 @@ class ColumnSelectMetadata extends ObjectSelectMetadata {
 	boolean resolve(Object root, EntityResolver resolver, ColumnSelect<?> query) {
 
 		if (super.resolve(root, resolver)) {
-			// generate unique cache key, but only if we are caching..
-			if (cacheStrategy != null && cacheStrategy != QueryCacheStrategy.NO_CACHE) {
-				this.cacheKey = makeCacheKey(query, resolver);
-			}
-
+			resetCacheKey();
+			resolveCacheKey(query, resolver);
 			resolveAutoAliases(query);
 			buildResultSetMappingForColumns(query);
 			isSingleResultSetMapping = query.isSingleColumn();
 			return true;
 		}
 
+		resolveCacheKey(query, resolver);
 		return false;
 	}
 
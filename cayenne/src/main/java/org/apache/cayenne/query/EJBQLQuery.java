@@ -25,7 +25,6 @@ import java.util.Map;
 import org.apache.cayenne.CayenneRuntimeException;
 import org.apache.cayenne.ejbql.EJBQLCompiledExpression;
 import org.apache.cayenne.ejbql.EJBQLException;
-import org.apache.cayenne.ejbql.EJBQLParserFactory;
 import org.apache.cayenne.map.DataMap;
 import org.apache.cayenne.map.EntityResolver;
 
@@ -105,9 +104,7 @@ public class EJBQLQuery extends CacheableQuery {
     public EJBQLCompiledExpression getExpression(EntityResolver resolver)
             throws EJBQLException {
         if (expression == null) {
-            this.expression = EJBQLParserFactory.getParser().compile(
-                    ejbqlStatement, 
-                    resolver);
+            this.expression = resolver.getEjbqlExpression(ejbqlStatement);
         }
 
         return expression;
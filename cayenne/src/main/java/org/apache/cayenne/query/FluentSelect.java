@@ -129,6 +129,7 @@ public abstract class FluentSelect<T, S extends FluentSelect<T, S>> extends Abst
         this.entityType = entityType;
         this.entityName = entityName;
         this.dbEntityName = dbEntityName;
+        resetCacheKey();
         return castSelf();
     }
 
@@ -191,6 +192,7 @@ public abstract class FluentSelect<T, S extends FluentSelect<T, S>> extends Abst
         }
 
         setActiveExpression(joiner.apply(all));
+        resetCacheKey();
         return castSelf();
     }
 
@@ -254,6 +256,7 @@ public abstract class FluentSelect<T, S extends FluentSelect<T, S>> extends Abst
         }
 
         Collections.addAll(this.orderings, orderings);
+        resetCacheKey();
 
         return castSelf();
     }
@@ -274,6 +277,7 @@ public abstract class FluentSelect<T, S extends FluentSelect<T, S>> extends Abst
         }
 
         this.orderings.addAll(orderings);
+        resetCacheKey();
 
         return castSelf();
     }
@@ -285,6 +289,7 @@ public abstract class FluentSelect<T, S extends FluentSelect<T, S>> extends Abst
      */
     public S prefetch(PrefetchTreeNode prefetch) {
         getBaseMetaData().mergePrefetch(prefetch);
+        resetCacheKey();
         return castSelf();
     }
 
@@ -298,6 +303,7 @@ public abstract class FluentSelect<T, S extends FluentSelect<T, S>> extends Abst
             return castSelf();
         }
         getBaseMetaData().addPrefetch(path, semantics);
+        resetCacheKey();
         return castSelf();
     }
 
@@ -307,6 +313,7 @@ public abstract class FluentSelect<T, S extends FluentSelect<T, S>> extends Abst
      */
     public S limit(int fetchLimit) {
         this.getBaseMetaData().setFetchLimit(fetchLimit);
+        resetCacheKey();
         return castSelf();
     }
 
@@ -316,6 +323,7 @@ public abstract class FluentSelect<T, S extends FluentSelect<T, S>> extends Abst
      */
     public S offset(int fetchOffset) {
         this.getBaseMetaData().setFetchOffset(fetchOffset);
+        resetCacheKey();
         return castSelf();
     }
 
@@ -477,6 +485,16 @@ public abstract class FluentSelect<T, S extends FluentSelect<T, S>> extends Abst
         }
     }
 
+    /**
+     * Resets the cache key memoized by the query metadata. Called whenever the query is changed in a way that affects
+     * its cache key.
+     *
+     * @since 5.0
+     */
+    protected void resetCacheKey() {
+        metaData.resetCacheKey();
+    }
+
     protected Expression getActiveExpression() {
         if(havingExpressionIsActive) {
             return having;
@@ -20,9 +20,11 @@
 package org.apache.cayenne.query;
 
 import org.apache.cayenne.ObjectId;
+import org.apache.cayenne.map.DbAttribute;
 import org.apache.cayenne.map.DbEntity;
 
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -40,6 +42,32 @@ public class InsertBatchQuery extends BatchQuery {
         super(entity, new ArrayList<>(entity.getAttributes()), batchCapacity);
     }
 
+    /**
+     * Creates new InsertBatchQuery that only inserts the given columns of the DbEntity. Columns not in the list are
+     * not bound and get their default values.
+     *
+     * @since 5.0
+     */
+    public InsertBatchQuery(DbEntity entity, List<DbAttribute> dbAttributes, int batchCapacity) {
+        super(entity, dbAttributes, batchCapacity);
+    }
+
+    /**
+     * Returns attributes of the DbEntity that have a value, possibly null, in the snapshot. Attributes are returned
+     * in the DbEntity order, so that the snapshots with the same keys produce equal lists.
+     *
+     * @since 5.0
+     */
+    public static List<DbAttribute> snapshotAttributes(DbEntity entity, Map<String, ?> snapshot) {
+        List<DbAttribute> attributes = new ArrayList<>(snapshot.size());
+        for (DbAttribute attribute : entity.getAttributes()) {
+            if (snapshot.containsKey(attribute.getName())) {
+                attributes.add(attribute);
+            }
+        }
+        return attributes;
+    }
+
     /**
      * Adds a snapshot to batch. A shortcut for "add(snapshot, null)".
      */
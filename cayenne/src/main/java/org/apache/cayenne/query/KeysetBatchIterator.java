@@ -0,0 +1,214 @@
+/*****************************************************************
+ *   Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ ****************************************************************/
+
+package org.apache.cayenne.query;
+
+import org.apache.cayenne.CayenneRuntimeException;
+import org.apache.cayenne.ObjectContext;
+import org.apache.cayenne.Persistent;
+import org.apache.cayenne.exp.Expression;
+import org.apache.cayenne.exp.ExpressionFactory;
+import org.apache.cayenne.map.DbAttribute;
+import org.apache.cayenne.map.ObjEntity;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * An iterator over pages of an {@link ObjectSelect} result that uses "keyset" (aka "seek") pagination. Each page is
+ * fetched with a separate query, qualified to return the objects that follow the last object of the previous page in
+ * the query ordering. The ordering is extended with the PK columns of the root entity, so that it is unique.
+ * <p>
+ * The query must select persistent objects. Case-insensitive orderings and a fetch offset are not supported, and the
+ * ordering values of the objects must not be NULL. A fetch limit of the query limits the total number of objects
+ * returned by the iterator. As each page is a separate query, changes made to the database between the page fetches
+ * may result in the objects being skipped or seen twice if they change their position in the ordering.
+ *
+ * @see ObjectSelect#keysetBatchIterator(ObjectContext, int)
+ * @since 5.0
+ */
+public class KeysetBatchIterator<T> implements Iterable<List<T>>, Iterator<List<T>> {
+
+    private final ObjectSelect<T> query;
+    private final ObjectContext context;
+    private final int size;
+    private final int limit;
+    private final List<Ordering> orderings;
+    private final List<String> pkNames;
+
+    private Object[] lastKey;
+    private List<T> nextPage;
+    private int fetched;
+    private boolean exhausted;
+
+    KeysetBatchIterator(ObjectSelect<T> query, ObjectContext context, int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Page size must be positive: " + size);
+        }
+
+        if (query.getOffset() > 0) {
+            throw new CayenneRuntimeException("Keyset pagination does not support fetch offset");
+        }
+
+        if (query.isFetchingDataRows()) {
+            throw new CayenneRuntimeException("Keyset pagination does not support fetching DataRows");
+        }
+
+        ObjEntity entity = query.getMetaData(context.getEntityResolver()).getObjEntity();
+        if (entity == null) {
+            throw new CayenneRuntimeException("Keyset pagination requires a query with root ObjEntity");
+        }
+
+        Collection<DbAttribute> pks = entity.getDbEntity().getPrimaryKeys();
+        if (pks.isEmpty()) {
+            throw new CayenneRuntimeException("Root DbEntity has no PK defined: %s", entity.getDbEntityName());
+        }
+
+        this.orderings = new ArrayList<>();
+        if (query.getOrderings() != null) {
+            for (Ordering ordering : query.getOrderings()) {
+                if (ordering.isCaseInsensitive()) {
+                    throw new CayenneRuntimeException("Keyset pagination does not support case-insensitive ordering: %s",
+                            ordering);
+                }
+                orderings.add(ordering);
+            }
+        }
+
+        this.pkNames = new ArrayList<>(pks.size());
+        for (DbAttribute pk : pks) {
+            pkNames.add(pk.getName());
+            orderings.add(new Ordering(ExpressionFactory.dbPathExp(pk.getName()), SortOrder.ASCENDING));
+        }
+
+        this.query = query;
+        this.context = context;
+        this.size = size;
+        this.limit = query.getLimit();
+    }
+
+    @Override
+    public Iterator<List<T>> iterator() {
+        return this;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (nextPage == null && !exhausted) {
+            nextPage = fetchPage();
+        }
+
+        return nextPage != null && !nextPage.isEmpty();
+    }
+
+    @Override
+    public List<T> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("No more pages");
+        }
+
+        List<T> page = nextPage;
+        nextPage = null;
+        return page;
+    }
+
+    public int getBatchSize() {
+        return size;
+    }
+
+    private List<T> fetchPage() {
+        int pageLimit = limit > 0 ? Math.min(size, limit - fetched) : size;
+        if (pageLimit <= 0) {
+            exhausted = true;
+            return null;
+        }
+
+        List<T> page = query.keysetPage(seekExpression(), orderings, pageLimit).select(context);
+        fetched += page.size();
+
+        if (page.size() < pageLimit) {
+            exhausted = true;
+        } else {
+            lastKey = keyOf(page.getLast());
+        }
+
+        return page;
+    }
+
+    /**
+     * Builds a qualifier matching the rows that follow the last fetched row, i.e. for orderings "a, b" it is
+     * "(a > :a) or (a = :a and b > :b)", with "<" used for descending orderings.
+     */
+    private Expression seekExpression() {
+        if (lastKey == null) {
+            return null;
+        }
+
+        int width = orderings.size();
+        List<Expression> alternatives = new ArrayList<>(width);
+        for (int i = 0; i < width; i++) {
+            List<Expression> terms = new ArrayList<>(i + 1);
+            for (int j = 0; j < i; j++) {
+                terms.add(ExpressionFactory.matchExp(orderings.get(j).getSortSpec().deepCopy(), lastKey[j]));
+            }
+
+            Ordering ordering = orderings.get(i);
+            Expression path = ordering.getSortSpec().deepCopy();
+            terms.add(ordering.isDescending()
+                    ? ExpressionFactory.lessExp(path, lastKey[i])
+                    : ExpressionFactory.greaterExp(path, lastKey[i]));
+
+            alternatives.add(ExpressionFactory.and(terms));
+        }
+
+        return ExpressionFactory.or(alternatives);
+    }
+
+    private Object[] keyOf(Object object) {
+        if (!(object instanceof Persistent persistent)) {
+            throw new CayenneRuntimeException("Keyset pagination requires persistent objects, got: %s", object);
+        }
+
+        int width = orderings.size();
+        int pkOffset = width - pkNames.size();
+        Object[] key = new Object[width];
+
+        for (int i = 0; i < pkOffset; i++) {
+            key[i] = orderings.get(i).getSortSpec().evaluate(persistent);
+        }
+
+        Map<String, Object> id = persistent.getObjectId().getIdSnapshot();
+        for (int i = pkOffset; i < width; i++) {
+            key[i] = id.get(pkNames.get(i - pkOffset));
+        }
+
+        for (int i = 0; i < width; i++) {
+            if (key[i] == null) {
+                throw new CayenneRuntimeException("Keyset pagination does not support NULL ordering values: %s",
+                        orderings.get(i));
+            }
+        }
+
+        return key;
+    }
+}
@@ -18,6 +18,8 @@
  ****************************************************************/
 package org.apache.cayenne.query;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -339,6 +341,45 @@ public class ObjectSelect<T> extends FluentSelect<T, ObjectSelect<T>> implements
         return context.selectFirst(limit(1));
     }
 
+    /**
+     * Returns an iterator over the query result split into pages of a given size, fetching each page on demand with a
+     * separate query. Instead of paging by offset or by a preloaded list of ids, each query is qualified to start
+     * right after the last object of the previous page in the query ordering (that is extended with the entity PK to
+     * make it unique). So the memory footprint and the cost of each page fetch don't depend on the size of the whole
+     * result.
+     * <p>
+     * Unlike {@link #batchIterator(ObjectContext, int)}, the iterator doesn't keep a ResultSet open between pages and
+     * doesn't need to be closed.
+     *
+     * @see KeysetBatchIterator
+     * @since 5.0
+     */
+    public KeysetBatchIterator<T> keysetBatchIterator(ObjectContext context, int size) {
+        return new KeysetBatchIterator<>(this, context, size);
+    }
+
+    /**
+     * Creates a copy of this query that fetches a single page of a keyset iteration.
+     */
+    ObjectSelect<T> keysetPage(Expression seek, Collection<Ordering> orderings, int size) {
+        ObjectSelect<T> page = new ObjectSelect<>();
+        page.entityType = entityType;
+        page.entityName = entityName;
+        page.dbEntityName = dbEntityName;
+        page.where = seek == null ? where : where == null ? seek : where.andExp(seek);
+        page.having = having;
+        page.havingExpressionIsActive = havingExpressionIsActive;
+        page.distinct = distinct;
+        page.orderings = new ArrayList<>(orderings);
+        page.metaData.copyFromInfo(metaData);
+        page.metaData.setStatementFetchSize(metaData.getStatementFetchSize());
+        page.metaData.setQueryTimeout(metaData.getQueryTimeout());
+        page.metaData.setPageSize(0);
+        page.metaData.setFetchOffset(0);
+        page.metaData.setFetchLimit(size);
+        return page;
+    }
+
     @Override
     public QueryMetadata getMetaData(EntityResolver resolver) {
         Object root = resolveRoot(resolver);
@@ -365,6 +406,7 @@ public class ObjectSelect<T> extends FluentSelect<T, ObjectSelect<T>> implements
             return this;
         }
         where = where.params(parameters, true);
+        resetCacheKey();
         return this;
     }
 }
@@ -56,23 +56,48 @@ class ObjectSelectMetadata extends BaseQueryMetadata {
 	boolean resolve(Object root, EntityResolver resolver, ObjectSelect<?> query) {
 
 		if (super.resolve(root, resolver)) {
-			// generate unique cache key, but only if we are caching..
-			if (cacheStrategy != null && cacheStrategy != QueryCacheStrategy.NO_CACHE) {
-				this.cacheKey = makeCacheKey(query, resolver);
-			}
-
+			resetCacheKey();
+			resolveCacheKey(query, resolver);
 			resolveAutoAliases(query);
 			return true;
 		}
 
+		resolveCacheKey(query, resolver);
 		return false;
 	}
 
-	protected String makeCacheKey(FluentSelect<?, ?> query, EntityResolver resolver) {
+	/**
+	 * Generates a unique cache key, but only if we are caching. The key is kept until the query is changed or
+	 * resolved with another EntityResolver.
+	 *
+	 * @since 5.0
+	 */
+	void resolveCacheKey(FluentSelect<?, ?> query, EntityResolver resolver) {
+		if (cacheKey == null && cacheStrategy != null && cacheStrategy != QueryCacheStrategy.NO_CACHE) {
+			this.cacheKey = appendCacheKey(query, resolver, CacheKeyBuilder.hashed()).build();
+		}
+	}
+
+	/**
+	 * @since 5.0
+	 */
+	void resetCacheKey() {
+		this.cacheKey = null;
+	}
+
+	/**
+	 * Creates a readable form of the query cache key. Not used for caching and intended for debugging only.
+	 *
+	 * @since 5.0
+	 */
+	protected String makeReadableCacheKey(FluentSelect<?, ?> query, EntityResolver resolver) {
+		return appendCacheKey(query, resolver, CacheKeyBuilder.readable(new StringBuilder())).build();
+	}
+
+	private CacheKeyBuilder appendCacheKey(FluentSelect<?, ?> query, EntityResolver resolver, CacheKeyBuilder key) {
 
 		// create a unique key based on entity or columns, qualifier, ordering, fetch offset and limit
 
-		StringBuilder key = new StringBuilder();
 		// handler to create string out of expressions, created lazily
 		TraversalHandler traversalHandler = null;
 
@@ -133,7 +158,7 @@ class ObjectSelectMetadata extends BaseQueryMetadata {
 			prefetchTree.traverse(new ToCacheKeyPrefetchProcessor(key));
 		}
 
-		return key.toString();
+		return key;
 	}
 
 	protected void resolveAutoAliases(FluentSelect<?, ?> query) {
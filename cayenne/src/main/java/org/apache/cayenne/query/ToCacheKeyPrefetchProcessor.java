@@ -25,9 +25,16 @@ package org.apache.cayenne.query;
  */
 class ToCacheKeyPrefetchProcessor implements PrefetchProcessor {
 
-    private final StringBuilder out;
+    private final CacheKeyBuilder out;
 
     ToCacheKeyPrefetchProcessor(StringBuilder out) {
+        this(CacheKeyBuilder.readable(out));
+    }
+
+    /**
+     * @since 5.0
+     */
+    ToCacheKeyPrefetchProcessor(CacheKeyBuilder out) {
         this.out = out;
     }
 
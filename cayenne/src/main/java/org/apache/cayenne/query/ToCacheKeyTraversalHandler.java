@@ -39,9 +39,16 @@ import org.apache.cayenne.exp.parser.ASTScalar;
 class ToCacheKeyTraversalHandler implements TraversalHandler {
 
     private ValueObjectTypeRegistry registry;
-    private StringBuilder out;
+    private CacheKeyBuilder out;
 
     ToCacheKeyTraversalHandler(ValueObjectTypeRegistry registry, StringBuilder out) {
+        this(registry, CacheKeyBuilder.readable(out));
+    }
+
+    /**
+     * @since 5.0
+     */
+    ToCacheKeyTraversalHandler(ValueObjectTypeRegistry registry, CacheKeyBuilder out) {
         this.registry = registry;
         this.out = out;
     }
@@ -86,6 +93,9 @@ class ToCacheKeyTraversalHandler implements TraversalHandler {
             ObjectId id = ((Persistent) leaf).getObjectId();
             Object encode = (id != null) ? id : leaf;
             out.append(encode);
+        } else if (leaf instanceof Integer || leaf instanceof Long || leaf instanceof Short || leaf instanceof Byte) {
+            // hashed without creating a String
+            out.append(((Number) leaf).longValue());
         } else if (leaf instanceof Enum<?>) {
             Enum<?> e = (Enum<?>) leaf;
             out.append("e:").append(leaf.getClass().getName()).append(':').append(e.ordinal());
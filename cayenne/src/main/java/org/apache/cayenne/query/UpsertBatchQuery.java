@@ -0,0 +1,48 @@
+/*****************************************************************
+ *   Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ ****************************************************************/
+
+package org.apache.cayenne.query;
+
+import org.apache.cayenne.map.DbAttribute;
+import org.apache.cayenne.map.DbEntity;
+
+import java.util.List;
+
+/**
+ * Batched "upsert" query that inserts a row or, if a row with the same primary key already exists, updates it. It
+ * is translated into a database-specific statement (e.g. MERGE or INSERT ... ON CONFLICT), so it can only be run
+ * with adapters that provide an upsert translator.
+ *
+ * @see org.apache.cayenne.dba.DbAdapter#getUpsertTranslator(UpsertBatchQuery)
+ * @since 5.0
+ */
+public class UpsertBatchQuery extends InsertBatchQuery {
+
+    public UpsertBatchQuery(DbEntity entity, int batchCapacity) {
+        super(entity, batchCapacity);
+    }
+
+    /**
+     * Creates an upsert of the given columns of the DbEntity. Columns not in the list are neither inserted nor
+     * updated, so the existing rows keep their values.
+     */
+    public UpsertBatchQuery(DbEntity entity, List<DbAttribute> dbAttributes, int batchCapacity) {
+        super(entity, dbAttributes, batchCapacity);
+    }
+}
@@ -209,6 +209,77 @@ public interface ClassDescriptor {
      */
     boolean visitAllProperties(PropertyVisitor visitor);
 
+    /**
+     * Returns a zero-based position of a property in the order of {@link #visitProperties(PropertyVisitor)}, or -1 if
+     * there's no such property. Together with {@link #getPropertyCount()} allows to keep per-property state in arrays
+     * instead of maps. The default implementation walks the properties, subclasses are expected to cache the indexes.
+     *
+     * @since 5.0
+     */
+    default int getPropertyIndex(String propertyName) {
+        int[] index = {0, -1};
+        visitProperties(new PropertyVisitor() {
+
+            @Override
+            public boolean visitAttribute(AttributeProperty property) {
+                return next(property);
+            }
+
+            @Override
+            public boolean visitToOne(ToOneProperty property) {
+                return next(property);
+            }
+
+            @Override
+            public boolean visitToMany(ToManyProperty property) {
+                return next(property);
+            }
+
+            private boolean next(PropertyDescriptor property) {
+                if (property.getName().equals(propertyName)) {
+                    index[1] = index[0];
+                    return false;
+                }
+
+                index[0]++;
+                return true;
+            }
+        });
+
+        return index[1];
+    }
+
+    /**
+     * Returns the number of properties visited by {@link #visitProperties(PropertyVisitor)}.
+     *
+     * @since 5.0
+     */
+    default int getPropertyCount() {
+        int[] count = {0};
+        visitProperties(new PropertyVisitor() {
+
+            @Override
+            public boolean visitAttribute(AttributeProperty property) {
+                count[0]++;
+                return true;
+            }
+
+            @Override
+            public boolean visitToOne(ToOneProperty property) {
+                count[0]++;
+                return true;
+            }
+
+            @Override
+            public boolean visitToMany(ToManyProperty property) {
+                count[0]++;
+                return true;
+            }
+        });
+
+        return count[0];
+    }
+
     /**
      * Returns true if an object is not fully resolved.
      */
@@ -187,4 +187,22 @@ public class LazyClassDescriptorDecorator implements ClassDescriptor {
         checkDescriptorInitialized();
         return descriptor.visitAllProperties(visitor);
     }
+
+    /**
+     * @since 5.0
+     */
+    @Override
+    public int getPropertyIndex(String propertyName) {
+        checkDescriptorInitialized();
+        return descriptor.getPropertyIndex(propertyName);
+    }
+
+    /**
+     * @since 5.0
+     */
+    @Override
+    public int getPropertyCount() {
+        checkDescriptorInitialized();
+        return descriptor.getPropertyCount();
+    }
 }
@@ -74,6 +74,9 @@ public class PersistentDescriptor implements ClassDescriptor {
 	protected Collection<ObjAttribute> allDiscriminatorColumns;
 	protected Expression entityQualifier;
 
+	// positions of 'properties', compiled lazily
+	private volatile Map<String, Integer> propertyIndexes;
+
 	/**
 	 * Creates a PersistentDescriptor.
 	 */
@@ -100,6 +103,7 @@ public class PersistentDescriptor implements ClassDescriptor {
 	public void addSuperProperty(PropertyDescriptor property) {
 		properties.put(property.getName(), property);
 		indexAddedProperty(property);
+		propertyIndexes = null;
 	}
 
 	/**
@@ -111,6 +115,7 @@ public class PersistentDescriptor implements ClassDescriptor {
 		declaredProperties.put(property.getName(), property);
 		properties.put(property.getName(), property);
 		indexAddedProperty(property);
+		propertyIndexes = null;
 	}
 
 	/**
@@ -158,6 +163,7 @@ public class PersistentDescriptor implements ClassDescriptor {
 
 			this.properties = orderedProperties;
 			this.declaredProperties = orderedDeclared;
+			this.propertyIndexes = null;
 		}
 	}
 
@@ -205,6 +211,7 @@ public class PersistentDescriptor implements ClassDescriptor {
 			}
 
 			properties.remove(propertyName);
+			propertyIndexes = null;
 		}
 	}
 
@@ -420,6 +427,33 @@ public class PersistentDescriptor implements ClassDescriptor {
 		return true;
 	}
 
+	/**
+	 * @since 5.0
+	 */
+	@Override
+	public int getPropertyIndex(String propertyName) {
+		Map<String, Integer> indexes = this.propertyIndexes;
+		if (indexes == null) {
+			indexes = new HashMap<>((int) (properties.size() / 0.75) + 1);
+			for (String name : properties.keySet()) {
+				indexes.put(name, indexes.size());
+			}
+
+			this.propertyIndexes = indexes;
+		}
+
+		Integer index = indexes.get(propertyName);
+		return index != null ? index : -1;
+	}
+
+	/**
+	 * @since 5.0
+	 */
+	@Override
+	public int getPropertyCount() {
+		return properties.size();
+	}
+
 	public void setPersistenceStateAccessor(Accessor persistenceStateAccessor) {
 		this.persistenceStateAccessor = persistenceStateAccessor;
 	}
@@ -20,6 +20,7 @@
 package org.apache.cayenne.reflect.generic;
 
 import org.apache.cayenne.Persistent;
+import org.apache.cayenne.PersistentObject;
 import org.apache.cayenne.reflect.Accessor;
 import org.apache.cayenne.reflect.PropertyException;
 
@@ -31,6 +32,7 @@ import org.apache.cayenne.reflect.PropertyException;
 class PersistentObjectAccessor implements Accessor {
 
     protected String propertyName;
+    private transient volatile PersistentObjectPropertyIndex propertyIndex;
 
     PersistentObjectAccessor(String propertyName) {
         if (propertyName == null) {
@@ -51,6 +53,13 @@ class PersistentObjectAccessor implements Accessor {
     public Object getValue(Object object) throws PropertyException {
         try {
             Persistent persistent = (Persistent) object;
+            if (persistent instanceof PersistentObject persistentObject) {
+                int index = propertyIndex().readIndex(persistentObject);
+                if (index >= 0) {
+                    return persistentObject.readPropertyDirectly(index);
+                }
+            }
+
             return persistent.readPropertyDirectly(propertyName);
         } catch (ClassCastException e) {
             throw new PropertyException("Object is not a Persistent: '"
@@ -69,7 +78,16 @@ class PersistentObjectAccessor implements Accessor {
      */
     public void setValue(Object object, Object newValue) throws PropertyException {
         try {
-            ((Persistent) object).writePropertyDirectly(propertyName, newValue);
+            Persistent persistent = (Persistent) object;
+            if (persistent instanceof PersistentObject persistentObject) {
+                int index = propertyIndex().writeIndex(persistentObject);
+                if (index >= 0) {
+                    persistentObject.writePropertyDirectly(index, newValue);
+                    return;
+                }
+            }
+
+            persistent.writePropertyDirectly(propertyName, newValue);
         } catch (ClassCastException e) {
             throw new PropertyException("Object is not a Persistent: '"
                     + object.getClass().getName()
@@ -82,4 +100,15 @@ class PersistentObjectAccessor implements Accessor {
         // TODO, Andrus, 1/22/2006 - check for the right type? DataObject never did it
         // itself... Doing a check (and a conversion) may be an easy way to fix CAY-399
     }
+
+    private PersistentObjectPropertyIndex propertyIndex() {
+        PersistentObjectPropertyIndex index = propertyIndex;
+        if (index == null) {
+            // created lazily, as the field is not serialized
+            index = new PersistentObjectPropertyIndex(propertyName);
+            propertyIndex = index;
+        }
+
+        return index;
+    }
 }
@@ -21,6 +21,7 @@ package org.apache.cayenne.reflect.generic;
 import java.io.Serializable;
 
 import org.apache.cayenne.Persistent;
+import org.apache.cayenne.PersistentObject;
 import org.apache.cayenne.reflect.PropertyDescriptor;
 import org.apache.cayenne.reflect.PropertyException;
 import org.apache.cayenne.reflect.PropertyVisitor;
@@ -32,6 +33,8 @@ import org.apache.cayenne.reflect.PropertyVisitor;
  */
 abstract class PersistentObjectBaseProperty implements PropertyDescriptor, Serializable {
 
+    private transient volatile PersistentObjectPropertyIndex propertyIndex;
+
     public abstract String getName();
 
     public abstract void injectValueHolder(Object object) throws PropertyException;
@@ -67,7 +70,15 @@ abstract class PersistentObjectBaseProperty implements PropertyDescriptor, Seria
 
     public Object readPropertyDirectly(Object object) throws PropertyException {
         try {
-            return toPersistent(object).readPropertyDirectly(getName());
+            Persistent persistent = toPersistent(object);
+            if (persistent instanceof PersistentObject persistentObject) {
+                int index = propertyIndex().readIndex(persistentObject);
+                if (index >= 0) {
+                    return persistentObject.readPropertyDirectly(index);
+                }
+            }
+
+            return persistent.readPropertyDirectly(getName());
         }
         catch (Throwable th) {
             throw new PropertyException(
@@ -81,7 +92,16 @@ abstract class PersistentObjectBaseProperty implements PropertyDescriptor, Seria
     public void writePropertyDirectly(Object object, Object oldValue, Object newValue)
             throws PropertyException {
         try {
-            toPersistent(object).writePropertyDirectly(getName(), newValue);
+            Persistent persistent = toPersistent(object);
+            if (persistent instanceof PersistentObject persistentObject) {
+                int index = propertyIndex().writeIndex(persistentObject);
+                if (index >= 0) {
+                    persistentObject.writePropertyDirectly(index, newValue);
+                    return;
+                }
+            }
+
+            persistent.writePropertyDirectly(getName(), newValue);
         }
         catch (Throwable th) {
             throw new PropertyException(
@@ -92,6 +112,17 @@ abstract class PersistentObjectBaseProperty implements PropertyDescriptor, Seria
         }
     }
 
+    private PersistentObjectPropertyIndex propertyIndex() {
+        PersistentObjectPropertyIndex index = propertyIndex;
+        if (index == null) {
+            // created lazily, as the field is not serialized
+            index = new PersistentObjectPropertyIndex(getName());
+            propertyIndex = index;
+        }
+
+        return index;
+    }
+
     protected final Persistent toPersistent(Object object) throws PropertyException {
         try {
             return (Persistent) object;
@@ -0,0 +1,110 @@
+/*****************************************************************
+ *   Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ ****************************************************************/
+package org.apache.cayenne.reflect.generic;
+
+import org.apache.cayenne.PersistentObject;
+
+/**
+ * Index-based access to a named property of {@link PersistentObject} subclasses. The index returned by
+ * {@link PersistentObject#propertyIndex(String)} is looked up once per object class and stored in a {@link ClassValue},
+ * so the name lookup is not repeated on every property access, however many classes share a property descriptor.
+ * <p>
+ * Index-based access is not used for a class that overrides {@link PersistentObject#readPropertyDirectly(String)} or
+ * {@link PersistentObject#writePropertyDirectly(String, Object)} below the class generating the indexed methods, so
+ * that such overrides are still called.
+ *
+ * @since 5.0
+ */
+final class PersistentObjectPropertyIndex {
+
+    private static final int UNRESOLVED = -2;
+
+    private final String propertyName;
+    private final ClassValue<ClassIndex> classIndexes = new ClassValue<>() {
+        @Override
+        protected ClassIndex computeValue(Class<?> type) {
+            return new ClassIndex(type);
+        }
+    };
+
+    PersistentObjectPropertyIndex(String propertyName) {
+        this.propertyName = propertyName;
+    }
+
+    /**
+     * Returns an index to pass to {@link PersistentObject#readPropertyDirectly(int)}, or -1 if the property should be
+     * read by name.
+     */
+    int readIndex(PersistentObject object) {
+        ClassIndex classIndex = classIndexes.get(object.getClass());
+        return classIndex.indexedRead ? classIndex.index(object, propertyName) : -1;
+    }
+
+    /**
+     * Returns an index to pass to {@link PersistentObject#writePropertyDirectly(int, Object)}, or -1 if the property
+     * should be written by name.
+     */
+    int writeIndex(PersistentObject object) {
+        ClassIndex classIndex = classIndexes.get(object.getClass());
+        return classIndex.indexedWrite ? classIndex.index(object, propertyName) : -1;
+    }
+
+    private static final class ClassIndex {
+
+        final boolean indexedRead;
+        final boolean indexedWrite;
+
+        // resolved on first access, as it takes an instance to call "propertyIndex"
+        private volatile int index = UNRESOLVED;
+
+        ClassIndex(Class<?> type) {
+            this.indexedRead = !overridesNamedAccess(type, "readPropertyDirectly");
+            this.indexedWrite = !overridesNamedAccess(type, "writePropertyDirectly", Object.class);
+        }
+
+        int index(PersistentObject object, String propertyName) {
+            int index = this.index;
+            if (index == UNRESOLVED) {
+                // a race here is harmless, as all instances of a class return the same index
+                index = object.propertyIndex(propertyName);
+                this.index = index;
+            }
+
+            return index;
+        }
+
+        // checks whether a name-based method is overridden in a subclass of the class implementing the index-based one
+        private static boolean overridesNamedAccess(Class<?> type, String method, Class<?>... otherParameters) {
+            Class<?>[] namedParameters = new Class<?>[otherParameters.length + 1];
+            Class<?>[] indexedParameters = new Class<?>[otherParameters.length + 1];
+            namedParameters[0] = String.class;
+            indexedParameters[0] = Integer.TYPE;
+            System.arraycopy(otherParameters, 0, namedParameters, 1, otherParameters.length);
+            System.arraycopy(otherParameters, 0, indexedParameters, 1, otherParameters.length);
+
+            try {
+                Class<?> namedImpl = type.getMethod(method, namedParameters).getDeclaringClass();
+                Class<?> indexedImpl = type.getMethod(method, indexedParameters).getDeclaringClass();
+                return namedImpl != indexedImpl && indexedImpl.isAssignableFrom(namedImpl);
+            } catch (NoSuchMethodException e) {
+                return true;
+            }
+        }
+    }
+}
@@ -27,6 +27,7 @@ import org.apache.cayenne.di.BeforeScopeEnd;
 import org.apache.cayenne.di.DIBootstrap;
 import org.apache.cayenne.di.Injector;
 import org.apache.cayenne.di.Module;
+import org.apache.cayenne.map.DbEntity;
 import org.apache.cayenne.tx.TransactionDescriptor;
 import org.apache.cayenne.tx.TransactionListener;
 import org.apache.cayenne.tx.TransactionManager;
@@ -34,7 +35,9 @@ import org.apache.cayenne.tx.TransactionalOperation;
 
 import javax.sql.DataSource;
 import java.util.Collection;
+import java.util.Map;
 import java.util.Objects;
+import java.util.stream.Stream;
 
 /**
  * Object representing Cayenne stack. Serves as an entry point to Cayenne for user applications and a factory of ObjectContexts.
@@ -229,6 +232,40 @@ public class CayenneRuntime {
         return injector.getInstance(DataDomain.class);
     }
 
+    /**
+     * Inserts a stream of rows into the table of the named DbEntity without going through an ObjectContext. A
+     * shortcut for {@link DataDomain#bulkInsert(DbEntity, Stream, int)}.
+     *
+     * @return the number of inserted rows.
+     * @since 5.0
+     */
+    public long bulkInsert(String dbEntityName, Stream<? extends Map<String, ?>> rows, int chunkSize) {
+        DataDomain domain = getDataDomain();
+        DbEntity entity = domain.getEntityResolver().getDbEntity(dbEntityName);
+        if (entity == null) {
+            throw new IllegalArgumentException("Unknown DbEntity name: " + dbEntityName);
+        }
+
+        return domain.bulkInsert(entity, rows, chunkSize);
+    }
+
+    /**
+     * Upserts a stream of rows into the table of the named DbEntity without going through an ObjectContext. A
+     * shortcut for {@link DataDomain#bulkUpsert(DbEntity, Stream, int)}.
+     *
+     * @return the number of upserted rows.
+     * @since 5.0
+     */
+    public long bulkUpsert(String dbEntityName, Stream<? extends Map<String, ?>> rows, int chunkSize) {
+        DataDomain domain = getDataDomain();
+        DbEntity entity = domain.getEntityResolver().getDbEntity(dbEntityName);
+        if (entity == null) {
+            throw new IllegalArgumentException("Unknown DbEntity name: " + dbEntityName);
+        }
+
+        return domain.bulkUpsert(entity, rows, chunkSize);
+    }
+
     /**
      * Returns a default DataSource for this runtime. If no default DataSource exists, an exception is thrown.
      *
@@ -313,6 +350,17 @@ public class CayenneRuntime {
         return injector.getInstance(ObjectContextFactory.class).createContext();
     }
 
+    /**
+     * Returns a new ObjectContext based on the runtime's main DataChannel that can only be used to read data. It is
+     * cheaper to create than a regular context and is intended for query-only code paths.
+     *
+     * @see ObjectContextFactory#createReadOnlyContext()
+     * @since 5.0
+     */
+    public ObjectContext newReadOnlyContext() {
+        return injector.getInstance(ObjectContextFactory.class).createReadOnlyContext();
+    }
+
     /**
      * Returns a new ObjectContext which is a child of the specified
      * DataChannel. This method is used for creation of nested ObjectContexts,
@@ -35,7 +35,9 @@ import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * A convenience class to assemble custom {@link CayenneRuntime}. It allows to easily
@@ -52,6 +54,7 @@ public class CayenneRuntimeBuilder {
     private final Collection<String> configs;
     private final List<Module> modules;
     private boolean autoLoadModules;
+    private ForkJoinPool warmUpPool;
 
     private int autoNodeSuffix;
     private DataNodeDescriptor defaultNode;
@@ -103,6 +106,29 @@ public class CayenneRuntimeBuilder {
         return this;
     }
 
+    /**
+     * Configures the builder to load the project and eagerly compile all mapping metadata (class descriptors,
+     * property accessors, callbacks) in {@link #build()}, instead of doing it lazily on first use. Compilation is done
+     * in parallel in the common fork-join pool.
+     *
+     * @since 5.0
+     */
+    public CayenneRuntimeBuilder warmUpMapping() {
+        return warmUpMapping(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Configures the builder to load the project and eagerly compile all mapping metadata (class descriptors,
+     * property accessors, callbacks) in {@link #build()}, instead of doing it lazily on first use. Compilation is done
+     * in parallel in the provided fork-join pool.
+     *
+     * @since 5.0
+     */
+    public CayenneRuntimeBuilder warmUpMapping(ForkJoinPool pool) {
+        this.warmUpPool = Objects.requireNonNull(pool);
+        return this;
+    }
+
     /**
      * @deprecated in favor of {@link #defaultDataNode(DataSource)}
      */
@@ -264,7 +290,13 @@ public class CayenneRuntimeBuilder {
         // builder modules override default, autoloaded and custom modules...
         allModules.addAll(builderModules());
 
-        return new CayenneRuntime(allModules);
+        CayenneRuntime runtime = new CayenneRuntime(allModules);
+
+        if (warmUpPool != null) {
+            runtime.getDataDomain().getEntityResolver().warmUp(warmUpPool);
+        }
+
+        return runtime;
     }
 
     private Collection<? extends Module> autoLoadedModules() {
@@ -0,0 +1,144 @@
+/*****************************************************************
+ *   Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ ****************************************************************/
+
+package org.apache.cayenne.access;
+
+import org.apache.cayenne.Cayenne;
+import org.apache.cayenne.FaultFailureException;
+import org.apache.cayenne.ObjectId;
+import org.apache.cayenne.PersistenceState;
+import org.apache.cayenne.query.ObjectSelect;
+import org.apache.cayenne.test.jdbc.TableHelper;
+import org.apache.cayenne.testdo.testmap.Artist;
+import org.apache.cayenne.unit.CayenneProjects;
+import org.apache.cayenne.unit.CayenneTestsEnv;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DataContextBatchFaultingIT {
+
+    @RegisterExtension
+    static final CayenneTestsEnv env = CayenneTestsEnv.forProject(CayenneProjects.TESTMAP_PROJECT);
+
+    private DataContext context;
+    private TableHelper tArtist;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        context = env.context();
+
+        tArtist = env.table("ARTIST", "ARTIST_ID", "ARTIST_NAME");
+        for (int i = 1; i <= 5; i++) {
+            tArtist.insert(i, "artist" + i);
+        }
+    }
+
+    @Test
+    public void disabledByDefault() {
+        assertFalse(context.isBatchFaulting());
+
+        List<Artist> artists = invalidatedArtists();
+        int queries = env.runWithQueryCounter(() -> artists.forEach(Artist::getArtistName));
+        assertEquals(5, queries);
+    }
+
+    @Test
+    public void resolvesHollowObjectsInOneQuery() {
+        context.setBatchFaulting(true);
+
+        List<Artist> artists = invalidatedArtists();
+        int queries = env.runWithQueryCounter(() -> {
+            for (Artist a : artists) {
+                assertTrue(a.getArtistName().startsWith("artist"));
+            }
+        });
+
+        assertEquals(1, queries);
+        for (Artist a : artists) {
+            assertEquals(PersistenceState.COMMITTED, a.getPersistenceState());
+        }
+    }
+
+    @Test
+    public void resolvesFaultsInOneQuery() {
+        context.setBatchFaulting(true);
+
+        List<Artist> artists = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            artists.add((Artist) context.findOrCreateObject(ObjectId.of("Artist", Artist.ARTIST_ID_PK_COLUMN, i)));
+        }
+
+        int queries = env.runWithQueryCounter(() -> artists.forEach(Artist::getArtistName));
+        assertEquals(1, queries);
+    }
+
+    @Test
+    public void hollowIndexPruned() {
+        context.setBatchFaulting(true);
+
+        List<Artist> artists = invalidatedArtists();
+        assertEquals(5, context.getObjectStore().hollowObjectIds("Artist", null, 0).size());
+
+        artists.forEach(Artist::getArtistName);
+        assertEquals(0, context.getObjectStore().hollowObjectIds("Artist", null, 0).size());
+
+        context.invalidateObjects(artists.get(0));
+        assertEquals(List.of(artists.get(0).getObjectId()),
+                context.getObjectStore().hollowObjectIds("Artist", null, 0));
+    }
+
+    @Test
+    public void missingRow() throws Exception {
+        context.setBatchFaulting(true);
+
+        List<Artist> artists = invalidatedArtists();
+        tArtist.delete().where("ARTIST_ID", 3).execute();
+
+        Artist missing = artists.stream()
+                .filter(a -> Cayenne.longPKForObject(a) == 3)
+                .findFirst()
+                .orElseThrow();
+
+        // other objects are resolved by the batch, the deleted one fails as it would without batching
+        assertThrows(FaultFailureException.class, missing::getArtistName);
+        for (Artist a : artists) {
+            if (a != missing) {
+                assertEquals(PersistenceState.COMMITTED, a.getPersistenceState());
+            }
+        }
+    }
+
+    private List<Artist> invalidatedArtists() {
+        List<Artist> artists = ObjectSelect.query(Artist.class).select(context);
+        assertEquals(5, artists.size());
+
+        context.invalidateObjects(artists);
+        for (Artist a : artists) {
+            assertEquals(PersistenceState.HOLLOW, a.getPersistenceState());
+        }
+
+        return artists;
+    }
+}
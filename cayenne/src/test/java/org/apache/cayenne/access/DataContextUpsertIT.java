@@ -0,0 +1,123 @@
+/*****************************************************************
+ *   Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ ****************************************************************/
+package org.apache.cayenne.access;
+
+import org.apache.cayenne.CayenneRuntimeException;
+import org.apache.cayenne.query.UpsertBatchQuery;
+import org.apache.cayenne.test.jdbc.TableHelper;
+import org.apache.cayenne.testdo.inheritance_vertical.Iv1Root;
+import org.apache.cayenne.testdo.inheritance_vertical.Iv1Sub1;
+import org.apache.cayenne.testdo.inheritance_vertical.IvGenKeyRoot;
+import org.apache.cayenne.unit.CayenneProjects;
+import org.apache.cayenne.unit.CayenneTestsEnv;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import java.sql.Types;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public class DataContextUpsertIT {
+
+    @RegisterExtension
+    static final CayenneTestsEnv env = CayenneTestsEnv.forProject(CayenneProjects.INHERITANCE_VERTICAL_PROJECT);
+
+    private TableHelper tRoot;
+    private TableHelper tSub1;
+
+    @BeforeEach
+    public void setUp() {
+        tRoot = env.table("IV1_ROOT").setColumns("ID", "NAME", "DISCRIMINATOR")
+                .setColumnTypes(Types.INTEGER, Types.VARCHAR, Types.VARCHAR);
+        tSub1 = env.table("IV1_SUB1").setColumns("ID", "SUB1_NAME")
+                .setColumnTypes(Types.INTEGER, Types.VARCHAR);
+    }
+
+    @Test
+    public void upsert_AllRows() throws Exception {
+        assumeUpsertSupported();
+
+        tRoot.insert(1, "xROOT", "Iv1Sub1");
+        tSub1.insert(1, "xSUB1");
+
+        DataContext context = env.context();
+
+        // existing rows in both tables
+        Iv1Sub1 existing = context.newObject(Iv1Sub1.class);
+        existing.getObjectId().getReplacementIdMap().put("ID", 1);
+        existing.setName("ySUB1");
+        context.markForUpsert(existing);
+
+        // new rows in both tables
+        Iv1Sub1 created = context.newObject(Iv1Sub1.class);
+        created.getObjectId().getReplacementIdMap().put("ID", 2);
+        created.setName("zSUB1");
+        context.markForUpsert(created);
+
+        context.commitChanges();
+
+        assertEquals(2, tRoot.getRowCount());
+        assertEquals(2, tSub1.getRowCount());
+        assertEquals("ySUB1", tSub1.selectAll().stream()
+                .filter(r -> ((Number) r[0]).intValue() == 1)
+                .map(r -> r[1])
+                .findFirst()
+                .orElse(null));
+    }
+
+    @Test
+    public void upsert_KeepsMissingColumns() throws Exception {
+        assumeUpsertSupported();
+
+        tRoot.insert(1, "xROOT", "Iv1Sub1");
+        tSub1.insert(1, "xSUB1");
+
+        DataContext context = env.context();
+
+        // overridden "name" is mapped to SUB1_NAME, so the root NAME column is not in the row
+        Iv1Sub1 existing = context.newObject(Iv1Sub1.class);
+        existing.getObjectId().getReplacementIdMap().put("ID", 1);
+        existing.setName("ySUB1");
+        context.markForUpsert(existing);
+
+        context.commitChanges();
+
+        assertEquals("xROOT", tRoot.getString("NAME"));
+        assertEquals("ySUB1", tSub1.getString("SUB1_NAME"));
+    }
+
+    @Test
+    public void upsert_DbGeneratedPk() {
+        DataContext context = env.context();
+
+        IvGenKeyRoot object = context.newObject(IvGenKeyRoot.class);
+        object.setName("x");
+
+        assertThrows(CayenneRuntimeException.class, () -> context.markForUpsert(object));
+    }
+
+    private void assumeUpsertSupported() {
+        DataDomain domain = env.runtime().getDataDomain();
+        assumeTrue(domain.getDataNodes().iterator().next().getAdapter()
+                .getUpsertTranslator(new UpsertBatchQuery(
+                        domain.getEntityResolver().getObjEntity(Iv1Root.class).getDbEntity(), 1)) != null);
+    }
+}
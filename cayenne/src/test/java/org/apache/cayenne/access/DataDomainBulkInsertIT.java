@@ -0,0 +1,184 @@
+/*****************************************************************
+ *   Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ ****************************************************************/
+package org.apache.cayenne.access;
+
+import org.apache.cayenne.CayenneRuntimeException;
+import org.apache.cayenne.CayenneSqlException;
+import org.apache.cayenne.map.DbEntity;
+import org.apache.cayenne.query.UpsertBatchQuery;
+import org.apache.cayenne.test.jdbc.TableHelper;
+import org.apache.cayenne.unit.CayenneProjects;
+import org.apache.cayenne.unit.CayenneTestsEnv;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import java.sql.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public class DataDomainBulkInsertIT {
+
+    @RegisterExtension
+    static final CayenneTestsEnv env = CayenneTestsEnv.forProject(CayenneProjects.TESTMAP_PROJECT);
+
+    @Test
+    public void bulkInsert_GeneratedPk() throws Exception {
+        DataDomain domain = env.runtime().getDataDomain();
+        DbEntity artist = domain.getEntityResolver().getDbEntity("ARTIST");
+
+        long count = domain.bulkInsert(artist,
+                IntStream.range(0, 25).mapToObj(i -> Map.of("ARTIST_NAME", "a" + i)), 10);
+        assertEquals(25, count);
+
+        TableHelper tArtist = env.table("ARTIST").setColumns("ARTIST_ID", "ARTIST_NAME");
+        List<Object[]> rows = tArtist.selectAll();
+        assertEquals(25, rows.size());
+
+        Set<Object> ids = new HashSet<>();
+        for (Object[] row : rows) {
+            assertNotNull(row[0]);
+            ids.add(row[0]);
+        }
+        assertEquals(25, ids.size());
+
+        // no objects were registered anywhere
+        assertEquals(0, domain.getSharedSnapshotCache().size());
+    }
+
+    @Test
+    public void bulkInsert_Arrays() throws Exception {
+        DataDomain domain = env.runtime().getDataDomain();
+        DbEntity artist = domain.getEntityResolver().getDbEntity("ARTIST");
+
+        long count = domain.bulkInsert(artist, List.of("ARTIST_ID", "ARTIST_NAME"),
+                Stream.of(new Object[]{1L, "a1"}, new Object[]{2L, "a2"}, new Object[]{3L, "a3"}), 2);
+        assertEquals(3, count);
+
+        TableHelper tArtist = env.table("ARTIST").setColumns("ARTIST_ID", "ARTIST_NAME");
+        assertEquals(3, tArtist.getRowCount());
+    }
+
+    @Test
+    public void bulkInsert_Runtime() throws Exception {
+        long count = env.runtime().bulkInsert("ARTIST",
+                Stream.of(Map.of("ARTIST_ID", 5L, "ARTIST_NAME", "a5")), 100);
+        assertEquals(1, count);
+
+        TableHelper tArtist = env.table("ARTIST").setColumns("ARTIST_ID", "ARTIST_NAME");
+        assertEquals(5L, tArtist.getLong("ARTIST_ID"));
+    }
+
+    @Test
+    public void bulkInsert_FailureRollsBack() throws Exception {
+        DataDomain domain = env.runtime().getDataDomain();
+        DbEntity artist = domain.getEntityResolver().getDbEntity("ARTIST");
+
+        // the second chunk repeats a PK of the first one
+        Stream<Map<String, ?>> rows = Stream.of(
+                Map.of("ARTIST_ID", 1L, "ARTIST_NAME", "a1"),
+                Map.of("ARTIST_ID", 1L, "ARTIST_NAME", "a1"));
+        assertThrows(CayenneSqlException.class, () -> domain.bulkInsert(artist, rows, 1));
+
+        TableHelper tArtist = env.table("ARTIST").setColumns("ARTIST_ID", "ARTIST_NAME");
+        assertEquals(0, tArtist.getRowCount());
+    }
+
+    @Test
+    public void bulkUpsert() throws Exception {
+        DataDomain domain = env.runtime().getDataDomain();
+        DbEntity artist = domain.getEntityResolver().getDbEntity("ARTIST");
+        assumeTrue(supportsUpsert(domain, artist));
+
+        TableHelper tArtist = env.table("ARTIST").setColumns("ARTIST_ID", "ARTIST_NAME");
+        tArtist.insert(1L, "a1");
+        tArtist.insert(2L, "a2");
+
+        long count = domain.bulkUpsert(artist, Stream.of(
+                Map.of("ARTIST_ID", 2L, "ARTIST_NAME", "b2"),
+                Map.of("ARTIST_ID", 3L, "ARTIST_NAME", "b3")), 1);
+        assertEquals(2, count);
+
+        List<Object[]> rows = tArtist.selectAll();
+        rows.sort((r1, r2) -> Long.compare(((Number) r1[0]).longValue(), ((Number) r2[0]).longValue()));
+        assertEquals(3, rows.size());
+        assertEquals("a1", ((String) rows.get(0)[1]).trim());
+        assertEquals("b2", ((String) rows.get(1)[1]).trim());
+        assertEquals("b3", ((String) rows.get(2)[1]).trim());
+    }
+
+    @Test
+    public void bulkUpsert_KeepsMissingColumns() throws Exception {
+        DataDomain domain = env.runtime().getDataDomain();
+        DbEntity artist = domain.getEntityResolver().getDbEntity("ARTIST");
+        assumeTrue(supportsUpsert(domain, artist));
+
+        TableHelper tArtist = env.table("ARTIST").setColumns("ARTIST_ID", "ARTIST_NAME", "DATE_OF_BIRTH");
+        tArtist.insert(1L, "a1", Date.valueOf("2000-01-01"));
+
+        domain.bulkUpsert(artist, Stream.of(Map.of("ARTIST_ID", 1L, "ARTIST_NAME", "b1")), 10);
+
+        assertEquals("b1", tArtist.getString("ARTIST_NAME").trim());
+        assertEquals(Date.valueOf("2000-01-01"), tArtist.getSqlDate("DATE_OF_BIRTH"));
+    }
+
+    @Test
+    public void bulkInsert_MixedColumns() throws Exception {
+        DataDomain domain = env.runtime().getDataDomain();
+        DbEntity artist = domain.getEntityResolver().getDbEntity("ARTIST");
+
+        // rows with different columns go into separate chunks, each binding only its own columns
+        long count = domain.bulkInsert(artist, Stream.of(
+                Map.of("ARTIST_ID", 1L, "ARTIST_NAME", "a1"),
+                Map.of("ARTIST_ID", 2L, "ARTIST_NAME", "a2", "DATE_OF_BIRTH", Date.valueOf("2000-01-02")),
+                Map.of("ARTIST_ID", 3L, "ARTIST_NAME", "a3")), 10);
+        assertEquals(3, count);
+
+        TableHelper tArtist = env.table("ARTIST").setColumns("ARTIST_ID", "DATE_OF_BIRTH");
+        List<Object[]> rows = tArtist.selectAll();
+        rows.sort((r1, r2) -> Long.compare(((Number) r1[0]).longValue(), ((Number) r2[0]).longValue()));
+        assertEquals(3, rows.size());
+        assertNull(rows.get(0)[1]);
+        assertEquals(Date.valueOf("2000-01-02"), rows.get(1)[1]);
+        assertNull(rows.get(2)[1]);
+    }
+
+    @Test
+    public void bulkUpsert_NoPk() throws Exception {
+        DataDomain domain = env.runtime().getDataDomain();
+        DbEntity artist = domain.getEntityResolver().getDbEntity("ARTIST");
+
+        assertThrows(CayenneRuntimeException.class,
+                () -> domain.bulkUpsert(artist, Stream.of(Map.of("ARTIST_NAME", "a1")), 10));
+
+        TableHelper tArtist = env.table("ARTIST").setColumns("ARTIST_ID", "ARTIST_NAME");
+        assertEquals(0, tArtist.getRowCount());
+    }
+
+    private static boolean supportsUpsert(DataDomain domain, DbEntity entity) {
+        return domain.lookupDataNode(entity.getDataMap()).getAdapter()
+                .getUpsertTranslator(new UpsertBatchQuery(entity, 1)) != null;
+    }
+}
@@ -0,0 +1,92 @@
+/*****************************************************************
+ *   Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ ****************************************************************/
+package org.apache.cayenne.access;
+
+import org.apache.cayenne.query.ObjectSelect;
+import org.apache.cayenne.test.jdbc.TableHelper;
+import org.apache.cayenne.testdo.testmap.Artist;
+import org.apache.cayenne.unit.CayenneProjects;
+import org.apache.cayenne.unit.CayenneTestsEnv;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ObjectDiffIT {
+
+    @RegisterExtension
+    static final CayenneTestsEnv env = CayenneTestsEnv.forProject(CayenneProjects.TESTMAP_PROJECT);
+
+    private DataContext context;
+    private Date dob;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        context = env.context();
+        dob = new java.sql.Date(System.currentTimeMillis());
+
+        TableHelper tArtist = env.table("ARTIST", "ARTIST_ID", "ARTIST_NAME", "DATE_OF_BIRTH");
+        tArtist.insert(1, "artist1", dob);
+    }
+
+    @Test
+    public void snapshotValues() {
+        Artist artist = ObjectSelect.query(Artist.class).selectOne(context);
+        Date originalDob = artist.getDateOfBirth();
+
+        artist.setArtistName("x");
+        artist.setArtistName("y");
+
+        ObjectDiff diff = context.getObjectStore().getChangesByObjectId().get(artist.getObjectId());
+        assertNotNull(diff);
+
+        // snapshot is taken before the first change
+        assertEquals("artist1", diff.getSnapshotValue(Artist.ARTIST_NAME.getName()));
+        assertEquals(originalDob, diff.getSnapshotValue(Artist.DATE_OF_BIRTH.getName()));
+        assertNull(diff.getSnapshotValue("noSuchProperty"));
+        assertFalse(diff.isNoop());
+    }
+
+    @Test
+    public void noopAfterRevert() {
+        Artist artist = ObjectSelect.query(Artist.class).selectOne(context);
+
+        artist.setArtistName("x");
+        artist.setArtistName("artist1");
+
+        ObjectDiff diff = context.getObjectStore().getChangesByObjectId().get(artist.getObjectId());
+        assertTrue(diff.isNoop());
+    }
+
+    @Test
+    public void commitChangedProperties() {
+        Artist artist = ObjectSelect.query(Artist.class).selectOne(context);
+
+        artist.setArtistName("x");
+        context.commitChanges();
+
+        DataContext context2 = (DataContext) env.runtime().newContext();
+        Artist artist2 = ObjectSelect.query(Artist.class).selectOne(context2);
+        assertEquals("x", artist2.getArtistName());
+        assertEquals(artist.getDateOfBirth(), artist2.getDateOfBirth());
+    }
+}
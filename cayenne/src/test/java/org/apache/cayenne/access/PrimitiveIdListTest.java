@@ -0,0 +1,95 @@
+/*****************************************************************
+ *   Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ ****************************************************************/
+
+package org.apache.cayenne.access;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PrimitiveIdListTest {
+
+    @Test
+    public void of() {
+        assertNotNull(PrimitiveIdList.of(asList(1L, 2L)));
+        assertNotNull(PrimitiveIdList.of(asList(1, 2)));
+
+        assertNull(PrimitiveIdList.of(List.of()));
+        assertNull(PrimitiveIdList.of(asList(1L, 2)));
+        assertNull(PrimitiveIdList.of(asList(1L, null)));
+        assertNull(PrimitiveIdList.of(asList("a", "b")));
+    }
+
+    @Test
+    public void getSet() {
+        PrimitiveIdList list = PrimitiveIdList.of(asList(1, 2, 3));
+        assertEquals(asList(1, 2, 3), list);
+        assertNull(list.getResolved(1));
+
+        assertEquals(2, list.set(1, "two"));
+        assertEquals(asList(1, "two", 3), list);
+        assertEquals("two", list.getResolved(1));
+
+        // setting an id back makes the element unresolved
+        assertEquals("two", list.set(1, 5));
+        assertEquals(asList(1, 5, 3), list);
+        assertNull(list.getResolved(1));
+        assertNull(list.getResolved(3));
+    }
+
+    @Test
+    public void setNull() {
+        PrimitiveIdList list = PrimitiveIdList.of(asList(1L, 2L));
+
+        assertEquals(2L, list.set(1, null));
+        assertEquals(asList(1L, null), list);
+        assertNull(list.getResolved(1));
+
+        list.add(0, null);
+        assertEquals(asList(null, 1L, null), list);
+        assertNull(list.remove(2));
+        assertEquals(asList(null, 1L), list);
+    }
+
+    @Test
+    public void addRemove() {
+        PrimitiveIdList list = PrimitiveIdList.of(asList(1L, 2L, 3L));
+        list.set(2, "three");
+
+        list.add(0, 0L);
+        list.add("four");
+        list.add(2, "x");
+        assertEquals(asList(0L, 1L, "x", 2L, "three", "four"), list);
+
+        assertEquals("x", list.remove(2));
+        assertEquals(0L, list.remove(0));
+        assertEquals(asList(1L, 2L, "three", "four"), list);
+        assertNull(list.getResolved(1));
+        assertEquals("three", list.getResolved(2));
+
+        list.clear();
+        assertTrue(list.isEmpty());
+
+        list.add(7L);
+        assertEquals(asList(7L), list);
+    }
+}
@@ -0,0 +1,132 @@
+/*****************************************************************
+ *   Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ ****************************************************************/
+
+package org.apache.cayenne.access;
+
+import org.apache.cayenne.CayenneRuntimeException;
+import org.apache.cayenne.DataChannel;
+import org.apache.cayenne.ObjectContext;
+import org.apache.cayenne.PersistenceState;
+import org.apache.cayenne.configuration.ObjectContextFactory;
+import org.apache.cayenne.query.ObjectSelect;
+import org.apache.cayenne.test.jdbc.TableHelper;
+import org.apache.cayenne.testdo.testmap.Artist;
+import org.apache.cayenne.testdo.testmap.Painting;
+import org.apache.cayenne.unit.CayenneProjects;
+import org.apache.cayenne.unit.CayenneTestsEnv;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ReadOnlyDataContextIT {
+
+    @RegisterExtension
+    static final CayenneTestsEnv env = CayenneTestsEnv.forProject(CayenneProjects.TESTMAP_PROJECT);
+
+    private ObjectContext context;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        context = env.runtime().newReadOnlyContext();
+
+        TableHelper tArtist = env.table("ARTIST", "ARTIST_ID", "ARTIST_NAME");
+        tArtist.insert(1, "artist1");
+        tArtist.insert(2, "artist2");
+
+        TableHelper tPainting = env.table("PAINTING", "PAINTING_ID", "ARTIST_ID", "PAINTING_TITLE");
+        tPainting.insert(1, 1, "painting1");
+    }
+
+    @Test
+    public void select() {
+        assertInstanceOf(ReadOnlyDataContext.class, context);
+
+        List<Artist> artists = ObjectSelect.query(Artist.class).orderBy(Artist.ARTIST_NAME.asc()).select(context);
+        assertEquals(2, artists.size());
+        assertEquals("artist1", artists.get(0).getArtistName());
+        assertEquals(PersistenceState.COMMITTED, artists.get(0).getPersistenceState());
+
+        // relationship faults are resolved as usual
+        assertEquals(1, artists.get(0).getPaintingArray().size());
+        assertEquals("painting1", artists.get(0).getPaintingArray().get(0).getPaintingTitle());
+    }
+
+    @Test
+    public void noMergeHandler() {
+        assertNull(((DataContext) context).mergeHandler);
+    }
+
+    @Test
+    public void noSnapshotEventListener() {
+        ObjectStore objectStore = ((DataContext) context).getObjectStore();
+        assertInstanceOf(ReadOnlyObjectStore.class, objectStore);
+        assertNotNull(objectStore.getDataRowCache());
+        assertFalse(objectStore.getDataRowCache().getEventManager()
+                .removeListener(objectStore, objectStore.getDataRowCache().getSnapshotEventSubject()));
+    }
+
+    @Test
+    public void modifyObject() {
+        Artist artist = ObjectSelect.query(Artist.class, Artist.ARTIST_NAME.eq("artist1")).selectOne(context);
+
+        assertThrows(CayenneRuntimeException.class, () -> artist.setArtistName("x"));
+        assertEquals("artist1", artist.getArtistName());
+        assertEquals(PersistenceState.COMMITTED, artist.getPersistenceState());
+        assertFalse(context.hasChanges());
+    }
+
+    @Test
+    public void newAndDeleteObject() {
+        assertThrows(CayenneRuntimeException.class, () -> context.newObject(Painting.class));
+
+        Artist artist = ObjectSelect.query(Artist.class, Artist.ARTIST_NAME.eq("artist2")).selectOne(context);
+        assertThrows(CayenneRuntimeException.class, () -> context.deleteObject(artist));
+        assertEquals(PersistenceState.COMMITTED, artist.getPersistenceState());
+    }
+
+    @Test
+    public void defaultFactoryMethod() {
+        ObjectContextFactory factory = new ObjectContextFactory() {
+
+            @Override
+            public ObjectContext createContext() {
+                return env.runtime().newContext();
+            }
+
+            @Override
+            public ObjectContext createContext(DataChannel parent) {
+                return env.runtime().newContext(parent);
+            }
+        };
+
+        ObjectContext readOnly = factory.createReadOnlyContext();
+        assertInstanceOf(ReadOnlyDataContext.class, readOnly);
+        assertEquals(2, ObjectSelect.query(Artist.class).selectCount(readOnly));
+        assertThrows(CayenneRuntimeException.class, () -> readOnly.newObject(Painting.class));
+    }
+
+    @Test
+    public void commit() {
+        assertThrows(CayenneRuntimeException.class, context::commitChanges);
+    }
+}
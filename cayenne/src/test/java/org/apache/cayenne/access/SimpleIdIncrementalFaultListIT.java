@@ -19,9 +19,12 @@
 
 package org.apache.cayenne.access;
 
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.apache.cayenne.Persistent;
 import org.apache.cayenne.query.ObjectSelect;
@@ -296,4 +299,94 @@ public class SimpleIdIncrementalFaultListIT {
         assertEquals(19, list.lastIndexOf(row));
         assertEquals(-1, list.lastIndexOf(list.dataContext.newObject("Artist")));
     }
+
+    @Test
+    public void readAhead() throws Exception {
+        SimpleIdIncrementalFaultList<?> list = prepareList(6);
+        list.setReadAhead(2, Runnable::run);
+
+        // page 0 is resolved on access, pages 1 and 2 are read ahead
+        assertEquals(3, env.runWithQueryCounter(() -> list.get(0)));
+        assertEquals(19, list.getUnfetchedObjects());
+
+        // page 1 is taken from the read-ahead, page 3 is read ahead
+        assertEquals(1, env.runWithQueryCounter(() -> list.get(6)));
+        assertEquals(13, list.getUnfetchedObjects());
+        assertEquals("artist7", ((Artist) list.get(6)).getArtistName());
+    }
+
+    @Test
+    public void readAheadIterator() throws Exception {
+        SimpleIdIncrementalFaultList<?> list = prepareList(6);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            list.setReadAhead(2, executor);
+
+            int i = 1;
+            for (Object artist : list) {
+                assertEquals("artist" + i++, ((Artist) artist).getArtistName());
+            }
+
+            assertEquals(26, i);
+            assertEquals(0, list.getUnfetchedObjects());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void cancelReadAhead() throws Exception {
+        SimpleIdIncrementalFaultList<?> list = prepareList(6);
+        List<Runnable> tasks = new ArrayList<>();
+        list.setReadAhead(1, tasks::add);
+
+        list.get(0);
+        assertEquals(1, tasks.size());
+
+        list.cancelReadAhead();
+        int queries = env.runWithQueryCounter(() -> {
+            // cancelled tasks do nothing
+            tasks.forEach(Runnable::run);
+            list.get(6);
+        });
+        assertEquals(1, queries);
+        assertEquals(13, list.getUnfetchedObjects());
+    }
+
+    @Test
+    public void readAheadWindow() throws Exception {
+        SimpleIdIncrementalFaultList<?> list = prepareList(6);
+        List<Runnable> tasks = new ArrayList<>();
+        list.setReadAhead(1, tasks::add);
+
+        list.get(0);
+        assertEquals(1, tasks.size());
+
+        // page 1 is skipped, so it is cancelled, and page 4 is read ahead
+        list.get(18);
+        assertEquals(2, tasks.size());
+        assertEquals(1, env.runWithQueryCounter(() -> tasks.forEach(Runnable::run)));
+
+        assertEquals(0, env.runWithQueryCounter(() -> list.get(24)));
+        assertEquals("artist25", ((Artist) list.get(24)).getArtistName());
+    }
+
+    @Test
+    public void primitiveIds() throws Exception {
+        SimpleIdIncrementalFaultList<?> list = prepareList(6);
+        assertInstanceOf(PrimitiveIdList.class, list.elements);
+        assertEquals(33007L, list.elements.get(6));
+
+        Artist a7 = (Artist) list.get(6);
+        assertEquals("artist7", a7.getArtistName());
+        assertSame(a7, list.elements.get(6));
+        assertEquals(33006L, list.elements.get(5));
+
+        // resolves the page of the removed object, the original page 2 that is now at 11..16 stays unresolved
+        list.remove(0);
+        assertEquals(24, list.size());
+        assertSame(a7, list.get(5));
+        assertEquals(33013L, list.elements.get(11));
+        assertEquals(33018L, list.elements.get(16));
+    }
 }
@@ -35,6 +35,7 @@ import org.apache.cayenne.access.flush.operation.DbRowOpSorter;
 import org.apache.cayenne.access.flush.operation.DeleteDbRowOp;
 import org.apache.cayenne.access.flush.operation.InsertDbRowOp;
 import org.apache.cayenne.access.flush.operation.UpdateDbRowOp;
+import org.apache.cayenne.map.DataMap;
 import org.apache.cayenne.map.DbAttribute;
 import org.apache.cayenne.map.DbEntity;
 import org.apache.cayenne.map.EntityResolver;
@@ -219,6 +220,51 @@ public class DefaultDbRowOpSorterTest {
         verifyNoMoreInteractions(entitySorter); // shouldn't call entity sorter
     }
 
+    @Test
+    public void groupUpdates() {
+        DbEntity test = mockEntity("test");
+        DbAttribute attr = test.getAttribute("attr");
+        DbAttribute attr2 = test.getAttribute("attr2");
+
+        // interleaved updates of different columns
+        List<DbRowOp> rows = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            ObjectId id = ObjectId.of("test", "id", i);
+            UpdateDbRowOp op = new UpdateDbRowOp(mockObject(id), test, id);
+            switch (i % 3) {
+                case 0:
+                    op.getValues().addValue(attr, i, false);
+                    break;
+                case 1:
+                    op.getValues().addValue(attr2, i, false);
+                    break;
+                default:
+                    // same columns as the first group in a different order
+                    op.getValues().addValue(attr2, i, false);
+                    op.getValues().addValue(attr, i, false);
+                    break;
+            }
+            rows.add(op);
+        }
+
+        assertEquals(100, batchCount(rows));
+
+        List<DbRowOp> sorted = sorter.sort(new ArrayList<>(rows));
+        assertEquals(3, batchCount(sorted));
+
+        // groups are ordered by their first row, and rows within a group keep their relative order
+        assertSame(rows.get(0), sorted.get(0));
+        assertSame(rows.get(3), sorted.get(1));
+        assertSame(rows.get(1), sorted.get(34));
+        assertSame(rows.get(2), sorted.get(67));
+    }
+
+    private static int batchCount(List<DbRowOp> rows) {
+        QueryCreatorVisitor visitor = new QueryCreatorVisitor(rows.size());
+        rows.forEach(row -> row.accept(visitor));
+        return visitor.getQueryList().size();
+    }
+
     private Persistent mockObject(ObjectId id) {
         Persistent persistent = mock(Persistent.class);
         when(persistent.getObjectId()).thenReturn(id);
@@ -230,9 +276,12 @@ public class DefaultDbRowOpSorterTest {
         DbAttribute attribute1 = new DbAttribute("id");
         attribute1.setPrimaryKey(true);
         DbAttribute attribute2 = new DbAttribute("attr");
+        DbAttribute attribute3 = new DbAttribute("attr2");
         DbEntity testEntity = new DbEntity(name);
         testEntity.addAttribute(attribute1);
         testEntity.addAttribute(attribute2);
+        testEntity.addAttribute(attribute3);
+        testEntity.setDataMap(new DataMap("test"));
         return testEntity;
     }
 }
\ No newline at end of file
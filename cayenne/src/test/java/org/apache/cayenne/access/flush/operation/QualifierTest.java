@@ -140,6 +140,28 @@ public class QualifierTest {
         assertFalse(qualifier1.isSameBatch(qualifier3));
     }
 
+    @Test
+    public void sameBatch_NullNames() {
+        DbAttribute a1 = new DbAttribute("a1");
+        DbAttribute a2 = new DbAttribute("a2");
+
+        Qualifier qualifier1 = new Qualifier(mockRow(mockObject(ObjectId.of("test", "id", 1))));
+        qualifier1.addAdditionalQualifier(a1, null, true);
+        qualifier1.addAdditionalQualifier(a2, null, true);
+
+        // same null attributes in a different order
+        Qualifier qualifier2 = new Qualifier(mockRow(mockObject(ObjectId.of("test", "id", 2))));
+        qualifier2.addAdditionalQualifier(a2, null, true);
+        qualifier2.addAdditionalQualifier(a1, null, true);
+
+        Qualifier qualifier3 = new Qualifier(mockRow(mockObject(ObjectId.of("test", "id", 3))));
+        qualifier3.addAdditionalQualifier(a1, null, true);
+        qualifier3.addAdditionalQualifier(a2, 42, true);
+
+        assertTrue(qualifier1.isSameBatch(qualifier2));
+        assertFalse(qualifier1.isSameBatch(qualifier3));
+    }
+
     private DbRowOp mockRow(Persistent persistent) {
         DbRowOp row = mock(DbRowOp.class);
         ObjectId objectId = persistent.getObjectId();
@@ -78,6 +78,28 @@ public class ValuesTest {
         assertFalse(values.isEmpty());
     }
 
+    @Test
+    public void sameBatch() {
+        DbAttribute a1 = new DbAttribute("a1");
+        DbAttribute a2 = new DbAttribute("a2");
+
+        Values values1 = new Values(mockRow(mockObject(ObjectId.of("test", "id", 1))), false);
+        values1.addValue(a1, 1, false);
+        values1.addValue(a2, 2, false);
+
+        // same attributes in a different order
+        Values values2 = new Values(mockRow(mockObject(ObjectId.of("test", "id", 2))), false);
+        values2.addValue(a2, 3, false);
+        values2.addValue(a1, 4, false);
+
+        Values values3 = new Values(mockRow(mockObject(ObjectId.of("test", "id", 3))), false);
+        values3.addValue(a1, 5, false);
+
+        assertTrue(values1.isSameBatch(values2));
+        assertFalse(values1.isSameBatch(values3));
+        assertFalse(values3.isSameBatch(values1));
+    }
+
     private DbRowOp mockRow(Persistent persistent) {
         DbRowOp row = mock(DbRowOp.class);
         ObjectId objectId = persistent.getObjectId();
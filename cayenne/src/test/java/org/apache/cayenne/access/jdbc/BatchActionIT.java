@@ -20,17 +20,45 @@
 package org.apache.cayenne.access.jdbc;
 
 import org.apache.cayenne.access.DataNode;
+import org.apache.cayenne.access.OperationObserver;
+import org.apache.cayenne.access.OptimisticLockException;
 import org.apache.cayenne.access.jdbc.reader.RowReaderFactory;
+import org.apache.cayenne.access.translator.batch.DeleteBatchTranslator;
+import org.apache.cayenne.access.translator.batch.InsertBatchTranslator;
+import org.apache.cayenne.access.translator.batch.UpdateBatchTranslator;
 import org.apache.cayenne.dba.JdbcAdapter;
+import org.apache.cayenne.map.DbEntity;
 import org.apache.cayenne.map.EntityResolver;
+import org.apache.cayenne.query.DeleteBatchQuery;
 import org.apache.cayenne.query.InsertBatchQuery;
+import org.apache.cayenne.query.UpdateBatchQuery;
 import org.apache.cayenne.testdo.testmap.Artist;
 import org.apache.cayenne.unit.CayenneProjects;
 import org.apache.cayenne.unit.CayenneTestsEnv;
 import org.junit.jupiter.api.extension.RegisterExtension;
 import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 public class BatchActionIT {
 
@@ -69,6 +97,171 @@ public class BatchActionIT {
         assertFalse(new BatchAction(batch2, node, false).hasGeneratedKeys());
     }
 
+    @Test
+    public void runAsBatchFlushesEveryMaxBatchSizeRows() throws Exception {
+        EntityResolver resolver = env.runtime().getDataDomain().getEntityResolver();
+
+        JdbcAdapter adapter = buildAdapter(false);
+        adapter.setMaxBatchSize(2);
+
+        DataNode node = new DataNode();
+        node.setAdapter(adapter);
+        node.setEntityResolver(resolver);
+        node.setRowReaderFactory(mock(RowReaderFactory.class));
+        node.setInsertBatchTranslator(new InsertBatchTranslator());
+
+        InsertBatchQuery batch = new InsertBatchQuery(resolver.getObjEntity(Artist.class).getDbEntity(), 5);
+        for (int i = 1; i <= 5; i++) {
+            batch.add(Map.of("ARTIST_ID", i, "ARTIST_NAME", "a" + i));
+        }
+
+        PreparedStatement statement = mock(PreparedStatement.class);
+        when(statement.executeBatch()).thenReturn(new int[]{1, 1}, new int[]{1, 1}, new int[]{1});
+        Connection connection = mock(Connection.class);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+
+        OperationObserver observer = mock(OperationObserver.class);
+        new BatchAction(batch, node, true).performAction(connection, observer);
+
+        verify(statement, times(5)).addBatch();
+        verify(statement, times(3)).executeBatch();
+        verify(observer, times(3)).nextBatchCount(eq(batch), any());
+    }
+
+    @Test
+    public void runAsBatchVerifiesOptimisticLockCounts() throws Exception {
+        DataNode node = buildOptimisticLockNode();
+        DeleteBatchQuery batch = buildOptimisticLockDelete(node);
+
+        PreparedStatement statement = mock(PreparedStatement.class);
+        when(statement.executeBatch()).thenReturn(new int[]{1, 0});
+        Connection connection = mock(Connection.class);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+
+        OperationObserver observer = mock(OperationObserver.class);
+        assertThrows(OptimisticLockException.class,
+                () -> new BatchAction(batch, node, true).performAction(connection, observer));
+        verify(statement, times(2)).addBatch();
+        verify(observer, never()).nextBatchCount(any(), any());
+    }
+
+    @Test
+    public void runAsBatchVerifiesOptimisticLockWithSelect() throws Exception {
+        DataNode node = buildOptimisticLockNode();
+        DeleteBatchQuery batch = buildOptimisticLockDelete(node);
+
+        PreparedStatement statement = mock(PreparedStatement.class);
+        when(statement.executeBatch()).thenReturn(new int[]{Statement.SUCCESS_NO_INFO, Statement.SUCCESS_NO_INFO});
+
+        // the second row is still there after the delete
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.next()).thenReturn(true, false);
+        when(rs.getObject(1)).thenReturn(2L);
+        PreparedStatement select = mock(PreparedStatement.class);
+        when(select.executeQuery()).thenReturn(rs);
+
+        Connection connection = mock(Connection.class);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        when(connection.prepareStatement(startsWith("SELECT"))).thenReturn(select);
+
+        OperationObserver observer = mock(OperationObserver.class);
+        OptimisticLockException ex = assertThrows(OptimisticLockException.class,
+                () -> new BatchAction(batch, node, true).performAction(connection, observer));
+        assertEquals(2, ex.getQualifierSnapshot().get("ARTIST_ID"));
+
+        verify(connection).prepareStatement("SELECT ARTIST_ID FROM ARTIST WHERE ARTIST_ID = ? OR ARTIST_ID = ?");
+        verify(select).setInt(1, 1);
+        verify(select).setInt(2, 2);
+    }
+
+    @Test
+    public void runAsBatchVerifiesOptimisticLockWithSelectChunks() throws Exception {
+        DataNode node = buildOptimisticLockNode();
+        node.setMaxIdQualifierSize(1);
+        DeleteBatchQuery batch = buildOptimisticLockDelete(node);
+
+        PreparedStatement statement = mock(PreparedStatement.class);
+        when(statement.executeBatch()).thenReturn(new int[]{Statement.SUCCESS_NO_INFO, Statement.SUCCESS_NO_INFO});
+
+        // all rows are gone
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.next()).thenReturn(false);
+        PreparedStatement select = mock(PreparedStatement.class);
+        when(select.executeQuery()).thenReturn(rs);
+
+        Connection connection = mock(Connection.class);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        when(connection.prepareStatement(startsWith("SELECT"))).thenReturn(select);
+
+        new BatchAction(batch, node, true).performAction(connection, mock(OperationObserver.class));
+
+        verify(connection, times(2)).prepareStatement("SELECT ARTIST_ID FROM ARTIST WHERE ARTIST_ID = ?");
+        verify(select).setInt(1, 1);
+        verify(select).setInt(1, 2);
+    }
+
+    @Test
+    public void runAsBatchVerifiesOptimisticLockUpdateWithSelect() throws Exception {
+        DataNode node = buildOptimisticLockNode();
+        node.setUpdateBatchTranslator(new UpdateBatchTranslator());
+
+        // ARTIST_NAME is used as a version column
+        DbEntity artist = node.getEntityResolver().getObjEntity(Artist.class).getDbEntity();
+        UpdateBatchQuery batch = new UpdateBatchQuery(artist,
+                List.of(artist.getAttribute("ARTIST_ID"), artist.getAttribute("ARTIST_NAME")),
+                List.of(artist.getAttribute("ARTIST_NAME")), Collections.emptySet(), 2);
+        batch.setUsingOptimisticLocking(true);
+        batch.add(Map.of("ARTIST_ID", 1, "ARTIST_NAME", "a1"), Map.of("ARTIST_NAME", "b1"));
+        batch.add(Map.of("ARTIST_ID", 2, "ARTIST_NAME", "a2"), Map.of("ARTIST_NAME", "b2"));
+
+        PreparedStatement statement = mock(PreparedStatement.class);
+        when(statement.executeBatch()).thenReturn(new int[]{Statement.SUCCESS_NO_INFO, Statement.SUCCESS_NO_INFO});
+
+        // the second row doesn't have the new version
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.next()).thenReturn(true, false);
+        when(rs.getObject(1)).thenReturn(1L);
+        PreparedStatement select = mock(PreparedStatement.class);
+        when(select.executeQuery()).thenReturn(rs);
+
+        Connection connection = mock(Connection.class);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        when(connection.prepareStatement(startsWith("SELECT"))).thenReturn(select);
+
+        OptimisticLockException ex = assertThrows(OptimisticLockException.class,
+                () -> new BatchAction(batch, node, true).performAction(connection, mock(OperationObserver.class)));
+        assertEquals(2, ex.getQualifierSnapshot().get("ARTIST_ID"));
+
+        verify(connection).prepareStatement("SELECT ARTIST_ID FROM ARTIST"
+                + " WHERE (ARTIST_ID = ? AND ARTIST_NAME = ?) OR (ARTIST_ID = ? AND ARTIST_NAME = ?)");
+        verify(select).setInt(1, 1);
+        verify(select).setObject(2, "b1", Types.CHAR);
+        verify(select).setInt(3, 2);
+        verify(select).setObject(4, "b2", Types.CHAR);
+    }
+
+    private DataNode buildOptimisticLockNode() {
+        JdbcAdapter adapter = buildAdapter(false);
+        adapter.setSupportsBatchedOptimisticLocking(true);
+
+        DataNode node = new DataNode();
+        node.setAdapter(adapter);
+        node.setEntityResolver(env.runtime().getDataDomain().getEntityResolver());
+        node.setRowReaderFactory(mock(RowReaderFactory.class));
+        node.setDeleteBatchTranslator(new DeleteBatchTranslator());
+        return node;
+    }
+
+    private DeleteBatchQuery buildOptimisticLockDelete(DataNode node) {
+        DbEntity artist = node.getEntityResolver().getObjEntity(Artist.class).getDbEntity();
+        DeleteBatchQuery batch = new DeleteBatchQuery(artist, List.of(artist.getAttribute("ARTIST_ID"),
+                artist.getAttribute("ARTIST_NAME")), Collections.emptySet(), 2);
+        batch.setUsingOptimisticLocking(true);
+        batch.add(Map.of("ARTIST_ID", 1, "ARTIST_NAME", "a1"));
+        batch.add(Map.of("ARTIST_ID", 2, "ARTIST_NAME", "a2"));
+        return batch;
+    }
+
     JdbcAdapter buildAdapter(boolean supportGeneratedKeys) {
         JdbcAdapter adapter = env.adhocObjectFactory().newInstance(JdbcAdapter.class, JdbcAdapter.class.getName());
         adapter.setSupportsGeneratedKeys(supportGeneratedKeys);
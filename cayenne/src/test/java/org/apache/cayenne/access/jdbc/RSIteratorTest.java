@@ -20,6 +20,7 @@
 package org.apache.cayenne.access.jdbc;
 
 import org.apache.cayenne.DataRow;
+import org.apache.cayenne.access.jdbc.reader.BatchRowReader;
 import org.apache.cayenne.access.jdbc.reader.DefaultRowReaderFactory;
 import org.apache.cayenne.access.jdbc.reader.RowReader;
 import org.apache.cayenne.access.types.ExtendedTypeMap;
@@ -31,7 +32,11 @@ import org.apache.cayenne.unit.jdbc.TestStatement;
 import org.junit.jupiter.api.Test;
 
 import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -81,4 +86,44 @@ public class RSIteratorTest {
 		assertTrue(s.isClosed());
 	}
 
+	@Test
+	public void batchRowReader() throws Exception {
+		Connection c = new TestConnection();
+		Statement s = new TestStatement(c);
+		TestResultSet rs = new TestResultSet("rs");
+		rs.addColumn("a", new Object[] { "1", "2", "3", "4", "5" });
+
+		List<Integer> batches = new ArrayList<>();
+		BatchRowReader<String> rowReader = new BatchRowReader<>() {
+
+			@Override
+			public int batchSize() {
+				return 2;
+			}
+
+			@Override
+			public void completeRows(List<String> rows) {
+				batches.add(rows.size());
+				rows.replaceAll(r -> r + "x");
+			}
+
+			@Override
+			public String readRow(ResultSet resultSet) {
+				try {
+					return resultSet.getString(1);
+				} catch (SQLException e) {
+					throw new RuntimeException(e);
+				}
+			}
+		};
+
+		try (RSIterator<String> it = new RSIterator<>(s, rs, rowReader)) {
+			assertEquals("1x", it.nextRow());
+			it.skipRow();
+			assertEquals(List.of("3x", "4x", "5x"), it.allRows());
+			assertFalse(it.hasNextRow());
+		}
+
+		assertEquals(List.of(2, 2, 1), batches);
+	}
 }
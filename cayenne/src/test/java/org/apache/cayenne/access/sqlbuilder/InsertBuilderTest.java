@@ -102,4 +102,22 @@ public class InsertBuilderTest extends BaseSqlBuilderTest  {
         assertSQL("INSERT INTO test(col1, col2, col3) VALUES(1, 'test', NULL)", node);
     }
 
-}
\ No newline at end of file
+    @Test
+    public void insertWithMultipleRows() {
+        InsertBuilder builder = new InsertBuilder("test");
+        builder
+                .column(column("col1"))
+                .column(column("col2"))
+                .row()
+                .value(value(1))
+                .value(value("a"))
+                .row()
+                .value(value(2))
+                .value(value(null));
+        Node node = builder.build();
+
+        assertInstanceOf(InsertNode.class, node);
+        assertSQL("INSERT INTO test(col1, col2) VALUES(1, 'a'),(2, NULL)", node);
+    }
+
+}
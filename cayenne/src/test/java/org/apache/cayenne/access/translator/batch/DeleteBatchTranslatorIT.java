@@ -19,6 +19,7 @@
 
 package org.apache.cayenne.access.translator.batch;
 
+import org.apache.cayenne.access.translator.TranslatedBatch;
 import org.apache.cayenne.dba.DbAdapter;
 import org.apache.cayenne.dba.JdbcAdapter;
 import org.apache.cayenne.di.AdhocObjectFactory;
@@ -38,6 +39,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -145,4 +147,38 @@ public class DeleteBatchTranslatorIT {
             entity.getDataMap().setQuotingSQLIdentifiers(false);
         }
     }
+
+    @Test
+    public void translateMultiRow() {
+        DbEntity entity = runtime.getDataDomain().getEntityResolver().getObjEntity(SimpleLockingTestEntity.class)
+                .getDbEntity();
+
+        List<DbAttribute> idAttributes = Collections.singletonList(entity.getAttribute("LOCKING_TEST_ID"));
+        DeleteBatchQuery deleteQuery = new DeleteBatchQuery(entity, idAttributes, Collections.emptySet(), 3);
+        for (int i = 1; i <= 3; i++) {
+            deleteQuery.add(Map.of("LOCKING_TEST_ID", i));
+        }
+
+        DbAdapter adapter = objectFactory.newInstance(DbAdapter.class, JdbcAdapter.class.getName());
+        List<TranslatedBatch> batches = new DeleteBatchTranslator().translateMultiRow(deleteQuery, adapter, 10);
+        assertEquals(1, batches.size());
+        assertEquals("DELETE FROM " + entity.getName() + " WHERE LOCKING_TEST_ID IN (?, ?, ?)", batches.get(0).sql());
+        assertEquals(3, batches.get(0).bindings().length);
+        assertEquals(3, batches.get(0).bindings()[2].getValue(0));
+    }
+
+    @Test
+    public void translateMultiRowWithNulls() {
+        DbEntity entity = runtime.getDataDomain().getEntityResolver().getObjEntity(SimpleLockingTestEntity.class)
+                .getDbEntity();
+
+        List<DbAttribute> idAttributes = Arrays.asList(entity.getAttribute("LOCKING_TEST_ID"),
+                entity.getAttribute("NAME"));
+        DeleteBatchQuery deleteQuery = new DeleteBatchQuery(entity, idAttributes, Collections.singleton("NAME"), 2);
+        deleteQuery.add(Map.of("LOCKING_TEST_ID", 1));
+        deleteQuery.add(Map.of("LOCKING_TEST_ID", 2));
+
+        DbAdapter adapter = objectFactory.newInstance(DbAdapter.class, JdbcAdapter.class.getName());
+        assertTrue(new DeleteBatchTranslator().translateMultiRow(deleteQuery, adapter, 10).isEmpty());
+    }
 }
@@ -18,6 +18,7 @@
  ****************************************************************/
 package org.apache.cayenne.access.translator.batch;
 
+import org.apache.cayenne.access.translator.TranslatedBatch;
 import org.apache.cayenne.dba.DbAdapter;
 import org.apache.cayenne.dba.JdbcAdapter;
 import org.apache.cayenne.di.AdhocObjectFactory;
@@ -32,6 +33,9 @@ import org.junit.jupiter.api.extension.RegisterExtension;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeEach;
 
+import java.util.List;
+import java.util.Map;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
@@ -92,4 +96,37 @@ public class InsertBatchTranslatorIT {
             entity.getDataMap().setQuotingSQLIdentifiers(false);
         }
     }
+
+    @Test
+    public void translateMultiRow() {
+        DbEntity entity = runtime.getDataDomain().getEntityResolver()
+                .getObjEntity(SimpleLockingTestEntity.class)
+                .getDbEntity();
+
+        DbAdapter adapter = objectFactory.newInstance(DbAdapter.class, JdbcAdapter.class.getName());
+        InsertBatchQuery insertQuery = new InsertBatchQuery(entity, 5);
+        for (int i = 1; i <= 5; i++) {
+            insertQuery.add(Map.of("DESCRIPTION", "d" + i, "INT_COLUMN_NOTNULL", i, "LOCKING_TEST_ID", i, "NAME", "n" + i));
+        }
+
+        List<TranslatedBatch> batches = new InsertBatchTranslator().translateMultiRow(insertQuery, adapter, 2);
+        assertEquals(2, batches.size());
+
+        String columns = "INSERT INTO " + entity.getName()
+                + "(DESCRIPTION, INT_COLUMN_NOTNULL, INT_COLUMN_NULL, LOCKING_TEST_ID, NAME) ";
+        assertEquals(columns + "VALUES(?, ?, ?, ?, ?),(?, ?, ?, ?, ?)", batches.get(0).sql());
+        assertEquals(10, batches.get(0).bindings().length);
+
+        // two statements of two rows each
+        assertEquals(2, batches.get(0).bindings()[0].values().length);
+        assertEquals("d1", batches.get(0).bindings()[0].getValue(0));
+        assertEquals("d3", batches.get(0).bindings()[0].getValue(1));
+        assertEquals(2, batches.get(0).bindings()[8].getValue(0));
+        assertEquals(4, batches.get(0).bindings()[8].getValue(1));
+
+        // the remaining row
+        assertEquals(columns + "VALUES(?, ?, ?, ?, ?)", batches.get(1).sql());
+        assertEquals(1, batches.get(1).bindings()[0].values().length);
+        assertEquals("n5", batches.get(1).bindings()[4].getValue(0));
+    }
 }
@@ -0,0 +1,126 @@
+/*****************************************************************
+ *   Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ ****************************************************************/
+package org.apache.cayenne.access.translator.batch;
+
+import org.apache.cayenne.access.translator.TranslatedBatch;
+import org.apache.cayenne.dba.DbAdapter;
+import org.apache.cayenne.dba.JdbcAdapter;
+import org.apache.cayenne.dba.h2.H2UpsertBatchTranslator;
+import org.apache.cayenne.dba.hsqldb.HSQLDBUpsertBatchTranslator;
+import org.apache.cayenne.dba.mysql.MySQLUpsertBatchTranslator;
+import org.apache.cayenne.dba.postgres.PostgresUpsertBatchTranslator;
+import org.apache.cayenne.map.DbAttribute;
+import org.apache.cayenne.map.DbEntity;
+import org.apache.cayenne.query.UpsertBatchQuery;
+import org.apache.cayenne.testdo.locking.SimpleLockingTestEntity;
+import org.apache.cayenne.unit.CayenneProjects;
+import org.apache.cayenne.unit.CayenneTestsEnv;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class UpsertBatchTranslatorIT {
+
+    @RegisterExtension
+    static final CayenneTestsEnv env = CayenneTestsEnv.forProject(CayenneProjects.LOCKING_PROJECT);
+
+    private DbEntity entity;
+    private DbAdapter adapter;
+
+    @BeforeEach
+    public void setUp() {
+        entity = env.runtime().getDataDomain().getEntityResolver()
+                .getObjEntity(SimpleLockingTestEntity.class)
+                .getDbEntity();
+        adapter = env.adhocObjectFactory().newInstance(DbAdapter.class, JdbcAdapter.class.getName());
+    }
+
+    @Test
+    public void postgres() {
+        TranslatedBatch translated = new PostgresUpsertBatchTranslator()
+                .translate(new UpsertBatchQuery(entity, 1), adapter);
+
+        assertEquals("INSERT INTO " + entity.getName()
+                        + "(DESCRIPTION, INT_COLUMN_NOTNULL, INT_COLUMN_NULL, LOCKING_TEST_ID, NAME) VALUES(?, ?, ?, ?, ?)"
+                        + " ON CONFLICT (LOCKING_TEST_ID) DO UPDATE SET DESCRIPTION = EXCLUDED.DESCRIPTION,"
+                        + " INT_COLUMN_NOTNULL = EXCLUDED.INT_COLUMN_NOTNULL, INT_COLUMN_NULL = EXCLUDED.INT_COLUMN_NULL,"
+                        + " NAME = EXCLUDED.NAME",
+                translated.sql());
+        assertEquals(5, translated.bindings().length);
+    }
+
+    @Test
+    public void mySQL() {
+        TranslatedBatch translated = new MySQLUpsertBatchTranslator()
+                .translate(new UpsertBatchQuery(entity, 1), adapter);
+
+        assertEquals("INSERT INTO " + entity.getName()
+                        + "(DESCRIPTION, INT_COLUMN_NOTNULL, INT_COLUMN_NULL, LOCKING_TEST_ID, NAME) VALUES(?, ?, ?, ?, ?)"
+                        + " ON DUPLICATE KEY UPDATE DESCRIPTION = VALUES(DESCRIPTION),"
+                        + " INT_COLUMN_NOTNULL = VALUES(INT_COLUMN_NOTNULL), INT_COLUMN_NULL = VALUES(INT_COLUMN_NULL),"
+                        + " NAME = VALUES(NAME)",
+                translated.sql());
+    }
+
+    @Test
+    public void h2() {
+        TranslatedBatch translated = new H2UpsertBatchTranslator()
+                .translate(new UpsertBatchQuery(entity, 1), adapter);
+
+        assertEquals("MERGE INTO " + entity.getName()
+                        + "(DESCRIPTION, INT_COLUMN_NOTNULL, INT_COLUMN_NULL, LOCKING_TEST_ID, NAME)"
+                        + " KEY(LOCKING_TEST_ID) VALUES(?, ?, ?, ?, ?)",
+                translated.sql());
+        assertEquals(5, translated.bindings().length);
+    }
+
+    @Test
+    public void hsqldb() {
+        TranslatedBatch translated = new HSQLDBUpsertBatchTranslator()
+                .translate(new UpsertBatchQuery(entity, 1), adapter);
+
+        assertEquals("MERGE INTO " + entity.getName() + " t USING ( VALUES(CAST(? AS VARCHAR(200)),"
+                        + " CAST(? AS INTEGER), CAST(? AS INTEGER), CAST(? AS INTEGER), CAST(? AS VARCHAR(100))))"
+                        + " AS v(DESCRIPTION, INT_COLUMN_NOTNULL, INT_COLUMN_NULL, LOCKING_TEST_ID, NAME)"
+                        + " ON (t.LOCKING_TEST_ID = v.LOCKING_TEST_ID)"
+                        + " WHEN MATCHED THEN UPDATE SET DESCRIPTION = v.DESCRIPTION,"
+                        + " INT_COLUMN_NOTNULL = v.INT_COLUMN_NOTNULL, INT_COLUMN_NULL = v.INT_COLUMN_NULL, NAME = v.NAME"
+                        + " WHEN NOT MATCHED THEN INSERT(DESCRIPTION, INT_COLUMN_NOTNULL, INT_COLUMN_NULL, LOCKING_TEST_ID, NAME)"
+                        + " VALUES(v.DESCRIPTION, v.INT_COLUMN_NOTNULL, v.INT_COLUMN_NULL, v.LOCKING_TEST_ID, v.NAME)",
+                translated.sql());
+        assertEquals(5, translated.bindings().length);
+    }
+
+    @Test
+    public void postgres_PartialRow() {
+        List<DbAttribute> columns = List.of(entity.getAttribute("LOCKING_TEST_ID"), entity.getAttribute("NAME"));
+        TranslatedBatch translated = new PostgresUpsertBatchTranslator()
+                .translate(new UpsertBatchQuery(entity, columns, 1), adapter);
+
+        // the columns missing from the row are neither inserted nor updated
+        assertEquals("INSERT INTO " + entity.getName() + "(LOCKING_TEST_ID, NAME) VALUES(?, ?)"
+                        + " ON CONFLICT (LOCKING_TEST_ID) DO UPDATE SET NAME = EXCLUDED.NAME",
+                translated.sql());
+        assertEquals(2, translated.bindings().length);
+    }
+}
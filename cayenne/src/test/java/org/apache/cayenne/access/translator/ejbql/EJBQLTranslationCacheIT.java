@@ -0,0 +1,166 @@
+/*****************************************************************
+ *   Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ ****************************************************************/
+package org.apache.cayenne.access.translator.ejbql;
+
+import org.apache.cayenne.dba.QuotingStrategy;
+import org.apache.cayenne.ejbql.EJBQLCompiledExpression;
+import org.apache.cayenne.query.EJBQLQuery;
+import org.apache.cayenne.query.SQLTemplate;
+import org.apache.cayenne.unit.CayenneProjects;
+import org.apache.cayenne.unit.CayenneTestsEnv;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class EJBQLTranslationCacheIT {
+
+    @RegisterExtension
+    static final CayenneTestsEnv env = CayenneTestsEnv.forProject(CayenneProjects.TESTMAP_PROJECT);
+
+    private EJBQLTranslationCache cache;
+    private JdbcEJBQLTranslator translator;
+
+    @BeforeEach
+    public void before() {
+        cache = new EJBQLTranslationCache(10);
+        translator = new JdbcEJBQLTranslator();
+    }
+
+    private EJBQLTranslationContext createContext(EJBQLQuery query) {
+        EJBQLCompiledExpression select = query.getExpression(env.runtime().getDataDomain().getEntityResolver());
+        return new EJBQLTranslationContext(env.runtime().getDataDomain().getEntityResolver(), query,
+                select, translator, env.dataNode().getAdapter(), QuotingStrategy.NONE);
+    }
+
+    private SQLTemplate translateAndCache(EJBQLQuery query) {
+        EJBQLTranslationContext context = createContext(query);
+        context.getCompiledExpression().getExpression().visit(new EJBQLSelectTranslator(context));
+        SQLTemplate sqlQuery = context.getQuery();
+        cache.put(context, sqlQuery);
+        return sqlQuery;
+    }
+
+    @Test
+    public void reuseWithParameters() {
+        String ejbql = "select a from Artist a where a.artistName = :name and a.artistName <> 'x'";
+
+        EJBQLQuery query1 = new EJBQLQuery(ejbql);
+        query1.setParameter("name", "a1");
+        SQLTemplate translated = translateAndCache(query1);
+
+        EJBQLQuery query2 = new EJBQLQuery(ejbql);
+        query2.setParameter("name", "a2");
+        SQLTemplate cached = cache.get(createContext(query2));
+
+        assertNotNull(cached);
+        assertEquals(translated.getDefaultTemplate(), cached.getDefaultTemplate());
+        assertEquals(translated.getParams().size(), cached.getParams().size());
+        for (String var : translated.getParams().keySet()) {
+            Object value = translated.getParams().get(var);
+            assertEquals("a1".equals(value) ? "a2" : value, cached.getParams().get(var));
+        }
+    }
+
+    @Test
+    public void noReuseAfterMappingRefresh() {
+        String ejbql = "select a from Artist a where a.artistName = :name";
+
+        EJBQLQuery query1 = new EJBQLQuery(ejbql);
+        query1.setParameter("name", "a1");
+        translateAndCache(query1);
+
+        // the statement is recompiled against the refreshed mapping, and the old translation is not used
+        env.runtime().getDataDomain().getEntityResolver().refreshMappingCache();
+
+        EJBQLQuery query2 = new EJBQLQuery(ejbql);
+        query2.setParameter("name", "a2");
+        assertNull(cache.get(createContext(query2)));
+    }
+
+    @Test
+    public void reusePositionalParameters() {
+        String ejbql = "select a from Artist a where a.artistName = ?1";
+
+        EJBQLQuery query1 = new EJBQLQuery(ejbql);
+        query1.setParameter(1, "a1");
+        SQLTemplate translated = translateAndCache(query1);
+
+        EJBQLQuery query2 = new EJBQLQuery(ejbql);
+        query2.setParameter(1, "a2");
+        SQLTemplate cached = cache.get(createContext(query2));
+
+        assertNotNull(cached);
+        assertEquals(translated.getDefaultTemplate(), cached.getDefaultTemplate());
+        assertEquals(List.of("a2"), List.copyOf(cached.getParams().values()));
+    }
+
+    @Test
+    public void noReuseWithNullParameter() {
+        String ejbql = "select a from Artist a where a.artistName = :name";
+
+        EJBQLQuery query1 = new EJBQLQuery(ejbql);
+        query1.setParameter("name", "a1");
+        translateAndCache(query1);
+
+        // null is translated as "IS NULL", so the cached SQL can't be used
+        EJBQLQuery query2 = new EJBQLQuery(ejbql);
+        query2.setParameter("name", null);
+        assertNull(cache.get(createContext(query2)));
+
+        // ... and the SQL translated with null is not cached
+        EJBQLQuery query3 = new EJBQLQuery(ejbql + " or a.artistName = 'x'");
+        query3.setParameter("name", null);
+        translateAndCache(query3);
+
+        EJBQLQuery query4 = new EJBQLQuery(ejbql + " or a.artistName = 'x'");
+        query4.setParameter("name", "a4");
+        assertNull(cache.get(createContext(query4)));
+    }
+
+    @Test
+    public void noReuseWithCollectionParameter() {
+        String ejbql = "select a from Artist a where a.artistName in (:names)";
+
+        EJBQLQuery query1 = new EJBQLQuery(ejbql);
+        query1.setParameter("names", List.of("a1", "a2"));
+        translateAndCache(query1);
+
+        EJBQLQuery query2 = new EJBQLQuery(ejbql);
+        query2.setParameter("names", List.of("a1", "a2", "a3"));
+        assertNull(cache.get(createContext(query2)));
+    }
+
+    @Test
+    public void noReuseWithMissingParameter() {
+        String ejbql = "select a from Artist a where a.artistName = :name";
+
+        EJBQLQuery query1 = new EJBQLQuery(ejbql);
+        query1.setParameter("name", "a1");
+        translateAndCache(query1);
+
+        EJBQLQuery query2 = new EJBQLQuery(ejbql);
+        assertNull(cache.get(createContext(query2)));
+    }
+}
@@ -0,0 +1,174 @@
+/*****************************************************************
+ *   Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ ****************************************************************/
+package org.apache.cayenne.configuration.snapshot;
+
+import org.apache.cayenne.configuration.ConfigurationNameMapper;
+import org.apache.cayenne.configuration.DataChannelDescriptor;
+import org.apache.cayenne.configuration.DataMapLoader;
+import org.apache.cayenne.configuration.DefaultConfigurationNameMapper;
+import org.apache.cayenne.configuration.xml.DataChannelMetaData;
+import org.apache.cayenne.configuration.xml.DefaultHandlerFactory;
+import org.apache.cayenne.configuration.xml.HandlerFactory;
+import org.apache.cayenne.configuration.xml.NoopDataChannelMetaData;
+import org.apache.cayenne.configuration.xml.XMLDataChannelDescriptorLoader;
+import org.apache.cayenne.configuration.xml.XMLDataMapLoader;
+import org.apache.cayenne.configuration.xml.XMLReaderProvider;
+import org.apache.cayenne.di.AdhocObjectFactory;
+import org.apache.cayenne.di.ClassLoaderManager;
+import org.apache.cayenne.di.DIBootstrap;
+import org.apache.cayenne.di.Injector;
+import org.apache.cayenne.di.Module;
+import org.apache.cayenne.di.spi.DefaultAdhocObjectFactory;
+import org.apache.cayenne.di.spi.DefaultClassLoaderManager;
+import org.apache.cayenne.map.DataMap;
+import org.apache.cayenne.resource.URLResource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.xml.sax.XMLReader;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SnapshotDataChannelDescriptorLoaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Injector injector;
+
+    @BeforeEach
+    public void setUp() {
+        Module testModule = binder -> {
+            binder.bind(ClassLoaderManager.class).to(DefaultClassLoaderManager.class);
+            binder.bind(AdhocObjectFactory.class).to(DefaultAdhocObjectFactory.class);
+            binder.bind(DataMapLoader.class).to(XMLDataMapLoader.class);
+            binder.bind(ConfigurationNameMapper.class).to(DefaultConfigurationNameMapper.class);
+            binder.bind(HandlerFactory.class).to(DefaultHandlerFactory.class);
+            binder.bind(DataChannelMetaData.class).to(NoopDataChannelMetaData.class);
+            binder.bind(XMLReader.class).toProviderInstance(new XMLReaderProvider(false)).withoutScope();
+        };
+
+        this.injector = DIBootstrap.createInjector(testModule);
+    }
+
+    @Test
+    public void writeRead() throws Exception {
+        XMLDataChannelDescriptorLoader xmlLoader = new XMLDataChannelDescriptorLoader();
+        injector.injectMembers(xmlLoader);
+
+        URLResource resource = new URLResource(getClass().getResource("/cayenne-testmap.xml"));
+        DataChannelDescriptor xmlDescriptor = xmlLoader.load(resource).getRootNode();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ProjectSnapshot.write(xmlDescriptor, out);
+
+        ProjectSnapshot snapshot = ProjectSnapshot.read(new ByteArrayInputStream(out.toByteArray()));
+        assertTrue(snapshot.isUpToDate(resource));
+
+        DataChannelDescriptor descriptor = snapshot.getDescriptor(resource);
+        assertEquals(xmlDescriptor.getName(), descriptor.getName());
+        assertSame(resource, descriptor.getConfigurationSource());
+
+        DataMap xmlMap = xmlDescriptor.getDataMap("testmap");
+        DataMap map = descriptor.getDataMap("testmap");
+        assertNotNull(map);
+        assertSame(descriptor, map.getDataChannelDescriptor());
+        assertEquals(xmlMap.getConfigurationSource().getURL(), map.getConfigurationSource().getURL());
+        assertEquals(xmlMap.getObjEntities().size(), map.getObjEntities().size());
+        assertEquals(xmlMap.getDbEntities().size(), map.getDbEntities().size());
+        assertEquals(xmlMap.getQueryDescriptors().size(), map.getQueryDescriptors().size());
+        assertEquals(xmlMap.getProcedures().size(), map.getProcedures().size());
+        assertNotNull(map.getObjEntity("Artist").getDbEntity());
+    }
+
+    @Test
+    public void load_Snapshot() throws Exception {
+        Path project = copyProject();
+        writeSnapshot(project);
+
+        SnapshotDataChannelDescriptorLoader loader = new SnapshotDataChannelDescriptorLoader();
+        injector.injectMembers(loader);
+
+        DataChannelDescriptor descriptor = loader.load(new URLResource(project.toUri().toURL())).getRootNode();
+        assertEquals("testConfig3", descriptor.getName());
+        assertEquals(2, descriptor.getDataMaps().size());
+        assertNotNull(descriptor.getDataMap("testConfigMap3_1").getConfigurationSource());
+    }
+
+    @Test
+    public void load_StaleSnapshot() throws Exception {
+        Path project = copyProject();
+        writeSnapshot(project);
+
+        // change one of the maps after the snapshot was taken
+        Path map = tempDir.resolve("testConfigMap3_2.map.xml");
+        Files.write(map, "<!-- changed -->".getBytes(), StandardOpenOption.APPEND);
+
+        URLResource resource = new URLResource(project.toUri().toURL());
+        SnapshotDataChannelDescriptorLoader loader = new SnapshotDataChannelDescriptorLoader();
+        injector.injectMembers(loader);
+
+        assertNull(loader.loadSnapshot(resource));
+
+        DataChannelDescriptor descriptor = loader.load(resource).getRootNode();
+        assertEquals("testConfig3", descriptor.getName());
+        assertEquals(2, descriptor.getDataMaps().size());
+    }
+
+    @Test
+    public void load_NoSnapshot() throws Exception {
+        Path project = copyProject();
+
+        URLResource resource = new URLResource(project.toUri().toURL());
+        SnapshotDataChannelDescriptorLoader loader = new SnapshotDataChannelDescriptorLoader();
+        injector.injectMembers(loader);
+
+        assertNull(loader.loadSnapshot(resource));
+        assertEquals(2, loader.load(resource).getRootNode().getDataMaps().size());
+    }
+
+    private Path copyProject() throws Exception {
+        for (String name : new String[]{"cayenne-testConfig3.xml", "testConfigMap3_1.map.xml", "testConfigMap3_2.map.xml"}) {
+            try (InputStream in = XMLDataChannelDescriptorLoader.class.getResourceAsStream(name)) {
+                Files.copy(in, tempDir.resolve(name));
+            }
+        }
+
+        return tempDir.resolve("cayenne-testConfig3.xml");
+    }
+
+    private void writeSnapshot(Path project) throws Exception {
+        XMLDataChannelDescriptorLoader xmlLoader = new XMLDataChannelDescriptorLoader();
+        injector.injectMembers(xmlLoader);
+        DataChannelDescriptor descriptor = xmlLoader.load(new URLResource(project.toUri().toURL())).getRootNode();
+
+        Path snapshot = tempDir.resolve(ProjectSnapshot.snapshotLocation(project.getFileName().toString()));
+        try (OutputStream out = Files.newOutputStream(snapshot)) {
+            ProjectSnapshot.write(descriptor, out);
+        }
+    }
+}
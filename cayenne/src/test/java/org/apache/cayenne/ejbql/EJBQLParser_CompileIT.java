@@ -20,6 +20,7 @@ package org.apache.cayenne.ejbql;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertSame;
 
 import org.apache.cayenne.map.EntityResolver;
@@ -54,6 +55,19 @@ public class EJBQLParser_CompileIT {
 		assertEquals(source, select.getSource());
 	}
 
+	@Test
+	public void compileCached() {
+		String source = "select a from Artist a";
+
+		EJBQLCompiledExpression select = resolver.getEjbqlExpression(source);
+		assertSame(select, resolver.getEjbqlExpression(source));
+		assertNotSame(select, resolver.getEjbqlExpression("select p from Painting p"));
+
+		// compiled expressions depend on the mapping and must not survive its refresh
+		resolver.refreshMappingCache();
+		assertNotSame(select, resolver.getEjbqlExpression(source));
+	}
+
 	@Test
 	public void getExpression() {
 		String source = "select a from Artist a";
@@ -24,6 +24,7 @@ import org.apache.cayenne.reflect.ClassDescriptor;
 import org.apache.cayenne.reflect.ClassDescriptorFactory;
 import org.apache.cayenne.reflect.LazyClassDescriptorDecorator;
 import org.apache.cayenne.reflect.PropertyDescriptor;
+import org.apache.cayenne.reflect.generic.ValueComparisonStrategyFactory;
 import org.apache.cayenne.testdo.mt.MtTable1;
 import org.apache.cayenne.testdo.mt.MtTable2;
 import org.apache.cayenne.unit.CayenneProjects;
@@ -31,12 +32,16 @@ import org.apache.cayenne.unit.CayenneTestsEnv;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.RegisterExtension;
 
+import java.util.concurrent.ForkJoinPool;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 public class EntityResolverClassDescriptorIT {
@@ -99,4 +104,45 @@ public class EntityResolverClassDescriptorIT {
                 .getComplimentaryReverseArc()
                 .getName());
     }
+
+    @Test
+    public void testWarmUp() {
+        EntityResolver resolver = createResolver();
+        resolver.warmUp(ForkJoinPool.commonPool());
+
+        // descriptors must already be compiled, so a factory added after the warm-up is never asked for them
+        ClassDescriptorFactory factory = mock(ClassDescriptorFactory.class);
+        resolver.getClassDescriptorMap().addFactory(factory);
+
+        for (ObjEntity entity : resolver.getObjEntities()) {
+            ClassDescriptor descriptor = resolver.getClassDescriptor(entity.getName());
+            assertSame(entity, descriptor.getEntity());
+        }
+
+        verifyNoInteractions(factory);
+        assertNotNull(resolver.callbackRegistry);
+    }
+
+    @Test
+    public void testNoWarmUp() {
+        EntityResolver resolver = createResolver();
+
+        ClassDescriptorFactory factory = mock(ClassDescriptorFactory.class);
+        resolver.getClassDescriptorMap().addFactory(factory);
+
+        resolver.getClassDescriptor("MtTable1").getEntity();
+        verify(factory).getDescriptor("MtTable1");
+    }
+
+    // a resolver over the same maps as the shared runtime one, so that its state doesn't leak to other tests
+    private static EntityResolver createResolver() {
+        EntityResolver shared = env.runtime().getDataDomain().getEntityResolver();
+
+        EntityResolver resolver = new EntityResolver(shared.getDataMaps());
+        resolver.setValueObjectTypeRegistry(shared.getValueObjectTypeRegistry());
+        resolver.setValueComparisonStrategyFactory(env.runtime().getInjector()
+                .getInstance(ValueComparisonStrategyFactory.class));
+        resolver.setObjectFactory(shared.getObjectFactory());
+        return resolver;
+    }
 }
@@ -0,0 +1,59 @@
+/*****************************************************************
+ *   Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ ****************************************************************/
+package org.apache.cayenne.query;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+public class CacheKeyBuilderTest {
+
+    @Test
+    public void hashed() {
+        String k1 = CacheKeyBuilder.hashed().append("Artist").append('/').append(5).build();
+        String k2 = CacheKeyBuilder.hashed().append("Artist").append('/').append(5).build();
+        String k3 = CacheKeyBuilder.hashed().append("Artist").append('/').append(6).build();
+
+        assertEquals(32, k1.length());
+        assertEquals(k1, k2);
+        assertNotEquals(k1, k3);
+    }
+
+    @Test
+    public void hashed_NumberVsString() {
+        String k1 = CacheKeyBuilder.hashed().append("a").append(1).build();
+        String k2 = CacheKeyBuilder.hashed().append("a1").build();
+        assertNotEquals(k1, k2);
+    }
+
+    @Test
+    public void hashed_Order() {
+        String k1 = CacheKeyBuilder.hashed().append("ab").append("cd").build();
+        String k2 = CacheKeyBuilder.hashed().append("cd").append("ab").build();
+        assertNotEquals(k1, k2);
+    }
+
+    @Test
+    public void readable() {
+        StringBuilder out = new StringBuilder();
+        String key = CacheKeyBuilder.readable(out).append("Artist").append('/').append(5).append((Object) null).build();
+        assertEquals("Artist/5null", key);
+    }
+}
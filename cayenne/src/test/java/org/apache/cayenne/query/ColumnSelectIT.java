@@ -29,11 +29,13 @@ import java.util.List;
 import java.util.Locale;
 
 import org.apache.cayenne.CayenneRuntimeException;
+import org.apache.cayenne.ColumnarResult;
 import org.apache.cayenne.Fault;
 import org.apache.cayenne.ObjectContext;
 import org.apache.cayenne.PersistenceState;
 import org.apache.cayenne.ResultBatchIterator;
 import org.apache.cayenne.access.DataContext;
+import org.apache.cayenne.exp.ExpressionFactory;
 import org.apache.cayenne.exp.property.NumericProperty;
 import org.apache.cayenne.exp.property.PropertyFactory;
 import org.apache.cayenne.exp.property.StringProperty;
@@ -1168,6 +1170,67 @@ public class ColumnSelectIT {
         assertInstanceOf(Artist.class, result.get(0)[2], "Should be an instance of Artist");
     }
 
+    @Test
+    public void selectColumnar() {
+        ColumnarResult result = ObjectSelect.columnQuery(Artist.class, Artist.ARTIST_ID_PK_PROPERTY, Artist.ARTIST_NAME)
+                .orderBy(Artist.ARTIST_ID_PK_PROPERTY.asc())
+                .selectColumnar(context);
+
+        assertEquals(20, result.size());
+        assertEquals(2, result.getColumnCount());
+        assertEquals(long.class, result.getColumnType(0));
+        assertEquals(Object.class, result.getColumnType(1));
+
+        long[] ids = result.getLongs(0);
+        Object[] names = result.getObjects(1);
+        assertEquals(20, ids.length);
+        for (int i = 0; i < 20; i++) {
+            assertEquals(i + 1, ids[i]);
+            assertEquals("artist" + (i + 1), names[i]);
+        }
+
+        assertTrue(result.getNulls(0).isEmpty());
+        assertThrows(CayenneRuntimeException.class, () -> result.getInts(0));
+    }
+
+    @Test
+    public void selectColumnarOffsetLimit() {
+        ColumnarResult result = ObjectSelect.columnQuery(Artist.class, Artist.ARTIST_ID_PK_PROPERTY)
+                .orderBy(Artist.ARTIST_ID_PK_PROPERTY.asc())
+                .offset(5)
+                .limit(10)
+                .selectColumnar(context);
+
+        assertEquals(10, result.size());
+        assertEquals(6, result.getLongs(0)[0]);
+        assertEquals(15, result.getLongs(0)[9]);
+    }
+
+    @Test
+    public void selectColumnarNulls() throws Exception {
+        tArtist.insert(21, "artist21", null);
+        NumericProperty<Double> price = PropertyFactory
+                .createNumeric(ExpressionFactory.exp("paintingArray+.estimatedPrice"), Double.class);
+
+        ColumnarResult result = ObjectSelect.columnQuery(Artist.class, Artist.ARTIST_ID_PK_PROPERTY, price)
+                .where(Artist.ARTIST_ID_PK_PROPERTY.in(1L, 21L))
+                .orderBy(Artist.ARTIST_ID_PK_PROPERTY.asc(), price.asc())
+                .selectColumnar(context);
+
+        assertEquals(5, result.size());
+        assertEquals(double.class, result.getColumnType(1));
+        assertArrayEquals(new double[]{2., 7., 12., 17., 0.}, result.getDoubles(1));
+        assertFalse(result.isNull(1, 0));
+        assertTrue(result.isNull(1, 4));
+        assertEquals(1, result.getNulls(1).cardinality());
+    }
+
+    @Test
+    public void selectColumnarEntity() {
+        assertThrows(CayenneRuntimeException.class, () -> ObjectSelect.columnQuery(Artist.class, Artist.SELF)
+                .selectColumnar(context));
+    }
+
     static class TestPojo {
         String name;
         Date date;
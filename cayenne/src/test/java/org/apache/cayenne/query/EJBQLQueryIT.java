@@ -123,6 +123,30 @@ public class EJBQLQueryIT {
                 .getCacheKey());
     }
 
+    @Test
+    public void repeatedExecution() throws Exception {
+        createArtistsDataSet();
+
+        // translations are cached per runtime
+        assertNotNull(env.dataNode().getEjbqlTranslationCache());
+
+        // the second and the third queries reuse the compiled and translated statement of the first one
+        String ejbql = "select a FROM Artist a WHERE a.artistName = :name";
+        for (String name : List.of("a1", "a3", "a4")) {
+            EJBQLQuery query = new EJBQLQuery(ejbql);
+            query.setParameter("name", name);
+
+            List<Artist> artists = context.performQuery(query);
+            assertEquals(1, artists.size());
+            assertEquals(name, artists.get(0).getArtistName());
+        }
+
+        // a null parameter changes the SQL, and must not reuse the translated statement
+        EJBQLQuery query = new EJBQLQuery(ejbql);
+        query.setParameter("name", null);
+        assertEquals(0, context.performQuery(query).size());
+    }
+
     @Test
     public void cacheStrategy() throws Exception {
 
@@ -120,6 +120,42 @@ public class ObjectSelect_CacheKeyIT {
         assertNotEquals("XYZ", md1.getCacheKey());
     }
 
+    @Test
+    public void compactKey() {
+
+        ObjectSelect<Artist> q1 = ObjectSelect.query(Artist.class)
+                .where(Artist.ARTIST_NAME.like("a%").andExp(Artist.PAINTING_ARRAY.dot(Painting.PAINTING_TITLE).eq("p1")))
+                .orderBy(Artist.ARTIST_NAME.desc())
+                .prefetch(Artist.PAINTING_ARRAY.disjoint())
+                .sharedCache();
+
+        ObjectSelectMetadata md1 = (ObjectSelectMetadata) q1.getMetaData(env.entityResolver());
+        assertEquals(32, md1.getCacheKey().length());
+
+        String readable = md1.makeReadableCacheKey(q1, env.entityResolver());
+        assertTrue(readable.startsWith("Artist/"), readable);
+        assertTrue(readable.contains("/pd:paintingArray"), readable);
+    }
+
+    @Test
+    public void memoizedKey() {
+
+        ObjectSelect<Artist> q1 = ObjectSelect.query(Artist.class)
+                .where(Artist.ARTIST_NAME.like("a%"))
+                .sharedCache();
+
+        String key1 = q1.getMetaData(env.entityResolver()).getCacheKey();
+        assertSame(key1, q1.getMetaData(env.entityResolver()).getCacheKey());
+
+        // changing the query resets the key
+        q1.orderBy(Artist.ARTIST_NAME.asc());
+        String key2 = q1.getMetaData(env.entityResolver()).getCacheKey();
+        assertNotEquals(key1, key2);
+
+        q1.limit(5);
+        assertNotEquals(key2, q1.getMetaData(env.entityResolver()).getCacheKey());
+    }
+
     @Test
     public void uniqueKeyEntity() {
 
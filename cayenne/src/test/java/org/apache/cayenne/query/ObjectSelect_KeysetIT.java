@@ -0,0 +1,121 @@
+/*****************************************************************
+ *   Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ ****************************************************************/
+
+package org.apache.cayenne.query;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.cayenne.Cayenne;
+import org.apache.cayenne.CayenneRuntimeException;
+import org.apache.cayenne.access.DataContext;
+import org.apache.cayenne.test.jdbc.TableHelper;
+import org.apache.cayenne.testdo.testmap.Artist;
+import org.apache.cayenne.testdo.testmap.Painting;
+import org.apache.cayenne.unit.CayenneProjects;
+import org.apache.cayenne.unit.CayenneTestsEnv;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ObjectSelect_KeysetIT {
+
+	@RegisterExtension
+	static final CayenneTestsEnv env = CayenneTestsEnv.forProject(CayenneProjects.TESTMAP_PROJECT);
+
+	private DataContext context;
+
+	@BeforeEach
+	public void createDataSet() throws Exception {
+		context = env.context();
+
+		TableHelper tArtist = env.table("ARTIST", "ARTIST_ID", "ARTIST_NAME");
+		for (int i = 1; i <= 20; i++) {
+			tArtist.insert(i, "artist" + i);
+		}
+
+		TableHelper tPaintings = env.table("PAINTING", "PAINTING_ID", "PAINTING_TITLE", "ARTIST_ID", "ESTIMATED_PRICE");
+		for (int i = 1; i <= 20; i++) {
+			tPaintings.insert(i, "painting" + i, i, i % 4 * 10);
+		}
+	}
+
+	@Test
+	public void pagesByPk() {
+		List<List<Artist>> pages = new ArrayList<>();
+		int queries = env.runWithQueryCounter(() -> ObjectSelect.query(Artist.class)
+				.keysetBatchIterator(context, 7)
+				.forEach(pages::add));
+
+		assertEquals(3, queries);
+		assertEquals(3, pages.size());
+		assertEquals(7, pages.get(0).size());
+		assertEquals(7, pages.get(1).size());
+		assertEquals(6, pages.get(2).size());
+
+		long expected = 1;
+		for (List<Artist> page : pages) {
+			for (Artist a : page) {
+				assertEquals(expected++, Cayenne.longPKForObject(a));
+			}
+		}
+	}
+
+	@Test
+	public void orderingWithTies() {
+		List<Painting> expected = ObjectSelect.query(Painting.class)
+				.orderBy(Painting.ESTIMATED_PRICE.desc(), Painting.PAINTING_ID_PK_PROPERTY.asc())
+				.select(context);
+
+		List<Painting> actual = new ArrayList<>();
+		for (List<Painting> page : ObjectSelect.query(Painting.class)
+				.orderBy(Painting.ESTIMATED_PRICE.desc())
+				.keysetBatchIterator(context, 3)) {
+			assertTrue(page.size() <= 3);
+			actual.addAll(page);
+		}
+
+		assertEquals(expected, actual);
+	}
+
+	@Test
+	public void qualifierAndLimit() {
+		List<Artist> actual = new ArrayList<>();
+		KeysetBatchIterator<Artist> it = ObjectSelect.query(Artist.class)
+				.where(Artist.ARTIST_NAME.like("artist%"))
+				.limit(10)
+				.keysetBatchIterator(context, 4);
+
+		while (it.hasNext()) {
+			actual.addAll(it.next());
+		}
+
+		assertEquals(10, actual.size());
+		assertEquals(10, Cayenne.longPKForObject(actual.get(9)));
+	}
+
+	@Test
+	public void offsetNotSupported() {
+		assertThrows(CayenneRuntimeException.class, () -> ObjectSelect.query(Artist.class)
+				.offset(5)
+				.keysetBatchIterator(context, 4));
+	}
+}
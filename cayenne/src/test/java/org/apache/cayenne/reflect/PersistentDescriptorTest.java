@@ -24,8 +24,12 @@ import org.apache.cayenne.unit.util.TestObject;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 
 public class PersistentDescriptorTest {
@@ -62,4 +66,32 @@ public class PersistentDescriptorTest {
         assertEquals("123", to.getString());
     }
 
+    @Test
+    public void propertyIndex() {
+        PersistentDescriptor d1 = new PersistentDescriptor();
+
+        ObjAttribute attribute = mock(ObjAttribute.class);
+        d1.addDeclaredProperty(new SimpleAttributeProperty(d1,
+                new FieldAccessor(TestObject.class, "string", String.class), attribute));
+        d1.addDeclaredProperty(new SimpleAttributeProperty(d1,
+                new FieldAccessor(TestObject.class, "integer", Integer.class), attribute));
+
+        assertEquals(2, d1.getPropertyCount());
+        assertEquals(-1, d1.getPropertyIndex("noSuchProperty"));
+
+        int i1 = d1.getPropertyIndex("string");
+        int i2 = d1.getPropertyIndex("integer");
+        assertFalse(i1 == i2);
+
+        // must match the order of visitProperties, as computed by the default ClassDescriptor implementation
+        ClassDescriptor generic = mock(ClassDescriptor.class, CALLS_REAL_METHODS);
+        doAnswer(invocation -> d1.visitProperties(invocation.getArgument(0)))
+                .when(generic).visitProperties(any());
+
+        assertEquals(2, generic.getPropertyCount());
+        assertEquals(i1, generic.getPropertyIndex("string"));
+        assertEquals(i2, generic.getPropertyIndex("integer"));
+        assertEquals(-1, generic.getPropertyIndex("noSuchProperty"));
+    }
+
 }
@@ -18,6 +18,7 @@
  ****************************************************************/
 package org.apache.cayenne.reflect.generic;
 
+import org.apache.cayenne.PersistentObject;
 import org.apache.cayenne.map.ObjAttribute;
 import org.apache.cayenne.map.ObjEntity;
 import org.apache.cayenne.util.Util;
@@ -42,4 +43,117 @@ public class PersistentObjectAttributePropertyTest {
 		assertEquals(p1.getName(), p2.getName());
 	}
 
+	@Test
+	public void indexedAccess() {
+		ObjEntity e1 = new ObjEntity("objEntityName");
+		ObjAttribute a1 = new ObjAttribute("name", "java.lang.String", e1);
+
+		PersistentObjectAttributeProperty p1 = new PersistentObjectAttributeProperty(a1, new DefaultValueComparisonStrategyFactory.DefaultValueComparisonStrategy());
+
+		IndexedObject o1 = new IndexedObject();
+		p1.writePropertyDirectly(o1, null, "v1");
+		assertEquals("v1", p1.readPropertyDirectly(o1));
+
+		IndexedObject o2 = new IndexedObject();
+		p1.writePropertyDirectly(o2, null, "v2");
+		assertEquals("v2", p1.readPropertyDirectly(o2));
+
+		// index is looked up once per class, and name-based access is not used at all
+		assertEquals(1, o1.indexLookups + o2.indexLookups);
+		assertEquals(0, o1.namedAccess + o2.namedAccess);
+	}
+
+	@Test
+	public void indexedAccess_SeveralClasses() {
+		ObjEntity e1 = new ObjEntity("objEntityName");
+		ObjAttribute a1 = new ObjAttribute("name", "java.lang.String", e1);
+
+		PersistentObjectAttributeProperty p1 = new PersistentObjectAttributeProperty(a1, new DefaultValueComparisonStrategyFactory.DefaultValueComparisonStrategy());
+
+		IndexedObject o1 = new IndexedObject();
+		IndexedSubObject o2 = new IndexedSubObject();
+		for (int i = 0; i < 3; i++) {
+			p1.writePropertyDirectly(o1, null, "v1");
+			p1.writePropertyDirectly(o2, null, "v2");
+			assertEquals("v1", p1.readPropertyDirectly(o1));
+			assertEquals("v2", p1.readPropertyDirectly(o2));
+		}
+
+		// alternating classes don't cause repeated index lookups
+		assertEquals(2, o1.indexLookups + o2.indexLookups);
+	}
+
+	@Test
+	public void indexedAccess_NamedAccessOverride() {
+		ObjEntity e1 = new ObjEntity("objEntityName");
+		ObjAttribute a1 = new ObjAttribute("name", "java.lang.String", e1);
+
+		PersistentObjectAttributeProperty p1 = new PersistentObjectAttributeProperty(a1, new DefaultValueComparisonStrategyFactory.DefaultValueComparisonStrategy());
+
+		OverridingObject o1 = new OverridingObject();
+		p1.writePropertyDirectly(o1, null, "v1");
+		assertEquals("v1", o1.name);
+		assertEquals(0, o1.namedAccess);
+
+		// the subclass overrides name-based reads, so they are not bypassed
+		assertEquals("v1", p1.readPropertyDirectly(o1));
+		assertEquals(1, o1.overriddenReads);
+	}
+
+	static class IndexedObject extends PersistentObject {
+
+		String name;
+		int indexLookups;
+		int namedAccess;
+
+		@Override
+		public int propertyIndex(String propName) {
+			indexLookups++;
+			return "name".equals(propName) ? 0 : super.propertyIndex(propName);
+		}
+
+		@Override
+		public Object readPropertyDirectly(int propIndex) {
+			return propIndex == 0 ? name : super.readPropertyDirectly(propIndex);
+		}
+
+		@Override
+		public void writePropertyDirectly(int propIndex, Object val) {
+			if (propIndex == 0) {
+				name = (String) val;
+			} else {
+				super.writePropertyDirectly(propIndex, val);
+			}
+		}
+
+		@Override
+		public Object readPropertyDirectly(String propName) {
+			namedAccess++;
+			return "name".equals(propName) ? name : super.readPropertyDirectly(propName);
+		}
+
+		@Override
+		public void writePropertyDirectly(String propName, Object val) {
+			namedAccess++;
+			if ("name".equals(propName)) {
+				name = (String) val;
+			} else {
+				super.writePropertyDirectly(propName, val);
+			}
+		}
+	}
+
+	static class IndexedSubObject extends IndexedObject {
+	}
+
+	static class OverridingObject extends IndexedObject {
+
+		int overriddenReads;
+
+		@Override
+		public Object readPropertyDirectly(String propName) {
+			overriddenReads++;
+			return super.readPropertyDirectly(propName);
+		}
+	}
 }
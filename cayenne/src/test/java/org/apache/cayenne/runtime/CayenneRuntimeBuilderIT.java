@@ -186,4 +186,16 @@ public class CayenneRuntimeBuilderIT {
         ObjectContext context = localRuntime.newContext();
         assertNotNull(context);
     }
+
+    @Test
+    public void warmUpMapping() {
+        localRuntime = new CayenneRuntimeBuilder(null)
+                .addConfig(CayenneProjects.TESTMAP_PROJECT)
+                .defaultDataNode(dataSource)
+                .warmUpMapping()
+                .build();
+
+        List<DataRow> result = SQLSelect.dataRowQuery("SELECT * FROM ARTIST").select(localRuntime.newContext());
+        assertEquals(2, result.size());
+    }
 }
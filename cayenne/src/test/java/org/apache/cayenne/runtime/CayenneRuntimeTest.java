@@ -90,13 +90,20 @@ public class CayenneRuntimeTest {
         final ObjectContext context = new DataContext();
         final ObjectContextFactory factory = new ObjectContextFactory() {
 
+            @Override
             public ObjectContext createContext(DataChannel parent) {
                 return context;
             }
 
+            @Override
             public ObjectContext createContext() {
                 return context;
             }
+
+            @Override
+            public ObjectContext createReadOnlyContext() {
+                return context;
+            }
         };
 
         Module module = binder -> binder.bind(ObjectContextFactory.class).toInstance(factory);